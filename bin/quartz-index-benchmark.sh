@@ -0,0 +1,106 @@
+#!/usr/bin/env bash
+
+# Measures the Quartz trigger acquire, misfire and removeGroup queries against a local Postgres before and after
+# the Quartz index migration. Works in a scratch schema, which it drops when finished.
+#
+# Usage: quartz-index-benchmark.sh [jobs] [due_percent] [runs]
+# Connection settings come from the usual PGHOST, PGPORT, PGUSER, PGPASSWORD and PGDATABASE variables.
+# Set KEEP_SCHEMA=true to keep the seeded schema for further investigation.
+
+set -euo pipefail
+
+JOBS=${1:-200000}
+DUE_PERCENT=${2:-10}
+RUNS=${3:-20}
+SCHEMA=quartz_bench
+SCHED_NAME=schedulerFactoryBean
+
+MIGRATIONS=$(cd "$(dirname "$0")/../src/main/resources/db/migration" && pwd)
+BASELINE="$MIGRATIONS/V20180527_01__add-quartz-tables.sql"
+TUNING="$MIGRATIONS/V20261018_05__tune-quartz-indexes.sql"
+
+export PGOPTIONS="-c search_path=$SCHEMA -c client_min_messages=warning"
+
+run_sql() {
+    psql -X -q -v ON_ERROR_STOP=1 "$@"
+}
+
+cleanup() {
+    if [ "${KEEP_SCHEMA:-false}" != "true" ]; then
+        run_sql -c "DROP SCHEMA IF EXISTS $SCHEMA CASCADE"
+    fi
+}
+
+# Median execution time in ms of a statement over $RUNS runs. Modifying statements are rolled back.
+measure() {
+    local sql=$1
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        times+=("$(run_sql -At -c "BEGIN; EXPLAIN (ANALYZE, FORMAT JSON) $sql; ROLLBACK;" \
+            | grep -o '"Execution Time": [0-9.]*' | grep -o '[0-9.]*$')")
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }'
+}
+
+benchmark() {
+    local now_ms
+    now_ms=$(run_sql -At -c "SELECT (extract(epoch FROM now()) * 1000)::bigint")
+    local group
+    group=$(run_sql -At -c "SELECT job_group FROM qrtz_job_details ORDER BY job_group OFFSET $((JOBS / 6)) LIMIT 1")
+
+    ACQUIRE=$(measure "SELECT trigger_name, trigger_group, next_fire_time, priority FROM qrtz_triggers
+        WHERE sched_name = '$SCHED_NAME' AND trigger_state = 'WAITING' AND next_fire_time <= $((now_ms + 30000))
+        AND (misfire_instr = -1 OR (misfire_instr != -1 AND next_fire_time >= $((now_ms - 60000))))
+        ORDER BY next_fire_time ASC, priority DESC")
+    MISFIRED=$(measure "SELECT count(trigger_name) FROM qrtz_triggers
+        WHERE sched_name = '$SCHED_NAME' AND NOT (misfire_instr = -1) AND next_fire_time < $((now_ms - 60000))
+        AND trigger_state = 'WAITING'")
+    GROUP_KEYS=$(measure "SELECT job_name, job_group FROM qrtz_job_details
+        WHERE sched_name = '$SCHED_NAME' AND job_group = '$group'")
+    REMOVE_GROUP=$(measure "WITH st AS (DELETE FROM qrtz_simple_triggers s USING qrtz_triggers t
+            WHERE s.sched_name = t.sched_name AND s.trigger_name = t.trigger_name AND s.trigger_group = t.trigger_group
+            AND t.sched_name = '$SCHED_NAME' AND t.job_group = '$group' RETURNING t.trigger_name),
+        tr AS (DELETE FROM qrtz_triggers WHERE sched_name = '$SCHED_NAME' AND job_group = '$group' RETURNING job_name)
+        DELETE FROM qrtz_job_details WHERE sched_name = '$SCHED_NAME' AND job_group = '$group'
+            AND job_name IN (SELECT job_name FROM tr)")
+}
+
+trap cleanup EXIT
+
+echo "Seeding $JOBS Quartz jobs, $DUE_PERCENT% of them due now, into schema $SCHEMA"
+run_sql -c "DROP SCHEMA IF EXISTS $SCHEMA CASCADE" -c "CREATE SCHEMA $SCHEMA"
+run_sql -f "$BASELINE"
+run_sql <<EOF
+INSERT INTO qrtz_job_details
+SELECT '$SCHED_NAME', 'job' || i, (100000 + i / 3) || '_' || (ARRAY['evidenceReminder', 'hearingReminder', 'responseReceived'])[i % 3 + 1],
+    NULL, 'uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzExecutionHandler', FALSE, FALSE, FALSE, TRUE,
+    decode(repeat('ab', 512), 'hex')
+FROM generate_series(1, $JOBS) i;
+
+INSERT INTO qrtz_triggers
+SELECT j.sched_name, j.job_name, j.job_group, j.job_name, j.job_group, NULL,
+    CASE WHEN random() * 100 < $DUE_PERCENT
+        THEN (extract(epoch FROM now()) * 1000)::bigint - (random() * 30000)::bigint
+        ELSE (extract(epoch FROM now()) * 1000)::bigint + (random() * 30 * 86400000)::bigint END,
+    -1, 5, 'WAITING', 'SIMPLE', (extract(epoch FROM now()) * 1000)::bigint, 0, NULL, 0, NULL
+FROM qrtz_job_details j;
+
+INSERT INTO qrtz_simple_triggers
+SELECT sched_name, trigger_name, trigger_group, 0, 0, 0 FROM qrtz_triggers;
+
+ANALYZE;
+EOF
+
+benchmark
+BEFORE=("$ACQUIRE" "$MISFIRED" "$GROUP_KEYS" "$REMOVE_GROUP")
+
+run_sql -f "$TUNING"
+benchmark
+AFTER=("$ACQUIRE" "$MISFIRED" "$GROUP_KEYS" "$REMOVE_GROUP")
+
+printf '\nMedian execution time over %s runs (ms)\n' "$RUNS"
+printf '%-28s %12s %12s\n' "query" "before" "after"
+LABELS=("acquire next triggers" "count misfired triggers" "removeGroup: find job keys" "removeGroup: delete group")
+for i in "${!LABELS[@]}"; do
+    printf '%-28s %12s %12s\n' "${LABELS[$i]}" "${BEFORE[$i]}" "${AFTER[$i]}"
+done
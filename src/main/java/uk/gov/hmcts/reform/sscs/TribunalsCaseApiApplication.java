@@ -57,11 +57,16 @@ import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocmosisPdfGenerationService;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.jobscheduler.config.QuartzConfiguration;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.JobClassMapper;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.JobClassMapping;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.JobMapper;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.JobMapping;
 import uk.gov.hmcts.reform.sscs.service.ScheduledTaskRunner;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetryDeserializer;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetryExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetryPayload;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetrySerializer;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationService;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.RetryNotificationService;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.scheduler.*;
@@ -261,19 +266,25 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
                                   CcdService ccdService,
                                   UpdateCcdCaseService updateCcdCaseService,
                                   IdamService idamService,
-                                  SscsCaseCallbackDeserializer deserializer) {
+                                  SscsCaseCallbackDeserializer deserializer,
+                                  EvidenceShareRetryDeserializer evidenceShareRetryDeserializer,
+                                  EvidenceShareRetryExecutor evidenceShareRetryExecutor,
+                                  DownstreamLimiter downstreamLimiter) {
         // Had to wire these up like this Spring will not wire up CcdActionExecutor otherwise.
-        CcdActionExecutor ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer);
+        CcdActionExecutor ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer, downstreamLimiter);
         return new JobMapper(List.of(
+            new JobMapping<>(EvidenceShareRetryPayload::matches, evidenceShareRetryDeserializer, evidenceShareRetryExecutor),
             new JobMapping<>(payload -> !payload.contains("onlineHearingId"), ccdActionDeserializer, ccdActionExecutor)
         ));
     }
 
     @Bean
     public JobClassMapper getJobClassMapper(CohActionSerializer cohActionSerializer,
-                                            CcdActionSerializer ccdActionSerializer) {
+                                            CcdActionSerializer ccdActionSerializer,
+                                            EvidenceShareRetrySerializer evidenceShareRetrySerializer) {
         return new JobClassMapper(asList(
             new JobClassMapping<>(CohJobPayload.class, cohActionSerializer),
+            new JobClassMapping<>(EvidenceShareRetryPayload.class, evidenceShareRetrySerializer),
             new JobClassMapping<>(String.class, ccdActionSerializer)
         ));
     }
@@ -1,11 +1,15 @@
 package uk.gov.hmcts.reform.sscs.callback;
 
 import static java.util.Objects.requireNonNull;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_EXCEPTION;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_SUCCESS;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -17,17 +21,26 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
 public class CallbackDispatcher<T extends CaseData> {
 
     private final List<CallbackHandler<T>> callbackHandlers;
+    private final CallbackMetrics callbackMetrics;
 
     public CallbackDispatcher(List<CallbackHandler<T>> callbackHandlers) {
+        this(callbackHandlers, new CallbackMetrics());
+    }
+
+    @Autowired
+    public CallbackDispatcher(List<CallbackHandler<T>> callbackHandlers, CallbackMetrics callbackMetrics) {
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
         this.callbackHandlers = callbackHandlers;
+        this.callbackMetrics = callbackMetrics;
     }
 
     public void handle(CallbackType callbackType, Callback<T> callback) {
         requireNonNull(callback, "callback must not be null");
+        Timer.Sample dispatchSample = callbackMetrics.start();
         Stream.of(DispatchPriority.values())
             .forEach(dispatchPriority ->
                 dispatchToHandlers(callbackType, callback, getCallbackHandlersByPriority(dispatchPriority)));
+        callbackMetrics.recordDispatch(dispatchSample, "send", callbackType, callback.getEvent());
     }
 
     private List<CallbackHandler<T>> getCallbackHandlersByPriority(DispatchPriority dispatchPriority) {
@@ -44,6 +57,17 @@ public class CallbackDispatcher<T extends CaseData> {
                 callback.getCaseDetails().getId());
         callbackHandlers.stream()
             .filter(handler -> handler.canHandle(callbackType, callback))
-            .forEach(handler -> handler.handle(callbackType, callback));
+            .forEach(handler -> handleWithMetrics(handler, callbackType, callback));
+    }
+
+    private void handleWithMetrics(CallbackHandler<T> handler, CallbackType callbackType, Callback<T> callback) {
+        Timer.Sample sample = callbackMetrics.start();
+        try {
+            handler.handle(callbackType, callback);
+        } catch (RuntimeException e) {
+            callbackMetrics.recordHandler(sample, handler, callbackType, callback.getEvent(), OUTCOME_EXCEPTION);
+            throw e;
+        }
+        callbackMetrics.recordHandler(sample, handler, callbackType, callback.getEvent(), OUTCOME_SUCCESS);
     }
 }
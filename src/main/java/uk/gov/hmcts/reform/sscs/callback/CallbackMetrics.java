@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+
+/**
+ * Records how long each CCD callback handler takes and what it produced, tagged by handler, event and callback
+ * type, so slow or failing handlers can be found through the actuator metrics endpoint.
+ */
+@Component
+public class CallbackMetrics {
+
+    public static final String DISPATCH_TIMER = "sscs.callback.dispatch";
+    public static final String HANDLER_TIMER = "sscs.callback.handler";
+    public static final String HANDLER_ERRORS = "sscs.callback.handler.errors";
+    public static final String HANDLER_WARNINGS = "sscs.callback.handler.warnings";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERRORS = "errors";
+    public static final String OUTCOME_EXCEPTION = "exception";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public CallbackMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CallbackMetrics() {
+        this(new SimpleMeterRegistry());
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public long recordHandler(Timer.Sample sample, Object handler, CallbackType callbackType, EventType event,
+                              String outcome) {
+        return sample.stop(Timer.builder(HANDLER_TIMER)
+            .description("Time taken by a single CCD callback handler")
+            .tags(handlerTags(handler, callbackType, event).and("outcome", outcome))
+            .register(meterRegistry));
+    }
+
+    public void recordResponse(Object handler, CallbackType callbackType, EventType event,
+                               Collection<String> errors, Collection<String> warnings) {
+        Tags tags = handlerTags(handler, callbackType, event);
+        if (errors != null && !errors.isEmpty()) {
+            Counter.builder(HANDLER_ERRORS).tags(tags).register(meterRegistry).increment(errors.size());
+        }
+        if (warnings != null && !warnings.isEmpty()) {
+            Counter.builder(HANDLER_WARNINGS).tags(tags).register(meterRegistry).increment(warnings.size());
+        }
+    }
+
+    public long recordDispatch(Timer.Sample sample, String dispatcher, CallbackType callbackType, EventType event) {
+        return sample.stop(Timer.builder(DISPATCH_TIMER)
+            .description("Time taken to dispatch a CCD callback to all eligible handlers")
+            .tags(Tags.of("dispatcher", dispatcher,
+                "callbackType", String.valueOf(callbackType),
+                "event", String.valueOf(event)))
+            .register(meterRegistry));
+    }
+
+    private static Tags handlerTags(Object handler, CallbackType callbackType, EventType event) {
+        return Tags.of("handler", ClassUtils.getUserClass(handler).getSimpleName(),
+            "callbackType", String.valueOf(callbackType),
+            "event", String.valueOf(event));
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import com.google.common.base.Suppliers;
+import java.util.Optional;
+import java.util.function.Supplier;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+
+/**
+ * A callback whose case details before are only bound from the request body the first time they are asked for.
+ * Most handlers never look at them, and for mature cases they are as large as the current case details.
+ */
+public class LazyCaseDetailsBeforeCallback<T extends CaseData> extends Callback<T> {
+
+    private final Supplier<Optional<CaseDetails<T>>> caseDetailsBefore;
+
+    public LazyCaseDetailsBeforeCallback(CaseDetails<T> caseDetails,
+                                         Supplier<Optional<CaseDetails<T>>> caseDetailsBefore,
+                                         EventType event,
+                                         boolean ignoreWarnings) {
+        super(caseDetails, Optional.empty(), event, ignoreWarnings);
+        this.caseDetailsBefore = Suppliers.memoize(caseDetailsBefore::get);
+    }
+
+    @Override
+    public Optional<CaseDetails<T>> getCaseDetailsBefore() {
+        return caseDetailsBefore.get();
+    }
+
+    /**
+     * Copies this callback with new case details, sharing the same (possibly still unbound) case details before.
+     */
+    public LazyCaseDetailsBeforeCallback<T> withCaseDetails(CaseDetails<T> caseDetails) {
+        LazyCaseDetailsBeforeCallback<T> copy =
+            new LazyCaseDetailsBeforeCallback<>(caseDetails, caseDetailsBefore, getEvent(), isIgnoreWarnings());
+        copy.setPageId(getPageId());
+        return copy;
+    }
+}
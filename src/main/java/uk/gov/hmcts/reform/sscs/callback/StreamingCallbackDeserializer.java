@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+
+/**
+ * Binds CCD callbacks straight from the request bytes, without first decoding the body into a String. It applies
+ * the same post-processing as {@link uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer}.
+ *
+ * <p>In lazy mode the case details before are skipped while parsing and only bound if a handler asks for them.
+ */
+@Component
+public class StreamingCallbackDeserializer {
+
+    static final String CASE_DETAILS_BEFORE = "case_details_before";
+    static final String CASE_DETAILS = "case_details";
+    static final String LAST_MODIFIED = "last_modified";
+
+    private static final TokenFilter EXCLUDE_CASE_DETAILS_BEFORE = new TokenFilter() {
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return CASE_DETAILS_BEFORE.equals(name) ? null : TokenFilter.INCLUDE_ALL;
+        }
+    };
+
+    private final ObjectMapper mapper;
+    private final ObjectReader callbackReader;
+    private final ObjectReader caseDetailsReader;
+    private final boolean lazyCaseDetailsBefore;
+
+    public StreamingCallbackDeserializer(
+        @Value("${callback.lazyCaseDetailsBefore:true}") boolean lazyCaseDetailsBefore) {
+        this(SpringConfig.mapper(), lazyCaseDetailsBefore);
+    }
+
+    StreamingCallbackDeserializer(ObjectMapper mapper, boolean lazyCaseDetailsBefore) {
+        this.mapper = mapper;
+        JavaType callbackType = mapper.getTypeFactory()
+            .constructParametricType(Callback.class, SscsCaseData.class);
+        JavaType caseDetailsType = mapper.getTypeFactory()
+            .constructParametricType(CaseDetails.class, SscsCaseData.class);
+        this.callbackReader = mapper.readerFor(callbackType);
+        this.caseDetailsReader = mapper.readerFor(caseDetailsType);
+        this.lazyCaseDetailsBefore = lazyCaseDetailsBefore;
+    }
+
+    public Callback<SscsCaseData> deserialize(InputStream source) {
+        try {
+            return postProcess(callbackReader.readValue(source));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize object", e);
+        }
+    }
+
+    public Callback<SscsCaseData> deserialize(byte[] source) {
+        try {
+            return postProcess(callbackReader.readValue(source));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize object", e);
+        }
+    }
+
+    /**
+     * Binds the callback, deferring the case details before when lazy mode is enabled. The returned callback keeps a
+     * reference to the source bytes until the case details before have been bound.
+     */
+    public Callback<SscsCaseData> deserializeForHandlers(byte[] source) {
+        if (!lazyCaseDetailsBefore) {
+            return deserialize(source);
+        }
+        Callback<SscsCaseData> withoutBefore;
+        try (JsonParser parser = new FilteringParserDelegate(mapper.createParser(source),
+            EXCLUDE_CASE_DETAILS_BEFORE, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true)) {
+            withoutBefore = callbackReader.readValue(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize object", e);
+        }
+        prepareCaseData(withoutBefore.getCaseDetails());
+
+        return new LazyCaseDetailsBeforeCallback<>(withoutBefore.getCaseDetails(),
+            () -> readCaseDetailsBefore(source), withoutBefore.getEvent(), withoutBefore.isIgnoreWarnings());
+    }
+
+    /**
+     * Returns the last modified time CCD stamped on the case details for the event, in ISO form, or null if the
+     * callback does not carry one. It tells one occurrence of an event on a case from the next, which the bound case details cannot as
+     * they do not keep the field.
+     */
+    public String eventTimestamp(byte[] source) {
+        try (JsonParser parser = mapper.createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (CASE_DETAILS.equals(name) && value == JsonToken.START_OBJECT) {
+                    return readLastModified(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read the event timestamp", e);
+        }
+    }
+
+    private String readLastModified(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (LAST_MODIFIED.equals(name)) {
+                if (value == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                return value == JsonToken.VALUE_STRING ? parser.getText()
+                    : mapper.readValue(parser, LocalDateTime.class).toString();
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private Optional<CaseDetails<SscsCaseData>> readCaseDetailsBefore(byte[] source) {
+        try (JsonParser parser = mapper.createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (CASE_DETAILS_BEFORE.equals(name)) {
+                    if (value == JsonToken.VALUE_NULL) {
+                        return Optional.empty();
+                    }
+                    CaseDetails<SscsCaseData> caseDetailsBefore = caseDetailsReader.readValue(parser);
+                    prepareCaseData(caseDetailsBefore);
+                    return Optional.of(caseDetailsBefore);
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize case details before", e);
+        }
+    }
+
+    private Callback<SscsCaseData> postProcess(Callback<SscsCaseData> callback) {
+        prepareCaseData(callback.getCaseDetails());
+        callback.getCaseDetailsBefore().ifPresent(this::prepareCaseData);
+        return callback;
+    }
+
+    private void prepareCaseData(CaseDetails<SscsCaseData> caseDetails) {
+        SscsCaseData caseData = caseDetails.getCaseData();
+        caseData.setCcdCaseId(String.valueOf(caseDetails.getId()));
+        caseData.sortCollections();
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -22,6 +23,16 @@ public class ClearHmctsDwpStateHandler implements PreSubmitCallbackHandler<SscsC
                 || callback.getEvent() ==  EventType.CLEAR_FAILED_FE_FILTER);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.SEND_TO_DWP_OFFLINE, EventType.CLEAR_FAILED_FE_FILTER);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -5,6 +5,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.DecisionType;
@@ -27,6 +28,16 @@ public abstract class EventToFieldPreSubmitCallbackHandler implements PreSubmitC
         return eventFieldMappings.containsKey(callback.getEvent()) && callbackType.equals(ABOUT_TO_SUBMIT);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return eventFieldMappings.keySet();
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuth) {
@@ -35,6 +35,16 @@ public class MidEventValidationHandler implements PreSubmitCallbackHandler<SscsC
             && nonNull(callback.getCaseDetails().getCaseData());
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.NOT_LISTABLE, EventType.UPDATE_NOT_LISTABLE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -1,12 +1,20 @@
 package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
 import static java.util.Objects.requireNonNull;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_ERRORS;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_EXCEPTION;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_SUCCESS;
 import static uk.gov.hmcts.reform.sscs.ccd.presubmit.createcase.CreateCaseAboutToStartHandler.isCreateCaseStartCallback;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.callback.CallbackMetrics;
+import uk.gov.hmcts.reform.sscs.callback.LazyCaseDetailsBeforeCallback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
@@ -17,11 +25,21 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 @Component
 public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
-    private final List<PreSubmitCallbackHandler<T>> callbackHandlers;
+    private final PreSubmitCallbackHandlerIndex<T> handlerIndex;
+    private final CallbackMetrics callbackMetrics;
 
     public PreSubmitCallbackDispatcher(List<PreSubmitCallbackHandler<T>> callbackHandlers) {
+        this(callbackHandlers, new CallbackMetrics());
+    }
+
+    @Autowired
+    public PreSubmitCallbackDispatcher(List<PreSubmitCallbackHandler<T>> callbackHandlers,
+                                       CallbackMetrics callbackMetrics) {
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
-        this.callbackHandlers = callbackHandlers;
+        this.handlerIndex = new PreSubmitCallbackHandlerIndex<>(callbackHandlers);
+        this.callbackMetrics = callbackMetrics;
+        log.info("Indexed {} pre-submit callback handlers, {} handlers are probed for every callback",
+                handlerIndex.getIndexedHandlerCount(), handlerIndex.getDynamicHandlerCount());
     }
 
     public PreSubmitCallbackResponse<T> handle(CallbackType callbackType, Callback<T> callback, String userAuth) {
@@ -30,15 +48,27 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
         List<PreSubmitCallbackHandler<T>> eligibleHandlers = new ArrayList<>();
         PreSubmitCallbackResponse<T> aggregateResponse =
                 new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
+        Timer.Sample dispatchSample = callbackMetrics.start();
+        Callback<T> workingCallback = null;
 
-        for (PreSubmitCallbackHandler<T> callbackHandler : callbackHandlers) {
+        for (PreSubmitCallbackHandler<T> callbackHandler : handlerIndex.candidates(callbackType, callback.getEvent())) {
             if (callbackHandler.canHandle(callbackType, callback)) {
                 eligibleHandlers.add(callbackHandler);
 
-                var updatedCallback = getUpdatedCallback(aggregateResponse.getData(), callback, callbackType);
+                Callback<T> updatedCallback;
+                if (!callbackHandler.sharesWorkingCallback()) {
+                    updatedCallback = getUpdatedCallback(aggregateResponse.getData(), callback, callbackType);
+                } else {
+                    // rebuilt only when an earlier handler handed back a different case data instance
+                    if (workingCallback == null
+                            || workingCallback.getCaseDetails().getCaseData() != aggregateResponse.getData()) {
+                        workingCallback = getUpdatedCallback(aggregateResponse.getData(), callback, callbackType);
+                    }
+                    updatedCallback = workingCallback;
+                }
 
                 PreSubmitCallbackResponse<T> handlerResponse =
-                        callbackHandler.handle(callbackType, updatedCallback, userAuth);
+                        handleWithMetrics(callbackHandler, callbackType, updatedCallback, userAuth);
 
                 aggregateResponse.setData(handlerResponse.getData());
                 aggregateResponse.addErrors(handlerResponse.getErrors());
@@ -48,9 +78,34 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
         if (eligibleHandlers.size() > 1) {
             log.info("{} has more than one handler {}", callback.getEvent(), eligibleHandlers);
         }
+        callbackMetrics.recordDispatch(dispatchSample, "preSubmit", callbackType, callback.getEvent());
         return aggregateResponse;
     }
 
+    private PreSubmitCallbackResponse<T> handleWithMetrics(PreSubmitCallbackHandler<T> callbackHandler,
+                                                           CallbackType callbackType, Callback<T> callback,
+                                                           String userAuth) {
+        Timer.Sample sample = callbackMetrics.start();
+        PreSubmitCallbackResponse<T> handlerResponse;
+        try {
+            handlerResponse = callbackHandler.handle(callbackType, callback, userAuth);
+        } catch (RuntimeException e) {
+            callbackMetrics.recordHandler(sample, callbackHandler, callbackType, callback.getEvent(),
+                    OUTCOME_EXCEPTION);
+            throw e;
+        }
+
+        boolean hasErrors = handlerResponse.getErrors() != null && !handlerResponse.getErrors().isEmpty();
+        long durationNanos = callbackMetrics.recordHandler(sample, callbackHandler, callbackType, callback.getEvent(),
+                hasErrors ? OUTCOME_ERRORS : OUTCOME_SUCCESS);
+        callbackMetrics.recordResponse(callbackHandler, callbackType, callback.getEvent(),
+                handlerResponse.getErrors(), handlerResponse.getWarnings());
+        log.debug("{} handled {} {} for Case ID {} in {} ms", callbackHandler.getClass().getSimpleName(),
+                callbackType, callback.getEvent(), callback.getCaseDetails().getId(),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        return handlerResponse;
+    }
+
     private Callback<T> getUpdatedCallback(T caseData, Callback<T> callback, CallbackType callbackType) {
         boolean isCreateCaseStartCallback = isCreateCaseStartCallback(callbackType, callback.getEvent());
         var updatedCaseDetails = new CaseDetails<>(
@@ -61,6 +116,9 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
                 isCreateCaseStartCallback ? null : callback.getCaseDetails().getCreatedDate(),
                 callback.getCaseDetails().getCaseTypeId()
         );
+        if (callback instanceof LazyCaseDetailsBeforeCallback<T> lazyCallback) {
+            return lazyCallback.withCaseDetails(updatedCaseDetails);
+        }
         var updatedCallback = new Callback<>(
                 updatedCaseDetails, callback.getCaseDetailsBefore(), callback.getEvent(), callback.isIgnoreWarnings()
         );
@@ -1,13 +1,40 @@
 package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
+import java.util.Set;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 
 public interface PreSubmitCallbackHandler<T extends CaseData> {
 
     boolean canHandle(CallbackType callbackType, Callback<T> callback);
 
     PreSubmitCallbackResponse<T> handle(CallbackType callbackType, Callback<T> callback, String userAuthorisation);
+
+    /**
+     * Callback types this handler can ever accept. Used together with {@link #handledEvents()} to route callbacks
+     * without probing every handler. An empty set means the handler is always probed through canHandle.
+     */
+    default Set<CallbackType> handledCallbackTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Events this handler can ever accept. Must be a superset of the events accepted by canHandle, which is still
+     * called on every routed handler. An empty set means the handler is always probed through canHandle.
+     */
+    default Set<EventType> handledEvents() {
+        return Set.of();
+    }
+
+    /**
+     * Whether this handler may be given the working callback already passed to the handler before it, rather than a
+     * copy of its own. A handler that opts in only reads the callback while it is handling it, changes nothing on it
+     * but its case data and does not keep hold of it afterwards.
+     */
+    default boolean sharesWorkingCallback() {
+        return false;
+    }
 }
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.sscs.ccd.presubmit;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+
+/**
+ * Routes a (callback type, event) pair to the handlers that could match it. Handlers that declare their callback
+ * types and events are only returned for those pairs; handlers that do not are returned for every pair. The
+ * registration order of the handlers is preserved in every route, as the dispatcher chains case data through them.
+ */
+class PreSubmitCallbackHandlerIndex<T extends CaseData> {
+
+    private final List<PreSubmitCallbackHandler<T>> dynamicHandlers;
+    private final Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> routes;
+    private final int indexedHandlerCount;
+
+    PreSubmitCallbackHandlerIndex(List<PreSubmitCallbackHandler<T>> callbackHandlers) {
+        List<PreSubmitCallbackHandler<T>> dynamic = new ArrayList<>();
+        Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> mutableRoutes =
+                new EnumMap<>(CallbackType.class);
+        int indexed = 0;
+
+        for (PreSubmitCallbackHandler<T> handler : callbackHandlers) {
+            if (isDynamic(handler)) {
+                dynamic.add(handler);
+                mutableRoutes.values().forEach(byEvent -> byEvent.values().forEach(route -> route.add(handler)));
+            } else {
+                indexed++;
+                for (CallbackType callbackType : handler.handledCallbackTypes()) {
+                    Map<EventType, List<PreSubmitCallbackHandler<T>>> byEvent =
+                            mutableRoutes.computeIfAbsent(callbackType, type -> new EnumMap<>(EventType.class));
+                    for (EventType event : handler.handledEvents()) {
+                        byEvent.computeIfAbsent(event, e -> new ArrayList<>(dynamic)).add(handler);
+                    }
+                }
+            }
+        }
+
+        Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> frozenRoutes =
+                new EnumMap<>(CallbackType.class);
+        mutableRoutes.forEach((callbackType, byEvent) -> {
+            Map<EventType, List<PreSubmitCallbackHandler<T>>> frozenByEvent = new EnumMap<>(EventType.class);
+            byEvent.forEach((event, route) -> frozenByEvent.put(event, List.copyOf(route)));
+            frozenRoutes.put(callbackType, frozenByEvent);
+        });
+
+        this.dynamicHandlers = List.copyOf(dynamic);
+        this.routes = frozenRoutes;
+        this.indexedHandlerCount = indexed;
+    }
+
+    List<PreSubmitCallbackHandler<T>> candidates(CallbackType callbackType, EventType event) {
+        if (callbackType == null || event == null) {
+            return dynamicHandlers;
+        }
+        Map<EventType, List<PreSubmitCallbackHandler<T>>> byEvent = routes.get(callbackType);
+        if (byEvent == null) {
+            return dynamicHandlers;
+        }
+        return byEvent.getOrDefault(event, dynamicHandlers);
+    }
+
+    int getIndexedHandlerCount() {
+        return indexedHandlerCount;
+    }
+
+    int getDynamicHandlerCount() {
+        return dynamicHandlers.size();
+    }
+
+    private static boolean isDynamic(PreSubmitCallbackHandler<?> handler) {
+        return handler.handledCallbackTypes() == null || handler.handledCallbackTypes().isEmpty()
+                || handler.handledEvents() == null || handler.handledEvents().isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -21,6 +22,16 @@ public class WorkAllocationMigrationHandler implements PreSubmitCallbackHandler<
             && callback.getEvent() == EventType.WA_CASE_MIGRATION;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.WA_CASE_MIGRATION);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.abatecase;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -23,6 +24,16 @@ public class AbateCaseAboutToStartHandler implements PreSubmitCallbackHandler<Ss
                 && callback.getEvent() == EventType.ABATE_CASE;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ABATE_CASE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
 
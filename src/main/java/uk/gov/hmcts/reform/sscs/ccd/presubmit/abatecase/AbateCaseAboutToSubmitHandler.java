@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.DwpState.APPEAL_ABATED;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.Outcome.ABATED;
 
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -26,6 +27,16 @@ public class AbateCaseAboutToSubmitHandler implements PreSubmitCallbackHandler<S
                 && callback.getEvent() == EventType.ABATE_CASE;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ABATE_CASE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -9,6 +9,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -42,6 +43,16 @@ public class ActionHearingRecordingRequestAboutToStartHandler implements PreSubm
                 && callback.getEvent() == EventType.ACTION_HEARING_RECORDING_REQUEST;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ACTION_HEARING_RECORDING_REQUEST);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
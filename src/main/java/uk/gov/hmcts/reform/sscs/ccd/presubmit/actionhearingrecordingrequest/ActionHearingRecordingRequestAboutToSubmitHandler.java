@@ -34,6 +34,16 @@ public class ActionHearingRecordingRequestAboutToSubmitHandler implements PreSub
 
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ACTION_HEARING_RECORDING_REQUEST);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
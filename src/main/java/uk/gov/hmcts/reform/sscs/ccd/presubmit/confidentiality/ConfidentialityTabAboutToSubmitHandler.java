@@ -15,6 +15,7 @@ import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.updateOtherPartie
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,7 @@ import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Benefit;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CcdValue;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.OtherParty;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.YesNoUndetermined;
@@ -52,6 +54,27 @@ public class ConfidentialityTabAboutToSubmitHandler implements PreSubmitCallback
                 || callback.getCaseDetails().getCaseData().isBenefitType(Benefit.UC));
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(
+            EventType.DWP_UPLOAD_RESPONSE,
+            EventType.ADD_OTHER_PARTY_DATA,
+            EventType.UPDATE_OTHER_PARTY_DATA,
+            EventType.INCOMPLETE_APPLICATION_RECEIVED,
+            EventType.CASE_UPDATED,
+            EventType.ACTION_HEARING_RECORDING_REQUEST);
+    }
+
+    @Override
+    public boolean sharesWorkingCallback() {
+        return true;
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
         String userAuthorisation) {
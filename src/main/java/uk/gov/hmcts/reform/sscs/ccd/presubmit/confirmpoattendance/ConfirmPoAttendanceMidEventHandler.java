@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.confirmpoattendance;
 import static java.util.Objects.requireNonNull;
 import static net.logstash.logback.util.StringUtils.isEmpty;
 
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -30,6 +31,16 @@ public class ConfirmPoAttendanceMidEventHandler implements PreSubmitCallbackHand
                 && callback.getEvent() == EventType.CONFIRM_PO_ATTENDANCE;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.CONFIRM_PO_ATTENDANCE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -49,6 +49,20 @@ public class CreateCaseMidEventHandler implements PreSubmitCallbackHandler<SscsC
                 && callback.getCaseDetails().getCaseData().isIbcCase();
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(
+            EventType.VALID_APPEAL_CREATED,
+            EventType.NON_COMPLIANT,
+            EventType.INCOMPLETE_APPLICATION_RECEIVED,
+            EventType.CASE_UPDATED);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         SscsCaseData caseData = callback.getCaseDetails().getCaseData();
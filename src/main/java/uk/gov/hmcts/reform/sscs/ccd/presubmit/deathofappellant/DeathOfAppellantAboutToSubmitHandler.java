@@ -53,6 +53,16 @@ public class DeathOfAppellantAboutToSubmitHandler implements PreSubmitCallbackHa
                 && callback.getEvent() == EventType.DEATH_OF_APPELLANT;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.DEATH_OF_APPELLANT);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -16,6 +16,7 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.isBenefitTypeChildSupportOr
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -54,6 +55,16 @@ public class DirectionIssuedAboutToStartHandler implements PreSubmitCallbackHand
             && callback.getEvent() == EventType.DIRECTION_ISSUED;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START, CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.DIRECTION_ISSUED);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
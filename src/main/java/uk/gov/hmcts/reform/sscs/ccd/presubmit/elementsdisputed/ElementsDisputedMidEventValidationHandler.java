@@ -44,6 +44,19 @@ public class ElementsDisputedMidEventValidationHandler implements PreSubmitCallb
                 || callback.getEvent() == EventType.AMEND_ELEMENTS_ISSUES);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(
+            EventType.DWP_UPLOAD_RESPONSE,
+            EventType.HMCTS_RESPONSE_REVIEWED,
+            EventType.AMEND_ELEMENTS_ISSUES);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
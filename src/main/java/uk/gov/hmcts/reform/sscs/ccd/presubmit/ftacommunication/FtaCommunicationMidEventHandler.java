@@ -8,6 +8,7 @@ import static uk.gov.hmcts.reform.sscs.util.CommunicationRequestUtil.getRequests
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -41,6 +42,16 @@ public class FtaCommunicationMidEventHandler implements PreSubmitCallbackHandler
             && callback.getEvent() == EventType.FTA_COMMUNICATION;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.FTA_COMMUNICATION);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
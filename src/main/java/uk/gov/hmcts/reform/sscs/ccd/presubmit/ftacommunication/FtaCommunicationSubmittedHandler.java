@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import feign.FeignException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +49,16 @@ public class FtaCommunicationSubmittedHandler implements PreSubmitCallbackHandle
             && callback.getEvent() == EventType.FTA_COMMUNICATION;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.SUBMITTED);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.FTA_COMMUNICATION);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.furtherevidence.fehandledoffline;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -22,6 +23,16 @@ public class FeHandledOfflineHandler implements PreSubmitCallbackHandler<SscsCas
             || hmctsDwpStateFlagIsToClear(callback));
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.FURTHER_EVIDENCE_HANDLED_OFFLINE);
+    }
+
     private boolean hmctsDwpStateFlagIsToClear(Callback<SscsCaseData> callback) {
         return "failedSendingFurtherEvidence".equals(callback.getCaseDetails().getCaseData().getHmctsDwpState());
     }
@@ -37,6 +37,16 @@ public class ReissueFurtherEvidenceAboutToSubmitHandler implements PreSubmitCall
                 && callback.getEvent() == EventType.REISSUE_FURTHER_EVIDENCE;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.REISSUE_FURTHER_EVIDENCE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -6,6 +6,7 @@ import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.addOtherPartiesToL
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -36,6 +37,16 @@ public class IssueGenericLetterAboutToStartHandler implements PreSubmitCallbackH
                 && callback.getEvent() == EventType.ISSUE_GENERIC_LETTER;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ISSUE_GENERIC_LETTER);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
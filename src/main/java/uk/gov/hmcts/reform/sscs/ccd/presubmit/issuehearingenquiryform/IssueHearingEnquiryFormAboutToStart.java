@@ -8,6 +8,7 @@ import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.addOtherPartiesToL
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -45,6 +46,16 @@ public class IssueHearingEnquiryFormAboutToStart implements PreSubmitCallbackHan
             && callback.getEvent() == EventType.ISSUE_HEARING_ENQUIRY_FORM;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ISSUE_HEARING_ENQUIRY_FORM);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
         String userAuthorisation) {
@@ -17,6 +17,7 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.removeDocumentFromCaseDataI
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -53,6 +54,16 @@ public class UploadDocumentAboutToSubmitHandler implements PreSubmitCallbackHand
             && callback.getEvent() == EventType.UPLOAD_DOCUMENT;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.UPLOAD_DOCUMENT);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(
         CallbackType callbackType,
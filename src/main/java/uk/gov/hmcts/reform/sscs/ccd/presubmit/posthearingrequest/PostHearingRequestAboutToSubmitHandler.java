@@ -5,6 +5,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.RequestFormat.UPLOAD;
 import static uk.gov.hmcts.reform.sscs.util.SscsUtil.clearPostHearingRequestFormatAndContentFields;
 
 import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +38,16 @@ public class PostHearingRequestAboutToSubmitHandler implements PreSubmitCallback
             && isPostHearingsEnabled;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.POST_HEARING_REQUEST);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType,
         Callback<SscsCaseData> callback,
@@ -12,6 +12,7 @@ import static uk.gov.hmcts.reform.sscs.util.AudioVideoEvidenceUtil.isSelectedEvi
 import static uk.gov.hmcts.reform.sscs.util.DateTimeUtils.isDateInTheFuture;
 
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -53,6 +54,16 @@ public class ProcessAudioVideoEvidenceMidEventHandler extends IssueDocumentHandl
                 && callback.getEvent() == EventType.PROCESS_AUDIO_VIDEO;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.PROCESS_AUDIO_VIDEO);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -42,6 +42,16 @@ public class ResendToGapsAboutToSubmitHandler implements PreSubmitCallbackHandle
             && callback.getEvent() == EventType.RESEND_CASE_TO_GAPS2;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.RESEND_CASE_TO_GAPS2);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
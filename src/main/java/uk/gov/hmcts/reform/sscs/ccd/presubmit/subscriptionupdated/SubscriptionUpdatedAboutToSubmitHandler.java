@@ -7,6 +7,7 @@ import static uk.gov.hmcts.reform.sscs.utility.AppealNumberGenerator.generateApp
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
@@ -30,6 +31,16 @@ public class SubscriptionUpdatedAboutToSubmitHandler implements PreSubmitCallbac
             && (callback.getEvent() == EventType.SUBSCRIPTION_UPDATED);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.SUBSCRIPTION_UPDATED);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -46,6 +46,16 @@ public class TribunalCommunicationAboutToSubmitHandler implements PreSubmitCallb
             && callback.getEvent() == EventType.TRIBUNAL_COMMUNICATION;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.TRIBUNAL_COMMUNICATION);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -12,6 +12,7 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.getHmcHearingType;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -41,6 +42,16 @@ public class UpdateListingRequirementsAboutToSubmitHandler implements PreSubmitC
             && (callback.getEvent() == EventType.UPDATE_LISTING_REQUIREMENTS);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.UPDATE_LISTING_REQUIREMENTS);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType,
                                                           Callback<SscsCaseData> callback,
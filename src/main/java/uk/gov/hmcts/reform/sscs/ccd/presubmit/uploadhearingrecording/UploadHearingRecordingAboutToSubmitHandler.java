@@ -43,6 +43,16 @@ public class UploadHearingRecordingAboutToSubmitHandler implements PreSubmitCall
                 && callback.getEvent() == EventType.UPLOAD_HEARING_RECORDING;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.UPLOAD_HEARING_RECORDING);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
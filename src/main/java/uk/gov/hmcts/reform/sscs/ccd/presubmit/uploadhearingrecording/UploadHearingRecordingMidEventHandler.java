@@ -5,6 +5,7 @@ import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 
 import jakarta.validation.constraints.NotNull;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +42,16 @@ public class UploadHearingRecordingMidEventHandler implements PreSubmitCallbackH
                 && callback.getEvent() == EventType.UPLOAD_HEARING_RECORDING;
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.MID_EVENT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.UPLOAD_HEARING_RECORDING);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
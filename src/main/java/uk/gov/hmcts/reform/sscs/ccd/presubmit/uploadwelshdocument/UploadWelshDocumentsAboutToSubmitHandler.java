@@ -49,6 +49,16 @@ public class UploadWelshDocumentsAboutToSubmitHandler implements PreSubmitCallba
             && callback.getEvent().equals(EventType.UPLOAD_WELSH_DOCUMENT);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.UPLOAD_WELSH_DOCUMENT);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -8,6 +8,7 @@ import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.isChildSupportAppe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -40,6 +41,16 @@ public class ValidSendToInterlocAboutToStartHandler implements PreSubmitCallback
                 || callback.getEvent() == EventType.ADMIN_SEND_TO_INTERLOCUTORY_REVIEW_STATE);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.VALID_SEND_TO_INTERLOC, EventType.ADMIN_SEND_TO_INTERLOCUTORY_REVIEW_STATE);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
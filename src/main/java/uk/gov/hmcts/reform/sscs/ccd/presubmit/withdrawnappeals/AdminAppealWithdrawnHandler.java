@@ -10,6 +10,7 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.clearPostponementTransientF
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,6 +53,16 @@ public class AdminAppealWithdrawnHandler implements PreSubmitCallbackHandler<Ssc
             && callback.getEvent().equals(EventType.ADMIN_APPEAL_WITHDRAWN);
     }
 
+    @Override
+    public Set<CallbackType> handledCallbackTypes() {
+        return Set.of(CallbackType.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<EventType> handledEvents() {
+        return Set.of(EventType.ADMIN_APPEAL_WITHDRAWN);
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -39,6 +39,9 @@ public class HearingsJmsConfig {
     @Value("${azure.service-bus.hmc-to-hearings-api.idleTimeout}")
     private Long idleTimeout;
 
+    @Value("${azure.service-bus.hmc-to-hearings-api.concurrency:1}")
+    private String concurrency;
+
     @Value("${spring.application.name}")
     private String clientId;
 
@@ -79,8 +82,19 @@ public class HearingsJmsConfig {
         DefaultJmsListenerContainerFactory returnValue = new DefaultJmsListenerContainerFactory();
         returnValue.setConnectionFactory(connectionFactory);
         returnValue.setSubscriptionDurable(Boolean.TRUE);
+        returnValue.setConcurrency(concurrency);
+        if (maxConsumers(concurrency) > 1) {
+            // several consumers can only share a durable subscription as a JMS 2.0 shared subscription
+            returnValue.setSubscriptionShared(Boolean.TRUE);
+        }
+        log.info("HMC hearings topic listener concurrency: {}", concurrency);
         returnValue.setErrorHandler(t -> log.error("Error while processing JMS message", t));
         returnValue.setExceptionListener(t -> log.error("Exception while processing JMS message", t));
         return returnValue;
     }
+
+    static int maxConsumers(String concurrency) {
+        int separator = concurrency.indexOf('-');
+        return Integer.parseInt((separator < 0 ? concurrency : concurrency.substring(separator + 1)).trim());
+    }
 }
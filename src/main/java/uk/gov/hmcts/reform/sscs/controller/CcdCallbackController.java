@@ -15,10 +15,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.presubmit.PreSubmitCallbackDispatcher;
 import uk.gov.hmcts.reform.sscs.service.AuthorisationService;
@@ -29,11 +29,11 @@ public class CcdCallbackController {
 
     private final AuthorisationService authorisationService;
     private final PreSubmitCallbackDispatcher<SscsCaseData> dispatcher;
-    private final SscsCaseCallbackDeserializer deserializer;
+    private final StreamingCallbackDeserializer deserializer;
 
     @Autowired
     public CcdCallbackController(AuthorisationService authorisationService,
-                                 SscsCaseCallbackDeserializer deserializer,
+                                 StreamingCallbackDeserializer deserializer,
                                  PreSubmitCallbackDispatcher<SscsCaseData> dispatcher) {
         this.authorisationService = authorisationService;
         this.deserializer = deserializer;
@@ -44,9 +44,9 @@ public class CcdCallbackController {
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdAboutToStart(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        @RequestBody byte[] message) {
 
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        Callback<SscsCaseData> callback = deserializer.deserializeForHandlers(message);
         log.info("About to start sscs case callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
 
@@ -59,8 +59,8 @@ public class CcdCallbackController {
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdAboutToSubmit(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        @RequestBody byte[] message) {
+        Callback<SscsCaseData> callback = deserializer.deserializeForHandlers(message);
         log.info("About to submit sscs case callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
         authorisationService.authorise(serviceAuthHeader);
@@ -71,10 +71,10 @@ public class CcdCallbackController {
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEvent(
             @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
             @RequestHeader(AUTHORIZATION) String userAuthorisation,
-            @RequestBody String message,
+            @RequestBody byte[] message,
             @RequestParam(value = "pageId", required = false, defaultValue = "") String pageId
     ) {
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        Callback<SscsCaseData> callback = deserializer.deserializeForHandlers(message);
         callback.setPageId(pageId);
         log.info("Midevent sscs case callback `{}` on page `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getPageId(), callback.getCaseDetails().getId());
@@ -87,16 +87,16 @@ public class CcdCallbackController {
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdSubmittedEvent(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        @RequestBody byte[] message) {
         validateRequest(serviceAuthHeader, userAuthorisation, message);
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        Callback<SscsCaseData> callback = deserializer.deserializeForHandlers(message);
         log.info("Submitted event callback for`{}` event and Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
         authorisationService.authorise(serviceAuthHeader);
         return performRequest(SUBMITTED, callback, userAuthorisation);
     }
 
-    private void validateRequest(String serviceAuthHeader, String userAuthorisation, String message) {
+    private void validateRequest(String serviceAuthHeader, String userAuthorisation, byte[] message) {
         Preconditions.checkNotNull(message);
         Preconditions.checkNotNull(userAuthorisation);
         Preconditions.checkNotNull(serviceAuthHeader);
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.sscs.controller;
 
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,30 +10,44 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+import uk.gov.hmcts.reform.sscs.service.servicebus.outbox.CallbackOutboxService;
 
 
 @RestController
 @Slf4j
 public class CcdCallbackOrchestratorController {
     private final SendCallbackHandler sendCallbackHandler;
-    private final SscsCaseCallbackDeserializer mapper;
+    private final StreamingCallbackDeserializer mapper;
+    private final CallbackOutboxService callbackOutbox;
 
     public CcdCallbackOrchestratorController(final SendCallbackHandler sendCallbackHandler,
-                                             final SscsCaseCallbackDeserializer mapper) {
+                                             final StreamingCallbackDeserializer mapper,
+                                             final CallbackOutboxService callbackOutbox) {
         this.sendCallbackHandler = sendCallbackHandler;
         this.mapper = mapper;
+        this.callbackOutbox = callbackOutbox;
     }
 
     @RequestMapping(value = "/send", produces = APPLICATION_JSON_VALUE, method = RequestMethod.POST)
-    public ResponseEntity<String> send(@RequestBody String body) {
+    public ResponseEntity<String> send(@RequestBody byte[] body) {
 
         Callback<SscsCaseData> callback = mapper.deserialize(body);
         log.info("Sending message for event: {} for case id: {}", callback.getEvent(), callback.getCaseDetails().getId());
-        sendCallbackHandler.handle(callback);
+        if (callbackOutbox.isEnabled()) {
+            callbackOutbox.enqueue(callback, body);
+        } else {
+            try {
+                sendCallbackHandler.handle(callback, mapper.eventTimestamp(body));
+            } catch (RejectedExecutionException e) {
+                log.warn("Too many callbacks waiting to send event: {} for case id: {}, asking for it to be retried",
+                    callback.getEvent(), callback.getCaseDetails().getId(), e);
+                return new ResponseEntity<>("{}", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        }
         return new ResponseEntity<>("{}", HttpStatus.OK);
     }
 
@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.sscs.docmosis.service;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static uk.gov.hmcts.reform.sscs.config.MetricsConfiguration.DOWNSTREAM_TIMER;
 
+import io.micrometer.core.annotation.Timed;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +35,7 @@ public class DocmosisPdfGenerationService implements PdfGenerationService {
     }
 
     @Override
+    @Timed(value = DOWNSTREAM_TIMER, extraTags = {"downstream", "docmosis", "operation", "generatePdf"})
     public byte[] generatePdf(DocumentHolder documentHolder) {
 
         checkArgument(documentHolder.getTemplate() != null, templateEmptyMessage);
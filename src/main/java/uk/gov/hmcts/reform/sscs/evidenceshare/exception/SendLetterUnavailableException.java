@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.sscs.evidenceshare.exception;
+
+/**
+ * Send-letter failed to take a letter for a reason that may clear up on its own, such as a timeout or a server error.
+ * Unlike {@link BulkPrintException} it is not treated as unrecoverable, so the evidence share that sent the letter is
+ * retried later through Quartz.
+ */
+public class SendLetterUnavailableException extends RuntimeException {
+    public static final long serialVersionUID = -2861577153294082011L;
+
+    public SendLetterUnavailableException(String message, Throwable exception) {
+        super(message, exception);
+    }
+}
@@ -34,6 +34,7 @@ import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.evidenceshare.domain.FurtherEvidenceLetterType;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.BulkPrintException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.NonPdfBulkPrintException;
+import uk.gov.hmcts.reform.sscs.evidenceshare.exception.SendLetterUnavailableException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 
 @Service
@@ -52,7 +53,6 @@ public class BulkPrintService implements PrintService {
     private final SendLetterApi sendLetterApi;
     private final IdamService idamService;
     private final boolean sendLetterEnabled;
-    private final Integer maxRetryAttempts;
     private final BulkPrintServiceHelper bulkPrintServiceHelper;
     private final CcdNotificationService ccdNotificationService;
 
@@ -61,12 +61,11 @@ public class BulkPrintService implements PrintService {
                             IdamService idamService,
                             BulkPrintServiceHelper bulkPrintServiceHelper,
                             @Value("${send-letter.enabled}") boolean sendLetterEnabled,
-                            @Value("${send-letter.maxRetryAttempts}") Integer maxRetryAttempts, CcdNotificationService ccdNotificationService) {
+                            CcdNotificationService ccdNotificationService) {
         this.idamService = idamService;
         this.bulkPrintServiceHelper = bulkPrintServiceHelper;
         this.sendLetterApi = sendLetterApi;
         this.sendLetterEnabled = sendLetterEnabled;
-        this.maxRetryAttempts = maxRetryAttempts;
         this.ccdNotificationService = ccdNotificationService;
     }
 
@@ -89,7 +88,7 @@ public class BulkPrintService implements PrintService {
                 encodedData.add(getEncoder().encodeToString(pdf.getContent()));
             }
             final String authToken = idamService.generateServiceAuthorization();
-            return sendLetterWithRetry(authToken, sscsCaseData, encodedData, 1, recipient);
+            return sendLetterOnce(authToken, sscsCaseData, encodedData, recipient);
         }
         return Optional.empty();
     }
@@ -186,8 +185,13 @@ public class BulkPrintService implements PrintService {
         }
     }
 
-    private Optional<UUID> sendLetterWithRetry(String authToken, SscsCaseData sscsCaseData, List<String> encodedData,
-                                               Integer reTryNumber, String recipient) {
+    /**
+     * Makes a single attempt to send the letter. A failure that may clear up is not retried here, as that would hold
+     * the calling thread; it is thrown as a {@link SendLetterUnavailableException} so the evidence share is retried
+     * through Quartz instead.
+     */
+    private Optional<UUID> sendLetterOnce(String authToken, SscsCaseData sscsCaseData, List<String> encodedData,
+                                          String recipient) {
         try {
             return sendLetter(authToken, sscsCaseData, encodedData, recipient);
         } catch (HttpClientErrorException e) {
@@ -196,14 +200,9 @@ public class BulkPrintService implements PrintService {
             throw new NonPdfBulkPrintException(e);
 
         } catch (Exception e) {
-            if (reTryNumber > maxRetryAttempts) {
-                String message = format("Failed to send to bulk print for case %s with error %s.",
-                    sscsCaseData.getCcdCaseId(), e.getMessage());
-                throw new BulkPrintException(message, e);
-            }
-            log.info(String.format("Caught recoverable error %s, retrying %s out of %s",
-                e.getMessage(), reTryNumber, maxRetryAttempts));
-            return sendLetterWithRetry(authToken, sscsCaseData, encodedData, reTryNumber + 1, recipient);
+            String message = format("Failed to send to bulk print for case %s with error %s.",
+                sscsCaseData.getCcdCaseId(), e.getMessage());
+            throw new SendLetterUnavailableException(message, e);
         }
     }
 
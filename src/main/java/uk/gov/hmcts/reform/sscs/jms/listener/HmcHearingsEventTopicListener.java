@@ -5,10 +5,17 @@ import static uk.gov.hmcts.reform.sscs.service.HmcHearingApi.HMCTS_DEPLOYMENT_ID
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.JMSException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.qpid.jms.message.JmsBytesMessage;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jms.annotation.JmsListener;
@@ -18,6 +25,8 @@ import uk.gov.hmcts.reform.sscs.exception.HearingUpdateException;
 import uk.gov.hmcts.reform.sscs.exception.HmcEventProcessingException;
 import uk.gov.hmcts.reform.sscs.exception.MessageProcessingException;
 import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageCoalescer;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageOrder;
 import uk.gov.hmcts.reform.sscs.service.hmc.topic.ProcessHmcMessageServiceV2;
 
 @Slf4j
@@ -25,17 +34,55 @@ import uk.gov.hmcts.reform.sscs.service.hmc.topic.ProcessHmcMessageServiceV2;
 @ConditionalOnProperty("flags.hmc-to-hearings-api.enabled")
 public class HmcHearingsEventTopicListener {
 
+    static final String PROCESSING_TIMER = "sscs.hmc.message.processing";
+    static final String LAG_TIMER = "sscs.hmc.message.lag";
+
+    private static final int DEFAULT_CASE_LOCK_STRIPES = 64;
+
     private final ObjectMapper objectMapper;
 
     private final ProcessHmcMessageServiceV2 processHmcMessageServiceV2;
 
+    private final MeterRegistry meterRegistry;
+
+    private final HmcMessageCoalescer hmcMessageCoalescer;
+
+    private final HmcMessageOrder hmcMessageOrder;
+
+    private final Lock[] caseLocks;
+
     @Value("${hmc.deployment-id}")
     private String hmctsDeploymentId;
 
     public HmcHearingsEventTopicListener(ProcessHmcMessageServiceV2 processHmcMessageServiceV2) {
+        this(processHmcMessageServiceV2, new SimpleMeterRegistry(), DEFAULT_CASE_LOCK_STRIPES,
+            HmcMessageCoalescer.disabled(), HmcMessageOrder.unordered());
+    }
+
+    /**
+     * With more than one consumer, messages for different cases are processed in parallel, but a fair lock per
+     * case stripe stops two messages for the same case being applied to CCD at the same time. Arrival order is not
+     * broadcast order, so a message older than one already applied for its hearing is dropped by the
+     * {@link HmcMessageOrder}. With a coalescing window, messages are parked by the {@link HmcMessageCoalescer}
+     * instead and applied later through {@link #applyParked}.
+     */
+    @Autowired
+    public HmcHearingsEventTopicListener(ProcessHmcMessageServiceV2 processHmcMessageServiceV2,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${azure.service-bus.hmc-to-hearings-api.caseLockStripes:64}")
+                                         int caseLockStripes,
+                                         HmcMessageCoalescer hmcMessageCoalescer,
+                                         HmcMessageOrder hmcMessageOrder) {
         this.processHmcMessageServiceV2 = processHmcMessageServiceV2;
+        this.meterRegistry = meterRegistry;
+        this.hmcMessageCoalescer = hmcMessageCoalescer;
+        this.hmcMessageOrder = hmcMessageOrder;
         this.objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        this.caseLocks = new Lock[caseLockStripes];
+        for (int i = 0; i < caseLockStripes; i++) {
+            caseLocks[i] = new ReentrantLock(true);
+        }
     }
 
     @JmsListener(
@@ -63,7 +110,13 @@ public class HmcHearingsEventTopicListener {
                 hearingId
             );
 
-            processHmcMessageServiceV2.processEventMessage(hmcMessage);
+            recordLag(hmcMessage, message.getJMSTimestamp());
+            if (hmcMessageCoalescer.park(hmcMessage, messageBytes)) {
+                log.info("Parked HMC message for Hearing ID {} and Case ID {} until its coalescing window has passed",
+                    hearingId, caseId);
+                return;
+            }
+            processInCaseOrder(hmcMessage);
         } catch (JsonProcessingException | MessageProcessingException
                  | HearingUpdateException | ExhaustedRetryException ex) {
             log.error("Unable to successfully deliver HMC message: {}", convertedMessage, ex);
@@ -74,4 +127,42 @@ public class HmcHearingsEventTopicListener {
         }
     }
 
+    /**
+     * Applies a message the coalescer parked, once its window has passed.
+     */
+    void applyParked(byte[] payload) throws JsonProcessingException, MessageProcessingException {
+        processInCaseOrder(objectMapper.readValue(new String(payload, StandardCharsets.UTF_8), HmcMessage.class));
+    }
+
+    private void recordLag(HmcMessage hmcMessage, long enqueuedAt) {
+        if (enqueuedAt > 0) {
+            Timer.builder(LAG_TIMER)
+                .description("Time between a HMC message being published and this service starting to process it")
+                .tag("hmcStatus", String.valueOf(hmcMessage.getHearingUpdate().getHmcStatus()))
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - enqueuedAt)));
+        }
+    }
+
+    private void processInCaseOrder(HmcMessage hmcMessage) throws MessageProcessingException {
+        String hmcStatus = String.valueOf(hmcMessage.getHearingUpdate().getHmcStatus());
+        Lock caseLock = caseLocks[Math.floorMod(Long.hashCode(hmcMessage.getCaseId()), caseLocks.length)];
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "exception";
+        caseLock.lock();
+        try {
+            if (hmcMessageOrder.isOutOfOrder(hmcMessage)) {
+                outcome = "outOfOrder";
+            } else {
+                processHmcMessageServiceV2.processEventMessage(hmcMessage);
+                outcome = "success";
+            }
+        } finally {
+            caseLock.unlock();
+            sample.stop(Timer.builder(PROCESSING_TIMER)
+                .description("Time taken to apply a HMC message to the case")
+                .tags("hmcStatus", hmcStatus, "outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.sscs.jms.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageCoalescer;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcPendingMessageRepository;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.PendingHmcMessage;
+
+/**
+ * Applies the HMC messages parked by the {@link HmcMessageCoalescer} once their window has passed. Each poll claims
+ * at most as many messages as there are idle workers, so a claimed message starts straight away on this worker's
+ * own threads rather than queueing behind anything, and one left behind by a pod that dies is picked up again once
+ * its lease runs out. A failed message is retried with backoff and marked failed after the last attempt, unless a
+ * newer message for the hearing has been parked meanwhile, which is then applied in its place.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("flags.hmc-to-hearings-api.enabled")
+public class HmcPendingMessageWorker {
+
+    static final String PROCESSED = "sscs.hmc.message.parked.processed";
+
+    private final HmcPendingMessageRepository repository;
+    private final HmcHearingsEventTopicListener listener;
+    private final HmcMessageCoalescer coalescer;
+    private final Executor executor;
+    private final Semaphore idleWorkers;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final String workerId = "hmc-" + UUID.randomUUID();
+
+    private final Counter completed;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Autowired
+    public HmcPendingMessageWorker(HmcPendingMessageRepository repository,
+                                   HmcHearingsEventTopicListener listener,
+                                   HmcMessageCoalescer coalescer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${azure.service-bus.hmc-to-hearings-api.coalescingWorkers:4}") int workers,
+                                   @Value("${azure.service-bus.hmc-to-hearings-api.coalescingLeaseSeconds:300}")
+                                   long leaseSeconds,
+                                   @Value("${azure.service-bus.hmc-to-hearings-api.coalescingMaxAttempts:5}")
+                                   int maxAttempts,
+                                   @Value("${azure.service-bus.hmc-to-hearings-api.coalescingBackoffSeconds:30}")
+                                   long backoffSeconds) {
+        this(repository, listener, coalescer, meterRegistry, workers, leaseSeconds, maxAttempts, backoffSeconds,
+            Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("hmc-parked-")));
+    }
+
+    HmcPendingMessageWorker(HmcPendingMessageRepository repository, HmcHearingsEventTopicListener listener,
+                            HmcMessageCoalescer coalescer, MeterRegistry meterRegistry, int workers,
+                            long leaseSeconds, int maxAttempts, long backoffSeconds, Executor executor) {
+        this.repository = repository;
+        this.listener = listener;
+        this.coalescer = coalescer;
+        this.executor = executor;
+        this.idleWorkers = new Semaphore(workers);
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+
+        completed = Counter.builder(PROCESSED).tag("outcome", "completed").register(meterRegistry);
+        retried = Counter.builder(PROCESSED).tag("outcome", "retried").register(meterRegistry);
+        failed = Counter.builder(PROCESSED).tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${azure.service-bus.hmc-to-hearings-api.coalescingPollIntervalMs:1000}")
+    public void poll() {
+        if (!coalescer.isEnabled()) {
+            return;
+        }
+        try {
+            int idle = idleWorkers.availablePermits();
+            if (idle == 0) {
+                return;
+            }
+            List<PendingHmcMessage> messages = repository.claim(workerId, idle, leaseSeconds);
+            for (PendingHmcMessage message : messages) {
+                idleWorkers.acquireUninterruptibly();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            apply(message);
+                        } finally {
+                            idleWorkers.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    idleWorkers.release();
+                    throw e;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll the parked HMC messages", e);
+        }
+    }
+
+    void apply(PendingHmcMessage message) {
+        try {
+            listener.applyParked(message.payload());
+            if (!repository.complete(message, workerId)) {
+                log.info("A newer HMC message for Hearing ID {} was parked while one was applied, leaving it to be "
+                    + "applied next", message.hearingId());
+            }
+            completed.increment();
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (message.attempts() >= maxAttempts) {
+                log.error("Giving up on parked HMC message for Hearing ID {} and Case ID {} after {} attempts",
+                    message.hearingId(), message.caseId(), message.attempts(), e);
+                repository.fail(message, workerId, error);
+                failed.increment();
+            } else {
+                long delay = backoffSeconds << Math.min(message.attempts() - 1, 10);
+                log.warn("Parked HMC message for Hearing ID {} and Case ID {} failed on attempt {}, retrying in {}s",
+                    message.hearingId(), message.caseId(), message.attempts(), delay, e);
+                repository.release(message, workerId, delay, error);
+                retried.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.config;
+
+import java.time.Instant;
+import java.util.Map;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzQueueRepository;
+
+/**
+ * Summarises the scheduled jobs waiting to run, by how soon they are due and what kind of job they are, so the
+ * backlog before the morning release can be seen and the thread pool sized for it. Counting scans qrtz_triggers, so
+ * the response is cached by the actuator (management.endpoint.jobqueue.cache.time-to-live) and the endpoint is not
+ * exposed over the web unless MANAGEMENT_ENDPOINTS_EXPOSED names it.
+ */
+@Component
+@Endpoint(id = "jobqueue")
+public class JobQueueEndpoint {
+
+    private final Scheduler scheduler;
+    private final QuartzQueueRepository queueRepository;
+
+    public JobQueueEndpoint(Scheduler scheduler, QuartzQueueRepository queueRepository) {
+        this.scheduler = scheduler;
+        this.queueRepository = queueRepository;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queue() throws SchedulerException {
+        Instant now = Instant.now();
+        Map<String, Map<String, Long>> pending = queueRepository.countPending(scheduler.getSchedulerName(),
+            now.toEpochMilli());
+        long total = pending.values().stream()
+            .flatMap(byKind -> byKind.values().stream())
+            .mapToLong(Long::longValue)
+            .sum();
+        return Map.of(
+            "at", now.toString(),
+            "threadPoolSize", scheduler.getMetaData().getThreadPoolSize(),
+            "total", total,
+            "pending", pending
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.HashMap;
@@ -15,19 +16,32 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzFailedJobRescheduler;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzJobMetrics;
 
 @Configuration
 @ConfigurationProperties(prefix = "job.scheduler")
 public class QuartzConfiguration {
 
     private final Map<String, String> quartzProperties = new HashMap<>();
+    private final Map<String, Integer> downstreamLimits = new HashMap<>();
 
     // this getter is needed by the framework
     public Map<String, String> getQuartzProperties() {
         return quartzProperties;
     }
 
+    // this getter is needed by the framework
+    public Map<String, Integer> getDownstreamLimits() {
+        return downstreamLimits;
+    }
+
+    @Bean
+    public DownstreamLimiter downstreamLimiter() {
+        return new DownstreamLimiter(downstreamLimits);
+    }
+
     @Bean
     public JobFactory jobFactory(ApplicationContext context) {
         AutowiringSpringBeanJobFactory jobFactory = new AutowiringSpringBeanJobFactory();
@@ -56,7 +70,8 @@ public class QuartzConfiguration {
         SchedulerFactoryBean factory,
         @Value("${job.scheduler.autoStart:true}") boolean autoStart,
         @Value("${job.scheduler.retryPolicy.maxNumberOfJobExecutions}") int maxJobExecutionAttempts,
-        @Value("${job.scheduler.retryPolicy.delayBetweenAttemptsInMs}") long delayBetweenAttemptsInMs
+        @Value("${job.scheduler.retryPolicy.delayBetweenAttemptsInMs}") long delayBetweenAttemptsInMs,
+        MeterRegistry meterRegistry
     ) throws SchedulerException {
 
         Scheduler scheduler = factory.getScheduler();
@@ -68,6 +83,10 @@ public class QuartzConfiguration {
 
         scheduler.getListenerManager().addJobListener(failedJobRescheduler);
 
+        QuartzJobMetrics jobMetrics = new QuartzJobMetrics(meterRegistry);
+        scheduler.getListenerManager().addJobListener(jobMetrics);
+        scheduler.getListenerManager().addTriggerListener(jobMetrics);
+
         if (autoStart) {
             scheduler.start();
         }
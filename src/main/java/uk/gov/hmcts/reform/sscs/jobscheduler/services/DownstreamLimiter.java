@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many scheduled jobs call each downstream service at once. Once jobs run on virtual threads the thread pool
+ * no longer limits them, so this stops a burst of reminders overwhelming CCD or IDAM. Notify is not limited here:
+ * every Notify call already takes one of the NotifyDispatcher's in-flight slots for just the length of the call.
+ * Downstreams without a configured limit are not limited.
+ */
+public class DownstreamLimiter {
+
+    public static final String CCD = "ccd";
+    public static final String IDAM = "idam";
+
+    private final Map<String, Semaphore> permits = new HashMap<>();
+
+    public DownstreamLimiter(Map<String, Integer> limits) {
+        limits.forEach((downstream, limit) -> {
+            if (limit != null && limit > 0) {
+                permits.put(downstream, new Semaphore(limit, true));
+            }
+        });
+    }
+
+    public static DownstreamLimiter unlimited() {
+        return new DownstreamLimiter(Map.of());
+    }
+
+    public <T> T call(String downstream, Supplier<T> call) {
+        Semaphore semaphore = permits.get(downstream);
+        if (semaphore == null) {
+            return call.get();
+        }
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobException("Interrupted waiting to call " + downstream, e);
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void run(String downstream, Runnable call) {
+        call(downstream, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public int availablePermits(String downstream) {
+        Semaphore semaphore = permits.get(downstream);
+        return semaphore == null ? Integer.MAX_VALUE : semaphore.availablePermits();
+    }
+}
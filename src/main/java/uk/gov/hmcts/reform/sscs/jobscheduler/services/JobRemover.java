@@ -1,9 +1,19 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface JobRemover {
 
     void remove(String jobId, String jobGroup);
 
     void removeGroup(String jobGroup);
 
+    /**
+     * Removes every job in each of the given groups. A group with no jobs is not an error.
+     *
+     * @return the number of jobs removed for each requested group, 0 for groups that had none
+     */
+    Map<String, Integer> removeGroups(Collection<String> jobGroups);
+
 }
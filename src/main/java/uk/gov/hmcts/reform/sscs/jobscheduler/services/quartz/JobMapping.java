@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
 
 import java.util.function.Predicate;
+import org.springframework.util.ClassUtils;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobExecutor;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobPayloadDeserializer;
 
@@ -17,6 +18,10 @@ public class JobMapping<T> {
         this.jobExecutor = jobExecutor;
     }
 
+    public String getName() {
+        return ClassUtils.getUserClass(jobExecutor).getSimpleName();
+    }
+
     public boolean canHandle(String payload) {
         return payloadCanBeHandled.test(payload);
     }
@@ -50,6 +50,10 @@ public class QuartzExecutionHandler implements Job {
             }
 
             JobMapping jobMapping = jobMapper.getJobMapping(payloadSource);
+            String mappingName = jobMapping.getName();
+            if (mappingName != null) {
+                context.put(QuartzJobMetrics.JOB_MAPPING, mappingName);
+            }
             jobMapping.execute(jobId, jobGroup, jobName, payloadSource);
 
             log.info(
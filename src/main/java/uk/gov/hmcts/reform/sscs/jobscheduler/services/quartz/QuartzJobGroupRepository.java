@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes whole job groups straight from the Quartz job store in one statement, rather than looking up each group's
+ * job keys and deleting them one job at a time through the scheduler. The delete runs in a transaction that first
+ * takes Quartz's TRIGGER_ACCESS row in qrtz_locks, the lock every scheduler node holds while it acquires, fires and
+ * stores triggers, so the delete waits for those and they wait for it. Row locks on the deleted rows alone would not
+ * do: a node could acquire a trigger just before the delete and then fire a job whose details are already gone.
+ */
+@Repository
+public class QuartzJobGroupRepository {
+
+    private static final String TRIGGER_KEY_MATCHES =
+        "x.sched_name = t.sched_name AND x.trigger_name = t.trigger_name AND x.trigger_group = t.trigger_group";
+
+    private static final String DELETE_GROUPS =
+        "WITH groups AS (SELECT DISTINCT unnest(?::text[]) AS job_group), "
+            + "triggers AS (SELECT t.sched_name, t.trigger_name, t.trigger_group FROM qrtz_triggers t "
+            + "JOIN groups g ON t.job_group = g.job_group WHERE t.sched_name = ?), "
+            + "simple AS (DELETE FROM qrtz_simple_triggers x USING triggers t WHERE " + TRIGGER_KEY_MATCHES + "), "
+            + "cron AS (DELETE FROM qrtz_cron_triggers x USING triggers t WHERE " + TRIGGER_KEY_MATCHES + "), "
+            + "simprop AS (DELETE FROM qrtz_simprop_triggers x USING triggers t WHERE " + TRIGGER_KEY_MATCHES + "), "
+            + "blob AS (DELETE FROM qrtz_blob_triggers x USING triggers t WHERE " + TRIGGER_KEY_MATCHES + "), "
+            + "deleted_triggers AS (DELETE FROM qrtz_triggers x USING triggers t WHERE " + TRIGGER_KEY_MATCHES + "), "
+            + "jobs AS (DELETE FROM qrtz_job_details j USING groups g "
+            + "WHERE j.sched_name = ? AND j.job_group = g.job_group RETURNING j.job_group) "
+            + "SELECT job_group, count(*) AS jobs FROM jobs GROUP BY job_group";
+
+    private static final String LOCK_TRIGGER_ACCESS =
+        "SELECT lock_name FROM qrtz_locks WHERE sched_name = ? AND lock_name = 'TRIGGER_ACCESS' FOR UPDATE";
+
+    private static final String INSERT_TRIGGER_ACCESS =
+        "INSERT INTO qrtz_locks (sched_name, lock_name) VALUES (?, 'TRIGGER_ACCESS') ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public QuartzJobGroupRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Deletes every job in the given groups with its triggers, and returns how many jobs were deleted per group.
+     * Groups that had no jobs are left out.
+     */
+    public Map<String, Integer> deleteGroups(String schedulerName, Collection<String> jobGroups) {
+        return transactionTemplate.execute(status -> {
+            lockTriggerAccess(schedulerName);
+            return delete(schedulerName, jobGroups);
+        });
+    }
+
+    /**
+     * Takes the TRIGGER_ACCESS lock the way Quartz's StdRowLockSemaphore does, creating its row if no scheduler has
+     * yet.
+     */
+    private void lockTriggerAccess(String schedulerName) {
+        if (jdbcTemplate.queryForList(LOCK_TRIGGER_ACCESS, String.class, schedulerName).isEmpty()) {
+            jdbcTemplate.update(INSERT_TRIGGER_ACCESS, schedulerName);
+            jdbcTemplate.queryForList(LOCK_TRIGGER_ACCESS, String.class, schedulerName);
+        }
+    }
+
+    private Map<String, Integer> delete(String schedulerName, Collection<String> jobGroups) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_GROUPS);
+            statement.setArray(1, connection.createArrayOf("text", jobGroups.toArray()));
+            statement.setString(2, schedulerName);
+            statement.setString(3, schedulerName);
+            return statement;
+        }, rs -> {
+            deleted.put(rs.getString("job_group"), rs.getInt("jobs"));
+        });
+        return deleted;
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+/**
+ * Records how late each job starts compared with its trigger time, how long it runs and how it ended, tagged by the
+ * kind of job. Job groups are "caseId_kind" (for example 1234_hearingReminder), so the kind is the group without its
+ * case id.
+ */
+public class QuartzJobMetrics implements JobListener, TriggerListener {
+
+    static final String FIRE_LAG = "sscs.jobscheduler.fire.lag";
+    static final String EXECUTION = "sscs.jobscheduler.execution";
+    static final String MISFIRES = "sscs.jobscheduler.misfires";
+    static final String JOB_MAPPING = "jobMapping";
+
+    private static final Pattern CASE_GROUP = Pattern.compile("^\\d+_(.+)$");
+
+    private final MeterRegistry meterRegistry;
+
+    public QuartzJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static String kind(String jobGroup) {
+        if (jobGroup == null) {
+            return "unknown";
+        }
+        Matcher matcher = CASE_GROUP.matcher(jobGroup);
+        return matcher.matches() ? matcher.group(1) : jobGroup;
+    }
+
+    @Override
+    public String getName() {
+        return "Job Metrics";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        Date scheduled = context.getScheduledFireTime();
+        if (scheduled == null) {
+            return;
+        }
+        long lagMillis = Math.max(0, System.currentTimeMillis() - scheduled.getTime());
+        Timer.builder(FIRE_LAG)
+            .description("Time between a job's trigger time and it starting")
+            .tag("kind", kind(context.getJobDetail().getKey().getGroup()))
+            .register(meterRegistry)
+            .record(Duration.ofMillis(lagMillis));
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        record(context, "vetoed", 0);
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        record(context, jobException == null ? "success" : "failure", context.getJobRunTime());
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        // lag is measured when the job actually starts
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        Counter.builder(MISFIRES)
+            .description("Triggers that missed their fire time")
+            .tag("kind", kind(trigger.getJobKey().getGroup()))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                CompletedExecutionInstruction triggerInstructionCode) {
+        // outcomes are recorded by the job listener
+    }
+
+    private void record(JobExecutionContext context, String outcome, long runTimeMillis) {
+        Object jobMapping = context.get(JOB_MAPPING);
+        Timer.builder(EXECUTION)
+            .description("Time spent running scheduled jobs")
+            .tag("kind", kind(context.getJobDetail().getKey().getGroup()))
+            .tag("mapping", jobMapping == null ? "none" : jobMapping.toString())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(Math.max(0, runTimeMillis), TimeUnit.MILLISECONDS);
+    }
+}
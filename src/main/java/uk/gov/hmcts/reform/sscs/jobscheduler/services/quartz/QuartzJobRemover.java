@@ -1,12 +1,19 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
@@ -15,11 +22,21 @@ import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
 public class QuartzJobRemover implements JobRemover {
 
     private final Scheduler scheduler;
+    private final QuartzJobGroupRepository jobGroupRepository;
 
     public QuartzJobRemover(
         Scheduler scheduler
+    ) {
+        this(scheduler, null);
+    }
+
+    @Autowired
+    public QuartzJobRemover(
+        Scheduler scheduler,
+        QuartzJobGroupRepository jobGroupRepository
     ) {
         this.scheduler = scheduler;
+        this.jobGroupRepository = jobGroupRepository;
     }
 
     public void remove(String jobId, String jobGroup) {
@@ -63,4 +80,32 @@ public class QuartzJobRemover implements JobRemover {
         }
     }
 
+    public Map<String, Integer> removeGroups(Collection<String> jobGroups) {
+        Map<String, Integer> removed = new LinkedHashMap<>();
+        jobGroups.forEach(jobGroup -> removed.put(jobGroup, 0));
+        if (removed.isEmpty()) {
+            return removed;
+        }
+        try {
+
+            if (jobGroupRepository != null && scheduler.getMetaData().isJobStoreSupportsPersistence()) {
+                removed.putAll(jobGroupRepository.deleteGroups(scheduler.getSchedulerName(), removed.keySet()));
+            } else {
+                for (String jobGroup : removed.keySet()) {
+                    List<JobKey> jobKeys = new ArrayList<>(scheduler.getJobKeys(GroupMatcher.groupEquals(jobGroup)));
+                    if (!jobKeys.isEmpty() && scheduler.deleteJobs(jobKeys)) {
+                        removed.put(jobGroup, jobKeys.size());
+                    }
+                }
+            }
+
+        } catch (SchedulerException | DataAccessException | TransactionException e) {
+            throw new JobException(
+                "Error while removing Jobs by Group. Groups: " + removed.keySet(),
+                e
+            );
+        }
+        return removed;
+    }
+
 }
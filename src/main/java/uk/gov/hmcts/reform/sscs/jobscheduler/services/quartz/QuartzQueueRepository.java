@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Counts the triggers waiting in the Quartz job store by kind of job and how soon they are due. The counting is done
+ * in the database so it stays cheap with hundreds of thousands of reminders scheduled. The kind is read from the job
+ * group, which the scheduler names caseId_kind; triggers are all in the default group.
+ */
+@Repository
+public class QuartzQueueRepository {
+
+    static final String[] BUCKETS = {"overdue", "next1h", "next6h", "next24h", "next7d", "later"};
+
+    private static final String COUNT_BY_BUCKET =
+        "SELECT COALESCE(substring(job_group FROM '^[0-9]+_(.+)$'), job_group) AS kind, "
+            + "CASE WHEN next_fire_time < ? THEN 0 "
+            + "WHEN next_fire_time < ? + 3600000 THEN 1 "
+            + "WHEN next_fire_time < ? + 21600000 THEN 2 "
+            + "WHEN next_fire_time < ? + 86400000 THEN 3 "
+            + "WHEN next_fire_time < ? + 604800000 THEN 4 "
+            + "ELSE 5 END AS bucket, count(*) AS jobs "
+            + "FROM qrtz_triggers WHERE sched_name = ? AND trigger_state IN ('WAITING', 'ACQUIRED', 'BLOCKED') "
+            + "GROUP BY 1, 2";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuartzQueueRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Pending job counts keyed by due bucket, then by kind of job.
+     */
+    public Map<String, Map<String, Long>> countPending(String schedulerName, long nowMillis) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        for (String bucket : BUCKETS) {
+            counts.put(bucket, new TreeMap<>());
+        }
+        jdbcTemplate.query(COUNT_BY_BUCKET, rs -> {
+            counts.get(BUCKETS[rs.getInt("bucket")]).put(rs.getString("kind"), rs.getLong("jobs"));
+        }, nowMillis, nowMillis, nowMillis, nowMillis, nowMillis, schedulerName);
+        return counts;
+    }
+}
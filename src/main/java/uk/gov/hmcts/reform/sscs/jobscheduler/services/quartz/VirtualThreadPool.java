@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Quartz thread pool that runs each job on its own virtual thread. Notification jobs spend nearly all their time
+ * waiting on CCD, IDAM, Docmosis and Notify, so far more of them can run at once than platform threads allow.
+ * threadCount still caps the number of jobs in flight, which is also how many triggers the scheduler acquires at a
+ * time. Select it with org.quartz.threadPool.class. Waiting is done on a {@link ReentrantLock} so that a job thread
+ * releasing its slot is never pinned to its carrier.
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private int threadCount = 200;
+    private String threadNamePrefix;
+    private String schedulerInstanceName = "Quartz";
+    private ThreadFactory threadFactory;
+    private int available;
+    private boolean shutdown;
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+        String prefix = threadNamePrefix != null ? threadNamePrefix : schedulerInstanceName + "_Worker-";
+        threadFactory = Thread.ofVirtual().name(prefix, 1).factory();
+        available = threadCount;
+        log.info("Running up to {} Quartz jobs at a time on virtual threads", threadCount);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            while (available < 1 && !shutdown) {
+                changed.await(500, TimeUnit.MILLISECONDS);
+            }
+            if (shutdown) {
+                return false;
+            }
+            available--;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+        threadFactory.newThread(() -> {
+            try {
+                runnable.run();
+            } finally {
+                release();
+            }
+        }).start();
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        lock.lock();
+        try {
+            while (available < 1 && !shutdown) {
+                changed.await(500, TimeUnit.MILLISECONDS);
+            }
+            return available;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        lock.lock();
+        try {
+            shutdown = true;
+            changed.signalAll();
+            while (waitForJobsToComplete && available < threadCount) {
+                changed.await(500, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // thread names only use the instance name
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.schedulerInstanceName = schedName;
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            available++;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
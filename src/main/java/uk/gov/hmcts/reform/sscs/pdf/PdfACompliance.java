@@ -2,8 +2,8 @@ package uk.gov.hmcts.reform.sscs.pdf;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import javax.xml.transform.TransformerException;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent;
@@ -11,7 +11,6 @@ import org.apache.xmpbox.XMPMetadata;
 import org.apache.xmpbox.schema.PDFAIdentificationSchema;
 import org.apache.xmpbox.type.BadFieldValueException;
 import org.apache.xmpbox.xml.XmpSerializer;
-import uk.gov.hmcts.reform.sscs.model.InputStreamWrapper;
 
 /**
  * Copied from https://github.com/keefmarshall/pdfpoc
@@ -22,7 +21,6 @@ import uk.gov.hmcts.reform.sscs.model.InputStreamWrapper;
  * on every element in the document, and we'd really need to purchase the ISO spec to fully
  * understand this.
  */
-@Slf4j
 public class PdfACompliance {
 
     public enum PdfAPart {
@@ -44,7 +42,25 @@ public class PdfACompliance {
         setColourIntent(document);
     }
 
+    // The XMP is the same for every document, so it is built and serialised once per process.
+    private static volatile byte[] xmpMetadata;
+
     private void addXmpMetadata(PDDocument document) throws IOException {
+        PDMetadata metadata = new PDMetadata(document);
+        metadata.importXMPMetadata(getXmpMetadata());
+        document.getDocumentCatalog().setMetadata(metadata);
+    }
+
+    private static byte[] getXmpMetadata() {
+        byte[] xmpBytes = xmpMetadata;
+        if (xmpBytes == null) {
+            xmpBytes = createXmpMetadata();
+            xmpMetadata = xmpBytes;
+        }
+        return xmpBytes;
+    }
+
+    private static byte[] createXmpMetadata() {
 
         // NB this is completely different from the examples on the PDFBox website
         // See instead the code example in Github:
@@ -62,10 +78,7 @@ public class PdfACompliance {
             XmpSerializer serializer = new XmpSerializer();
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             serializer.serialize(xmp, baos, true);
-
-            PDMetadata metadata = new PDMetadata(document);
-            metadata.importXMPMetadata(baos.toByteArray());
-            document.getDocumentCatalog().setMetadata(metadata);
+            return baos.toByteArray();
         } catch (BadFieldValueException | TransformerException e) {
             // won't happen here, as the provided value is valid
             throw new IllegalArgumentException(e);
@@ -76,19 +89,10 @@ public class PdfACompliance {
         // sRGB output intent - NOTE you need the actual ICC file in your resources
         // directory, it doesn't come with pdfbox's jar. You can download it from
         // the pdfbox examples repository.
-        /**
-         * The input stream here is automatically closed by this try-with-resources statement.
-         * If there is an exception closing the input stream, the InputStreamWrapper will
-         * log and swallow the close-exception.
-         * We only need to wrap with an InputStreamWrapper here because we want to
-         * log and swallow any exceptions occurring on the close itself  - if we didn't have this requirement we could just
-         * assign the InputStream itself in the try-with-resources statement and the input stream would
-         * be safely closed eg. try (InputStream inputStream = this.getClass().getResourceAsStream(... )) {
-         */
-        try (InputStreamWrapper colorProfile = new InputStreamWrapper(log, this.getClass().getResourceAsStream(
-            "/pdfa/sRGB.icc"))) {
-
-            PDOutputIntent intent = new PDOutputIntent(document, colorProfile.get());
+        // The profile bytes are read once per process.
+        try (InputStream colorProfile = PdfResources.open(PdfResources.SRGB_PROFILE)) {
+
+            PDOutputIntent intent = new PDOutputIntent(document, colorProfile);
             intent.setInfo("sRGB IEC61966-2.1");
             intent.setOutputCondition("sRGB IEC61966-2.1");
             intent.setOutputConditionIdentifier("sRGB IEC61966-2.1");
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.sscs.pdf;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.sscs.model.InputStreamWrapper;
+
+/**
+ * Classpath resources used to build every watermarked PDF (the footer font and the sRGB colour profile), read once
+ * per process rather than once per page or document. Callers get a fresh stream over the cached bytes each time.
+ */
+@Slf4j
+final class PdfResources {
+
+    static final String FOOTER_FONT = "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf";
+    static final String SRGB_PROFILE = "/pdfa/sRGB.icc";
+
+    private static final Map<String, byte[]> CACHE = new ConcurrentHashMap<>();
+
+    private PdfResources() {
+    }
+
+    static InputStream open(String path) throws IOException {
+        byte[] bytes = CACHE.get(path);
+        if (bytes == null) {
+            bytes = read(path);
+            CACHE.putIfAbsent(path, bytes);
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static byte[] read(String path) throws IOException {
+        InputStream resource = PdfResources.class.getResourceAsStream(path);
+        if (resource == null) {
+            throw new FileNotFoundException("Missing classpath resource " + path);
+        }
+        try (InputStreamWrapper wrapper = new InputStreamWrapper(log, resource)) {
+            return wrapper.get().readAllBytes();
+        }
+    }
+}
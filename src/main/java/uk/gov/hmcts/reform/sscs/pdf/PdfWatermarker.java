@@ -3,20 +3,17 @@ package uk.gov.hmcts.reform.sscs.pdf;
 import java.awt.*;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.*;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.font.PDType0Font;
 import org.apache.pdfbox.util.Matrix;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.sscs.model.InputStreamWrapper;
 
 /**
  * Copied from https://github.com/keefmarshall/pdfpoc
  */
 @Service
-@Slf4j
 public class PdfWatermarker {
 
     private static final float SCALE_PERCENTAGE = .88f;
@@ -25,10 +22,11 @@ public class PdfWatermarker {
     public byte[] shrinkAndWatermarkPdf(byte[] input, String leftText, String rightText) throws Exception {
         try (PDDocument document = Loader.loadPDF(input)) {
             document.setAllSecurityToBeRemoved(true);
+            PDFont font = loadFooterFont(document);
             int count = 1;
             for (PDPage page : document.getPages()) {
                 scaleContent(document, page, SCALE_PERCENTAGE);
-                addFooterText(document, page, leftText, rightText + " | Page " + count++);
+                addFooterText(document, page, font, leftText, rightText + " | Page " + count++);
             }
 
             PdfACompliance p1a = new PdfACompliance();
@@ -42,32 +40,21 @@ public class PdfWatermarker {
         }
     }
 
+    // NB we need to embed the font for PDF/A compliance.
+    // Loading it here causes it to be embedded into the resulting PDF doc.
+    // Note this TTF file is included in pdfbox 2.x, there don't seem to be any others available
+    // - the running code can load form the deployed system but if this is likely to be a Docker image there's
+    // no guarantee it will have any TTF fonts present. If we want something else we'll likely have to embed
+    // it into the code base, and be really careful about licensing.
+    // The font is loaded once per document and shared by every page's footer, so it is parsed and embedded once.
+    private PDFont loadFooterFont(PDDocument document) throws IOException {
+        return PDType0Font.load(document, PdfResources.open(PdfResources.FOOTER_FONT), true);
+    }
+
     // TODO amend this to be appropriately styled / designed / spaced - also bear in mind lower margins
     // need to be in place for bulk print support which will define the text positioning.
-    private void addFooterText(PDDocument document, PDPage page, String leftText, String rightText)  throws IOException {
-
-        // NB we need to embed the font for PDF/A compliance.
-        // Loading it here causes it to be embedded into the resulting PDF doc.
-        // Note this TTF file is included in pdfbox 2.x, there don't seem to be any others available
-        // - the running code can load form the deployed system but if this is likely to be a Docker image there's
-        // no guarantee it will have any TTF fonts present. If we want something else we'll likely have to embed
-        // it into the code base, and be really careful about licensing.
-        PDFont font;
-        /**
-         * The input stream here is automatically closed by this try-with-resources statement.
-         * If there is an exception closing the input stream, the InputStreamWrapper will
-         * log and swallow the close-exception.
-         * We only need to wrap with an InputStreamWrapper here because we want to
-         * log and swallow any exceptions occurring on the close itself - if we didn't have this requirement we could just
-         * assign the InputStream itself in the try-with-resources statement and the input stream would
-         * be safely closed (eg.  try (InputStream inputStream = this.getClass().getResourceAsStream(... )) {
-         */
-        try (InputStreamWrapper fontStreamWrapper = new InputStreamWrapper(log, this.getClass().getResourceAsStream(
-            "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf"))) {
-
-            font = PDType0Font.load(document, fontStreamWrapper.get(), true);
-
-        }
+    private void addFooterText(PDDocument document, PDPage page, PDFont font, String leftText, String rightText)
+        throws IOException {
 
         float fontSize = 12f;
 
@@ -0,0 +1,185 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService.DEFAULT_SENDER_TYPE;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+
+/**
+ * Collects the correspondence sent for a case over a short window and adds it to the case in one CCD event, so an
+ * event that notifies every party on a case makes one case update rather than one per email, SMS and letter. The
+ * PDFs are still generated and stored as each notification is sent; only the case update is deferred. If the
+ * combined update fails, each notification's correspondence is written on its own.
+ */
+@Slf4j
+@Service
+public class CcdCorrespondenceBatcher {
+
+    static final String WRITES = "sscs.ccd.correspondence.writes";
+    static final String BATCH_SIZE = "sscs.ccd.correspondence.batch.size";
+
+    private final CcdNotificationsPdfService ccdNotificationsPdfService;
+    private final long windowMs;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Long, PendingCorrespondence> pending = new ConcurrentHashMap<>();
+
+    private final Counter batchedWrites;
+    private final Counter fallbackWrites;
+    private final DistributionSummary batchSize;
+
+    public CcdCorrespondenceBatcher(CcdNotificationsPdfService ccdNotificationsPdfService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${correspondence.batch.windowMs:2000}") long windowMs,
+                                    @Value("${correspondence.batch.threads:4}") int threads) {
+        this.ccdNotificationsPdfService = ccdNotificationsPdfService;
+        this.windowMs = windowMs;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("correspondence-batch-");
+        threadFactory.setDaemon(true);
+        this.executor = new ScheduledThreadPoolExecutor(threads, threadFactory);
+        // shutdown flushes every waiting batch itself, so the timers for them need not be waited out
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        batchedWrites = Counter.builder(WRITES).tag("outcome", "batched").register(meterRegistry);
+        fallbackWrites = Counter.builder(WRITES).tag("outcome", "fallback").register(meterRegistry);
+        batchSize = DistributionSummary.builder(BATCH_SIZE)
+            .description("Notifications whose correspondence was added to a case in one CCD event")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Stores the PDF of a sent email or SMS and queues it to be added to the case.
+     */
+    public void addCorrespondence(Long caseId, Correspondence correspondence) {
+        if (windowMs <= 0) {
+            ccdNotificationsPdfService.mergeCorrespondenceIntoCcdV2(caseId, correspondence);
+            return;
+        }
+        add(caseId, ccdNotificationsPdfService.storeCorrespondence(correspondence), DEFAULT_SENDER_TYPE);
+    }
+
+    /**
+     * Stores the PDF of a sent letter and queues it to be added to the case.
+     *
+     * @return completes once the correspondence has been added to the case, or exceptionally if that failed
+     */
+    public CompletableFuture<Void> addLetterCorrespondence(byte[] pdf, Long caseId, Correspondence correspondence,
+                                                           String senderType) {
+        if (windowMs <= 0) {
+            try {
+                ccdNotificationsPdfService.mergeLetterCorrespondenceIntoCcdV2(pdf, caseId, correspondence, senderType);
+                return CompletableFuture.completedFuture(null);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return add(caseId, ccdNotificationsPdfService.storeLetterCorrespondence(pdf, correspondence), senderType);
+    }
+
+    private CompletableFuture<Void> add(Long caseId, List<Correspondence> correspondences, String senderType) {
+        SentNotification notification = new SentNotification(correspondences, senderType, new CompletableFuture<>());
+        if (executor.isShutdown()) {
+            write(caseId, notification);
+            return notification.written();
+        }
+        pending.compute(caseId, (id, batch) -> {
+            PendingCorrespondence updated = batch == null ? new PendingCorrespondence() : batch;
+            if (batch == null) {
+                executor.schedule(() -> flush(id), windowMs, TimeUnit.MILLISECONDS);
+            }
+            updated.add(notification);
+            return updated;
+        });
+        return notification.written();
+    }
+
+    void flush(Long caseId) {
+        PendingCorrespondence batch = pending.remove(caseId);
+        if (batch == null) {
+            return;
+        }
+        batchSize.record(batch.notifications.size());
+        if (batch.notifications.size() == 1) {
+            write(caseId, batch.notifications.getFirst());
+            return;
+        }
+        try {
+            ccdNotificationsPdfService.addCorrespondenceToCcdV2(caseId, batch.allCorrespondence(),
+                String.join(" and ", batch.senderTypes));
+            batchedWrites.increment();
+            batch.notifications.forEach(notification -> notification.written().complete(null));
+        } catch (Exception e) {
+            log.warn("Failed to add {} notifications to case {} in one update, adding them one at a time",
+                batch.notifications.size(), caseId, e);
+            batch.notifications.forEach(notification -> {
+                write(caseId, notification);
+                fallbackWrites.increment();
+            });
+        }
+    }
+
+    private void write(Long caseId, SentNotification notification) {
+        try {
+            ccdNotificationsPdfService.addCorrespondenceToCcdV2(caseId, notification.correspondences(),
+                notification.senderType());
+            notification.written().complete(null);
+        } catch (Exception e) {
+            log.error("Failed to update ccd case {} with correspondence but carrying on", caseId, e);
+            notification.written().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Writes everything still waiting out its window before the pod stops. Flushes already running are left to
+     * finish rather than interrupted part way through a case update.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        pending.keySet().forEach(this::flush);
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Correspondence batches still being written after 30 seconds, stopping without them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private record SentNotification(List<Correspondence> correspondences, String senderType,
+                                    CompletableFuture<Void> written) {
+    }
+
+    private static final class PendingCorrespondence {
+        private final List<SentNotification> notifications = new ArrayList<>();
+        private final Set<String> senderTypes = new LinkedHashSet<>();
+
+        void add(SentNotification notification) {
+            notifications.add(notification);
+            senderTypes.add(notification.senderType());
+        }
+
+        List<Correspondence> allCorrespondence() {
+            List<Correspondence> all = new ArrayList<>();
+            notifications.forEach(notification -> all.addAll(notification.correspondences()));
+            return all;
+        }
+    }
+}
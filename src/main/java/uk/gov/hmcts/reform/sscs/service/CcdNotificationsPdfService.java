@@ -49,7 +49,7 @@ public class CcdNotificationsPdfService {
 
     private IdamService idamService;
 
-    private static final String DEFAULT_SENDER_TYPE = "Gov Notify";
+    public static final String DEFAULT_SENDER_TYPE = "Gov Notify";
 
     @Autowired
     public CcdNotificationsPdfService(PdfStoreService pdfStoreService,
@@ -86,23 +86,63 @@ public class CcdNotificationsPdfService {
     public void mergeCorrespondenceIntoCcdV2(Long caseId, Correspondence correspondence) {
         List<Correspondence> updatedCorrespondences = getCorrespondences(correspondence);
 
-        Consumer<SscsCaseDetails> caseDataConsumer = caseDetails -> {
-            SscsCaseData caseData = caseDetails.getData();
-            List<Correspondence> existingCorrespondence = caseData.getCorrespondence() == null ? new ArrayList<>() : caseData.getCorrespondence();
-            List<Correspondence> allCorrespondence = new ArrayList<>(existingCorrespondence);
-            allCorrespondence.addAll(updatedCorrespondences);
-            allCorrespondence.sort(Comparator.reverseOrder());
-            caseData.setCorrespondence(allCorrespondence);
-        };
-
         try {
-            updateCcdCaseService.updateCaseV2(caseId, EventType.NOTIFICATION_SENT.getCcdType(), NOTIFICATION_SENT, "Notification sent via Gov Notify", idamService.getIdamTokens(), caseDataConsumer);
+            addCorrespondenceToCcdV2(caseId, updatedCorrespondences, DEFAULT_SENDER_TYPE);
         } catch (CcdException ccdEx) {
             log.error(FAILED_TO_UPDATE_CCD_CASE_USING_V_2_BUT_CARRYING_ON_WITH_EVENT,
                     caseId, EventType.NOTIFICATION_SENT.getCcdType(), ccdEx);
         }
     }
 
+    /**
+     * Generates the PDF of a sent email or SMS and stores it in doc store, without updating the case.
+     *
+     * @param correspondence - Correspondence to store
+     * @return the correspondence linked to the stored documents, ready for {@link #addCorrespondenceToCcdV2}
+     */
+    public List<Correspondence> storeCorrespondence(Correspondence correspondence) {
+        return getCorrespondences(correspondence);
+    }
+
+    /**
+     * Stores the PDF of a sent letter in doc store, without updating the case.
+     *
+     * @param pdf            - Letter PDF
+     * @param correspondence - Correspondence to store
+     * @return the correspondence linked to the stored documents, ready for {@link #addCorrespondenceToCcdV2}
+     */
+    public List<Correspondence> storeLetterCorrespondence(byte[] pdf, Correspondence correspondence) {
+        return getCorrespondences(pdf, correspondence);
+    }
+
+    /**
+     * Adds already stored correspondence to the case in a single NOTIFICATION_SENT event.
+     *
+     * @param caseId          - CCD case id
+     * @param correspondences - Correspondence returned by {@link #storeCorrespondence} or {@link #storeLetterCorrespondence}
+     * @param senderType      - How the correspondence was sent, used in the event description
+     * @throws CcdException if the case could not be updated
+     */
+    public void addCorrespondenceToCcdV2(Long caseId, List<Correspondence> correspondences, String senderType) {
+        Consumer<SscsCaseDetails> caseDataConsumer = sscsCaseDetails -> {
+            SscsCaseData sscsCaseData = sscsCaseDetails.getData();
+            List<Correspondence> existingCorrespondence = sscsCaseData.getCorrespondence() == null ? new ArrayList<>() : sscsCaseData.getCorrespondence();
+            List<Correspondence> allCorrespondence = new ArrayList<>(existingCorrespondence);
+            allCorrespondence.addAll(correspondences);
+            allCorrespondence.sort(Comparator.reverseOrder());
+            sscsCaseData.setCorrespondence(allCorrespondence);
+        };
+
+        String description = String.format("Notification sent via %s", senderType);
+        log.info("Updating ccd case using v2 for {} with event {}", caseId, EventType.NOTIFICATION_SENT.getCcdType());
+        updateCcdCaseService.updateCaseV2(caseId,
+            EventType.NOTIFICATION_SENT.getCcdType(),
+            NOTIFICATION_SENT,
+            description,
+            idamService.getIdamTokens(),
+            caseDataConsumer);
+    }
+
     public SscsCaseData mergeLetterCorrespondenceIntoCcd(byte[] pdf, Long ccdCaseId, Correspondence correspondence) {
         return mergeLetterCorrespondenceIntoCcd(pdf, ccdCaseId, correspondence, DEFAULT_SENDER_TYPE);
     }
@@ -134,24 +174,8 @@ public class CcdNotificationsPdfService {
     public void mergeLetterCorrespondenceIntoCcdV2(byte[] pdf, Long ccdCaseId, Correspondence correspondence, String senderType) {
         final List<Correspondence> correspondences = getCorrespondences(pdf, correspondence);
 
-        Consumer<SscsCaseDetails> caseDataConsumer = sscsCaseDetails -> {
-            SscsCaseData sscsCaseData = sscsCaseDetails.getData();
-            List<Correspondence> existingCorrespondence = sscsCaseData.getCorrespondence() == null ? new ArrayList<>() : sscsCaseData.getCorrespondence();
-            List<Correspondence> allCorrespondence = new ArrayList<>(existingCorrespondence);
-            allCorrespondence.addAll(correspondences);
-            allCorrespondence.sort(Comparator.reverseOrder());
-            sscsCaseData.setCorrespondence(allCorrespondence);
-        };
-
-        String description = String.format("Notification sent via %s", senderType);
-        log.info("Updating ccd case using v2 for {} with event {}", ccdCaseId, EventType.NOTIFICATION_SENT.getCcdType());
         try {
-            updateCcdCaseService.updateCaseV2(ccdCaseId,
-                EventType.NOTIFICATION_SENT.getCcdType(),
-                NOTIFICATION_SENT,
-                description,
-                idamService.getIdamTokens(),
-                caseDataConsumer);
+            addCorrespondenceToCcdV2(ccdCaseId, correspondences, senderType);
         } catch (CcdException ccdEx) {
             log.error(FAILED_TO_UPDATE_CCD_CASE_USING_V_2_BUT_CARRYING_ON_WITH_EVENT,
                     ccdCaseId, EventType.NOTIFICATION_SENT.getCcdType(), ccdEx);
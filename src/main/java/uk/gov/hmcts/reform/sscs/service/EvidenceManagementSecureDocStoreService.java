@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.sscs.service;
 
+import static uk.gov.hmcts.reform.sscs.config.MetricsConfiguration.DOWNSTREAM_TIMER;
+
+import io.micrometer.core.annotation.Timed;
 import java.net.URI;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -39,9 +42,10 @@ public class EvidenceManagementSecureDocStoreService {
         }
     }
 
+    @Timed(value = DOWNSTREAM_TIMER, extraTags = {"downstream", "secureDocStore", "operation", "download"})
     public byte[] download(String selfHref, IdamTokens idamTokens) {
         try {
-            ResponseEntity<Resource> responseEntity = downloadResource(selfHref, idamTokens);
+            ResponseEntity<Resource> responseEntity = getDocumentBinary(selfHref, idamTokens);
 
             ByteArrayResource resource = (ByteArrayResource) responseEntity.getBody();
             return (resource != null) ? resource.getByteArray() : new byte[0];
@@ -51,7 +55,12 @@ public class EvidenceManagementSecureDocStoreService {
         }
     }
 
+    @Timed(value = DOWNSTREAM_TIMER, extraTags = {"downstream", "secureDocStore", "operation", "downloadResource"})
     public ResponseEntity<Resource> downloadResource(String selfHref, IdamTokens idamTokens) {
+        return getDocumentBinary(selfHref, idamTokens);
+    }
+
+    private ResponseEntity<Resource> getDocumentBinary(String selfHref, IdamTokens idamTokens) {
         String documentHref = URI.create(selfHref).getPath().replaceFirst("/", "");
         return caseDocumentClient.getDocumentBinary(idamTokens.getIdamOauth2Token(),
                 idamTokens.getServiceAuthorization(), documentHref);
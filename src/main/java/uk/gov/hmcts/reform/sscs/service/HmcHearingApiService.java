@@ -32,9 +32,10 @@ public class HmcHearingApiService {
 
     public HearingGetResponse getHearingRequest(String hearingId) throws GetHearingException {
         log.info("Sending Get Hearing Request for Hearing ID {}, {}, {}", hearingId, roleAssignmentUrl, dataStoreUrl);
+        IdamTokens idamTokens = getIdamTokens();
         HearingGetResponse hearingResponse = hmcHearingApi.getHearingRequest(
-                getIdamTokens().getIdamOauth2Token(),
-                getIdamTokens().getServiceAuthorization(),
+                idamTokens.getIdamOauth2Token(),
+                idamTokens.getServiceAuthorization(),
                 hmctsDeploymentId,
                 dataStoreUrl,
                 roleAssignmentUrl,
@@ -52,9 +53,10 @@ public class HmcHearingApiService {
                 dataStoreUrl,
                 hearingPayload.getCaseDetails().getCaseId(),
                 hearingPayload);
+        IdamTokens idamTokens = getIdamTokens();
         return hmcHearingApi.createHearingRequest(
-                getIdamTokens().getIdamOauth2Token(),
-                getIdamTokens().getServiceAuthorization(),
+                idamTokens.getIdamOauth2Token(),
+                idamTokens.getServiceAuthorization(),
                 hmctsDeploymentId,
                 dataStoreUrl,
                 roleAssignmentUrl,
@@ -68,9 +70,10 @@ public class HmcHearingApiService {
                 dataStoreUrl,
                 hearingId,
                 hearingPayload);
+        IdamTokens idamTokens = getIdamTokens();
         return hmcHearingApi.updateHearingRequest(
-                getIdamTokens().getIdamOauth2Token(),
-                getIdamTokens().getServiceAuthorization(),
+                idamTokens.getIdamOauth2Token(),
+                idamTokens.getServiceAuthorization(),
                 hmctsDeploymentId,
                 dataStoreUrl,
                 roleAssignmentUrl,
@@ -84,9 +87,10 @@ public class HmcHearingApiService {
                 roleAssignmentUrl,
                 dataStoreUrl,
                 hearingPayload);
+        IdamTokens idamTokens = getIdamTokens();
         return hmcHearingApi.cancelHearingRequest(
-                getIdamTokens().getIdamOauth2Token(),
-                getIdamTokens().getServiceAuthorization(),
+                idamTokens.getIdamOauth2Token(),
+                idamTokens.getServiceAuthorization(),
                 hmctsDeploymentId,
                 dataStoreUrl,
                 roleAssignmentUrl,
@@ -96,9 +100,10 @@ public class HmcHearingApiService {
 
     public HearingsGetResponse getHearingsRequest(String caseId, HmcStatus hmcStatus) {
         log.info("Sending Get Hearings Request for Case ID {}, {}, {}", caseId, roleAssignmentUrl, dataStoreUrl);
+        IdamTokens idamTokens = getIdamTokens();
         return hmcHearingApi.getHearingsRequest(
-            getIdamTokens().getIdamOauth2Token(),
-            getIdamTokens().getServiceAuthorization(),
+            idamTokens.getIdamOauth2Token(),
+            idamTokens.getServiceAuthorization(),
             dataStoreUrl,
             roleAssignmentUrl,
             hmctsDeploymentId,
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the hmc_hearing_broadcast table, which holds the broadcast time of the latest HMC message applied
+ * for each hearing. Recording a message is a single upsert that only moves the time forwards, so two consumers
+ * racing on messages for the same hearing cannot both win with the older one.
+ */
+@Repository
+public class HmcHearingBroadcastRepository {
+
+    private static final String RECORD_IF_LATEST =
+        "INSERT INTO hmc_hearing_broadcast (hearing_id, broadcast_at) VALUES (?, ?) "
+            + "ON CONFLICT (hearing_id) DO UPDATE SET broadcast_at = excluded.broadcast_at, updated_at = now() "
+            + "WHERE hmc_hearing_broadcast.broadcast_at <= excluded.broadcast_at";
+
+    private static final String DELETE_EXPIRED =
+        "DELETE FROM hmc_hearing_broadcast WHERE updated_at < now() - (? * interval '1 day')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HmcHearingBroadcastRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records the broadcast time for the hearing unless a later one has already been recorded.
+     *
+     * @return false if a message broadcast after this one has already been applied
+     */
+    public boolean recordIfLatest(String hearingId, LocalDateTime broadcastAt) {
+        return jdbcTemplate.update(RECORD_IF_LATEST, hearingId, broadcastAt) == 1;
+    }
+
+    public int deleteExpired(long ttlDays) {
+        return jdbcTemplate.update(DELETE_EXPIRED, ttlDays);
+    }
+}
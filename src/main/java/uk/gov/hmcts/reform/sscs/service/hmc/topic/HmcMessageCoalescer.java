@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcPendingMessageRepository.CoalescedMessage;
+
+/**
+ * Lets a burst of HMC messages for one hearing collapse into a single CCD update. Rather than being applied as it
+ * arrives, a message is parked in Postgres for its hearing and acknowledged. Each message parked for the hearing
+ * within the window that the first one started replaces the one before it, so when the window has passed the
+ * latest message is applied, fetching the newest hearing state from HMC, and the ones it replaced are only recorded
+ * in hmc_coalesced_message. A burst such as AWAITING_LISTING, UPDATE_SUBMITTED then LISTED becomes one LISTED
+ * update. "Latest" is decided by the time HMC broadcast the message, and by arrival when that is missing.
+ *
+ * <p>The window is off (0) by default, in which case every message is applied as it arrives. If Postgres cannot be
+ * reached the message is applied straight away too.
+ */
+@Slf4j
+@Component
+public class HmcMessageCoalescer {
+
+    static final String COALESCED_COUNTER = "sscs.hmc.message.coalesced";
+
+    private final HmcPendingMessageRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final long windowMs;
+    private final long auditTtlDays;
+
+    @Autowired
+    public HmcMessageCoalescer(HmcPendingMessageRepository repository,
+                               MeterRegistry meterRegistry,
+                               @Value("${azure.service-bus.hmc-to-hearings-api.coalescingWindowMs:0}") long windowMs,
+                               @Value("${azure.service-bus.hmc-to-hearings-api.broadcastTtlDays:90}")
+                               long auditTtlDays) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.windowMs = windowMs;
+        this.auditTtlDays = auditTtlDays;
+    }
+
+    /**
+     * A coalescer that applies every message as it arrives.
+     */
+    public static HmcMessageCoalescer disabled() {
+        return new HmcMessageCoalescer(null, null, 0, 0);
+    }
+
+    public boolean isEnabled() {
+        return repository != null && windowMs > 0;
+    }
+
+    /**
+     * Parks the message to be applied once its hearing's window has passed, unless a later one takes its place.
+     *
+     * @return false if the message could not be parked and should be applied now
+     */
+    public boolean park(HmcMessage hmcMessage, byte[] payload) {
+        if (!isEnabled()) {
+            return false;
+        }
+        try {
+            repository.park(hmcMessage, payload, windowMs).ifPresent(this::acknowledged);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("HMC message coalescing unavailable, applying message for Hearing ID {} straight away",
+                hmcMessage.getHearingId(), e);
+            return false;
+        }
+    }
+
+    private void acknowledged(CoalescedMessage superseded) {
+        String hmcStatus = String.valueOf(superseded.hmcStatus());
+        log.info("HMC message with status {} broadcast at {} for Hearing ID {} and Case ID {} superseded by a later "
+                + "message within its coalescing window, acknowledging without updating the case", hmcStatus,
+            superseded.broadcastAt(), superseded.hearingId(), superseded.caseId());
+        Counter.builder(COALESCED_COUNTER)
+            .description("HMC messages acknowledged without a CCD update because a later message superseded them")
+            .tag("hmcStatus", hmcStatus)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Scheduled(fixedDelayString = "${azure.service-bus.hmc-to-hearings-api.broadcastCleanupIntervalMs:86400000}")
+    public void deleteExpired() {
+        if (repository == null) {
+            return;
+        }
+        try {
+            int deleted = repository.deleteExpiredAudit(auditTtlDays);
+            log.info("Deleted {} coalesced HMC message records older than {} days", deleted, auditTtlDays);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete expired coalesced HMC message records", e);
+        }
+    }
+}
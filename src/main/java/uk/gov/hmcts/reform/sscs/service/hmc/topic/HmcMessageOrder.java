@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+
+/**
+ * Drops HMC messages that arrive after a message broadcast later for the same hearing has already been applied.
+ * With more than one consumer (or a redelivery) messages for a hearing can be processed out of the order HMC
+ * broadcast them, and applying the older one would move the case back to an earlier hearing status. Messages
+ * without a broadcast time are always applied. If Postgres cannot be reached the message is applied unchecked.
+ */
+@Slf4j
+@Component
+public class HmcMessageOrder {
+
+    static final String OUT_OF_ORDER_COUNTER = "sscs.hmc.message.outoforder";
+
+    private final HmcHearingBroadcastRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final long ttlDays;
+
+    @Autowired
+    public HmcMessageOrder(HmcHearingBroadcastRepository repository,
+                           MeterRegistry meterRegistry,
+                           @Value("${azure.service-bus.hmc-to-hearings-api.broadcastTtlDays:90}") long ttlDays) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.ttlDays = ttlDays;
+    }
+
+    /**
+     * An order that applies every message.
+     */
+    public static HmcMessageOrder unordered() {
+        return new HmcMessageOrder(null, null, 0);
+    }
+
+    /**
+     * Records the message as the latest applied for its hearing, unless a message broadcast after it already has
+     * been. Call with the case lock held, just before applying the message.
+     *
+     * @return true if the message is older than one already applied and should be acknowledged without applying it
+     */
+    public boolean isOutOfOrder(HmcMessage hmcMessage) {
+        LocalDateTime broadcastAt = hmcMessage.getHearingUpdate().getHearingEventBroadcastDateTime();
+        if (repository == null || broadcastAt == null) {
+            return false;
+        }
+        try {
+            if (repository.recordIfLatest(hmcMessage.getHearingId(), broadcastAt)) {
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("HMC broadcast times unavailable, applying message for Hearing ID {} without checking its order",
+                hmcMessage.getHearingId(), e);
+            return false;
+        }
+        String hmcStatus = String.valueOf(hmcMessage.getHearingUpdate().getHmcStatus());
+        log.info("HMC message with status {} broadcast at {} for Hearing ID {} and Case ID {} is older than one "
+                + "already applied, acknowledging without updating the case", hmcStatus, broadcastAt,
+            hmcMessage.getHearingId(), hmcMessage.getCaseId());
+        Counter.builder(OUT_OF_ORDER_COUNTER)
+            .description("HMC messages acknowledged without a CCD update because a later message was already applied")
+            .tag("hmcStatus", hmcStatus)
+            .register(meterRegistry)
+            .increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${azure.service-bus.hmc-to-hearings-api.broadcastCleanupIntervalMs:86400000}")
+    public void deleteExpired() {
+        if (repository == null) {
+            return;
+        }
+        try {
+            int deleted = repository.deleteExpired(ttlDays);
+            log.info("Deleted {} HMC broadcast times older than {} days", deleted, ttlDays);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete expired HMC broadcast times", e);
+        }
+    }
+}
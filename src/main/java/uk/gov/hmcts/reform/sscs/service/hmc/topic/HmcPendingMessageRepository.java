@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+
+/**
+ * JDBC access to the hmc_pending_message table, which holds at most one HMC message per hearing waiting out its
+ * coalescing window, and to hmc_coalesced_message, the audit of messages acknowledged without being applied because
+ * a later one for the hearing took their place. Parking a message and auditing the one it replaces happen in one
+ * transaction holding the hearing's row lock, so consumers on different pods agree on which message is kept.
+ *
+ * <p>Rows are claimed like the callback outbox, with {@code FOR UPDATE SKIP LOCKED} and a lease. A message parked
+ * while the row is being applied bumps its version, so the worker's completion leaves the newer message in place
+ * to be applied in turn rather than deleting it.
+ */
+@Repository
+public class HmcPendingMessageRepository {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String INSERT_IF_ABSENT =
+        "INSERT INTO hmc_pending_message (hearing_id, case_id, hmc_status, broadcast_at, payload, apply_at) "
+            + "VALUES (?, ?, ?, ?, ?, now() + (? * interval '1 millisecond')) ON CONFLICT (hearing_id) DO NOTHING";
+
+    private static final String LOCK =
+        "SELECT case_id, hmc_status, broadcast_at, status FROM hmc_pending_message WHERE hearing_id = ? FOR UPDATE";
+
+    private static final String REPLACE =
+        "UPDATE hmc_pending_message SET case_id = ?, hmc_status = ?, broadcast_at = ?, payload = ?, "
+            + "version = version + 1, attempts = 0, last_error = NULL, "
+            + "apply_at = CASE WHEN status = '" + STATUS_FAILED + "' "
+            + "THEN now() + (? * interval '1 millisecond') ELSE apply_at END, "
+            + "status = CASE WHEN status = '" + STATUS_IN_PROGRESS + "' THEN status ELSE '" + STATUS_PENDING + "' END "
+            + "WHERE hearing_id = ?";
+
+    private static final String AUDIT =
+        "INSERT INTO hmc_coalesced_message (hearing_id, case_id, hmc_status, broadcast_at, superseded_by_status, "
+            + "superseded_by_broadcast_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String CLAIM =
+        "UPDATE hmc_pending_message SET status = '" + STATUS_IN_PROGRESS + "', locked_by = ?, "
+            + "locked_until = now() + (? * interval '1 second'), attempts = attempts + 1 "
+            + "WHERE hearing_id IN (SELECT hearing_id FROM hmc_pending_message "
+            + "WHERE (status = '" + STATUS_PENDING + "' AND apply_at <= now()) "
+            + "OR (status = '" + STATUS_IN_PROGRESS + "' AND locked_until < now()) "
+            + "ORDER BY apply_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING hearing_id, case_id, version, payload, attempts";
+
+    private static final String COMPLETE =
+        "DELETE FROM hmc_pending_message WHERE hearing_id = ? AND version = ? AND locked_by = ?";
+
+    private static final String UNLOCK =
+        "UPDATE hmc_pending_message SET status = '" + STATUS_PENDING + "', locked_by = NULL, locked_until = NULL "
+            + "WHERE hearing_id = ? AND locked_by = ?";
+
+    private static final String RELEASE =
+        "UPDATE hmc_pending_message SET status = '" + STATUS_PENDING + "', locked_by = NULL, locked_until = NULL, "
+            + "apply_at = now() + (? * interval '1 second'), last_error = ? WHERE hearing_id = ? AND locked_by = ?";
+
+    private static final String FAIL =
+        "UPDATE hmc_pending_message SET status = '" + STATUS_FAILED + "', locked_by = NULL, locked_until = NULL, "
+            + "last_error = ? WHERE hearing_id = ? AND version = ? AND locked_by = ?";
+
+    private static final String DELETE_EXPIRED_AUDIT =
+        "DELETE FROM hmc_coalesced_message WHERE acknowledged_at < now() - (? * interval '1 day')";
+
+    private static final RowMapper<PendingHmcMessage> PENDING_MAPPER = (rs, rowNum) -> new PendingHmcMessage(
+        rs.getString("hearing_id"),
+        rs.getLong("case_id"),
+        rs.getInt("version"),
+        rs.getBytes("payload"),
+        rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public HmcPendingMessageRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Parks the message for its hearing, to be applied once the window that started with the first message parked
+     * for the hearing has passed. Whichever of the message and the one already parked was broadcast later is kept,
+     * falling back to arrival order when either has no broadcast time, and the other is audited. A parked message
+     * that is already being applied is replaced without being audited, as it is not being skipped.
+     *
+     * @return the message acknowledged without being applied, if any
+     */
+    public Optional<CoalescedMessage> park(HmcMessage hmcMessage, byte[] payload, long windowMs) {
+        CoalescedMessage arriving = CoalescedMessage.of(hmcMessage);
+        return transactionTemplate.execute(status -> {
+            while (true) {
+                if (jdbcTemplate.update(INSERT_IF_ABSENT, arriving.hearingId(), arriving.caseId(),
+                    arriving.hmcStatus(), arriving.broadcastAt(), payload, windowMs) == 1) {
+                    return Optional.empty();
+                }
+                List<ParkedRow> parked = jdbcTemplate.query(LOCK, (rs, rowNum) -> new ParkedRow(
+                    new CoalescedMessage(arriving.hearingId(), rs.getLong("case_id"), rs.getString("hmc_status"),
+                        rs.getObject("broadcast_at", LocalDateTime.class)),
+                    rs.getString("status")), arriving.hearingId());
+                if (!parked.isEmpty()) {
+                    return park(arriving, payload, windowMs, parked.get(0));
+                }
+                // applied and deleted since the insert found it, so try the insert again
+            }
+        });
+    }
+
+    private Optional<CoalescedMessage> park(CoalescedMessage arriving, byte[] payload, long windowMs,
+                                            ParkedRow parked) {
+        if (parked.message().isBroadcastAfter(arriving)) {
+            audit(arriving, parked.message());
+            return Optional.of(arriving);
+        }
+        jdbcTemplate.update(REPLACE, arriving.caseId(), arriving.hmcStatus(), arriving.broadcastAt(), payload,
+            windowMs, arriving.hearingId());
+        if (STATUS_IN_PROGRESS.equals(parked.status())) {
+            return Optional.empty();
+        }
+        audit(parked.message(), arriving);
+        return Optional.of(parked.message());
+    }
+
+    private void audit(CoalescedMessage superseded, CoalescedMessage supersededBy) {
+        jdbcTemplate.update(AUDIT, superseded.hearingId(), superseded.caseId(), superseded.hmcStatus(),
+            superseded.broadcastAt(), supersededBy.hmcStatus(), supersededBy.broadcastAt());
+    }
+
+    public List<PendingHmcMessage> claim(String workerId, int limit, long leaseSeconds) {
+        return jdbcTemplate.query(CLAIM, PENDING_MAPPER, workerId, leaseSeconds, limit);
+    }
+
+    /**
+     * Deletes the applied message, or if a newer one was parked for the hearing while it was applied, hands the row
+     * back so the newer one is applied in turn.
+     *
+     * @return false if a newer message was left to be applied
+     */
+    public boolean complete(PendingHmcMessage message, String workerId) {
+        if (jdbcTemplate.update(COMPLETE, message.hearingId(), message.version(), workerId) == 1) {
+            return true;
+        }
+        jdbcTemplate.update(UNLOCK, message.hearingId(), workerId);
+        return false;
+    }
+
+    public boolean release(PendingHmcMessage message, String workerId, long delaySeconds, String error) {
+        return jdbcTemplate.update(RELEASE, delaySeconds, error, message.hearingId(), workerId) == 1;
+    }
+
+    /**
+     * Marks the message as failed, unless a newer one was parked for the hearing while it was applied, in which
+     * case the newer one is left to be applied instead.
+     */
+    public boolean fail(PendingHmcMessage message, String workerId, String error) {
+        if (jdbcTemplate.update(FAIL, error, message.hearingId(), message.version(), workerId) == 1) {
+            return true;
+        }
+        jdbcTemplate.update(UNLOCK, message.hearingId(), workerId);
+        return false;
+    }
+
+    public int deleteExpiredAudit(long ttlDays) {
+        return jdbcTemplate.update(DELETE_EXPIRED_AUDIT, ttlDays);
+    }
+
+    public record CoalescedMessage(String hearingId, long caseId, String hmcStatus, LocalDateTime broadcastAt) {
+
+        static CoalescedMessage of(HmcMessage hmcMessage) {
+            return new CoalescedMessage(hmcMessage.getHearingId(), hmcMessage.getCaseId(),
+                Objects.toString(hmcMessage.getHearingUpdate().getHmcStatus(), null),
+                hmcMessage.getHearingUpdate().getHearingEventBroadcastDateTime());
+        }
+
+        boolean isBroadcastAfter(CoalescedMessage other) {
+            return broadcastAt != null && other.broadcastAt != null && broadcastAt.isAfter(other.broadcastAt);
+        }
+    }
+
+    private record ParkedRow(CoalescedMessage message, String status) {
+    }
+}
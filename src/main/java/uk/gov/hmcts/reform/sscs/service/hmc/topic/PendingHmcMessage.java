@@ -0,0 +1,4 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+public record PendingHmcMessage(String hearingId, long caseId, int version, byte[] payload, int attempts) {
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.sscs.service.idam;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches service tokens by scope until shortly before they expire. Once a token is within the refresh-ahead period
+ * it is still served while a single background refresh replaces it; when there is no usable token, concurrent
+ * callers wait on one shared load rather than each going to IDAM.
+ */
+@Slf4j
+@Component
+public class IdamTokenCache {
+
+    static final String LOOKUP_COUNTER = "sscs.idam.token.cache";
+    static final String REFRESH_TIMER = "sscs.idam.token.refresh";
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+    private final Map<String, CachedToken<?>> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedToken<?>>> loads = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshAhead;
+    private final Duration defaultTtl;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor;
+
+    @Autowired
+    public IdamTokenCache(MeterRegistry meterRegistry,
+                          @Value("${idam.token-cache.refreshAheadSeconds:300}") long refreshAheadSeconds,
+                          @Value("${idam.token-cache.defaultTtlSeconds:1800}") long defaultTtlSeconds) {
+        this(meterRegistry, Duration.ofSeconds(refreshAheadSeconds), Duration.ofSeconds(defaultTtlSeconds),
+            Clock.systemUTC());
+    }
+
+    IdamTokenCache(MeterRegistry meterRegistry, Duration refreshAhead, Duration defaultTtl, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.refreshAhead = refreshAhead;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("idam-token-refresh-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String scope, TokenLoader<T> loader, Function<T, Optional<Instant>> expiryOf) throws Throwable {
+        CachedToken<T> cached = (CachedToken<T>) tokens.get(scope);
+        Instant now = clock.instant();
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            count(scope, "hit");
+            if (!now.isBefore(cached.refreshAt())) {
+                load(scope, loader, expiryOf, true);
+            }
+            return cached.value();
+        }
+
+        count(scope, "miss");
+        try {
+            return load(scope, loader, expiryOf, false).join().value();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void invalidate(String scope) {
+        tokens.remove(scope);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<CachedToken<T>> load(String scope, TokenLoader<T> loader,
+                                                       Function<T, Optional<Instant>> expiryOf,
+                                                       boolean inBackground) {
+        CompletableFuture<CachedToken<?>> load = new CompletableFuture<>();
+        CompletableFuture<CachedToken<?>> inFlight = loads.putIfAbsent(scope, load);
+        if (inFlight != null) {
+            return (CompletableFuture<CachedToken<T>>) (CompletableFuture<?>) inFlight;
+        }
+
+        Runnable task = () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                T value = loader.load();
+                CachedToken<T> token = toCachedToken(value, expiryOf.apply(value));
+                if (token.expiresAt().isAfter(clock.instant())) {
+                    tokens.put(scope, token);
+                }
+                load.complete(token);
+            } catch (Throwable t) {
+                outcome = "failure";
+                log.warn("Unable to refresh {} token{}", scope, inBackground ? ", serving the cached token" : "", t);
+                load.completeExceptionally(t);
+            } finally {
+                loads.remove(scope, load);
+                sample.stop(Timer.builder(REFRESH_TIMER)
+                    .description("Time taken to fetch a token from IDAM or S2S")
+                    .tags("scope", scope, "outcome", outcome)
+                    .register(meterRegistry));
+            }
+        };
+
+        if (inBackground) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return (CompletableFuture<CachedToken<T>>) (CompletableFuture<?>) load;
+    }
+
+    private <T> CachedToken<T> toCachedToken(T value, Optional<Instant> expiry) {
+        Instant now = clock.instant();
+        Instant expiresAt = expiry.map(exp -> exp.minus(EXPIRY_MARGIN)).orElse(now.plus(defaultTtl));
+        Instant refreshAt = expiresAt.minus(refreshAhead);
+        if (refreshAt.isBefore(now)) {
+            refreshAt = now.plus(Duration.between(now, expiresAt).dividedBy(2));
+        }
+        return new CachedToken<>(value, refreshAt, expiresAt);
+    }
+
+    private void count(String scope, String result) {
+        Counter.builder(LOOKUP_COUNTER)
+            .description("Token cache lookups by scope and result")
+            .tags("scope", scope, "result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface TokenLoader<T> {
+        T load() throws Throwable;
+    }
+
+    private record CachedToken<T>(T value, Instant refreshAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.sscs.service.idam;
+
+import feign.FeignException;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+
+/**
+ * Puts {@link IdamTokenCache} in front of the system-user and service-authorisation token methods of
+ * {@link IdamService}, so the many callers that ask for tokens per operation no longer go to IDAM each time.
+ * Refreshes call the target service directly, outside this aspect.
+ *
+ * <p>A cached token can still be rejected before it expires, for example after the system user's session is revoked.
+ * So a CCD call that was passed {@link IdamTokens} and fails with a 401 drops every cached token and is retried once
+ * with fresh ones.</p>
+ */
+@Slf4j
+@Aspect
+@Component
+@ConditionalOnProperty(name = "idam.token-cache.enabled", havingValue = "true")
+public class IdamTokenCachingAspect {
+
+    static final String SYSTEM_USER_SCOPE = "systemUser";
+    static final String OAUTH2_SCOPE = "idamOauth2Token";
+    static final String SERVICE_AUTHORIZATION_SCOPE = "serviceAuthorization";
+
+    private final IdamTokenCache idamTokenCache;
+    private final ObjectProvider<IdamService> idamService;
+
+    public IdamTokenCachingAspect(IdamTokenCache idamTokenCache, ObjectProvider<IdamService> idamService) {
+        this.idamTokenCache = idamTokenCache;
+        this.idamService = idamService;
+    }
+
+    @Around("execution(public uk.gov.hmcts.reform.sscs.idam.IdamTokens uk.gov.hmcts.reform.sscs.idam.IdamService.getIdamTokens())")
+    public Object getIdamTokens(ProceedingJoinPoint joinPoint) throws Throwable {
+        IdamService target = (IdamService) joinPoint.getTarget();
+        return idamTokenCache.get(SYSTEM_USER_SCOPE, target::getIdamTokens, IdamTokenCachingAspect::expiryOf);
+    }
+
+    @Around("execution(public String uk.gov.hmcts.reform.sscs.idam.IdamService.getIdamOauth2Token())")
+    public Object getIdamOauth2Token(ProceedingJoinPoint joinPoint) throws Throwable {
+        IdamService target = (IdamService) joinPoint.getTarget();
+        return idamTokenCache.get(OAUTH2_SCOPE, target::getIdamOauth2Token, JwtExpiry::of);
+    }
+
+    @Around("execution(public String uk.gov.hmcts.reform.sscs.idam.IdamService.generateServiceAuthorization())")
+    public Object generateServiceAuthorization(ProceedingJoinPoint joinPoint) throws Throwable {
+        IdamService target = (IdamService) joinPoint.getTarget();
+        return idamTokenCache.get(SERVICE_AUTHORIZATION_SCOPE, target::generateServiceAuthorization, JwtExpiry::of);
+    }
+
+    @Around("execution(public * uk.gov.hmcts.reform.sscs.ccd.service..*(..))")
+    public Object retryCcdCallOnUnauthorized(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        int tokensAt = indexOfIdamTokens(args);
+        if (tokensAt < 0) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException e) {
+            if (!isUnauthorized(e)) {
+                throw e;
+            }
+            log.warn("{} was rejected as unauthorised, retrying once with fresh IDAM tokens",
+                joinPoint.getSignature().toShortString());
+            invalidate();
+            Object[] retryArgs = args.clone();
+            retryArgs[tokensAt] = idamService.getObject().getIdamTokens();
+            return joinPoint.proceed(retryArgs);
+        }
+    }
+
+    void invalidate() {
+        idamTokenCache.invalidate(SYSTEM_USER_SCOPE);
+        idamTokenCache.invalidate(OAUTH2_SCOPE);
+        idamTokenCache.invalidate(SERVICE_AUTHORIZATION_SCOPE);
+    }
+
+    private static int indexOfIdamTokens(Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof IdamTokens) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isUnauthorized(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FeignException feignException && feignException.status() == 401) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Instant> expiryOf(IdamTokens idamTokens) {
+        return JwtExpiry.earliest(JwtExpiry.of(idamTokens.getIdamOauth2Token()),
+            JwtExpiry.of(idamTokens.getServiceAuthorization()));
+    }
+}
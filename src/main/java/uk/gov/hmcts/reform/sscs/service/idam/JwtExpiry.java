@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.sscs.service.idam;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Reads the {@code exp} claim of an IDAM or S2S JWT without verifying it. Only used to decide how long a token we
+ * were just issued can be reused; anything unreadable is treated as having no known expiry.
+ */
+final class JwtExpiry {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JwtExpiry() {
+        // hiding default constructor
+    }
+
+    static Optional<Instant> of(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        String jwt = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        String[] parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode exp = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp != null && exp.canConvertToLong()
+                ? Optional.of(Instant.ofEpochSecond(exp.asLong()))
+                : Optional.empty();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    @SafeVarargs
+    static Optional<Instant> earliest(Optional<Instant>... expiries) {
+        Optional<Instant> earliest = Optional.empty();
+        for (Optional<Instant> expiry : expiries) {
+            if (expiry.isPresent() && (earliest.isEmpty() || expiry.get().isBefore(earliest.get()))) {
+                earliest = expiry;
+            }
+        }
+        return earliest;
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs tasks on a fixed number of single-threaded stripes chosen by case ID. Tasks for one case always land on the
+ * same stripe and so run one at a time in arrival order, while different cases run in parallel up to the stripe
+ * count. When a stripe's queue is full the task is rejected with a {@link RejectedExecutionException}, leaving the
+ * caller to retry it later. Blocking the caller would let one busy case stall the request or scheduler thread that
+ * submitted it, and running the task on the caller would let it overtake earlier events for the same case.
+ */
+@Slf4j
+@Component
+public class CaseStripedExecutor {
+
+    static final String STRIPES = "sscs.callback.executor.stripes";
+    static final String QUEUE_DEPTH = "sscs.callback.executor.queue.depth";
+    static final String ACTIVE = "sscs.callback.executor.active";
+    static final String REJECTED = "sscs.callback.executor.rejected";
+
+    private final ThreadPoolExecutor[] stripes;
+
+    public CaseStripedExecutor(@Value("${callback.executor.stripes:8}") int stripeCount,
+                               @Value("${callback.executor.queueCapacity:1000}") int queueCapacity,
+                               MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder(REJECTED)
+            .description("Callbacks turned away because their case stripe was full")
+            .register(meterRegistry);
+        stripes = new ThreadPoolExecutor[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("callback-stripe-" + i + "-"),
+                rejectWhenFull(i, rejected));
+        }
+
+        Gauge.builder(STRIPES, stripes, s -> s.length)
+            .description("Number of per-case callback stripes")
+            .register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH, this, CaseStripedExecutor::getQueueDepth)
+            .description("Callbacks waiting for their case stripe")
+            .register(meterRegistry);
+        Gauge.builder(ACTIVE, this, CaseStripedExecutor::getActiveCount)
+            .description("Case stripes currently running a callback")
+            .register(meterRegistry);
+        log.info("Callback executor started with {} stripes and a queue capacity of {} per stripe",
+            stripeCount, queueCapacity);
+    }
+
+    /**
+     * Queues the task behind earlier ones for the same case.
+     *
+     * @throws RejectedExecutionException if the case's stripe is full
+     */
+    public void execute(long caseId, Runnable task) {
+        stripes[stripeFor(caseId)].execute(task);
+    }
+
+    /**
+     * Queues the task like {@link #execute(long, Runnable)} and returns a future that completes when it has run.
+     */
+    public Future<?> submit(long caseId, Runnable task) {
+        return stripes[stripeFor(caseId)].submit(task);
+    }
+
+    private static RejectedExecutionHandler rejectWhenFull(int stripe, Counter rejected) {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Case striped executor has been shut down");
+            }
+            rejected.increment();
+            throw new RejectedExecutionException("Callback stripe " + stripe + " is full with "
+                + executor.getQueue().size() + " callbacks waiting");
+        };
+    }
+
+    int stripeFor(long caseId) {
+        return Math.floorMod(Long.hashCode(caseId), stripes.length);
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            depth += stripe.getQueue().size();
+        }
+        return depth;
+    }
+
+    public int getActiveCount() {
+        int active = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            active += stripe.getActiveCount();
+        }
+        return active;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            if (!stripe.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Callback stripe did not drain in time, {} callbacks dropped", stripe.shutdownNow().size());
+            }
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.SUBMITTED;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.callback.CallbackDispatcher;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -18,6 +17,7 @@ import uk.gov.hmcts.reform.sscs.evidenceshare.exception.PostIssueFurtherEvidence
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.UnableToContactThirdPartyException;
 import uk.gov.hmcts.reform.sscs.exception.DwpAddressLookupException;
 import uk.gov.hmcts.reform.sscs.exception.NoMrnDetailsException;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetryScheduler;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.servicebus.NotificationsMessageProcessor;
 
 @Slf4j
@@ -27,33 +27,126 @@ public class SendCallbackHandler {
     private final Integer maxRetryAttempts;
     private final CallbackDispatcher<SscsCaseData> dispatcher;
     private final NotificationsMessageProcessor notificationsMessageProcessor;
+    private final CaseStripedExecutor caseStripedExecutor;
+    private final EvidenceShareRetryScheduler evidenceShareRetryScheduler;
 
     public SendCallbackHandler(@Value("${callback.maxRetryAttempts}") Integer maxRetryAttempts,
                                CallbackDispatcher<SscsCaseData> dispatcher,
-                               NotificationsMessageProcessor notificationsMessageProcessor) {
+                               NotificationsMessageProcessor notificationsMessageProcessor,
+                               CaseStripedExecutor caseStripedExecutor,
+                               EvidenceShareRetryScheduler evidenceShareRetryScheduler) {
         this.maxRetryAttempts = maxRetryAttempts;
         this.dispatcher = dispatcher;
         this.notificationsMessageProcessor = notificationsMessageProcessor;
+        this.caseStripedExecutor = caseStripedExecutor;
+        this.evidenceShareRetryScheduler = evidenceShareRetryScheduler;
     }
 
-    @Async
+    /**
+     * Queues the callback behind any earlier callbacks for the same case and returns straight away.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if too many callbacks for the case's stripe are waiting
+     */
     public void handle(Callback<SscsCaseData> callback) {
+        handle(callback, null);
+    }
+
+    /**
+     * As {@link #handle(Callback)}, keying the notifications sent by the event timestamp CCD stamped on the callback.
+     */
+    public void handle(Callback<SscsCaseData> callback, String eventTimestamp) {
+        caseStripedExecutor.execute(callback.getCaseDetails().getId(), () -> process(callback, eventTimestamp));
+    }
+
+    /**
+     * Runs evidence share and notifications for the callback on the calling thread.
+     */
+    public void process(Callback<SscsCaseData> callback) {
+        process(callback, null);
+    }
+
+    public void process(Callback<SscsCaseData> callback, String eventTimestamp) {
+        processEvidenceShare(callback);
+        processNotifications(callback, eventTimestamp);
+    }
+
+    /**
+     * Runs evidence share for the callback on the calling thread, scheduling a retry if it fails recoverably.
+     */
+    public void processEvidenceShare(Callback<SscsCaseData> callback) {
         log.info("Received message for case ID: {}, event: {}", callback.getCaseDetails().getId(), callback.getEvent());
-        processEvidenceShareMessageWithRetry(callback, 1);
-        notificationsMessageProcessor.processMessage(callback);
+        processEvidenceShareMessage(callback, 1);
     }
 
-    private void processEvidenceShareMessageWithRetry(Callback<SscsCaseData> callback, int retry) {
+    /**
+     * Runs evidence share for the callback on the calling thread, throwing if it fails recoverably instead of
+     * scheduling a retry, for callers that retry the callback themselves. Failures no retry can fix are logged and
+     * swallowed as in {@link #processEvidenceShare(Callback)}.
+     */
+    public void processEvidenceShareOrThrow(Callback<SscsCaseData> callback) {
+        log.info("Received message for case ID: {}, event: {}", callback.getCaseDetails().getId(), callback.getEvent());
         try {
             processMessageForEvidenceShare(callback);
+        } catch (RuntimeException e) {
+            if (!isException(e)) {
+                throw e;
+            }
+            log.error("Caught unknown unrecoverable error for callback {}, case ID: {}", callback.getEvent(), callback.getCaseDetails().getId(), e);
+        }
+    }
+
+    /**
+     * Sends the notifications for the callback on the calling thread.
+     */
+    public void processNotifications(Callback<SscsCaseData> callback) {
+        processNotifications(callback, null);
+    }
+
+    /**
+     * Sends the notifications for the callback on the calling thread. The event timestamp, when known, tells this
+     * occurrence of the event from earlier ones so the delivery ledger does not drop a legitimate repeat.
+     */
+    public void processNotifications(Callback<SscsCaseData> callback, String eventTimestamp) {
+        notificationsMessageProcessor.processMessage(callback, eventTimestamp);
+    }
+
+    /**
+     * Runs a scheduled evidence-share retry for the callback. Notifications are not sent again. Returns true when the
+     * attempt failed recoverably and another is allowed, leaving the caller to schedule it.
+     */
+    public boolean retryEvidenceShare(Callback<SscsCaseData> callback, int attempt) {
+        log.info("Retrying evidence share {} out of {} for callback {}, case ID: {}",
+            attempt - 1, maxRetryAttempts, callback.getEvent(), callback.getCaseDetails().getId());
+        return failedRecoverably(callback, attempt);
+    }
+
+    private void processEvidenceShareMessage(Callback<SscsCaseData> callback, int attempt) {
+        if (failedRecoverably(callback, attempt)) {
+            scheduleRetry(callback, attempt + 1);
+        }
+    }
+
+    private boolean failedRecoverably(Callback<SscsCaseData> callback, int attempt) {
+        try {
+            processMessageForEvidenceShare(callback);
+            return false;
         } catch (Exception e) {
-            if (retry > maxRetryAttempts || isException(e)) {
-                log.error("Caught unknown unrecoverable error %s for callback {}, case ID: {}", callback.getEvent(), callback.getCaseDetails().getId(), e);
-            } else {
-                log.error("Caught recoverable error while retrying {} out of {} for callback {}, case ID: {}",
-                    retry, maxRetryAttempts, callback.getEvent(), callback.getCaseDetails().getId(), e);
-                processEvidenceShareMessageWithRetry(callback, retry + 1);
+            if (attempt > maxRetryAttempts || isException(e)) {
+                log.error("Caught unknown unrecoverable error for callback {}, case ID: {}", callback.getEvent(), callback.getCaseDetails().getId(), e);
+                return false;
             }
+            log.error("Caught recoverable error on attempt {} (retries allowed: {}) for callback {}, case ID: {}",
+                attempt, maxRetryAttempts, callback.getEvent(), callback.getCaseDetails().getId(), e);
+            return true;
+        }
+    }
+
+    private void scheduleRetry(Callback<SscsCaseData> callback, int attempt) {
+        try {
+            evidenceShareRetryScheduler.scheduleRetry(callback, attempt);
+        } catch (Exception e) {
+            log.error("Unable to schedule evidence share attempt {} for callback {}, case ID: {}",
+                attempt, callback.getEvent(), callback.getCaseDetails().getId(), e);
         }
     }
 
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the callback_outbox table. Rows are claimed with {@code FOR UPDATE SKIP LOCKED} and a lease, so
+ * any number of pods can drain the table without handing the same row to two workers; a row whose lease expires
+ * (for example because its pod was killed) becomes claimable again.
+ *
+ * <p>A row is only claimed once every earlier row for its case has gone, so callbacks for one case are processed in
+ * the order CCD sent them even across pods. Completed rows are deleted, so an earlier row that is still there is
+ * pending, in progress or failed; a failed row holds back the rest of its case until it is replayed or removed.
+ */
+@Repository
+public class CallbackOutboxRepository {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String INSERT =
+        "INSERT INTO callback_outbox (case_id, event_id, payload) VALUES (?, ?, ?)";
+
+    private static final String CLAIM =
+        "UPDATE callback_outbox SET status = '" + STATUS_IN_PROGRESS + "', locked_by = ?, "
+            + "locked_until = now() + (? * interval '1 second'), attempts = attempts + 1 "
+            + "WHERE id IN (SELECT id FROM callback_outbox candidate "
+            + "WHERE ((status = '" + STATUS_PENDING + "' AND available_at <= now()) "
+            + "OR (status = '" + STATUS_IN_PROGRESS + "' AND locked_until < now())) "
+            + "AND NOT EXISTS (SELECT 1 FROM callback_outbox earlier "
+            + "WHERE earlier.case_id = candidate.case_id AND earlier.id < candidate.id) "
+            + "ORDER BY id LIMIT ? FOR UPDATE OF candidate SKIP LOCKED) "
+            + "RETURNING id, case_id, event_id, payload, attempts, evidence_shared";
+
+    private static final String RENEW =
+        "UPDATE callback_outbox SET locked_until = now() + (? * interval '1 second') "
+            + "WHERE id = ANY(?) AND locked_by = ?";
+
+    private static final String MARK_EVIDENCE_SHARED =
+        "UPDATE callback_outbox SET evidence_shared = TRUE WHERE id = ? AND locked_by = ?";
+
+    private static final String COMPLETE =
+        "DELETE FROM callback_outbox WHERE id = ? AND locked_by = ?";
+
+    private static final String RELEASE =
+        "UPDATE callback_outbox SET status = '" + STATUS_PENDING + "', locked_by = NULL, locked_until = NULL, "
+            + "available_at = now() + (? * interval '1 second'), last_error = ? WHERE id = ? AND locked_by = ?";
+
+    private static final String FAIL =
+        "UPDATE callback_outbox SET status = '" + STATUS_FAILED + "', locked_by = NULL, locked_until = NULL, "
+            + "last_error = ? WHERE id = ? AND locked_by = ?";
+
+    private static final String STATS =
+        "SELECT count(*), COALESCE(EXTRACT(EPOCH FROM (now() - min(created_at))), 0) "
+            + "FROM callback_outbox WHERE status <> '" + STATUS_FAILED + "'";
+
+    private static final RowMapper<OutboxEntry> ENTRY_MAPPER = (rs, rowNum) -> new OutboxEntry(
+        rs.getLong("id"),
+        rs.getLong("case_id"),
+        rs.getString("event_id"),
+        rs.getBytes("payload"),
+        rs.getInt("attempts"),
+        rs.getBoolean("evidence_shared"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CallbackOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(long caseId, String eventId, byte[] payload) {
+        jdbcTemplate.update(INSERT, caseId, eventId, payload);
+    }
+
+    public List<OutboxEntry> claim(String workerId, int limit, long leaseSeconds) {
+        return jdbcTemplate.query(CLAIM, ENTRY_MAPPER, workerId, leaseSeconds, limit);
+    }
+
+    /**
+     * Extends the lease on rows this worker still holds.
+     *
+     * @return how many of the rows were still held by the worker
+     */
+    public int renew(Collection<Long> ids, String workerId, long leaseSeconds) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RENEW);
+            statement.setLong(1, leaseSeconds);
+            statement.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setString(3, workerId);
+            return statement;
+        });
+    }
+
+    public boolean markEvidenceShared(long id, String workerId) {
+        return jdbcTemplate.update(MARK_EVIDENCE_SHARED, id, workerId) == 1;
+    }
+
+    public boolean complete(long id, String workerId) {
+        return jdbcTemplate.update(COMPLETE, id, workerId) == 1;
+    }
+
+    public boolean release(long id, String workerId, long delaySeconds, String error) {
+        return jdbcTemplate.update(RELEASE, delaySeconds, error, id, workerId) == 1;
+    }
+
+    public boolean fail(long id, String workerId, String error) {
+        return jdbcTemplate.update(FAIL, error, id, workerId) == 1;
+    }
+
+    public OutboxStats stats() {
+        return jdbcTemplate.queryForObject(STATS,
+            (rs, rowNum) -> new OutboxStats(rs.getLong(1), (long) rs.getDouble(2)));
+    }
+
+    public record OutboxStats(long depth, long oldestAgeSeconds) {
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * Persists /send callbacks so they survive a pod restart. The raw request body is stored rather than the parsed
+ * callback, so the worker deserialises exactly what CCD sent.
+ */
+@Slf4j
+@Service
+public class CallbackOutboxService {
+
+    private final CallbackOutboxRepository repository;
+    private final boolean enabled;
+
+    public CallbackOutboxService(CallbackOutboxRepository repository,
+                                 @Value("${callback.outbox.enabled:false}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(Callback<SscsCaseData> callback, byte[] payload) {
+        long caseId = callback.getCaseDetails().getId();
+        repository.insert(caseId, callback.getEvent().getCcdType(), payload);
+        log.info("Queued callback {} for case ID: {} in the outbox", callback.getEvent(), caseId);
+    }
+}
@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.service.servicebus.CaseStripedExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+
+/**
+ * Drains the callback outbox. Each poll claims at most as many rows as there are idle workers; rows left behind by
+ * a pod that dies are picked up again once their lease runs out. Claimed rows run on the case's stripe, which stops
+ * them running at the same time as another callback for the case, but they may queue there behind callbacks that
+ * did not come through the outbox and are not ordered against them. While a row waits its lease is renewed on
+ * every poll, and a row whose lease has nonetheless been lost to another pod is skipped when its turn comes.
+ * Evidence share and notifications are recorded as separate steps, so a retry after notifications fail does not
+ * share the evidence again. Evidence share is only recorded once it has succeeded; a recoverable failure releases
+ * the row to be retried here rather than through a separately scheduled evidence share retry.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "callback.outbox.enabled", havingValue = "true")
+public class CallbackOutboxWorker {
+
+    static final String QUEUE_DEPTH = "sscs.callback.outbox.depth";
+    static final String OLDEST_AGE = "sscs.callback.outbox.oldest.age";
+    static final String PROCESSED = "sscs.callback.outbox.processed";
+
+    private final CallbackOutboxRepository repository;
+    private final StreamingCallbackDeserializer deserializer;
+    private final SendCallbackHandler sendCallbackHandler;
+    private final CaseStripedExecutor executor;
+    private final Semaphore idleWorkers;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final String workerId = "outbox-" + UUID.randomUUID();
+
+    private final Map<Long, OutboxEntry> held = new ConcurrentHashMap<>();
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Counter completed;
+    private final Counter retried;
+    private final Counter failed;
+
+    public CallbackOutboxWorker(CallbackOutboxRepository repository,
+                                StreamingCallbackDeserializer deserializer,
+                                SendCallbackHandler sendCallbackHandler,
+                                CaseStripedExecutor executor,
+                                MeterRegistry meterRegistry,
+                                @Value("${callback.outbox.workers:4}") int workers,
+                                @Value("${callback.outbox.batchSize:10}") int batchSize,
+                                @Value("${callback.outbox.leaseSeconds:300}") long leaseSeconds,
+                                @Value("${callback.outbox.maxAttempts:5}") int maxAttempts,
+                                @Value("${callback.outbox.backoffSeconds:30}") long backoffSeconds) {
+        this.repository = repository;
+        this.deserializer = deserializer;
+        this.sendCallbackHandler = sendCallbackHandler;
+        this.executor = executor;
+        this.idleWorkers = new Semaphore(workers);
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+
+        Gauge.builder(QUEUE_DEPTH, depth, AtomicLong::get)
+            .description("Callbacks waiting in, or being processed from, the outbox")
+            .register(meterRegistry);
+        Gauge.builder(OLDEST_AGE, oldestAgeSeconds, AtomicLong::get)
+            .description("Age in seconds of the oldest callback in the outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        completed = Counter.builder(PROCESSED).tag("outcome", "completed").register(meterRegistry);
+        retried = Counter.builder(PROCESSED).tag("outcome", "retried").register(meterRegistry);
+        failed = Counter.builder(PROCESSED).tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${callback.outbox.pollIntervalMs:1000}")
+    public void poll() {
+        try {
+            refreshStats();
+            renewLeases();
+            int idle = idleWorkers.availablePermits();
+            if (idle == 0) {
+                return;
+            }
+            List<OutboxEntry> entries = repository.claim(workerId, Math.min(batchSize, idle), leaseSeconds);
+            for (OutboxEntry entry : entries) {
+                idleWorkers.acquireUninterruptibly();
+                held.put(entry.id(), entry);
+                try {
+                    executor.execute(entry.caseId(), () -> {
+                        try {
+                            if (stillHeld(entry)) {
+                                process(entry);
+                            }
+                        } finally {
+                            held.remove(entry.id());
+                            idleWorkers.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    held.remove(entry.id());
+                    idleWorkers.release();
+                    throw e;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll the callback outbox", e);
+        }
+    }
+
+    void process(OutboxEntry entry) {
+        try {
+            Callback<SscsCaseData> callback = deserializer.deserialize(entry.payload());
+            if (!entry.evidenceShared()) {
+                sendCallbackHandler.processEvidenceShareOrThrow(callback);
+                repository.markEvidenceShared(entry.id(), workerId);
+            }
+            sendCallbackHandler.processNotifications(callback, deserializer.eventTimestamp(entry.payload()));
+            repository.complete(entry.id(), workerId);
+            completed.increment();
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (entry.attempts() >= maxAttempts) {
+                log.error("Giving up on outbox entry {} for case ID: {}, event: {} after {} attempts",
+                    entry.id(), entry.caseId(), entry.eventId(), entry.attempts(), e);
+                repository.fail(entry.id(), workerId, error);
+                failed.increment();
+            } else {
+                long delay = backoffSeconds << Math.min(entry.attempts() - 1, 10);
+                log.warn("Outbox entry {} for case ID: {}, event: {} failed on attempt {}, retrying in {}s",
+                    entry.id(), entry.caseId(), entry.eventId(), entry.attempts(), delay, e);
+                repository.release(entry.id(), workerId, delay, error);
+                retried.increment();
+            }
+        }
+    }
+
+    private void renewLeases() {
+        if (!held.isEmpty()) {
+            repository.renew(List.copyOf(held.keySet()), workerId, leaseSeconds);
+        }
+    }
+
+    private boolean stillHeld(OutboxEntry entry) {
+        if (repository.renew(List.of(entry.id()), workerId, leaseSeconds) == 1) {
+            return true;
+        }
+        log.warn("Lost the lease on outbox entry {} for case ID: {}, event: {} while it was queued, leaving it to "
+            + "the worker that holds it now", entry.id(), entry.caseId(), entry.eventId());
+        return false;
+    }
+
+    private void refreshStats() {
+        CallbackOutboxRepository.OutboxStats stats = repository.stats();
+        depth.set(stats.depth());
+        oldestAgeSeconds.set(stats.oldestAgeSeconds());
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+/**
+ * A callback claimed from the outbox by a worker. {@code attempts} includes the current claim, and
+ * {@code evidenceShared} is set once an earlier attempt has finished the evidence share step.
+ */
+public record OutboxEntry(long id, long caseId, String eventId, byte[] payload, int attempts,
+                          boolean evidenceShared) {
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobPayloadDeserializer;
+
+@Component
+public class EvidenceShareRetryDeserializer implements JobPayloadDeserializer<EvidenceShareRetryPayload> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public EvidenceShareRetryPayload deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, EvidenceShareRetryPayload.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot deserialize payload as EvidenceShareRetryPayload", e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobException;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.CaseStripedExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+
+/**
+ * Runs a scheduled evidence-share retry. The attempt runs on the case's stripe so it stays ordered with other
+ * callbacks for the case, and the Quartz thread waits for it, so the job is only complete once the attempt is; if the
+ * attempt cannot be queued or throws, the job fails and Quartz runs it again. The case is read back from CCD on the
+ * stripe, so the attempt works from the case as it is now rather than as it was when the first attempt failed, and is
+ * given the case details before of the original callback from its snapshot.
+ */
+@Slf4j
+@Component
+public class EvidenceShareRetryExecutor implements JobExecutor<EvidenceShareRetryPayload> {
+
+    private final ObjectMapper mapper = SpringConfig.mapper();
+    private final StreamingCallbackDeserializer deserializer;
+    private final SendCallbackHandler sendCallbackHandler;
+    private final CaseStripedExecutor caseStripedExecutor;
+    private final CcdService ccdService;
+    private final IdamService idamService;
+    private final EvidenceShareRetryScheduler retryScheduler;
+    private final EvidenceShareRetrySnapshotRepository snapshotRepository;
+    private final int maxRetryAttempts;
+
+    public EvidenceShareRetryExecutor(StreamingCallbackDeserializer deserializer,
+                                      SendCallbackHandler sendCallbackHandler,
+                                      CaseStripedExecutor caseStripedExecutor,
+                                      CcdService ccdService,
+                                      IdamService idamService,
+                                      EvidenceShareRetryScheduler retryScheduler,
+                                      EvidenceShareRetrySnapshotRepository snapshotRepository,
+                                      @Value("${callback.maxRetryAttempts}") int maxRetryAttempts) {
+        this.deserializer = deserializer;
+        this.sendCallbackHandler = sendCallbackHandler;
+        this.caseStripedExecutor = caseStripedExecutor;
+        this.ccdService = ccdService;
+        this.idamService = idamService;
+        this.retryScheduler = retryScheduler;
+        this.snapshotRepository = snapshotRepository;
+        this.maxRetryAttempts = maxRetryAttempts;
+    }
+
+    @Override
+    public void execute(String jobId, String jobGroup, String jobName, EvidenceShareRetryPayload payload) {
+        log.info("Running evidence share attempt {} for callback {}, case ID: {} (job {})",
+            payload.attempt(), payload.event(), payload.caseId(), jobId);
+        try {
+            caseStripedExecutor.submit(payload.caseId(), () -> retry(payload)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobException("Interrupted while running evidence share attempt " + payload.attempt()
+                + " for case ID: " + payload.caseId(), e);
+        } catch (ExecutionException e) {
+            throw new JobException("Evidence share attempt " + payload.attempt() + " for case ID: "
+                + payload.caseId() + " failed", e.getCause());
+        } catch (RejectedExecutionException e) {
+            throw new JobException("Too many callbacks waiting to run evidence share attempt " + payload.attempt()
+                + " for case ID: " + payload.caseId(), e);
+        }
+    }
+
+    private void retry(EvidenceShareRetryPayload payload) {
+        Callback<SscsCaseData> callback;
+        try {
+            SscsCaseDetails caseDetails = ccdService.getByCaseId(payload.caseId(), idamService.getIdamTokens());
+            if (caseDetails == null) {
+                log.warn("Case ID: {} could not be found for evidence share attempt {} of callback {}",
+                    payload.caseId(), payload.attempt(), payload.event());
+                deleteSnapshot(payload);
+                return;
+            }
+            callback = deserializer.deserialize(
+                toCallbackJson(caseDetails, payload.event(), caseDetailsBefore(payload)));
+        } catch (Exception e) {
+            if (payload.attempt() > maxRetryAttempts) {
+                log.error("Unable to load case ID: {} for final evidence share attempt {} of callback {}",
+                    payload.caseId(), payload.attempt(), payload.event(), e);
+                deleteSnapshot(payload);
+            } else {
+                log.error("Unable to load case ID: {} for evidence share attempt {} of callback {}, rescheduling",
+                    payload.caseId(), payload.attempt(), payload.event(), e);
+                scheduleNextAttempt(payload);
+            }
+            return;
+        }
+        if (sendCallbackHandler.retryEvidenceShare(callback, payload.attempt())) {
+            scheduleNextAttempt(payload);
+        } else {
+            deleteSnapshot(payload);
+        }
+    }
+
+    private void scheduleNextAttempt(EvidenceShareRetryPayload payload) {
+        retryScheduler.scheduleRetry(payload.caseId(), payload.event(), payload.attempt() + 1, payload.snapshotId());
+    }
+
+    private Optional<byte[]> caseDetailsBefore(EvidenceShareRetryPayload payload) {
+        if (payload.snapshotId() == null) {
+            return Optional.empty();
+        }
+        Optional<byte[]> snapshot = snapshotRepository.find(payload.snapshotId());
+        if (snapshot.isEmpty()) {
+            log.warn("Case details before snapshot {} for case ID: {} has gone, retrying callback {} without them",
+                payload.snapshotId(), payload.caseId(), payload.event());
+        }
+        return snapshot;
+    }
+
+    private void deleteSnapshot(EvidenceShareRetryPayload payload) {
+        if (payload.snapshotId() != null) {
+            snapshotRepository.delete(payload.snapshotId());
+        }
+    }
+
+    private byte[] toCallbackJson(SscsCaseDetails caseDetails, String event, Optional<byte[]> caseDetailsBefore)
+        throws IOException {
+        ObjectNode details = (ObjectNode) mapper.valueToTree(caseDetails);
+        JsonNode data = details.remove("data");
+        details.set("case_data", data);
+
+        ObjectNode callback = JsonNodeFactory.instance.objectNode();
+        callback.set("case_details", details);
+        if (caseDetailsBefore.isPresent()) {
+            callback.set("case_details_before", mapper.readTree(caseDetailsBefore.get()));
+        }
+        callback.put("event_id", event);
+        return mapper.writeValueAsBytes(callback);
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Quartz job payload for a callback whose evidence-share handling failed and is waiting for another attempt. Only the
+ * case and event are kept; the case is read back from CCD when the attempt runs, so the attempt sees its current
+ * state and the job store does not hold a copy of the case. The case details before cannot be read back, so they are
+ * kept in {@link EvidenceShareRetrySnapshotRepository} and referenced by {@code snapshotId}, which is null when the
+ * callback had none. {@code type} is always written first so {@link #matches(String)} can route the payload without
+ * parsing it. Unknown properties are ignored so jobs scheduled when the payload also carried the callback still run.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"type", "caseId", "event", "attempt", "snapshotId"})
+public record EvidenceShareRetryPayload(String type, long caseId, String event, int attempt, Long snapshotId) {
+
+    public static final String TYPE = "evidenceShareRetry";
+
+    private static final String PREFIX = "{\"type\":\"" + TYPE + "\"";
+
+    public EvidenceShareRetryPayload(long caseId, String event, int attempt, Long snapshotId) {
+        this(TYPE, caseId, event, attempt, snapshotId);
+    }
+
+    public static boolean matches(String payload) {
+        return payload != null && payload.startsWith(PREFIX);
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobScheduler;
+import uk.gov.hmcts.reform.sscs.util.ExponentialBackoff;
+
+/**
+ * Schedules another evidence-share attempt for a callback through Quartz, so the attempt survives a restart and no
+ * thread is held while waiting for a degraded downstream service to recover.
+ */
+@Slf4j
+@Component
+public class EvidenceShareRetryScheduler {
+
+    static final String JOB_GROUP_SUFFIX = "_" + EvidenceShareRetryPayload.TYPE;
+
+    private final ObjectMapper mapper = SpringConfig.mapper();
+    private final JobScheduler jobScheduler;
+    private final EvidenceShareRetrySnapshotRepository snapshotRepository;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    public EvidenceShareRetryScheduler(JobScheduler jobScheduler,
+                                       EvidenceShareRetrySnapshotRepository snapshotRepository,
+                                       @Value("${callback.retry.initialDelayMs:30000}") long initialDelayMs,
+                                       @Value("${callback.retry.maxDelayMs:900000}") long maxDelayMs) {
+        this.jobScheduler = jobScheduler;
+        this.snapshotRepository = snapshotRepository;
+        this.initialDelay = Duration.ofMillis(initialDelayMs);
+        this.maxDelay = Duration.ofMillis(maxDelayMs);
+    }
+
+    /**
+     * Schedules attempt number {@code attempt} (the first attempt being 1) after a jittered exponential delay, first
+     * keeping the callback's case details before so the attempt can be given them again.
+     */
+    public void scheduleRetry(Callback<SscsCaseData> callback, int attempt) {
+        long caseId = callback.getCaseDetails().getId();
+        Long snapshotId = callback.getCaseDetailsBefore()
+            .map(caseDetailsBefore -> snapshotRepository.save(caseId, toJson(caseDetailsBefore)))
+            .orElse(null);
+        try {
+            scheduleRetry(caseId, callback.getEvent().getCcdType(), attempt, snapshotId);
+        } catch (RuntimeException e) {
+            if (snapshotId != null) {
+                snapshotRepository.delete(snapshotId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Schedules a further attempt for a callback already being retried, reusing the snapshot of its case details
+     * before.
+     */
+    public void scheduleRetry(long caseId, String event, int attempt, Long snapshotId) {
+        Duration delay = ExponentialBackoff.delay(initialDelay, maxDelay, attempt - 1);
+
+        String jobId = jobScheduler.schedule(new Job<>(
+            caseId + JOB_GROUP_SUFFIX,
+            event,
+            new EvidenceShareRetryPayload(caseId, event, attempt, snapshotId),
+            ZonedDateTime.now().plus(delay)
+        ));
+        log.info("Scheduled evidence share attempt {} for callback {}, case ID: {} in {}ms (job {})",
+            attempt, event, caseId, delay.toMillis(), jobId);
+    }
+
+    private byte[] toJson(CaseDetails<SscsCaseData> caseDetailsBefore) {
+        try {
+            return mapper.writeValueAsBytes(caseDetailsBefore);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize the case details before for case ID: "
+                + caseDetailsBefore.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobPayloadSerializer;
+
+@Component
+public class EvidenceShareRetrySerializer implements JobPayloadSerializer<EvidenceShareRetryPayload> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String serialize(EvidenceShareRetryPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize EvidenceShareRetryPayload for case id "
+                + "[" + payload.caseId() + "] attempt [" + payload.attempt() + "]", e);
+        }
+    }
+}
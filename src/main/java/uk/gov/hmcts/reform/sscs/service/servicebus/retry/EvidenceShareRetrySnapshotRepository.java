@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the evidence_share_retry_snapshot table, which keeps the case details before of a callback whose
+ * evidence share is waiting for another attempt. CCD only holds the case as it is now, so without this a retry could
+ * not tell what changed in the event, and handlers that compare the two (for example to spot a new joint party)
+ * would act as if everything were new. A row lives until the last attempt for its callback has run.
+ */
+@Repository
+public class EvidenceShareRetrySnapshotRepository {
+
+    private static final String INSERT =
+        "INSERT INTO evidence_share_retry_snapshot (case_id, case_details_before) VALUES (?, ?) RETURNING id";
+
+    private static final String FIND =
+        "SELECT case_details_before FROM evidence_share_retry_snapshot WHERE id = ?";
+
+    private static final String DELETE =
+        "DELETE FROM evidence_share_retry_snapshot WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EvidenceShareRetrySnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long save(long caseId, byte[] caseDetailsBefore) {
+        return jdbcTemplate.queryForObject(INSERT, Long.class, caseId, caseDetailsBefore);
+    }
+
+    public Optional<byte[]> find(long id) {
+        List<byte[]> rows = jdbcTemplate.query(FIND, (rs, rowNum) -> rs.getBytes(1), id);
+        return rows.stream().findFirst();
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update(DELETE, id);
+    }
+}
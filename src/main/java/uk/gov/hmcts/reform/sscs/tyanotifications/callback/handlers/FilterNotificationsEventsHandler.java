@@ -5,7 +5,10 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.HearingRoute.GAPS;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.*;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.*;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +19,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.ProcessRequestAction;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.tyanotifications.callback.CallbackHandler;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.NotificationSscsCaseDataWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.CcdNotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationService;
@@ -36,6 +40,33 @@ public class FilterNotificationsEventsHandler implements CallbackHandler {
     @Value("${feature.postHearingsB.enabled}")
     private boolean isPostHearingsBEnabled;
 
+    private volatile Set<NotificationEventType> routableEvents;
+
+    /**
+     * Whether a callback for this event could ever produce a notification, checked against a table built once from
+     * the event lists. Callbacks for any other event can be dropped before their case data is wrapped.
+     */
+    public boolean canEverHandle(NotificationEventType notificationEventType) {
+        return nonNull(notificationEventType) && routableEvents().contains(notificationEventType);
+    }
+
+    private Set<NotificationEventType> routableEvents() {
+        Set<NotificationEventType> events = routableEvents;
+        if (events == null) {
+            EnumSet<NotificationEventType> table = EnumSet.copyOf(EVENTS_TO_HANDLE);
+            table.addAll(EVENTS_TO_HANDLE_CONDITIONALLY);
+            if (isPostHearingsEnabled) {
+                table.addAll(EVENTS_TO_HANDLE_POSTHEARINGS_A);
+            }
+            if (isPostHearingsBEnabled) {
+                table.addAll(EVENTS_TO_HANDLE_POSTHEARINGS_B);
+            }
+            events = Collections.unmodifiableSet(table);
+            routableEvents = events;
+        }
+        return events;
+    }
+
     @Override
     public boolean canHandle(NotificationSscsCaseDataWrapper callback) {
         return nonNull(callback.getNotificationEventType())
@@ -60,10 +60,15 @@ public class NotificationConfig {
     @Value("${feature.cm-other-party-confidentiality.enabled}")
     private boolean cmOtherPartyConfidentialityEnabled;
 
-    private Environment env;
+    private final NotificationTemplateIndex templateIndex;
 
-    NotificationConfig(@Autowired Environment env) {
-        this.env = env;
+    NotificationConfig(Environment env) {
+        this(new NotificationTemplateIndex(env));
+    }
+
+    @Autowired
+    NotificationConfig(NotificationTemplateIndex templateIndex) {
+        this.templateIndex = templateIndex;
     }
 
     public Link getManageEmailsLink() {
@@ -136,7 +141,7 @@ public class NotificationConfig {
         return Template.builder()
             .emailTemplateId(getTemplateId(appealHearingType, hearingRoute, emailTemplateName, "emailId", languagePreference))
             .smsTemplateId(getSmsTemplates(appealHearingType, hearingRoute, smsTemplateName, "smsId", languagePreference))
-            .smsSenderTemplateId(benefit == null ? "" : env.getProperty("smsSender." + benefit.toString().toLowerCase(Locale.ENGLISH)))
+            .smsSenderTemplateId(benefit == null ? "" : templateIndex.findSmsSender(benefit.toString().toLowerCase(Locale.ENGLISH)))
             .letterTemplateId(getTemplateId(appealHearingType, hearingRoute, letterTemplateName, "letterId", languagePreference))
             .docmosisTemplateId(docmosisTemplateId)
             .build();
@@ -190,24 +195,17 @@ public class NotificationConfig {
     private String getTemplateId(@NotNull AppealHearingType appealHearingType, HearingRoute hearingRoute, String templateName,
                                  final String notificationType, LanguagePreference languagePreference) {
         String hearingTypeName = appealHearingType.name().toLowerCase(Locale.ENGLISH);
-        String hearingRouteName = hearingRoute == null ? "" : hearingRoute.toString();
+        String language = languagePreference.getCode();
 
-        String name;
         String templateId = null;
-
-        if (!hearingRouteName.isEmpty()) {
-            name = "notification." + languagePreference.getCode() + "." + hearingRouteName + "." + hearingTypeName + "." + templateName + "."
-                + notificationType;
-            templateId = env.getProperty(name);
+        if (hearingRoute != null) {
+            templateId = templateIndex.find(language, hearingRoute.toString(), hearingTypeName, templateName, notificationType);
         }
         if (templateId == null) {
-            name = "notification." + languagePreference.getCode() + "." + hearingTypeName + "." + templateName + "."
-                + notificationType;
-            templateId = env.getProperty(name);
+            templateId = templateIndex.find(language, null, hearingTypeName, templateName, notificationType);
         }
         if (templateId == null) {
-            name = "notification." + languagePreference.getCode() + "." + templateName + "." + notificationType;
-            templateId = env.getProperty(name);
+            templateId = templateIndex.find(language, null, null, templateName, notificationType);
         }
         return StringUtils.stripToNull(templateId);
     }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.config;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.*;
 
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 
@@ -82,6 +83,14 @@ public final class NotificationEventTypeLists {
         BUNDLE_CREATED_FOR_UPPER_TRIBUNAL
     );
 
+    // handled only when the case data allows it, see FilterNotificationsEventsHandler
+    public static final Set<NotificationEventType> EVENTS_TO_HANDLE_CONDITIONALLY = EnumSet.of(
+        ACTION_POSTPONEMENT_REQUEST,
+        DEATH_OF_APPELLANT,
+        HEARING_BOOKED,
+        PROVIDE_APPOINTEE_DETAILS
+    );
+
     public static final Set<NotificationEventType> EVENT_TYPES_FOR_DORMANT_CASES = EnumSet.of(
         ACTION_HEARING_RECORDING_REQUEST,
         ADMIN_APPEAL_WITHDRAWN,
@@ -559,4 +568,10 @@ public final class NotificationEventTypeLists {
         SOR_REFUSED,
         STRUCK_OUT
     );
+
+    /**
+     * Events whose per-subscription docmosis template is configured under a name other than the event id.
+     */
+    public static final Map<NotificationEventType, String> DOCMOSIS_TEMPLATE_NAME_OVERRIDES =
+        Map.of(OTHER_PARTY_ADDED_TO_APPEAL, "otherPartyAddedToAppeal");
 }
@@ -0,0 +1,299 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.config;
+
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.DOCMOSIS_TEMPLATE_NAME_OVERRIDES;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENTS_WITH_SUBSCRIPTION_TYPE_DOCMOSIS_TEMPLATES;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENTS_WITH_SUBSCRIPTION_TYPE_EMAIL_TEMPLATES;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENT_TYPES_FOR_NOTIFY_LETTERS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.HearingRoute;
+import uk.gov.hmcts.reform.sscs.ccd.domain.LanguagePreference;
+import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
+
+/**
+ * Immutable view of every {@code notification.*} template id and {@code smsSender.*} id in the environment,
+ * resolved once at startup so that sending a notification never walks the property sources.
+ *
+ * <p>Template names already encode the event, subscription and direction type (e.g.
+ * {@code directionIssued.provideInformation.appellant}), so a key is the language, the optional hearing route
+ * and hearing type, the template name and the channel ({@code emailId}, {@code smsId}, {@code letterId} or
+ * {@code docmosisId}).</p>
+ *
+ * <p>Mappings are found in every enumerable property source. Environment variables such as
+ * {@code NOTIFICATION_ENGLISH_APPEALRECEIVED_APPELLANT_EMAILID} cannot be turned back into a camel-case property
+ * name, so they are matched against the property names every notification event and subscription type could use.
+ * At startup the index reports ids that are configured blank and the per-subscription email, letter and docmosis
+ * templates that have no English mapping at any level. Startup only fails on these when
+ * {@code notification.template-index.failOnMissing} is true.</p>
+ */
+@Slf4j
+@Component
+public class NotificationTemplateIndex {
+
+    static final String NOTIFICATION_PREFIX = "notification.";
+    static final String SMS_SENDER_PREFIX = "smsSender.";
+
+    private static final Set<String> HEARING_ROUTES = Arrays.stream(HearingRoute.values())
+        .map(HearingRoute::toString)
+        .collect(Collectors.toUnmodifiableSet());
+    private static final Set<String> HEARING_TYPES = Arrays.stream(AppealHearingType.values())
+        .map(type -> type.name().toLowerCase(Locale.ENGLISH))
+        .collect(Collectors.toUnmodifiableSet());
+    private static final String ENV_PREFIX = "NOTIFICATION_";
+    private static final List<String> CHANNELS = List.of("emailId", "smsId", "letterId", "docmosisId");
+
+    public record TemplateKey(String language, String hearingRoute, String hearingType, String templateName,
+                              String channel) {
+    }
+
+    private final Environment env;
+    private final Map<TemplateKey, String> templates;
+    private final Map<String, String> smsSenders;
+    private final Set<String> absent;
+
+    @Autowired
+    public NotificationTemplateIndex(Environment env,
+                                     @Value("${notification.template-index.failOnMissing:false}") boolean failOnMissing) {
+        this.env = env;
+        if (env instanceof ConfigurableEnvironment configurableEnvironment) {
+            Map<TemplateKey, String> indexed = new HashMap<>();
+            Map<String, String> senders = new HashMap<>();
+            List<String> blank = index(configurableEnvironment, indexed, senders);
+            this.templates = Collections.unmodifiableMap(indexed);
+            this.smsSenders = Collections.unmodifiableMap(senders);
+            this.absent = Collections.unmodifiableSet(absent(indexed.keySet()));
+            log.info("Indexed {} notification templates and {} SMS senders", templates.size(), smsSenders.size());
+            if (!blank.isEmpty() || !absent.isEmpty()) {
+                String message = "Notification templates configured without an id: " + blank
+                    + ", expected templates with no mapping: " + absent;
+                if (failOnMissing) {
+                    throw new IllegalStateException(message);
+                }
+                log.warn(message);
+            }
+        } else {
+            this.templates = null;
+            this.smsSenders = null;
+            this.absent = Collections.emptySet();
+        }
+    }
+
+    NotificationTemplateIndex(Environment env) {
+        this(env, false);
+    }
+
+    /**
+     * Returns the template id for the given key, {@code null} if there is no mapping or an empty string if the
+     * mapping is configured without an id. Falls back to reading the environment directly when it cannot be
+     * enumerated.
+     */
+    public String find(String language, String hearingRoute, String hearingType, String templateName, String channel) {
+        if (templates == null) {
+            return env.getProperty(propertyName(language, hearingRoute, hearingType, templateName, channel));
+        }
+        return templates.get(new TemplateKey(language, hearingRoute, hearingType, templateName, channel));
+    }
+
+    public String findSmsSender(String benefit) {
+        if (smsSenders == null) {
+            return env.getProperty(SMS_SENDER_PREFIX + benefit);
+        }
+        return smsSenders.get(benefit);
+    }
+
+    /**
+     * Every indexed template id keyed by its property name, in a stable order for display.
+     */
+    public Map<String, String> getTemplates() {
+        if (templates == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        templates.forEach((key, id) -> sorted.put(
+            propertyName(key.language(), key.hearingRoute(), key.hearingType(), key.templateName(), key.channel()), id));
+        return sorted;
+    }
+
+    public Map<String, String> getSmsSenders() {
+        return smsSenders == null ? Collections.emptyMap() : new TreeMap<>(smsSenders);
+    }
+
+    /**
+     * The English property names of per-subscription templates that are expected for an event but have no mapping
+     * at any hearing route or hearing type level.
+     */
+    public Set<String> getAbsent() {
+        return absent;
+    }
+
+    private List<String> index(ConfigurableEnvironment environment, Map<TemplateKey, String> indexed,
+                               Map<String, String> senders) {
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> environmentVariables = new HashSet<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (source instanceof EnumerablePropertySource<?> enumerable) {
+                boolean systemEnvironment = source instanceof SystemEnvironmentPropertySource;
+                for (String name : enumerable.getPropertyNames()) {
+                    if (name.startsWith(NOTIFICATION_PREFIX) || name.startsWith(SMS_SENDER_PREFIX)) {
+                        names.add(name);
+                    } else if (systemEnvironment && name.toUpperCase(Locale.ENGLISH).startsWith(ENV_PREFIX)) {
+                        environmentVariables.add(name.toUpperCase(Locale.ENGLISH));
+                    }
+                }
+            }
+        }
+        if (!environmentVariables.isEmpty()) {
+            for (String name : candidatePropertyNames()) {
+                if (environmentVariables.contains(environmentVariable(name))) {
+                    names.add(name);
+                }
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (name.startsWith(SMS_SENDER_PREFIX)) {
+                String sender = environment.getProperty(name);
+                if (sender != null) {
+                    senders.put(name.substring(SMS_SENDER_PREFIX.length()), sender);
+                }
+                continue;
+            }
+            TemplateKey key = parse(name);
+            if (key == null) {
+                continue;
+            }
+            String id = StringUtils.strip(environment.getProperty(name));
+            if (StringUtils.isEmpty(id)) {
+                missing.add(name);
+            }
+            indexed.put(key, id == null ? "" : id);
+        }
+        return missing;
+    }
+
+    /**
+     * Every property name a notification event could be looked up under: the event id alone and with each
+     * subscription type, for each channel, language, hearing route and hearing type.
+     */
+    private static List<String> candidatePropertyNames() {
+        List<String> templateNames = new ArrayList<>();
+        for (NotificationEventType eventType : NotificationEventType.values()) {
+            if (StringUtils.isNotEmpty(eventType.getId())) {
+                templateNames.add(eventType.getId());
+                for (SubscriptionType subscriptionType : SubscriptionType.values()) {
+                    templateNames.add(subscriptionTemplateName(eventType, subscriptionType));
+                }
+            }
+        }
+        List<String> names = new ArrayList<>();
+        for (LanguagePreference language : LanguagePreference.values()) {
+            for (String templateName : templateNames) {
+                for (String channel : CHANNELS) {
+                    names.add(propertyName(language.getCode(), null, null, templateName, channel));
+                    for (String hearingType : HEARING_TYPES) {
+                        names.add(propertyName(language.getCode(), null, hearingType, templateName, channel));
+                        for (String hearingRoute : HEARING_ROUTES) {
+                            names.add(propertyName(language.getCode(), hearingRoute, hearingType, templateName, channel));
+                        }
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * The per-subscription templates the personalisation asks for that have no English mapping at any level.
+     */
+    static Set<String> absent(Set<TemplateKey> keys) {
+        Set<String> mapped = new HashSet<>();
+        for (TemplateKey key : keys) {
+            if (LanguagePreference.ENGLISH.getCode().equals(key.language())) {
+                mapped.add(key.templateName() + '.' + key.channel());
+            }
+        }
+        Set<String> absent = new TreeSet<>();
+        expect(EVENTS_WITH_SUBSCRIPTION_TYPE_EMAIL_TEMPLATES, Map.of(), "emailId", mapped, absent);
+        expect(EVENT_TYPES_FOR_NOTIFY_LETTERS, Map.of(), "letterId", mapped, absent);
+        expect(EVENTS_WITH_SUBSCRIPTION_TYPE_DOCMOSIS_TEMPLATES, DOCMOSIS_TEMPLATE_NAME_OVERRIDES, "docmosisId", mapped,
+            absent);
+        return absent;
+    }
+
+    private static void expect(Set<NotificationEventType> eventTypes, Map<NotificationEventType, String> overrides,
+                               String channel, Set<String> mapped, Set<String> absent) {
+        for (NotificationEventType eventType : eventTypes) {
+            String id = overrides.getOrDefault(eventType, eventType.getId());
+            for (SubscriptionType subscriptionType : SubscriptionType.values()) {
+                String templateName = id + '.' + subscriptionType.name().toLowerCase(Locale.ENGLISH);
+                if (!mapped.contains(templateName + '.' + channel)) {
+                    absent.add(propertyName(LanguagePreference.ENGLISH.getCode(), null, null, templateName, channel));
+                }
+            }
+        }
+    }
+
+    private static String subscriptionTemplateName(NotificationEventType eventType, SubscriptionType subscriptionType) {
+        return eventType.getId() + '.' + subscriptionType.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    static String environmentVariable(String propertyName) {
+        return propertyName.replace('.', '_').replace('-', '_').toUpperCase(Locale.ENGLISH);
+    }
+
+    static TemplateKey parse(String propertyName) {
+        if (!propertyName.startsWith(NOTIFICATION_PREFIX)) {
+            return null;
+        }
+        String[] parts = propertyName.substring(NOTIFICATION_PREFIX.length()).split("\\.");
+        if (parts.length < 3 || !parts[parts.length - 1].endsWith("Id")) {
+            return null;
+        }
+        int i = 1;
+        String hearingRoute = null;
+        String hearingType = null;
+        if (HEARING_ROUTES.contains(parts[i]) && parts.length - i > 3) {
+            hearingRoute = parts[i++];
+        }
+        if (HEARING_TYPES.contains(parts[i]) && parts.length - i > 2) {
+            hearingType = parts[i++];
+        }
+        String templateName = String.join(".", Arrays.copyOfRange(parts, i, parts.length - 1));
+        return new TemplateKey(parts[0], hearingRoute, hearingType, templateName, parts[parts.length - 1]);
+    }
+
+    static String propertyName(String language, String hearingRoute, String hearingType, String templateName,
+                               String channel) {
+        StringBuilder name = new StringBuilder(NOTIFICATION_PREFIX).append(language).append('.');
+        if (hearingRoute != null) {
+            name.append(hearingRoute).append('.');
+        }
+        if (hearingType != null) {
+            name.append(hearingType).append('.');
+        }
+        return name.append(templateName).append('.').append(channel).toString();
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.config;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lists the notification template ids the service resolved at startup, so ops can check which template a
+ * notification will use without reading the deployed configuration, and which expected templates have no mapping.
+ * Not exposed over the web unless MANAGEMENT_ENDPOINTS_EXPOSED names it.
+ */
+@Component
+@Endpoint(id = "notificationtemplates")
+public class NotificationTemplatesEndpoint {
+
+    private final NotificationTemplateIndex templateIndex;
+
+    public NotificationTemplatesEndpoint(NotificationTemplateIndex templateIndex) {
+        this.templateIndex = templateIndex;
+    }
+
+    @ReadOperation
+    public Map<String, Object> templates() {
+        return Map.of(
+            "templates", templateIndex.getTemplates(),
+            "smsSenders", templateIndex.getSmsSenders(),
+            "absent", templateIndex.getAbsent()
+        );
+    }
+}
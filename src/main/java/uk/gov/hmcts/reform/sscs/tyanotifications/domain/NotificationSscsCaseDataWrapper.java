@@ -1,7 +1,13 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.domain;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import uk.gov.hmcts.reform.sscs.ccd.domain.State;
 import uk.gov.hmcts.reform.sscs.model.AbstractCaseDataWrapper;
@@ -14,4 +20,23 @@ public class NotificationSscsCaseDataWrapper extends AbstractCaseDataWrapper<Not
     private NotificationEventType notificationEventType;
     private State state;
 
+    /**
+     * When CCD last modified the case for the event being notified, or null if unknown. It tells one occurrence of
+     * an event from the next in the delivery ledger.
+     */
+    private String eventTimestamp;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient Map<Object, Object> personalisationBases = new ConcurrentHashMap<>();
+
+    /**
+     * Personalisation values that are the same for every subscription notified about this case, built once per key
+     * and shared for as long as this wrapper lives.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computePersonalisationBaseIfAbsent(Object key, Supplier<T> supplier) {
+        return (T) personalisationBases.computeIfAbsent(key, k -> supplier.get());
+    }
 }
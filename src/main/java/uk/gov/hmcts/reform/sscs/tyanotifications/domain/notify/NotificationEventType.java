@@ -5,6 +5,8 @@ import static java.util.Objects.nonNull;
 
 import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -95,6 +97,16 @@ public enum NotificationEventType {
 
     public static final String SUBSCRIPTION_OLD_ID = "subscriptionOld";
 
+    private static final Map<EventType, NotificationEventType> BY_CCD_EVENT = new EnumMap<>(EventType.class);
+
+    static {
+        for (NotificationEventType notification : values()) {
+            if (nonNull(notification.event)) {
+                BY_CCD_EVENT.putIfAbsent(notification.event, notification);
+            }
+        }
+    }
+
     private final EventType event;
     private boolean sendForOralCase;
     private boolean sendForPaperCase;
@@ -116,10 +128,13 @@ public enum NotificationEventType {
     }
 
     public static NotificationEventType getNotificationByCcdEvent(EventType eventType) {
-        return Arrays.stream(NotificationEventType.values())
-            .filter(notification -> notification.getEvent() == eventType)
-            .findFirst()
-            .orElse(DO_NOT_SEND);
+        if (isNull(eventType)) {
+            return Arrays.stream(NotificationEventType.values())
+                .filter(notification -> isNull(notification.getEvent()))
+                .findFirst()
+                .orElse(DO_NOT_SEND);
+        }
+        return BY_CCD_EVENT.getOrDefault(eventType, DO_NOT_SEND);
     }
 
     public static boolean checkEvent(String eventId) {
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.exception;
+
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Thrown without calling GOV.UK Notify when it is known not to be able to take the request right now, either
+ * because the circuit breaker is open or because the rate limit could not be honoured in time. Reported as a 503
+ * so the existing retry handling treats it as transient.
+ */
+@SuppressWarnings("squid:MaximumInheritanceDepth")
+public class NotifyUnavailableException extends NotificationClientException {
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    public NotifyUnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getHttpResult() {
+        return SERVICE_UNAVAILABLE;
+    }
+}
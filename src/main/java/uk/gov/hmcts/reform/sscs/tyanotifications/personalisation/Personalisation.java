@@ -54,6 +54,7 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants.SSCS
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants.THE_STRING;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants.THE_STRING_WELSH;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants.TOMORROW_STRING;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.DOCMOSIS_TEMPLATE_NAME_OVERRIDES;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENTS_WITH_SUBSCRIPTION_TYPE_DOCMOSIS_TEMPLATES;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENTS_WITH_SUBSCRIPTION_TYPE_EMAIL_TEMPLATES;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationConfiguration.PersonalisationKey.DISABLED_ACCESS;
@@ -183,6 +184,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -252,8 +254,6 @@ public class Personalisation<E extends NotificationWrapper> {
     public static final String TEMPLATE_NAME_TEMPLATE_WITH_DIRECTION_TYPE = "%s.%s.%s";
     public static final String TEMPLATE_NAME_TEMPLATE = "%s.%s";
 
-    private static final Map<NotificationEventType, String> OVERRIDE_ID = Map.of(OTHER_PARTY_ADDED_TO_APPEAL, "otherPartyAddedToAppeal");
-
     @Autowired
     protected NotificationConfig config;
     private boolean sendSmsSubscriptionConfirmation;
@@ -346,6 +346,18 @@ public class Personalisation<E extends NotificationWrapper> {
     }
 
     protected Map<String, Object> create(final NotificationSscsCaseDataWrapper responseWrapper, final SubscriptionWithType subscriptionWithType) {
+        CaseWidePersonalisation caseWide = responseWrapper.computePersonalisationBaseIfAbsent(
+            new CaseWideKey(getClass(), responseWrapper), () -> createCaseWide(responseWrapper));
+
+        Map<String, Object> personalisation = new HashMap<>(caseWide.values());
+        addSubscriptionPersonalisation(personalisation, responseWrapper, subscriptionWithType, caseWide.benefit());
+        return personalisation;
+    }
+
+    /**
+     * Values that depend only on the case and the event, so are the same for every subscription being notified.
+     */
+    private CaseWidePersonalisation createCaseWide(final NotificationSscsCaseDataWrapper responseWrapper) {
 
         SscsCaseData ccdResponse = responseWrapper.getNewSscsCaseData();
         SscsCaseData ccdResponsePrevious = responseWrapper.getOldSscsCaseData();
@@ -393,9 +405,7 @@ public class Personalisation<E extends NotificationWrapper> {
 
         personalisation.put(APPEAL_REF, getAppealReference(ccdResponse));
         personalisation.put(APPELLANT_NAME, ccdResponse.getAppeal().getAppellant().getName().getFullNameNoTitle());
-        personalisation.put(PersonalisationMappingConstants.NAME, getName(subscriptionWithType, ccdResponse, responseWrapper));
         personalisation.put(CCD_ID, defaultIfBlank(ccdResponse.getCcdCaseId(), EMPTY));
-        personalisation.put(REPRESENTEE_NAME, subscriptionWithType.getParty().getName().getFullNameNoTitle());
 
         // Some templates (notably letters) can be sent out before the SC Ref is added to the case
         // this allows those templates to be populated with either the CCD Id or SC Ref
@@ -403,18 +413,12 @@ public class Personalisation<E extends NotificationWrapper> {
 
         personalisation.put(INFO_REQUEST_DETAIL, defaultIfBlank(getLatestInfoRequestDetail(ccdResponse), EMPTY));
 
-        Subscription subscription = subscriptionWithType.getSubscription();
-        subscriptionDetails(personalisation, subscription, benefit, ccdResponse);
-
         addFirstTierAgencyFields(personalisation, benefit, ccdResponse);
 
         LocalDate createdDate = LocalDate.parse(ofNullable(ccdResponse.getCaseCreated()).orElse(LocalDate.now().toString()));
         translateToWelshDate(createdDate, ccdResponse, value -> personalisation.put(CREATED_DATE_WELSH, value));
         personalisation.put(CREATED_DATE, createdDate.toString());
 
-        personalisation.put(JOINT, subscriptionWithType.getSubscriptionType() == JOINT_PARTY ? JOINT_TEXT_WITH_A_SPACE : EMPTY);
-        personalisation.put(JOINT_WELSH, subscriptionWithType.getSubscriptionType() == JOINT_PARTY ? JOINT_TEXT_WITH_A_SPACE_WELSH : EMPTY);
-
         if (isYes(ccdResponse.getJointParty().getHasJointParty())) {
             personalisation.put(JOINT_PARTY_APPEAL, "Yes");
             personalisation.put(JOINT_PARTY_NAME, ccdResponse.getJointParty().getName().getFullNameNoTitle());
@@ -455,25 +459,13 @@ public class Personalisation<E extends NotificationWrapper> {
         personalisation.put(ACCEPT_VIEW_BY_DATE_LITERAL, notificationDateConverterUtil.toEmailDate(today.plusDays(7)));
         personalisation.put(QUESTION_ROUND_EXPIRES_DATE_LITERAL, notificationDateConverterUtil.toEmailDate(today.plusDays(1)));
 
-        final String tya = tya(subscription);
-        personalisation.put(ONLINE_HEARING_REGISTER_LINK_LITERAL, config.getOnlineHearingLink() + "/register?tya=" + tya);
         personalisation.put(ONLINE_HEARING_SIGN_IN_LINK_LITERAL, config.getOnlineHearingLink() + "/sign-in");
 
-        personalisation.put(APPOINTEE_DESCRIPTION, getAppointeeDescription(subscriptionWithType.getSubscriptionType(), ccdResponse));
         personalisation.put(APPOINTEE_NAME, getName(APPOINTEE, ccdResponse, responseWrapper));
 
         personalisation.put(HEARING_TYPE, responseWrapper.getNewSscsCaseData().getAppeal().getHearingType());
         personalisation.put(HMC_HEARING_TYPE_LITERAL, getHearingType(ccdResponse).getHmcReference());
 
-        if (subscriptionWithType.getSubscriptionType() == REPRESENTATIVE) {
-            personalisation.put(PersonalisationMappingConstants.REPRESENTATIVE, "Yes");
-        }
-
-        if (subscriptionWithType.getSubscriptionType() == JOINT_PARTY) {
-            personalisation.put(PersonalisationMappingConstants.JOINT_PARTY, "Yes");
-        }
-
-        setConfidentialFields(ccdResponse, subscriptionWithType, personalisation, responseWrapper.getState());
         if (cmOtherPartyConfidentialityEnabled
             && (isBenefitTypeChildSupportOrUc(ccdResponse))
             && OTHER_PARTY_ADDED_TO_APPEAL.equals(responseWrapper.getNotificationEventType())) {
@@ -481,12 +473,6 @@ public class Personalisation<E extends NotificationWrapper> {
         }
 
         setHelplineTelephone(ccdResponse, personalisation);
-        if (subscriptionWithType.getSubscriptionType() == OTHER_PARTY) {
-            personalisation.put(PersonalisationMappingConstants.OTHER_PARTY, personalisation.get(PersonalisationMappingConstants.NAME));
-        }
-
-        personalisation.put(PARTY_TYPE, subscriptionWithType.getParty().getClass().getSimpleName());
-        personalisation.put(ENTITY_TYPE, subscriptionWithType.getEntity().getClass().getSimpleName());
 
         if (isPostHearingsEnabled) {
             LocalDate finalDecisionDate = ccdResponse.getSscsFinalDecisionCaseData().getFinalDecisionIssuedDate();
@@ -517,7 +503,49 @@ public class Personalisation<E extends NotificationWrapper> {
         personalisation.put(IS_GRANTED, isGranted);
         personalisation.put(SENDER_NAME, LetterUtils.getNameForSender(ccdResponse));
 
-        return personalisation;
+        return new CaseWidePersonalisation(benefit, Collections.unmodifiableMap(personalisation));
+    }
+
+    /**
+     * Values that differ between the subscriptions being notified: who the notification is addressed to and the
+     * links carrying their tracking id.
+     */
+    private void addSubscriptionPersonalisation(Map<String, Object> personalisation,
+                                                NotificationSscsCaseDataWrapper responseWrapper,
+                                                SubscriptionWithType subscriptionWithType,
+                                                Benefit benefit) {
+        SscsCaseData ccdResponse = responseWrapper.getNewSscsCaseData();
+
+        personalisation.put(PersonalisationMappingConstants.NAME, getName(subscriptionWithType, ccdResponse, responseWrapper));
+        personalisation.put(REPRESENTEE_NAME, subscriptionWithType.getParty().getName().getFullNameNoTitle());
+
+        Subscription subscription = subscriptionWithType.getSubscription();
+        subscriptionDetails(personalisation, subscription, benefit, ccdResponse);
+
+        personalisation.put(JOINT, subscriptionWithType.getSubscriptionType() == JOINT_PARTY ? JOINT_TEXT_WITH_A_SPACE : EMPTY);
+        personalisation.put(JOINT_WELSH, subscriptionWithType.getSubscriptionType() == JOINT_PARTY ? JOINT_TEXT_WITH_A_SPACE_WELSH : EMPTY);
+
+        final String tya = tya(subscription);
+        personalisation.put(ONLINE_HEARING_REGISTER_LINK_LITERAL, config.getOnlineHearingLink() + "/register?tya=" + tya);
+
+        personalisation.put(APPOINTEE_DESCRIPTION, getAppointeeDescription(subscriptionWithType.getSubscriptionType(), ccdResponse));
+
+        if (subscriptionWithType.getSubscriptionType() == REPRESENTATIVE) {
+            personalisation.put(PersonalisationMappingConstants.REPRESENTATIVE, "Yes");
+        }
+
+        if (subscriptionWithType.getSubscriptionType() == JOINT_PARTY) {
+            personalisation.put(PersonalisationMappingConstants.JOINT_PARTY, "Yes");
+        }
+
+        setConfidentialFields(ccdResponse, subscriptionWithType, personalisation, responseWrapper.getState());
+
+        if (subscriptionWithType.getSubscriptionType() == OTHER_PARTY) {
+            personalisation.put(PersonalisationMappingConstants.OTHER_PARTY, personalisation.get(PersonalisationMappingConstants.NAME));
+        }
+
+        personalisation.put(PARTY_TYPE, subscriptionWithType.getParty().getClass().getSimpleName());
+        personalisation.put(ENTITY_TYPE, subscriptionWithType.getEntity().getClass().getSimpleName());
     }
 
     private void setDecisionDate(Map<String, Object> personalisation, SscsCaseData ccdResponse) {
@@ -955,8 +983,8 @@ public class Personalisation<E extends NotificationWrapper> {
         }
 
         if (EVENTS_WITH_SUBSCRIPTION_TYPE_DOCMOSIS_TEMPLATES.contains(notificationEventType)) {
-            if (OVERRIDE_ID.containsKey(notificationEventType)) {
-                return getSubscriptionTemplateName(OVERRIDE_ID.get(notificationEventType), subscriptionType);
+            if (DOCMOSIS_TEMPLATE_NAME_OVERRIDES.containsKey(notificationEventType)) {
+                return getSubscriptionTemplateName(DOCMOSIS_TEMPLATE_NAME_OVERRIDES.get(notificationEventType), subscriptionType);
             }
             return getSubscriptionTemplateName(notificationEventType, subscriptionType);
         }
@@ -1037,4 +1065,35 @@ public class Personalisation<E extends NotificationWrapper> {
             directionType,
             subscriptionType.name().toLowerCase());
     }
+
+    private record CaseWidePersonalisation(Benefit benefit, Map<String, Object> values) {
+    }
+
+    /**
+     * Identifies the case-wide values built for a wrapper. The event is part of the key because a wrapper can be
+     * re-used for a follow-on event, and the case data is compared by identity so replacing it forces a rebuild.
+     */
+    private record CaseWideKey(Class<?> personalisation, NotificationEventType event,
+                               SscsCaseData newCaseData, SscsCaseData oldCaseData) {
+
+        CaseWideKey(Class<?> personalisation, NotificationSscsCaseDataWrapper wrapper) {
+            this(personalisation, wrapper.getNotificationEventType(), wrapper.getNewSscsCaseData(),
+                wrapper.getOldSscsCaseData());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CaseWideKey key
+                && personalisation == key.personalisation
+                && event == key.event
+                && newCaseData == key.newCaseData
+                && oldCaseData == key.oldCaseData;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personalisation, event, System.identityHashCode(newCaseData),
+                System.identityHashCode(oldCaseData));
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,7 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEvent
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationClientRuntimeException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch.NotifyCircuitBreaker;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.reminder.JobGroupGenerator;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -18,15 +21,27 @@ import uk.gov.service.notify.NotificationClientException;
 @Slf4j
 public class NotificationHandler {
 
-    private final OutOfHoursCalculator outOfHoursCalculator;
+    private final ReleaseWindow releaseWindow;
     private final JobScheduler jobScheduler;
     private final JobGroupGenerator jobGroupGenerator;
+    private final NotifyCircuitBreaker notifyCircuitBreaker;
 
-    @Autowired
     public NotificationHandler(OutOfHoursCalculator outOfHoursCalculator, JobScheduler jobScheduler, JobGroupGenerator jobGroupGenerator) {
-        this.outOfHoursCalculator = outOfHoursCalculator;
+        this(outOfHoursCalculator, jobScheduler, jobGroupGenerator, NotifyCircuitBreaker.disabled());
+    }
+
+    public NotificationHandler(OutOfHoursCalculator outOfHoursCalculator, JobScheduler jobScheduler, JobGroupGenerator jobGroupGenerator,
+                               NotifyCircuitBreaker notifyCircuitBreaker) {
+        this(ReleaseWindow.immediate(outOfHoursCalculator), jobScheduler, jobGroupGenerator, notifyCircuitBreaker);
+    }
+
+    @Autowired
+    public NotificationHandler(ReleaseWindow releaseWindow, JobScheduler jobScheduler, JobGroupGenerator jobGroupGenerator,
+                               NotifyCircuitBreaker notifyCircuitBreaker) {
+        this.releaseWindow = releaseWindow;
         this.jobScheduler = jobScheduler;
         this.jobGroupGenerator = jobGroupGenerator;
+        this.notifyCircuitBreaker = notifyCircuitBreaker;
     }
 
     public boolean sendNotification(NotificationWrapper wrapper, String notificationTemplate, final String notificationType, SendNotification sendNotification) {
@@ -44,8 +59,25 @@ public class NotificationHandler {
         return false;
     }
 
+    /**
+     * Schedules the notification for when GOV.UK Notify is expected to be back if its circuit breaker is open, so
+     * the event is sent later as a whole rather than failing channel by channel.
+     *
+     * @return true if the notification was deferred and must not be sent now
+     */
+    public boolean deferIfNotifyUnavailable(NotificationWrapper wrapper) {
+        Optional<Duration> retryAfter = notifyCircuitBreaker.retryAfter();
+        if (retryAfter.isEmpty()) {
+            return false;
+        }
+        log.warn("GOV.UK Notify is unavailable, deferring {} for case id: {} by {}s",
+            wrapper.getNotificationType().getId(), wrapper.getCaseId(), retryAfter.get().toSeconds());
+        scheduleNotification(wrapper, ZonedDateTime.now().plus(retryAfter.get()));
+        return true;
+    }
+
     public void scheduleNotification(NotificationWrapper wrapper) {
-        scheduleNotification(wrapper, outOfHoursCalculator.getStartOfNextInHoursPeriod());
+        scheduleNotification(wrapper, releaseWindow.getReleaseTime(wrapper.getCaseId(), wrapper.getNotificationType()));
     }
 
     public void scheduleNotification(NotificationWrapper wrapper, int retry, ZonedDateTime dateTime) {
@@ -57,7 +89,7 @@ public class NotificationHandler {
         jobScheduler.schedule(new Job<>(
             jobGroup,
             eventId,
-            wrapper.getSchedulerPayload() + "," + retry,
+            schedulerPayload(wrapper, retry),
             dateTime
         ));
     }
@@ -71,11 +103,24 @@ public class NotificationHandler {
         jobScheduler.schedule(new Job<>(
             jobGroup,
             eventId,
-            wrapper.getSchedulerPayload(),
+            schedulerPayload(wrapper, 0),
             dateTime
         ));
     }
 
+    /**
+     * The case id and retry count, followed by the event timestamp when known so that the scheduled send is keyed in
+     * the delivery ledger by the occurrence of the event that caused it. A payload without a timestamp stays as the
+     * bare case id, which executors read as retry 0.
+     */
+    private static String schedulerPayload(NotificationWrapper wrapper, int retry) {
+        String eventTimestamp = wrapper.getSscsCaseDataWrapper().getEventTimestamp();
+        if (eventTimestamp == null) {
+            return retry == 0 ? wrapper.getSchedulerPayload() : wrapper.getSchedulerPayload() + "," + retry;
+        }
+        return wrapper.getSchedulerPayload() + "," + retry + "," + eventTimestamp;
+    }
+
     private void wrapAndThrowNotificationExceptionIfRequired(NotificationWrapper wrapper, String templateId, Exception ex) {
         String caseId = wrapper.getCaseId();
         NotificationEventType notificationType = wrapper.getNotificationType();
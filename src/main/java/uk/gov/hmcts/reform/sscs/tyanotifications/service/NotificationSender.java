@@ -17,8 +17,6 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Address;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
@@ -32,6 +30,7 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationTestRecipien
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch.NotifyClientFacade;
 import uk.gov.service.notify.*;
 
 @Component
@@ -39,6 +38,10 @@ import uk.gov.service.notify.*;
 public class NotificationSender {
 
     private static final String USING_TEST_GOV_NOTIFY_KEY_FOR = "Using test GovNotify key {} for {}";
+    static final String TEMPLATE_TYPE_EMAIL = "email";
+    static final String TEMPLATE_TYPE_SMS = "sms";
+    static final String TEMPLATE_TYPE_LETTER = "letter";
+    static final String TEMPLATE_TYPE_PRECOMPILED_LETTER = "precompiledLetter";
     static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("d MMM y HH:mm");
     static final ZoneId ZONE_ID_LONDON = ZoneId.of("Europe/London");
 
@@ -49,6 +52,20 @@ public class NotificationSender {
     private final SaveCorrespondenceAsyncService saveCorrespondenceAsyncService;
     private final BulkPrintService bulkPrintService;
     private final Boolean saveCorrespondence;
+    private final NotifyClientFacade notifyClientFacade;
+
+    public NotificationSender(NotificationClient notificationClient,
+                              NotificationClient testNotificationClient,
+                              BulkPrintService bulkPrintService,
+                              NotificationTestRecipients notificationTestRecipients,
+                              MarkdownTransformationService markdownTransformationService,
+                              SaveCorrespondenceAsyncService saveCorrespondenceAsyncService,
+                              Boolean saveCorrespondence
+    ) {
+        this(notificationClient, testNotificationClient, bulkPrintService, notificationTestRecipients,
+            markdownTransformationService, saveCorrespondenceAsyncService, saveCorrespondence,
+            NotifyClientFacade.direct());
+    }
 
     @Autowired
     public NotificationSender(@Qualifier("notificationClient") NotificationClient notificationClient,
@@ -57,7 +74,8 @@ public class NotificationSender {
                               NotificationTestRecipients notificationTestRecipients,
                               MarkdownTransformationService markdownTransformationService,
                               SaveCorrespondenceAsyncService saveCorrespondenceAsyncService,
-                              @Value("${feature.save_correspondence}") Boolean saveCorrespondence
+                              @Value("${feature.save_correspondence}") Boolean saveCorrespondence,
+                              NotifyClientFacade notifyClientFacade
     ) {
         this.notificationClient = notificationClient;
         this.testNotificationClient = testNotificationClient;
@@ -66,6 +84,7 @@ public class NotificationSender {
         this.bulkPrintService = bulkPrintService;
         this.saveCorrespondence = saveCorrespondence;
         this.saveCorrespondenceAsyncService = saveCorrespondenceAsyncService;
+        this.notifyClientFacade = notifyClientFacade;
     }
 
     public void sendEmail(String templateId, String emailAddress, Map<String, Object> personalisation, String reference,
@@ -96,13 +115,13 @@ public class NotificationSender {
             (sendEmailResponse != null) ? sendEmailResponse.getNotificationId() : null);
     }
 
-    @Retryable
     private SendEmailResponse getSendEmailResponse(String templateId, String emailAddress,
                                                    Map<String, Object> personalisation, String reference,
                                                    NotificationClient client) throws NotificationClientException {
         final SendEmailResponse sendEmailResponse;
         try {
-            sendEmailResponse = client.sendEmail(templateId, emailAddress, personalisation, reference);
+            sendEmailResponse = notifyClientFacade.send(TEMPLATE_TYPE_EMAIL,
+                () -> client.sendEmail(templateId, emailAddress, personalisation, reference));
         } catch (NotificationClientException e) {
             throw e;
         } catch (Exception e) {
@@ -144,19 +163,18 @@ public class NotificationSender {
             (sendSmsResponse != null) ? sendSmsResponse.getNotificationId() : null);
     }
 
-    @Retryable
     private SendSmsResponse getSendSmsResponse(String templateId, String phoneNumber,
                                                Map<String, Object> personalisation, String reference, String smsSender,
                                                NotificationClient client) throws NotificationClientException {
         final SendSmsResponse sendSmsResponse;
         try {
-            sendSmsResponse = client.sendSms(
+            sendSmsResponse = notifyClientFacade.send(TEMPLATE_TYPE_SMS, () -> client.sendSms(
                 templateId,
                 phoneNumber,
                 personalisation,
                 reference,
                 smsSender
-            );
+            ));
         } catch (NotificationClientException e) {
             throw e;
         } catch (Exception e) {
@@ -184,13 +202,13 @@ public class NotificationSender {
                 ccdCaseId, (sendLetterResponse != null) ? sendLetterResponse.getNotificationId() : null);
     }
 
-    @Retryable
     private SendLetterResponse sendLetterViaGovNotify(String templateId, Map<String, Object> personalisation,
                                                       String ccdCaseId, NotificationClient client)
             throws NotificationClientException {
         final SendLetterResponse sendLetterResponse;
         try {
-            sendLetterResponse = client.sendLetter(templateId, personalisation, ccdCaseId);
+            sendLetterResponse = notifyClientFacade.send(TEMPLATE_TYPE_LETTER,
+                () -> client.sendLetter(templateId, personalisation, ccdCaseId));
         } catch (NotificationClientException e) {
             throw e;
         } catch (Exception e) {
@@ -243,12 +261,15 @@ public class NotificationSender {
         }
     }
 
-    @Retryable
     private LetterResponse sendBundledLetter(String ccdCaseId, NotificationClient client, ByteArrayInputStream bis)
             throws NotificationClientException {
         final LetterResponse sendLetterResponse;
         try {
-            sendLetterResponse = client.sendPrecompiledLetterWithInputStream(ccdCaseId, bis);
+            sendLetterResponse = notifyClientFacade.send(TEMPLATE_TYPE_PRECOMPILED_LETTER, () -> {
+                // a retry has to send the letter from the start again
+                bis.reset();
+                return client.sendPrecompiledLetterWithInputStream(ccdCaseId, bis);
+            });
         } catch (NotificationClientException e) {
             throw e;
         } catch (Exception e) {
@@ -322,9 +343,4 @@ public class NotificationSender {
         }
         return client;
     }
-
-    @Recover
-    public void getBackendResponseFallback(Throwable e) {
-        log.error("Failed sending.....", e);
-    }
 }
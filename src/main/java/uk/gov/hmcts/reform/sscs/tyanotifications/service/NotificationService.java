@@ -18,9 +18,11 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationVali
 import static uk.gov.hmcts.reform.sscs.util.SscsUtil.isBenefitTypeChildSupportOrUc;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -31,8 +33,10 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.*;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationConfig;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.SubscriptionWithType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.*;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationFactory;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor.RenderedLetter;
 import uk.gov.hmcts.reform.sscs.util.predicates.AdditionalOtherPartyAddedPredicate;
 import uk.gov.hmcts.reform.sscs.util.predicates.FirstOtherPartyAddedPredicate;
 import uk.gov.hmcts.reform.sscs.utility.PhoneNumbersUtil;
@@ -100,6 +104,8 @@ public class NotificationService {
                 && !functionalTest(notificationWrapper.getNewSscsCaseData())) {
                 log.info("Notification event {} is delayed and scheduled for case id {}", notificationType.getId(), caseId);
                 notificationHandler.scheduleNotification(notificationWrapper, ZonedDateTime.now().plusSeconds(notificationType.getDelayInSeconds()));
+            } else if (notificationHandler.deferIfNotifyUnavailable(notificationWrapper)) {
+                log.info("Notification event {} is deferred until GOV.UK Notify is available for case id {}", notificationType.getId(), caseId);
             } else {
                 log.info("Sending notification for Notification event {} and case id {}", notificationType.getId(), caseId);
                 sendNotificationPerSubscription(notificationWrapper);
@@ -174,23 +180,80 @@ public class NotificationService {
             notificationWrapper.getCaseId(),
             subscriptionTypes);
 
+        List<SubscriptionWithType> subscriptions = new ArrayList<>();
         for (SubscriptionWithType subscriptionWithType : notificationWrapper.getSubscriptionsBasedOnNotificationType()) {
             if (isSubscriptionValidToSendAfterOverride(notificationWrapper, subscriptionWithType)
                 && isValidNotification(notificationWrapper, subscriptionWithType)) {
-                sendNotification(notificationWrapper, subscriptionWithType);
+                subscriptions.add(subscriptionWithType);
+            } else {
+                log.error("Is not a valid notification event {} for case id {}, not sending notification.",
+                    notificationWrapper.getNotificationType().getId(), notificationWrapper.getCaseId());
+            }
+        }
+
+        List<Notification> notifications = new ArrayList<>(subscriptions.size());
+        List<RuntimeException> creationFailures = new ArrayList<>(subscriptions.size());
+        for (SubscriptionWithType subscriptionWithType : subscriptions) {
+            try {
+                notifications.add(notificationFactory.create(notificationWrapper, subscriptionWithType));
+                creationFailures.add(null);
+            } catch (RuntimeException e) {
+                // raised once every other party has been sent to, so one bad party holds back no one else
+                notifications.add(null);
+                creationFailures.add(e);
+            }
+        }
+        List<RenderedLetter> letters = sendNotificationService.renderLetters(notificationWrapper, subscriptions, notifications);
+
+        List<RuntimeException> failures = new ArrayList<>();
+        try {
+            for (int i = 0; i < subscriptions.size(); i++) {
+                if (creationFailures.get(i) != null) {
+                    failures.add(creationFailures.get(i));
+                    continue;
+                }
+                SubscriptionWithType subscriptionWithType = subscriptions.get(i);
+                try {
+                    sendNotification(notificationWrapper, subscriptionWithType, notifications.get(i), letters.get(i));
+                } catch (RuntimeException e) {
+                    log.error("Failed to send notification {} to {} for case id {}, carrying on with the other parties",
+                        notificationWrapper.getNotificationType().getId(), subscriptionWithType.getSubscriptionType(),
+                        notificationWrapper.getCaseId(), e);
+                    failures.add(e);
+                    continue;
+                }
 
                 if (subscriptionWithType.getSubscription() != null
                     && NotificationEventType.SUBSCRIPTION_UPDATED.equals(notificationWrapper.getSscsCaseDataWrapper().getNotificationEventType())) {
                     scrubEmailAndSmsIfSubscribedBefore(notificationWrapper, subscriptionWithType);
                 }
-
-            } else {
-                log.error("Is not a valid notification event {} for case id {}, not sending notification.",
-                    notificationWrapper.getNotificationType().getId(), notificationWrapper.getCaseId());
             }
+        } finally {
+            // stop rendering any letter that was not picked up, such as one whose party failed before sending it
+            letters.stream().filter(Objects::nonNull).forEach(RenderedLetter::cancel);
+        }
+        if (!failures.isEmpty()) {
+            throw combinedFailure(notificationWrapper.getCaseId(), failures);
         }
     }
 
+    /**
+     * One exception for every party that failed, so a retry is scheduled once for the event and the delivery ledger
+     * skips the parties that were sent to. A failure from Notify leads, as its status decides whether to retry; the
+     * rest are attached as suppressed.
+     */
+    private static NotificationServiceException combinedFailure(String caseId, List<RuntimeException> failures) {
+        RuntimeException lead = failures.stream()
+            .filter(NotificationServiceException.class::isInstance)
+            .findFirst()
+            .orElse(failures.get(0));
+        NotificationServiceException combined = lead instanceof NotificationServiceException notifyFailure
+            ? notifyFailure
+            : new NotificationServiceException(caseId, lead);
+        failures.stream().filter(failure -> failure != lead).forEach(combined::addSuppressed);
+        return combined;
+    }
+
     private void overrideNotificationType(NotificationWrapper wrapper) {
 
         if (REISSUE_DOCUMENT.equals(wrapper.getNotificationType()) && null != wrapper.getNewSscsCaseData().getReissueArtifactUi().getReissueFurtherEvidenceDocument()) {
@@ -265,9 +328,10 @@ public class NotificationService {
             || ((oldSubscription == null || !oldSubscription.isSmsSubscribed()) && newSubscription.isSmsSubscribed()));
     }
 
-    private void sendNotification(NotificationWrapper notificationWrapper, SubscriptionWithType subscriptionWithType) {
-        Notification notification = notificationFactory.create(notificationWrapper, subscriptionWithType);
-        sendNotificationService.sendEmailSmsLetterNotification(notificationWrapper, notification, subscriptionWithType, notificationWrapper.getNotificationType());
+    private void sendNotification(NotificationWrapper notificationWrapper, SubscriptionWithType subscriptionWithType,
+                                  Notification notification, RenderedLetter renderedLetter) {
+        sendNotificationService.sendEmailSmsLetterNotification(notificationWrapper, notification, subscriptionWithType,
+            notificationWrapper.getNotificationType(), renderedLetter);
         processOldSubscriptionNotifications(notificationWrapper, notification, subscriptionWithType, notificationWrapper.getNotificationType());
     }
 
@@ -1,10 +1,7 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.Random;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -16,12 +13,11 @@ public class OutOfHoursCalculator {
     private final DateTimeProvider dateTimeProvider;
     private final int startTime;
     private final int endTime;
-    private Random rand = SecureRandom.getInstanceStrong();
 
     public OutOfHoursCalculator(
         @Autowired DateTimeProvider dateTimeProvider,
         @Value("${outOfHours.startHour}") int startHour,
-        @Value("${outOfHours.endHour}") int endHour) throws NoSuchAlgorithmException {
+        @Value("${outOfHours.endHour}") int endHour) {
         this.dateTimeProvider = dateTimeProvider;
         this.startTime = startHour;
         this.endTime = endHour;
@@ -34,15 +30,16 @@ public class OutOfHoursCalculator {
         return currentHour < startTime || currentHour >= endTime;
     }
 
+    /**
+     * The instant the next in-hours period starts. Notifications held until then are spread out from this instant by
+     * {@link ReleaseWindow} rather than all being released at once.
+     */
     public ZonedDateTime getStartOfNextInHoursPeriod() {
         ZonedDateTime now = dateTimeProvider.now();
         ZonedDateTime nowInUk = now.withZoneSameInstant(UK_TIME_ZONE);
 
         ZonedDateTime startDay = (nowInUk.getHour() >= startTime) ? nowInUk.plusDays(1) : nowInUk;
 
-        // SSCS-7472 Hack to stop all notifications getting scheduled as soon as 'out of hours' finishes, causing the reminder database to bombard our service and resulting in notifications going missing
-        int randomMinute = rand.nextInt(59);
-
-        return startDay.withHour(startTime).withMinute(randomMinute).withSecond(0).withNano(0).withZoneSameInstant(now.getZone());
+        return startDay.withHour(startTime).withMinute(0).withSecond(0).withNano(0).withZoneSameInstant(now.getZone());
     }
 }
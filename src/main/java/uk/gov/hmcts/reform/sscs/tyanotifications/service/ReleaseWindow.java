@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
+
+/**
+ * Spreads the notifications held back out of hours over a ramp after the start of the next in-hours period, so they
+ * do not all fire at once and flood CCD, IDAM and Notify. Priority events are released over the first priorityMinutes
+ * of the ramp and everything else over the rest of it. Within its band a notification's offset is derived from its
+ * case id and event, so rescheduling the same notification gives the same time.
+ */
+@Slf4j
+@Component
+public class ReleaseWindow {
+
+    private final OutOfHoursCalculator outOfHoursCalculator;
+    private final long rampSeconds;
+    private final long prioritySeconds;
+    private final Set<NotificationEventType> priorityEvents;
+
+    @Autowired
+    public ReleaseWindow(OutOfHoursCalculator outOfHoursCalculator,
+                         @Value("${outOfHours.release.rampMinutes:60}") int rampMinutes,
+                         @Value("${outOfHours.release.priorityMinutes:15}") int priorityMinutes,
+                         @Value("${outOfHours.release.priorityEvents:}") String[] priorityEvents) {
+        this.outOfHoursCalculator = outOfHoursCalculator;
+        this.rampSeconds = Math.max(0, rampMinutes) * 60L;
+        this.prioritySeconds = Math.min(Math.max(0, priorityMinutes) * 60L, rampSeconds);
+        this.priorityEvents = EnumSet.noneOf(NotificationEventType.class);
+        Arrays.stream(priorityEvents)
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .map(NotificationEventType::valueOf)
+            .forEach(this.priorityEvents::add);
+    }
+
+    /**
+     * A window that releases everything at the start of the next in-hours period, for callers built outside the
+     * Spring context.
+     */
+    public static ReleaseWindow immediate(OutOfHoursCalculator outOfHoursCalculator) {
+        return new ReleaseWindow(outOfHoursCalculator, 0, 0, new String[0]);
+    }
+
+    public ZonedDateTime getReleaseTime(String caseId, NotificationEventType notificationType) {
+        ZonedDateTime start = outOfHoursCalculator.getStartOfNextInHoursPeriod();
+        if (rampSeconds == 0) {
+            return start;
+        }
+        boolean priority = priorityEvents.contains(notificationType);
+        long bandStart = priority || prioritySeconds == rampSeconds ? 0 : prioritySeconds;
+        long bandEnd = priority && prioritySeconds > 0 ? prioritySeconds : rampSeconds;
+        long offset = bandStart + Math.floorMod(jitter(caseId, notificationType), bandEnd - bandStart);
+        log.debug("Releasing {} for case id: {} {}s after the start of the in-hours period",
+            notificationType, caseId, offset);
+        return start.plusSeconds(offset);
+    }
+
+    private static long jitter(String caseId, NotificationEventType notificationType) {
+        String key = caseId + ":" + notificationType.name();
+        return UUID.nameUUIDFromBytes(key.getBytes(UTF_8)).getMostSignificantBits();
+    }
+}
@@ -5,7 +5,6 @@ import static uk.gov.hmcts.reform.sscs.model.LetterType.findLetterTypeFromSubscr
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
@@ -14,61 +13,40 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.service.CcdCorrespondenceBatcher;
 import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
-import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf.LetterPdfPoller;
 import uk.gov.service.notify.NotificationClient;
-import uk.gov.service.notify.NotificationClientException;
 
 @Slf4j
 @Component
 public class SaveCorrespondenceAsyncService {
     private final CcdNotificationsPdfService ccdNotificationsPdfService;
+    private final CcdCorrespondenceBatcher ccdCorrespondenceBatcher;
+    private final LetterPdfPoller letterPdfPoller;
 
     @Autowired
-    public SaveCorrespondenceAsyncService(CcdNotificationsPdfService ccdNotificationsPdfService) {
+    public SaveCorrespondenceAsyncService(CcdNotificationsPdfService ccdNotificationsPdfService,
+                                          CcdCorrespondenceBatcher ccdCorrespondenceBatcher,
+                                          LetterPdfPoller letterPdfPoller) {
         this.ccdNotificationsPdfService = ccdNotificationsPdfService;
+        this.ccdCorrespondenceBatcher = ccdCorrespondenceBatcher;
+        this.letterPdfPoller = letterPdfPoller;
     }
 
-    @Autowired
-    private LetterAsyncConfigProperties letterAsyncConfigProperties;
-
-    @Async
-    @Retryable(maxAttemptsExpression = "#{@letterAsyncConfigProperties.maxAttempts}", backoff = @Backoff(delayExpression = "#{@letterAsyncConfigProperties.delay}", multiplierExpression = "#{@letterAsyncConfigProperties.multiplier}", random = true, maxDelayExpression = "#{@letterAsyncConfigProperties.maxDelay}"))
+    /**
+     * Notify renders a letter some time after it is sent, so the letter is queued for {@link LetterPdfPoller} to
+     * fetch and save to the case rather than waiting for it here.
+     */
     public void saveLetter(NotificationClient client, String notificationId, Correspondence correspondence,
-                           String ccdCaseId) throws NotificationClientException {
-
-        RetryContext context = RetrySynchronizationManager.getContext();
-        if (context != null && context.getRetryCount() == 0) {
-            log.debug("delaying by {} milliseconds before making first attempt to get letter pdf for case id : {}",
-                    letterAsyncConfigProperties.getInitialDelay(), ccdCaseId);
-            try {
-                // Using  Thread.sleep here as it's already running in async and not blocking end user requests. Using CompletableFuture is too complex for this.
-                Thread.sleep(letterAsyncConfigProperties.getInitialDelay());
-            } catch (InterruptedException e) {
-                log.warn("Thread was interrupted while applying a sleep to get letter pdf for case ({}) ", ccdCaseId);
-                Thread.currentThread().interrupt();
-            }
-        }
-        try {
-            final byte[] pdfForLetter = client.getPdfForLetter(notificationId);
-            log.info("Using merge letter correspondence V2 to upload letter correspondence for {} ", ccdCaseId);
-            ccdNotificationsPdfService
-                    .mergeLetterCorrespondenceIntoCcdV2(pdfForLetter, valueOf(ccdCaseId), correspondence);
-        } catch (NotificationClientException e) {
-            if (e.getMessage().contains("PDFNotReadyError")) {
-                log.info("Got a PDFNotReadyError back from gov.notify for case id: {}.", ccdCaseId);
-            } else {
-                log.warn("Got a strange error '{}' back from gov.notify for case id: {}.", e.getMessage(), ccdCaseId);
-            }
-            throw e;
-        }
+                           String ccdCaseId) {
+        letterPdfPoller.schedule(client, notificationId, correspondence, ccdCaseId);
     }
 
     public void saveLetter(byte[] pdfForLetter, Correspondence correspondence, String ccdCaseId) {
         log.info("Using mergeLetterCorrespondenceV2 to upload BulkPrint sent letter correspondence for {} ", ccdCaseId);
-        ccdNotificationsPdfService
-                .mergeLetterCorrespondenceIntoCcdV2(pdfForLetter, valueOf(ccdCaseId), correspondence, "Bulk Print");
+        ccdCorrespondenceBatcher.addLetterCorrespondence(pdfForLetter, valueOf(ccdCaseId), correspondence, "Bulk Print");
     }
 
     @Async
@@ -87,7 +65,7 @@ public class SaveCorrespondenceAsyncService {
         log.info("Retry number {} : to upload correspondence for {}, case reference {}",
             retry, correspondence.getValue().getCorrespondenceType().name(), sscsCaseData.getCcdCaseId());
 
-        ccdNotificationsPdfService.mergeCorrespondenceIntoCcdV2(valueOf(sscsCaseData.getCcdCaseId()), correspondence);
+        ccdCorrespondenceBatcher.addCorrespondence(valueOf(sscsCaseData.getCcdCaseId()), correspondence);
     }
 
     @Recover
@@ -57,7 +57,9 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationVali
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -71,7 +73,6 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.AbstractDocument;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Address;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.State;
-import uk.gov.hmcts.reform.sscs.ccd.domain.Subscription;
 import uk.gov.hmcts.reform.sscs.ccd.domain.YesNo;
 import uk.gov.hmcts.reform.sscs.service.PdfStoreService;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants;
@@ -82,7 +83,11 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notification;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor.RenderedLetter;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.PdfLetterService;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger.DeliveryKey;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger.NotificationDeliveryLedger;
 import uk.gov.service.notify.NotificationClientException;
 
 @Service
@@ -98,25 +103,81 @@ public class SendNotificationService {
     private final NotificationValidService notificationValidService;
     private final PdfLetterService pdfLetterService;
     private final PdfStoreService pdfStoreService;
+    private final NotificationDeliveryLedger deliveryLedger;
+    private final LetterRenderingExecutor letterRenderingExecutor;
 
-    @Autowired
     public SendNotificationService(NotificationSender notificationSender, NotificationHandler notificationHandler,
                                    NotificationValidService notificationValidService, PdfLetterService pdfLetterService,
                                    PdfStoreService pdfStoreService) {
+        this(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService,
+            NotificationDeliveryLedger.disabled());
+    }
+
+    public SendNotificationService(NotificationSender notificationSender, NotificationHandler notificationHandler,
+                                   NotificationValidService notificationValidService, PdfLetterService pdfLetterService,
+                                   PdfStoreService pdfStoreService, NotificationDeliveryLedger deliveryLedger) {
+        this(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService,
+            deliveryLedger, LetterRenderingExecutor.direct());
+    }
+
+    @Autowired
+    public SendNotificationService(NotificationSender notificationSender, NotificationHandler notificationHandler,
+                                   NotificationValidService notificationValidService, PdfLetterService pdfLetterService,
+                                   PdfStoreService pdfStoreService, NotificationDeliveryLedger deliveryLedger,
+                                   LetterRenderingExecutor letterRenderingExecutor) {
         this.notificationSender = notificationSender;
         this.notificationHandler = notificationHandler;
         this.notificationValidService = notificationValidService;
         this.pdfLetterService = pdfLetterService;
         this.pdfStoreService = pdfStoreService;
+        this.deliveryLedger = deliveryLedger;
+        this.letterRenderingExecutor = letterRenderingExecutor;
+    }
+
+    /**
+     * Starts rendering the Docmosis letter of every party that will be sent one, so the letters render at the same
+     * time rather than one after another as each party is sent to. The result has an entry for each subscription, in
+     * the same order, which is null for a party that will not be sent a Docmosis letter or has no notification.
+     */
+    List<RenderedLetter> renderLetters(NotificationWrapper wrapper, List<SubscriptionWithType> subscriptions,
+                                       List<Notification> notifications) {
+        List<RenderedLetter> letters = new ArrayList<>(subscriptions.size());
+        for (int i = 0; i < subscriptions.size(); i++) {
+            SubscriptionWithType subscriptionWithType = subscriptions.get(i);
+            Notification notification = notifications.get(i);
+            letters.add(letterRenderingExecutor.isParallel() && notification != null
+                && rendersDocmosisLetter(wrapper, notification, subscriptionWithType, wrapper.getNotificationType())
+                ? letterRenderingExecutor.render(() -> renderDocmosisLetter(wrapper, notification, subscriptionWithType))
+                : null);
+        }
+        return letters;
+    }
+
+    /**
+     * Whether sendEmailSmsLetterNotification will render a Docmosis letter for the party, made from the same
+     * decisions it takes on the way: the letter is allowed, routed to Docmosis and not already sent.
+     */
+    private boolean rendersDocmosisLetter(NotificationWrapper wrapper, Notification notification,
+                                          SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
+        return isLetterAllowed(wrapper, notification, NotificationEventTypeLists.EVENT_TYPES_FOR_INTERLOC_LETTERS.contains(eventType),
+                NotificationEventTypeLists.DOCMOSIS_LETTERS.contains(eventType))
+            && letterRoute(wrapper, notification, getAddressToUseForLetter(wrapper, subscriptionWithType)) == LetterRoute.DOCMOSIS
+            && !isDocmosisLetterSent(wrapper, notification, getNameToUseForLetter(wrapper, subscriptionWithType), subscriptionWithType);
     }
 
     boolean sendEmailSmsLetterNotification(NotificationWrapper wrapper, Notification notification,
                                            SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
+        return sendEmailSmsLetterNotification(wrapper, notification, subscriptionWithType, eventType, null);
+    }
 
-        boolean emailSent = sendEmailNotification(wrapper, subscriptionWithType.getSubscription(), notification);
+    boolean sendEmailSmsLetterNotification(NotificationWrapper wrapper, Notification notification,
+                                           SubscriptionWithType subscriptionWithType, NotificationEventType eventType,
+                                           RenderedLetter renderedLetter) {
+
+        boolean emailSent = sendEmailNotification(wrapper, subscriptionWithType, notification);
         notificationSuccessLog(wrapper, "Email", notification, notification.getEmailTemplate(), emailSent);
 
-        boolean smsSent = sendSmsNotification(wrapper, subscriptionWithType.getSubscription(), notification, eventType);
+        boolean smsSent = sendSmsNotification(wrapper, subscriptionWithType, notification, eventType);
         if (nonNull(notification.getSmsTemplate())) {
             notificationSuccessLog(wrapper, "SMS", notification, String.join(", ", notification.getSmsTemplate()), smsSent);
         }
@@ -126,7 +187,7 @@ public class SendNotificationService {
 
         boolean letterSent = false;
         if (shouldSendLetter(wrapper, notification, isInterlocLetter, isDocmosisLetter)) {
-            letterSent = sendLetterNotification(wrapper, notification, subscriptionWithType, eventType);
+            letterSent = sendLetterNotification(wrapper, notification, subscriptionWithType, eventType, renderedLetter);
             if (isDocmosisLetter) {
                 notificationSuccessLog(wrapper, "Docmosis Letter", notification, notification.getDocmosisLetterTemplate(), letterSent);
             } else {
@@ -169,6 +230,11 @@ public class SendNotificationService {
             isDocmosisLetter, notification.getDocmosisLetterTemplate(),
             isInterlocLetter, notification.getLetterTemplate(),
             createdInGapsFrom);
+        return isLetterAllowed(wrapper, notification, isInterlocLetter, isDocmosisLetter);
+    }
+
+    private boolean isLetterAllowed(NotificationWrapper wrapper, Notification notification, boolean isInterlocLetter, boolean isDocmosisLetter) {
+        String createdInGapsFrom = wrapper.getSscsCaseDataWrapper().getNewSscsCaseData().getCreatedInGapsFrom();
         return allowNonInterlocLetterToBeSent(notification, isInterlocLetter, createdInGapsFrom)
             || allowInterlocLetterToBeSent(notification, isInterlocLetter)
             || allowDocmosisLetterToBeSent(notification, isDocmosisLetter);
@@ -186,17 +252,18 @@ public class SendNotificationService {
         return !isInterlocLetter && isNotBlank(notification.getLetterTemplate()) && State.READY_TO_LIST.getId().equals(createdInGapsFrom);
     }
 
-    private boolean sendSmsNotification(NotificationWrapper wrapper, Subscription subscription, Notification notification, NotificationEventType eventType) {
-        if (isOkToSendSmsNotification(wrapper, subscription, notification, eventType, notificationValidService)) {
+    private boolean sendSmsNotification(NotificationWrapper wrapper, SubscriptionWithType subscriptionWithType, Notification notification, NotificationEventType eventType) {
+        if (isOkToSendSmsNotification(wrapper, subscriptionWithType.getSubscription(), notification, eventType, notificationValidService)) {
             return Optional.ofNullable(notification.getSmsTemplate()).map(Collection::stream).orElseGet(Stream::empty)
-                .map(smsTemplateId -> sendSmsNotification(wrapper, notification, smsTemplateId)).reduce((previous, current) -> previous && current).orElse(false);
+                .map(smsTemplateId -> sendSmsNotification(wrapper, subscriptionWithType, notification, smsTemplateId)).reduce((previous, current) -> previous && current).orElse(false);
         }
         return false;
     }
 
-    private boolean sendSmsNotification(NotificationWrapper wrapper, Notification notification, String smsTemplateId) {
-        NotificationHandler.SendNotification sendNotification = () ->
-            notificationSender.sendSms(
+    private boolean sendSmsNotification(NotificationWrapper wrapper, SubscriptionWithType subscriptionWithType, Notification notification, String smsTemplateId) {
+        NotificationHandler.SendNotification sendNotification = deliveryLedger.guard(
+            () -> deliveryKey(wrapper, subscriptionWithType, "sms", smsTemplateId, notification.getMobile(), notification),
+            () -> notificationSender.sendSms(
                 smsTemplateId,
                 notification.getMobile(),
                 notification.getPlaceholders(),
@@ -204,7 +271,7 @@ public class SendNotificationService {
                 notification.getSmsSenderTemplate(),
                 wrapper.getNotificationType(),
                 wrapper.getNewSscsCaseData()
-            );
+            ));
         log.info("In sendSmsNotification method notificationSender is available {} ", notificationSender != null);
 
         notificationLog(notification, "sms", notification.getMobile(), wrapper);
@@ -212,18 +279,19 @@ public class SendNotificationService {
         return notificationHandler.sendNotification(wrapper, smsTemplateId, "SMS", sendNotification);
     }
 
-    private boolean sendEmailNotification(NotificationWrapper wrapper, Subscription subscription, Notification notification) {
-        if (isOkToSendEmailNotification(wrapper, subscription, notification, notificationValidService)) {
+    private boolean sendEmailNotification(NotificationWrapper wrapper, SubscriptionWithType subscriptionWithType, Notification notification) {
+        if (isOkToSendEmailNotification(wrapper, subscriptionWithType.getSubscription(), notification, notificationValidService)) {
 
-            NotificationHandler.SendNotification sendNotification = () ->
-                notificationSender.sendEmail(
+            NotificationHandler.SendNotification sendNotification = deliveryLedger.guard(
+                () -> deliveryKey(wrapper, subscriptionWithType, "email", notification.getEmailTemplate(), notification.getEmail(), notification),
+                () -> notificationSender.sendEmail(
                     notification.getEmailTemplate(),
                     notification.getEmail(),
                     notification.getPlaceholders(),
                     notification.getReference(),
                     wrapper.getNotificationType(),
                     wrapper.getNewSscsCaseData()
-                );
+                ));
 
             log.info("In sendEmailNotification method notificationSender is available {} ", notificationSender != null);
 
@@ -236,29 +304,54 @@ public class SendNotificationService {
     }
 
     protected boolean sendLetterNotification(NotificationWrapper wrapper, Notification notification, SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
+        return sendLetterNotification(wrapper, notification, subscriptionWithType, eventType, null);
+    }
+
+    private boolean sendLetterNotification(NotificationWrapper wrapper, Notification notification, SubscriptionWithType subscriptionWithType,
+                                           NotificationEventType eventType, RenderedLetter renderedLetter) {
         log.info("Sending the letter for event {} and case id {}.", eventType.getId(), wrapper.getCaseId());
         Address addressToUse = getAddressToUseForLetter(wrapper, subscriptionWithType);
 
-        if (isValidLetterAddress(addressToUse)) {
-            return sendMandatoryLetterNotification(wrapper, notification, subscriptionWithType, addressToUse);
-        } else {
-            log.error("Failed to send letter for event id: {} for case id: {}, no address present", wrapper.getNotificationType().getId(), wrapper.getCaseId());
-            return false;
+        switch (letterRoute(wrapper, notification, addressToUse)) {
+            case NO_ADDRESS -> {
+                log.error("Failed to send letter for event id: {} for case id: {}, no address present", wrapper.getNotificationType().getId(), wrapper.getCaseId());
+                return false;
+            }
+            case DOCMOSIS -> {
+                return sendBundledAndDocmosisLetterNotification(wrapper, notification, getNameToUseForLetter(wrapper, subscriptionWithType), subscriptionWithType, renderedLetter);
+            }
+            case GOV_NOTIFY -> {
+                NotificationHandler.SendNotification sendNotification = deliveryLedger.guard(
+                    () -> deliveryKey(wrapper, subscriptionWithType, "letter", notification.getLetterTemplate(),
+                        getNameToUseForLetter(wrapper, subscriptionWithType), notification),
+                    () -> sendLetterNotificationToAddress(wrapper, notification, addressToUse, subscriptionWithType));
+
+                return notificationHandler.sendNotification(wrapper, notification.getLetterTemplate(), NOTIFICATION_TYPE_LETTER, sendNotification);
+            }
+            default -> {
+                return false;
+            }
         }
     }
 
-    private boolean sendMandatoryLetterNotification(NotificationWrapper wrapper, Notification notification, SubscriptionWithType subscriptionWithType, Address addressToUse) {
-        if (NotificationEventTypeLists.EVENT_TYPES_FOR_MANDATORY_LETTERS.contains(wrapper.getNotificationType())) {
-            if (isBundledLetter(wrapper.getNotificationType()) || (isNotBlank(notification.getDocmosisLetterTemplate()))) {
-                return sendBundledAndDocmosisLetterNotification(wrapper, notification, getNameToUseForLetter(wrapper, subscriptionWithType), subscriptionWithType);
-            } else if (hasLetterTemplate(notification)) {
-                NotificationHandler.SendNotification sendNotification = () ->
-                    sendLetterNotificationToAddress(wrapper, notification, addressToUse, subscriptionWithType);
+    private enum LetterRoute { NONE, NO_ADDRESS, DOCMOSIS, GOV_NOTIFY }
 
-                return notificationHandler.sendNotification(wrapper, notification.getLetterTemplate(), NOTIFICATION_TYPE_LETTER, sendNotification);
-            }
+    /**
+     * How a party's letter is sent: only mandatory letter events send one, through Docmosis when there is a Docmosis
+     * template, otherwise through a Gov Notify letter template unless the event's letter is bundled.
+     */
+    private static LetterRoute letterRoute(NotificationWrapper wrapper, Notification notification, Address addressToUse) {
+        if (!isValidLetterAddress(addressToUse)) {
+            return LetterRoute.NO_ADDRESS;
         }
-        return false;
+        if (!NotificationEventTypeLists.EVENT_TYPES_FOR_MANDATORY_LETTERS.contains(wrapper.getNotificationType())) {
+            return LetterRoute.NONE;
+        }
+        if (isNotBlank(notification.getDocmosisLetterTemplate())) {
+            return LetterRoute.DOCMOSIS;
+        }
+        return !isBundledLetter(wrapper.getNotificationType()) && hasLetterTemplate(notification)
+            ? LetterRoute.GOV_NOTIFY : LetterRoute.NONE;
     }
 
     protected void sendLetterNotificationToAddress(NotificationWrapper wrapper, Notification notification, final Address address, SubscriptionWithType subscriptionWithType) throws NotificationClientException {
@@ -298,6 +391,19 @@ public class SendNotificationService {
         }
     }
 
+    private static DeliveryKey deliveryKey(NotificationWrapper wrapper, SubscriptionWithType subscriptionWithType,
+                                           String channel, String templateId, String recipient,
+                                           Notification notification) {
+        String subscriptionType = subscriptionWithType.getSubscriptionType() == null ? ""
+            : subscriptionWithType.getSubscriptionType().name();
+        if (subscriptionWithType.getPartyId() != null) {
+            subscriptionType += ":" + subscriptionWithType.getPartyId();
+        }
+        return DeliveryKey.of(wrapper.getCaseId(), wrapper.getNotificationType().getId(), subscriptionType, channel,
+            templateId, recipient, wrapper.getSscsCaseDataWrapper().getEventTimestamp(),
+            notification.getPlaceholders());
+    }
+
     private static boolean isValidLetterAddress(Address addressToUse) {
         return null != addressToUse
             && isNotBlank(addressToUse.getLine1())
@@ -307,21 +413,21 @@ public class SendNotificationService {
     private boolean sendBundledAndDocmosisLetterNotification(NotificationWrapper wrapper,
                                                              Notification notification,
                                                              String nameToUse,
-                                                             SubscriptionWithType subscriptionWithType) {
+                                                             SubscriptionWithType subscriptionWithType,
+                                                             RenderedLetter renderedLetter) {
         try {
             byte[] bundledLetter;
             if (isNotBlank(notification.getDocmosisLetterTemplate())) {
-                byte[] letter = pdfLetterService.generateLetter(wrapper, notification, subscriptionWithType);
-                final byte[] associatedCasePdf = downloadAssociatedCasePdf(wrapper);
-                if (ArrayUtils.isNotEmpty(associatedCasePdf)) {
-                    letter = buildBundledLetter(addBlankPageAtTheEndIfOddPage(letter), associatedCasePdf);
-                }
-
-                byte[] coversheet = pdfLetterService.buildCoversheet(wrapper, subscriptionWithType);
-                if (ArrayUtils.isNotEmpty(coversheet)) {
-                    letter = buildBundledLetter(addBlankPageAtTheEndIfOddPage(letter), coversheet);
+                if (isDocmosisLetterSent(wrapper, notification, nameToUse, subscriptionWithType)) {
+                    log.info("Not rendering the {} Docmosis letter for case id: {}, it has already been sent",
+                        wrapper.getNotificationType().getId(), wrapper.getCaseId());
+                    if (renderedLetter != null) {
+                        renderedLetter.cancel();
+                    }
+                    return true;
                 }
-                bundledLetter = letter;
+                bundledLetter = renderedLetter != null ? renderedLetter.get()
+                    : renderDocmosisLetter(wrapper, notification, subscriptionWithType);
 
                 boolean alternativeLetterFormat = isAlternativeLetterFormatRequired(wrapper, subscriptionWithType);
                 NotificationHandler.SendNotification sendNotification = alternativeLetterFormat
@@ -330,7 +436,9 @@ public class SendNotificationService {
                     nameToUse,
                     wrapper.getCaseId(),
                     subscriptionWithType.getSubscriptionType())
-                    : () -> notificationSender.sendBundledLetter(wrapper,bundledLetter, nameToUse);
+                    : deliveryLedger.guard(
+                        () -> docmosisLetterKey(wrapper, notification, nameToUse, subscriptionWithType),
+                        () -> notificationSender.sendBundledLetter(wrapper, bundledLetter, nameToUse));
 
                 log.info("In sendBundledAndDocmosisLetterNotification method notificationSender is available {} ",
                         notificationSender != null);
@@ -350,6 +458,36 @@ public class SendNotificationService {
         return false;
     }
 
+    /**
+     * Whether the ledger already records the Docmosis letter as sent, in which case it is not rendered. Letters saved
+     * for reasonable adjustment are not in the ledger.
+     */
+    private boolean isDocmosisLetterSent(NotificationWrapper wrapper, Notification notification, String nameToUse,
+                                         SubscriptionWithType subscriptionWithType) {
+        return !isAlternativeLetterFormatRequired(wrapper, subscriptionWithType)
+            && deliveryLedger.isSent(() -> docmosisLetterKey(wrapper, notification, nameToUse, subscriptionWithType));
+    }
+
+    private static DeliveryKey docmosisLetterKey(NotificationWrapper wrapper, Notification notification, String nameToUse,
+                                                 SubscriptionWithType subscriptionWithType) {
+        return deliveryKey(wrapper, subscriptionWithType, "letter", notification.getDocmosisLetterTemplate(), nameToUse, notification);
+    }
+
+    private byte[] renderDocmosisLetter(NotificationWrapper wrapper, Notification notification,
+                                        SubscriptionWithType subscriptionWithType) throws IOException {
+        byte[] letter = pdfLetterService.generateLetter(wrapper, notification, subscriptionWithType);
+        final byte[] associatedCasePdf = downloadAssociatedCasePdf(wrapper);
+        if (ArrayUtils.isNotEmpty(associatedCasePdf)) {
+            letter = buildBundledLetter(addBlankPageAtTheEndIfOddPage(letter), associatedCasePdf);
+        }
+
+        byte[] coversheet = pdfLetterService.buildCoversheet(wrapper, subscriptionWithType);
+        if (ArrayUtils.isNotEmpty(coversheet)) {
+            letter = buildBundledLetter(addBlankPageAtTheEndIfOddPage(letter), coversheet);
+        }
+        return letter;
+    }
+
     private void notificationLog(Notification notification, String notificationType, String recipient, NotificationWrapper wrapper) {
         Object partyType = Optional.ofNullable(notification)
             .map(Notification::getPlaceholders)
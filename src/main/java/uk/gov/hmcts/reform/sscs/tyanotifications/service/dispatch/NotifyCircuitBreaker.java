@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+
+/**
+ * Opens after failureThreshold consecutive transient failures from GOV.UK Notify and then fails every request fast
+ * for openDurationMs. After that a single probe request is let through: if it succeeds the breaker closes, if it
+ * fails the breaker opens again. A probe that never reaches Notify gives its turn back through
+ * {@link #releasePermission}, and one that has not reported back within openDurationMs is assumed lost, so the
+ * breaker cannot be left half open. State is guarded by a {@link ReentrantLock} rather than {@code synchronized} so
+ * that callers on virtual threads are not pinned to their carrier.
+ */
+@Slf4j
+@Component
+public class NotifyCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private Instant probeStartedAt = Instant.MIN;
+
+    @Autowired
+    public NotifyCircuitBreaker(MeterRegistry meterRegistry,
+                                @Value("${notify.circuit-breaker.failureThreshold:5}") int failureThreshold,
+                                @Value("${notify.circuit-breaker.openDurationMs:60000}") long openDurationMs) {
+        this(meterRegistry, failureThreshold, Duration.ofMillis(openDurationMs), Clock.systemUTC());
+    }
+
+    NotifyCircuitBreaker(MeterRegistry meterRegistry, int failureThreshold, Duration openDuration, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+        Gauge.builder("sscs.notify.circuit.open", this, breaker -> breaker.getState() == State.CLOSED ? 0 : 1)
+            .description("1 while calls to GOV.UK Notify are being failed fast")
+            .register(meterRegistry);
+    }
+
+    /**
+     * A breaker that never opens, for callers built outside the Spring context.
+     */
+    public static NotifyCircuitBreaker disabled() {
+        return new NotifyCircuitBreaker(new SimpleMeterRegistry(), Integer.MAX_VALUE, Duration.ZERO,
+            Clock.systemUTC());
+    }
+
+    public void acquirePermission() throws NotifyUnavailableException {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return;
+            }
+            Instant now = clock.instant();
+            if (state == State.OPEN && !now.isBefore(openUntil)) {
+                state = State.HALF_OPEN;
+                probeStartedAt = now;
+                log.info("GOV.UK Notify circuit breaker is half open, letting a probe request through");
+                return;
+            }
+            if (state == State.HALF_OPEN && !now.isBefore(probeStartedAt.plus(openDuration))) {
+                probeStartedAt = now;
+                log.warn(
+                    "GOV.UK Notify circuit breaker probe did not report back, letting another probe request through");
+                return;
+            }
+            Counter.builder("sscs.notify.circuit.rejected").register(meterRegistry).increment();
+            throw new NotifyUnavailableException("GOV.UK Notify circuit breaker is open");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state != State.CLOSED) {
+                log.info("GOV.UK Notify circuit breaker closed");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openUntil = clock.instant().plus(openDuration);
+                log.warn("GOV.UK Notify circuit breaker opened after {} consecutive failures, failing fast until {}",
+                    consecutiveFailures, openUntil);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a permission that ended without an answer either way from Notify (the request was never sent, or
+     * failed for a reason of our own), so a half open breaker lets the next request probe instead.
+     */
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+                openUntil = clock.instant();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * How long to hold work back for while the breaker is open, or empty when a request may be attempted now.
+     */
+    public Optional<Duration> retryAfter() {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return Optional.empty();
+            }
+            Duration remaining = Duration.between(clock.instant(), openUntil);
+            if (state == State.OPEN && !remaining.isPositive()) {
+                return Optional.empty();
+            }
+            return Optional.of(remaining.isPositive() ? remaining : openDuration);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch.NotifyDispatcher.NotifyCall;
+import uk.gov.hmcts.reform.sscs.util.ExponentialBackoff;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Sends requests to GOV.UK Notify, retrying transient failures (429, 5xx and failures to connect) with jittered
+ * exponential backoff. Each attempt runs on the facade's own pool and the wait between attempts is scheduled rather
+ * than slept, so a retry holds no pool thread; the caller does block until the request has an outcome, for at most
+ * sendTimeout across all its attempts, after which no further attempt is made. A request that timed out waiting for
+ * a response is not retried, as Notify may have accepted it. Every attempt passes through the
+ * {@link NotifyCircuitBreaker} first and then the {@link NotifyDispatcher} rate limit, and every attempt the breaker
+ * permitted reports back to it however it ends.
+ */
+@Slf4j
+@Component
+public class NotifyClientFacade {
+
+    public static final String CALL_TIMER = "sscs.notify.call";
+
+    private final NotifyDispatcher notifyDispatcher;
+    private final NotifyCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration sendTimeout;
+    private final Executor callExecutor;
+    private final ScheduledExecutorService retryScheduler;
+
+    @Autowired
+    public NotifyClientFacade(NotifyDispatcher notifyDispatcher,
+                              NotifyCircuitBreaker circuitBreaker,
+                              MeterRegistry meterRegistry,
+                              @Value("${notify.client.maxAttempts:3}") int maxAttempts,
+                              @Value("${notify.client.initialDelayMs:1000}") long initialDelayMs,
+                              @Value("${notify.client.maxDelayMs:10000}") long maxDelayMs,
+                              @Value("${notify.client.sendTimeoutMs:60000}") long sendTimeoutMs,
+                              @Value("${notify.client.threads:20}") int threads) {
+        this(notifyDispatcher, circuitBreaker, meterRegistry, maxAttempts, Duration.ofMillis(initialDelayMs),
+            Duration.ofMillis(maxDelayMs), Duration.ofMillis(sendTimeoutMs),
+            Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory("notify-call-")),
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notify-retry-")));
+    }
+
+    NotifyClientFacade(NotifyDispatcher notifyDispatcher, NotifyCircuitBreaker circuitBreaker,
+                       MeterRegistry meterRegistry, int maxAttempts, Duration initialDelay, Duration maxDelay,
+                       Duration sendTimeout, Executor callExecutor, ScheduledExecutorService retryScheduler) {
+        this.notifyDispatcher = notifyDispatcher;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.sendTimeout = sendTimeout;
+        this.callExecutor = callExecutor;
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * A facade that makes a single attempt on the caller's thread, for callers built outside the Spring context.
+     */
+    public static NotifyClientFacade direct() {
+        return new NotifyClientFacade(NotifyDispatcher.unthrottled(), NotifyCircuitBreaker.disabled(),
+            new SimpleMeterRegistry(), 1, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1), Runnable::run, null);
+    }
+
+    /**
+     * Sends the request, waiting for it to succeed, fail for good or run out of sendTimeout, and rethrows its failure
+     * as the NotificationClientException callers expect.
+     */
+    public <T> T send(String templateType, NotifyCall<T> call) throws NotificationClientException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(templateType, call, 1, result);
+        try {
+            return result.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new NotificationClientException(e);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            log.warn("Gave up waiting for {} notification after {}ms", templateType, sendTimeout.toMillis());
+            throw new NotificationClientException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NotificationClientException notificationClientException) {
+                throw notificationClientException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NotificationClientException(new IllegalStateException(cause));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (callExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+    }
+
+    private <T> void attempt(String templateType, NotifyCall<T> call, int attempt, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (NotifyUnavailableException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        try {
+            callExecutor.execute(() -> send(templateType, call, attempt, result));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.releasePermission();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> void send(String templateType, NotifyCall<T> call, int attempt, CompletableFuture<T> result) {
+        try {
+            T response = notifyDispatcher.dispatch(templateType, () -> timed(templateType, call));
+            circuitBreaker.onSuccess();
+            result.complete(response);
+        } catch (NotifyUnavailableException e) {
+            circuitBreaker.releasePermission();
+            result.completeExceptionally(e);
+        } catch (Exception e) {
+            report(e);
+            if (!isTransient(e) || attempt >= maxAttempts) {
+                result.completeExceptionally(e);
+                return;
+            }
+            Duration delay = ExponentialBackoff.delay(initialDelay, maxDelay, attempt);
+            log.warn("Attempt {} to send {} notification failed, retrying in {}ms", attempt, templateType,
+                delay.toMillis(), e);
+            try {
+                retryScheduler.schedule(() -> attempt(templateType, call, attempt + 1, result),
+                    delay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void report(Exception e) {
+        if (isTransient(e) || isTimeout(e)) {
+            circuitBreaker.onFailure();
+        } else if (e instanceof NotificationClientException notificationClientException
+            && notificationClientException.getHttpResult() > 0) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.releasePermission();
+        }
+    }
+
+    private <T> T timed(String templateType, NotifyCall<T> call) throws NotificationClientException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.send();
+        } catch (NotificationClientException | RuntimeException e) {
+            outcome = isTransient(e) ? "transientFailure" : "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CALL_TIMER)
+                .description("Latency of a single request to GOV.UK Notify")
+                .tags("templateType", templateType, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Whether the request can safely be sent again: Notify answered 429 or 5xx, or the connection to it could not
+     * be made, so the request never arrived.
+     */
+    static boolean isTransient(Exception e) {
+        if (e instanceof NotificationClientException notificationClientException) {
+            int httpResult = notificationClientException.getHttpResult();
+            if (httpResult == 429 || httpResult >= 500) {
+                return true;
+            }
+        }
+        return hasCause(e, ConnectException.class) || hasCause(e, UnknownHostException.class)
+            || hasCause(e, NoRouteToHostException.class);
+    }
+
+    private static boolean isTimeout(Exception e) {
+        return hasCause(e, SocketTimeoutException.class) || hasCause(e, HttpTimeoutException.class);
+    }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Gate in front of every GOV.UK Notify call. A request first takes a token from the bucket shared by all pods,
+ * then one of a bounded number of in-flight slots on this pod. When the bucket is empty the caller sleeps until the
+ * bucket's refill rate says the next token is due, rather than polling, and fails straight away if that is further
+ * off than maxWaitMs; no in-flight slot is held while it waits. If the shared bucket cannot be reached the request
+ * is let through, so a database problem never stops notifications going out.
+ */
+@Slf4j
+@Component
+public class NotifyDispatcher {
+
+    public static final String SENT_COUNTER = "sscs.notify.sent";
+    public static final String QUEUED_COUNTER = "sscs.notify.queued";
+    public static final String THROTTLED_COUNTER = "sscs.notify.throttled";
+
+    static final String BUCKET = "gov-notify";
+
+    private static final Duration MIN_WAIT = Duration.ofMillis(10);
+
+    private final NotifyTokenBucketRepository tokenBucketRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double capacity;
+    private final double refillPerSecond;
+    private final Duration maxWait;
+    private final Semaphore inFlight;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @Autowired
+    public NotifyDispatcher(NotifyTokenBucketRepository tokenBucketRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${notify.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${notify.dispatcher.requestsPerMinute:3000}") int requestsPerMinute,
+                            @Value("${notify.dispatcher.burst:100}") int burst,
+                            @Value("${notify.dispatcher.maxInFlight:20}") int maxInFlight,
+                            @Value("${notify.dispatcher.maxWaitMs:10000}") long maxWaitMs) {
+        this.tokenBucketRepository = tokenBucketRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.capacity = Math.max(1, burst);
+        this.refillPerSecond = requestsPerMinute / 60.0;
+        this.maxWait = Duration.ofMillis(maxWaitMs);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight), true);
+
+        Gauge.builder("sscs.notify.waiting", waiting, AtomicInteger::get)
+            .description("Notify requests waiting for an in-flight slot or a rate limit token")
+            .register(meterRegistry);
+        Gauge.builder("sscs.notify.inflight", this, dispatcher -> maxInFlight - dispatcher.inFlight.availablePermits())
+            .description("Notify requests holding an in-flight slot on this pod")
+            .register(meterRegistry);
+    }
+
+    /**
+     * A dispatcher that sends straight away, for callers built outside the Spring context.
+     */
+    public static NotifyDispatcher unthrottled() {
+        return new NotifyDispatcher(null, new SimpleMeterRegistry(), false, 0, 1, Integer.MAX_VALUE, 0);
+    }
+
+    @PostConstruct
+    public void createBucket() {
+        if (enabled) {
+            try {
+                tokenBucketRepository.createIfMissing(BUCKET, capacity);
+            } catch (DataAccessException e) {
+                log.warn("Unable to create the Notify rate limit bucket, requests will not be throttled until it exists",
+                    e);
+            }
+        }
+    }
+
+    public <T> T dispatch(String templateType, NotifyCall<T> call) throws NotificationClientException {
+        if (enabled) {
+            acquire(templateType);
+            try {
+                return send(templateType, call);
+            } finally {
+                inFlight.release();
+            }
+        }
+        return send(templateType, call);
+    }
+
+    private <T> T send(String templateType, NotifyCall<T> call) throws NotificationClientException {
+        T response = call.send();
+        counter(SENT_COUNTER, templateType).increment();
+        return response;
+    }
+
+    private void acquire(String templateType) throws NotificationClientException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        boolean queued = false;
+        waiting.incrementAndGet();
+        try {
+            Duration wait;
+            while (!(wait = takeToken()).isZero()) {
+                if (!queued) {
+                    queued = true;
+                    counter(QUEUED_COUNTER, templateType).increment();
+                }
+                counter(THROTTLED_COUNTER, templateType).increment();
+                if (System.nanoTime() + wait.toNanos() > deadline) {
+                    throw timedOut(templateType, wait);
+                }
+                Thread.sleep(wait.toMillis());
+            }
+            if (!inFlight.tryAcquire()) {
+                if (!queued) {
+                    counter(QUEUED_COUNTER, templateType).increment();
+                }
+                if (!inFlight.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw timedOut(templateType, MIN_WAIT);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationClientException(e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Takes a token, returning zero, or returns how long to wait before the next one is due.
+     */
+    private Duration takeToken() {
+        try {
+            if (tokenBucketRepository.tryTake(BUCKET, capacity, refillPerSecond)) {
+                return Duration.ZERO;
+            }
+            Duration wait = tokenBucketRepository.timeUntilToken(BUCKET, capacity, refillPerSecond);
+            return wait.compareTo(MIN_WAIT) < 0 ? MIN_WAIT : wait;
+        } catch (DataAccessException e) {
+            log.warn("Unable to take a Notify rate limit token, sending without one", e);
+            return Duration.ZERO;
+        }
+    }
+
+    private NotifyUnavailableException timedOut(String templateType, Duration retryAfter) {
+        return new NotifyUnavailableException("Unable to send a " + templateType + " notification within "
+            + maxWait.toMillis() + "ms under the Notify rate limit, retry after " + retryAfter.toMillis() + "ms");
+    }
+
+    private Counter counter(String name, String templateType) {
+        return Counter.builder(name).tag("templateType", templateType).register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface NotifyCall<T> {
+        T send() throws NotificationClientException;
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import java.time.Duration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Token bucket held in the notify_rate_limit table so every pod draws from the same allowance. The refill is worked
+ * out from the time since the last take inside a single conditional UPDATE, so a take is atomic without any
+ * application-side locking; the row lock only lives for that one statement.
+ */
+@Repository
+public class NotifyTokenBucketRepository {
+
+    private static final String REFILLED =
+        "LEAST(?, tokens + EXTRACT(EPOCH FROM (clock_timestamp() - refilled_at)) * ?)";
+
+    private static final String CREATE =
+        "INSERT INTO notify_rate_limit (bucket, tokens, refilled_at) VALUES (?, ?, clock_timestamp()) "
+            + "ON CONFLICT (bucket) DO NOTHING";
+
+    private static final String TAKE =
+        "UPDATE notify_rate_limit SET tokens = " + REFILLED + " - 1, refilled_at = clock_timestamp() "
+            + "WHERE bucket = ? AND " + REFILLED + " >= 1";
+
+    private static final String AVAILABLE =
+        "SELECT " + REFILLED + " FROM notify_rate_limit WHERE bucket = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotifyTokenBucketRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createIfMissing(String bucket, double capacity) {
+        jdbcTemplate.update(CREATE, bucket, capacity);
+    }
+
+    public boolean tryTake(String bucket, double capacity, double refillPerSecond) {
+        return jdbcTemplate.update(TAKE, capacity, refillPerSecond, bucket, capacity, refillPerSecond) == 1;
+    }
+
+    /**
+     * How long until the bucket will next hold a whole token, going by its refill rate. Zero if it holds one now.
+     */
+    public Duration timeUntilToken(String bucket, double capacity, double refillPerSecond) {
+        Double available = jdbcTemplate.queryForObject(AVAILABLE, Double.class, capacity, refillPerSecond, bucket);
+        if (available == null || available >= 1 || refillPerSecond <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil((1 - available) / refillPerSecond * 1_000_000_000L));
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders Docmosis letters on a small dedicated pool so that the letters for every party to a notification are
+ * generated, bundled and padded at the same time rather than one after another. Each letter is rendered
+ * independently: one party's failure is only seen when that party's letter is collected. When the queue is full the
+ * caller renders the letter itself.
+ */
+@Component
+public class LetterRenderingExecutor {
+
+    static final String ACTIVE = "sscs.letter.render.active";
+    static final String QUEUE_DEPTH = "sscs.letter.render.queue.depth";
+
+    /**
+     * A letter that is being, or will be, rendered.
+     */
+    public interface RenderedLetter {
+        byte[] get() throws IOException;
+
+        default void cancel() {
+        }
+    }
+
+    /**
+     * The work of rendering one letter.
+     */
+    @FunctionalInterface
+    public interface LetterRender {
+        byte[] render() throws IOException;
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    public LetterRenderingExecutor(@Value("${letter-render.threads:4}") int threads,
+                                   @Value("${letter-render.queueCapacity:50}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        this.executor = threads <= 0 ? null : new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new CustomizableThreadFactory("letter-render-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        if (executor != null && meterRegistry != null) {
+            Gauge.builder(ACTIVE, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Letters being rendered")
+                .register(meterRegistry);
+            Gauge.builder(QUEUE_DEPTH, executor, e -> e.getQueue().size())
+                .description("Letters waiting to be rendered")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Renders each letter on the calling thread when it is collected, for callers built outside the Spring context.
+     */
+    public static LetterRenderingExecutor direct() {
+        return new LetterRenderingExecutor(0, 0, null);
+    }
+
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    public RenderedLetter render(LetterRender render) {
+        if (executor == null) {
+            return render::render;
+        }
+        Callable<byte[]> task = render::render;
+        Future<byte[]> future = executor.submit(task);
+        return new RenderedLetter() {
+            @Override
+            public byte[] get() throws IOException {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a letter to render");
+                } catch (CancellationException e) {
+                    throw new IOException("Letter rendering was cancelled", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException ioException) {
+                        throw ioException;
+                    }
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw new IOException("Failed to render letter", cause);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                future.cancel(true);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger;
+
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.CONFIDENTIALITY_OUTCOME;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.DECISION_DATE_LITERAL;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.DOCUMENT_TYPE_NAME;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.EVIDENCE_RECEIVED_DATE_LITERAL;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.FINAL_DECISION_DATE;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.FURTHER_EVIDENCE_ACTION;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.HEARING_DATE_LITERAL;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.HEARING_TIME;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.HEARING_TYPE;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.HMC_HEARING_TYPE_LITERAL;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.INFO_REQUEST_DETAIL;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.IS_GRANTED;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.LETTER_CONTENT_TYPE;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.POSTPONEMENT_REQUEST;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.VENUE_ADDRESS_LITERAL;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Identifies one notification to one party over one channel. The fingerprint is a digest of the recipient, of the
+ * event timestamp CCD stamped on the callback, and of the personalisation fields that tell one occurrence of an
+ * event from the next (a new hearing date, a different decision, another document). The timestamp is what keeps two
+ * occurrences with the same personalisation apart, such as a second further evidence upload within the ledger's
+ * retention; redeliveries and retries of one callback carry the same timestamp. The fields are the fallback for
+ * sends that do not know it. Everything else in the personalisation is left out, as much of it is rendered afresh
+ * on every attempt: the manage emails link carries a timestamped MAC and several dates are worked out from today,
+ * so a digest of the whole map would never match a redelivered callback or a retried job.
+ */
+public record DeliveryKey(long caseId, String eventType, String subscriptionType, String channel, String templateId,
+                          String fingerprint) {
+
+    static final List<String> OCCURRENCE_FIELDS = List.of(
+        HEARING_DATE_LITERAL,
+        HEARING_TIME,
+        HEARING_TYPE,
+        HMC_HEARING_TYPE_LITERAL,
+        VENUE_ADDRESS_LITERAL,
+        POSTPONEMENT_REQUEST,
+        DECISION_DATE_LITERAL,
+        FINAL_DECISION_DATE,
+        IS_GRANTED,
+        CONFIDENTIALITY_OUTCOME,
+        INFO_REQUEST_DETAIL,
+        EVIDENCE_RECEIVED_DATE_LITERAL,
+        DOCUMENT_TYPE_NAME,
+        LETTER_CONTENT_TYPE,
+        FURTHER_EVIDENCE_ACTION
+    );
+
+    /**
+     * Returns the key for the notification, or null if the case id is missing or not a CCD id, in which case the
+     * notification cannot be recorded and is sent unchecked.
+     */
+    public static DeliveryKey of(String caseId, String eventType, String subscriptionType, String channel,
+                                 String templateId, String recipient, String eventTimestamp,
+                                 Map<String, Object> personalisation) {
+        if (!NumberUtils.isDigits(caseId)) {
+            return null;
+        }
+        return new DeliveryKey(Long.parseLong(caseId), eventType, subscriptionType, channel,
+            templateId == null ? "" : templateId, fingerprint(recipient, eventTimestamp, personalisation));
+    }
+
+    static String fingerprint(String recipient, String eventTimestamp, Map<String, Object> personalisation) {
+        StringBuilder content = new StringBuilder(String.valueOf(recipient));
+        if (eventTimestamp != null) {
+            content.append("|occurrence=").append(eventTimestamp);
+        }
+        if (personalisation != null) {
+            for (String field : OCCURRENCE_FIELDS) {
+                Object value = personalisation.get(field);
+                if (value != null) {
+                    content.append('|').append(field).append('=').append(value);
+                }
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationHandler;
+
+/**
+ * Records every notification before it is handed to Notify, so that a notification already sent for a redelivered
+ * callback, a recovered Quartz job or a retried evidence-share event is skipped rather than sent (and paid for)
+ * twice. A failed send releases its claim so the retry can send it. The ledger fails open: if Postgres cannot be
+ * reached the notification is sent.
+ */
+@Slf4j
+@Component
+public class NotificationDeliveryLedger {
+
+    static final String DUPLICATES = "sscs.notify.duplicates.skipped";
+
+    private final NotificationDeliveryLedgerRepository repository;
+    private final boolean enabled;
+    private final long claimTimeoutSeconds;
+    private final long ttlHours;
+    private final Counter duplicates;
+
+    @Autowired
+    public NotificationDeliveryLedger(NotificationDeliveryLedgerRepository repository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${delivery-ledger.enabled:true}") boolean enabled,
+                                      @Value("${delivery-ledger.claimTimeoutSeconds:600}") long claimTimeoutSeconds,
+                                      @Value("${delivery-ledger.ttlHours:72}") long ttlHours) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.ttlHours = ttlHours;
+        this.duplicates = meterRegistry == null ? null : Counter.builder(DUPLICATES)
+            .description("Notifications not sent because the ledger shows they were already sent")
+            .register(meterRegistry);
+    }
+
+    /**
+     * A ledger that records nothing and lets every notification through.
+     */
+    public static NotificationDeliveryLedger disabled() {
+        return new NotificationDeliveryLedger(null, null, false, 0, 0);
+    }
+
+    /**
+     * Wraps {@code send} so it only runs if no other attempt has sent, or is sending, the same notification. The key
+     * is built when the notification is sent, from the personalisation as it stands at that point. A notification with
+     * no key (the case has no CCD id) is sent unchecked.
+     */
+    public NotificationHandler.SendNotification guard(Supplier<DeliveryKey> deliveryKey,
+                                                      NotificationHandler.SendNotification send) {
+        if (!enabled) {
+            return send;
+        }
+        return () -> {
+            DeliveryKey key = deliveryKey.get();
+            if (key == null) {
+                send.send();
+                return;
+            }
+            if (!claim(key)) {
+                log.info("Not sending {} {} for case id: {} to {}, it has already been sent",
+                    key.eventType(), key.channel(), key.caseId(), key.subscriptionType());
+                duplicates.increment();
+                return;
+            }
+            boolean sent = false;
+            try {
+                send.send();
+                sent = true;
+            } finally {
+                if (sent) {
+                    markSent(key);
+                } else {
+                    release(key);
+                }
+            }
+        };
+    }
+
+    /**
+     * Whether the notification is already recorded as sent, so work only its send needs, such as rendering a letter,
+     * can be skipped. Nothing is claimed; an unreachable ledger reports it as not sent.
+     */
+    public boolean isSent(Supplier<DeliveryKey> deliveryKey) {
+        if (!enabled) {
+            return false;
+        }
+        DeliveryKey key = deliveryKey.get();
+        if (key == null) {
+            return false;
+        }
+        try {
+            return repository.isSent(key);
+        } catch (DataAccessException e) {
+            log.warn("Delivery ledger unavailable, unable to check whether {} for case id: {} was sent",
+                key.eventType(), key.caseId(), e);
+            return false;
+        }
+    }
+
+    private boolean claim(DeliveryKey key) {
+        try {
+            return repository.claim(key, claimTimeoutSeconds);
+        } catch (DataAccessException e) {
+            log.warn("Delivery ledger unavailable, sending {} for case id: {} without checking it",
+                key.eventType(), key.caseId(), e);
+            return true;
+        }
+    }
+
+    private void markSent(DeliveryKey key) {
+        try {
+            repository.markSent(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record {} for case id: {} as sent in the delivery ledger", key.eventType(), key.caseId(), e);
+        }
+    }
+
+    private void release(DeliveryKey key) {
+        try {
+            repository.release(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release {} for case id: {} in the delivery ledger", key.eventType(), key.caseId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery-ledger.cleanupIntervalMs:3600000}")
+    public void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = repository.deleteExpired(ttlHours);
+            log.info("Deleted {} delivery ledger entries older than {} hours", deleted, ttlHours);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete expired delivery ledger entries", e);
+        }
+    }
+}
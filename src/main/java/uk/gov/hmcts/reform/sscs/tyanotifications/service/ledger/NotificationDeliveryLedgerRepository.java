@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the notification_delivery_ledger table. A claim is a single upsert, so two pods racing to send
+ * the same notification cannot both win; a claim that was never marked sent (its pod died mid-send) can be taken
+ * over once it is older than the claim timeout.
+ */
+@Repository
+public class NotificationDeliveryLedgerRepository {
+
+    private static final String KEY_COLUMNS =
+        "case_id = ? AND event_type = ? AND subscription_type = ? AND channel = ? AND template_id = ? AND fingerprint = ?";
+
+    private static final String CLAIM =
+        "INSERT INTO notification_delivery_ledger "
+            + "(case_id, event_type, subscription_type, channel, template_id, fingerprint) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (case_id, event_type, subscription_type, channel, template_id, fingerprint) "
+            + "DO UPDATE SET claimed_at = now() "
+            + "WHERE notification_delivery_ledger.sent = FALSE "
+            + "AND notification_delivery_ledger.claimed_at < now() - (? * interval '1 second')";
+
+    private static final String MARK_SENT =
+        "UPDATE notification_delivery_ledger SET sent = TRUE WHERE " + KEY_COLUMNS;
+
+    private static final String IS_SENT =
+        "SELECT EXISTS (SELECT 1 FROM notification_delivery_ledger WHERE sent = TRUE AND " + KEY_COLUMNS + ")";
+
+    private static final String RELEASE =
+        "DELETE FROM notification_delivery_ledger WHERE sent = FALSE AND " + KEY_COLUMNS;
+
+    private static final String DELETE_EXPIRED =
+        "DELETE FROM notification_delivery_ledger WHERE created_at < now() - (? * interval '1 hour')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationDeliveryLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean claim(DeliveryKey key, long claimTimeoutSeconds) {
+        return jdbcTemplate.update(CLAIM, key.caseId(), key.eventType(), key.subscriptionType(), key.channel(),
+            key.templateId(), key.fingerprint(), claimTimeoutSeconds) == 1;
+    }
+
+    public void markSent(DeliveryKey key) {
+        jdbcTemplate.update(MARK_SENT, key.caseId(), key.eventType(), key.subscriptionType(), key.channel(),
+            key.templateId(), key.fingerprint());
+    }
+
+    public boolean isSent(DeliveryKey key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_SENT, Boolean.class, key.caseId(), key.eventType(),
+            key.subscriptionType(), key.channel(), key.templateId(), key.fingerprint()));
+    }
+
+    public void release(DeliveryKey key) {
+        jdbcTemplate.update(RELEASE, key.caseId(), key.eventType(), key.subscriptionType(), key.channel(),
+            key.templateId(), key.fingerprint());
+    }
+
+    public int deleteExpired(long ttlHours) {
+        return jdbcTemplate.update(DELETE_EXPIRED, ttlHours);
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf;
+
+/**
+ * A letter claimed by the poller. {@code attempts} includes the current claim.
+ */
+public record LetterPdfPollEntry(long id, String notificationId, long caseId, String correspondence,
+                                 boolean testClient, int attempts) {
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the letter_pdf_poll table. Rows are claimed with {@code FOR UPDATE SKIP LOCKED} and a lease in
+ * the same way as the callback outbox, so every pod can poll without fetching the same letter twice and a letter
+ * claimed by a pod that dies is picked up again once its lease runs out.
+ */
+@Repository
+public class LetterPdfPollRepository {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String INSERT =
+        "INSERT INTO letter_pdf_poll (notification_id, case_id, correspondence, test_client, available_at) "
+            + "VALUES (?, ?, ?, ?, now() + (? * interval '1 millisecond')) ON CONFLICT (notification_id) DO NOTHING";
+
+    private static final String CLAIM =
+        "UPDATE letter_pdf_poll SET status = '" + STATUS_IN_PROGRESS + "', locked_by = ?, "
+            + "locked_until = now() + (? * interval '1 second'), attempts = attempts + 1 "
+            + "WHERE id IN (SELECT id FROM letter_pdf_poll "
+            + "WHERE (status = '" + STATUS_PENDING + "' AND available_at <= now()) "
+            + "OR (status = '" + STATUS_IN_PROGRESS + "' AND locked_until < now()) "
+            + "ORDER BY available_at, id LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING id, notification_id, case_id, correspondence, test_client, attempts";
+
+    private static final String COMPLETE =
+        "DELETE FROM letter_pdf_poll WHERE id = ? AND locked_by = ?";
+
+    private static final String RELEASE =
+        "UPDATE letter_pdf_poll SET status = '" + STATUS_PENDING + "', locked_by = NULL, locked_until = NULL, "
+            + "available_at = now() + (? * interval '1 millisecond'), last_error = ? WHERE id = ? AND locked_by = ?";
+
+    private static final String FAIL =
+        "UPDATE letter_pdf_poll SET status = '" + STATUS_FAILED + "', locked_by = NULL, locked_until = NULL, "
+            + "last_error = ? WHERE id = ? AND locked_by = ?";
+
+    private static final String PENDING_COUNT =
+        "SELECT count(*) FROM letter_pdf_poll WHERE status <> '" + STATUS_FAILED + "'";
+
+    private static final RowMapper<LetterPdfPollEntry> ENTRY_MAPPER = (rs, rowNum) -> new LetterPdfPollEntry(
+        rs.getLong("id"),
+        rs.getString("notification_id"),
+        rs.getLong("case_id"),
+        rs.getString("correspondence"),
+        rs.getBoolean("test_client"),
+        rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LetterPdfPollRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String notificationId, long caseId, String correspondence, boolean testClient, long delayMs) {
+        jdbcTemplate.update(INSERT, notificationId, caseId, correspondence, testClient, delayMs);
+    }
+
+    public List<LetterPdfPollEntry> claim(String workerId, int limit, long leaseSeconds) {
+        return jdbcTemplate.query(CLAIM, ENTRY_MAPPER, workerId, leaseSeconds, limit);
+    }
+
+    public boolean complete(long id, String workerId) {
+        return jdbcTemplate.update(COMPLETE, id, workerId) == 1;
+    }
+
+    public boolean release(long id, String workerId, long delayMs, String error) {
+        return jdbcTemplate.update(RELEASE, delayMs, error, id, workerId) == 1;
+    }
+
+    public boolean fail(long id, String workerId, String error) {
+        return jdbcTemplate.update(FAIL, error, id, workerId) == 1;
+    }
+
+    public long pendingCount() {
+        Long count = jdbcTemplate.queryForObject(PENDING_COUNT, Long.class);
+        return count == null ? 0 : count;
+    }
+}
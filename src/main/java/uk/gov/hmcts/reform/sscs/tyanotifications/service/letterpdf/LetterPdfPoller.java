@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf;
+
+import static java.lang.Long.valueOf;
+import static uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService.DEFAULT_SENDER_TYPE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+import uk.gov.hmcts.reform.sscs.service.CcdCorrespondenceBatcher;
+import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
+import uk.gov.hmcts.reform.sscs.util.ExponentialBackoff;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Fetches the PDFs of letters sent through GOV.UK Notify and saves them to the case as correspondence. Notify
+ * only renders a letter some time after it is sent, so letters are persisted and polled in batches rather than
+ * holding a thread while they wait; outstanding letters survive a restart and are picked up by any pod. The
+ * letter_pdf_poll table is created by Flyway, so the poller can be switched off where migrations do not run.
+ */
+@Slf4j
+@Component
+public class LetterPdfPoller {
+
+    static final String PENDING = "sscs.notify.letter.pdf.pending";
+    static final String PROCESSED = "sscs.notify.letter.pdf.processed";
+    private static final String PDF_NOT_READY = "PDFNotReadyError";
+
+    private final LetterPdfPollRepository repository;
+    private final CcdCorrespondenceBatcher ccdCorrespondenceBatcher;
+    private final ObjectMapper objectMapper;
+    private final NotificationClient notificationClient;
+    private final NotificationClient testNotificationClient;
+    private final LetterAsyncConfigProperties letterAsyncConfigProperties;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final boolean enabled;
+    private final String workerId = "letter-pdf-" + UUID.randomUUID();
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter saved;
+    private final Counter retried;
+    private final Counter failed;
+
+    public LetterPdfPoller(LetterPdfPollRepository repository,
+                           CcdCorrespondenceBatcher ccdCorrespondenceBatcher,
+                           ObjectMapper objectMapper,
+                           @Qualifier("notificationClient") NotificationClient notificationClient,
+                           @Qualifier("testNotificationClient") NotificationClient testNotificationClient,
+                           LetterAsyncConfigProperties letterAsyncConfigProperties,
+                           MeterRegistry meterRegistry,
+                           @Value("${letter-async.batchSize:20}") int batchSize,
+                           @Value("${letter-async.leaseSeconds:300}") long leaseSeconds,
+                           @Value("${letter-async.poller.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.ccdCorrespondenceBatcher = ccdCorrespondenceBatcher;
+        this.objectMapper = objectMapper;
+        this.notificationClient = notificationClient;
+        this.testNotificationClient = testNotificationClient;
+        this.letterAsyncConfigProperties = letterAsyncConfigProperties;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.enabled = enabled;
+
+        Gauge.builder(PENDING, pending, AtomicLong::get)
+            .description("Letters waiting for their PDF to be fetched from Notify")
+            .register(meterRegistry);
+        saved = Counter.builder(PROCESSED).tag("outcome", "saved").register(meterRegistry);
+        retried = Counter.builder(PROCESSED).tag("outcome", "retried").register(meterRegistry);
+        failed = Counter.builder(PROCESSED).tag("outcome", "failed").register(meterRegistry);
+    }
+
+    /**
+     * Queues a letter so its PDF is fetched from Notify once the initial delay has passed. Notify has already
+     * accepted the letter by the time this is called, so a failure to queue it is logged rather than thrown; thrown,
+     * it would fail the send and the retry would post the letter a second time.
+     */
+    public void schedule(NotificationClient client, String notificationId, Correspondence correspondence,
+                         String ccdCaseId) {
+        if (!enabled) {
+            log.warn("Letter pdf poller is disabled, not saving letter {} to case id : {}", notificationId, ccdCaseId);
+            return;
+        }
+        try {
+            repository.insert(notificationId, valueOf(ccdCaseId), objectMapper.writeValueAsString(correspondence),
+                client == testNotificationClient, letterAsyncConfigProperties.getInitialDelay());
+            log.debug("Queued letter {} for case id : {} to fetch its pdf from Notify", notificationId, ccdCaseId);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.error("Failed to queue letter {} for case id : {}, its pdf will not be saved to the case",
+                notificationId, ccdCaseId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${letter-async.pollIntervalMs:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            pending.set(repository.pendingCount());
+            List<LetterPdfPollEntry> entries;
+            do {
+                entries = repository.claim(workerId, batchSize, leaseSeconds);
+                entries.forEach(this::process);
+            } while (entries.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to poll for letter pdfs", e);
+        }
+    }
+
+    /**
+     * Fetches the letter's PDF and hands it to the correspondence batcher. The row is only completed once the batch
+     * holding the letter has been written to the case, so a pod that stops before then leaves it to be polled again.
+     */
+    void process(LetterPdfPollEntry entry) {
+        NotificationClient client = entry.testClient() ? testNotificationClient : notificationClient;
+        try {
+            byte[] pdfForLetter = client.getPdfForLetter(entry.notificationId());
+            Correspondence correspondence = objectMapper.readValue(entry.correspondence(), Correspondence.class);
+            log.info("Saving letter correspondence for {} ", entry.caseId());
+            ccdCorrespondenceBatcher.addLetterCorrespondence(pdfForLetter, entry.caseId(), correspondence, DEFAULT_SENDER_TYPE)
+                .whenComplete((written, e) -> {
+                    if (e == null) {
+                        repository.complete(entry.id(), workerId);
+                        saved.increment();
+                    } else {
+                        retryOrFail(entry, e);
+                    }
+                });
+        } catch (Exception e) {
+            if (e instanceof NotificationClientException && e.getMessage() != null
+                && e.getMessage().contains(PDF_NOT_READY)) {
+                log.info("Got a PDFNotReadyError back from gov.notify for case id: {}.", entry.caseId());
+            } else {
+                log.warn("Got a strange error '{}' fetching letter {} for case id: {}.",
+                    e.getMessage(), entry.notificationId(), entry.caseId());
+            }
+            retryOrFail(entry, e);
+        }
+    }
+
+    private void retryOrFail(LetterPdfPollEntry entry, Throwable e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        try {
+            if (entry.attempts() >= letterAsyncConfigProperties.getMaxAttempts()) {
+                log.error("Giving up on saving letter {} for case id: {} after {} attempts",
+                    entry.notificationId(), entry.caseId(), entry.attempts(), e);
+                repository.fail(entry.id(), workerId, error);
+                failed.increment();
+            } else {
+                Duration delay = ExponentialBackoff.delay(Duration.ofMillis(letterAsyncConfigProperties.getDelay()),
+                    Duration.ofMillis(letterAsyncConfigProperties.getMaxDelay()), entry.attempts());
+                repository.release(entry.id(), workerId, delay.toMillis(), error);
+                retried.increment();
+            }
+        } catch (Exception releaseFailure) {
+            log.error("Failed to release letter {} for case id: {}, it will be retried once its lease expires",
+                entry.notificationId(), entry.caseId(), releaseFailure);
+        }
+    }
+}
@@ -3,11 +3,12 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service.reminder;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.*;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
@@ -48,20 +49,18 @@ public class AllReminderRemover implements ReminderHandler {
         }
 
         String caseId = wrapper.getCaseId();
+        Map<String, NotificationEventType> remindersByGroup = new LinkedHashMap<>();
         for (NotificationEventType eventType : REMINDERS_TO_REMOVE) {
-            removeReminder(caseId, eventType);
+            remindersByGroup.put(jobGroupGenerator.generate(caseId, eventType.getId()), eventType);
         }
-    }
-
-    private void removeReminder(String caseId, NotificationEventType eventType) {
-        String jobGroup = jobGroupGenerator.generate(caseId, eventType.getId());
-        try {
-            jobRemover.removeGroup(jobGroup);
-            log.info("Removed {} from case id: {}", eventType, caseId);
 
-        } catch (JobNotFoundException ignore) {
-            log.debug("{} for case id: {} could not be found", eventType, caseId);
-        }
+        jobRemover.removeGroups(remindersByGroup.keySet()).forEach((jobGroup, removed) -> {
+            if (removed > 0) {
+                log.info("Removed {} from case id: {}", remindersByGroup.get(jobGroup), caseId);
+            } else {
+                log.debug("{} for case id: {} could not be found", remindersByGroup.get(jobGroup), caseId);
+            }
+        });
     }
 
 }
@@ -4,9 +4,9 @@ import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.HEARING_REMINDER;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.POSTPONEMENT;
 
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
 
@@ -45,12 +45,9 @@ public class HearingReminderRemover implements ReminderHandler {
         String caseId = wrapper.getCaseId();
         String jobGroup = jobGroupGenerator.generate(caseId, HEARING_REMINDER.getId());
 
-        try {
-
-            jobRemover.removeGroup(jobGroup);
+        if (jobRemover.removeGroups(List.of(jobGroup)).getOrDefault(jobGroup, 0) > 0) {
             LOG.info("Removed hearing reminders from case id: {}", caseId);
-
-        } catch (JobNotFoundException ignore) {
+        } else {
             LOG.warn("Hearing reminder for case id: {} could not be found", caseId);
         }
     }
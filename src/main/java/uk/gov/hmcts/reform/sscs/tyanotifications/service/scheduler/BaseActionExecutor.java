@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service.scheduler;
 
 import static org.slf4j.LoggerFactory.getLogger;
+import static uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter.CCD;
+import static uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter.IDAM;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.getNotificationByEvent;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationUtils.buildSscsCaseDataWrapper;
 
@@ -18,6 +20,7 @@ import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobExecutor;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.NotificationSscsCaseDataWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
@@ -31,16 +34,18 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
     protected final CcdService ccdService;
     protected final UpdateCcdCaseService updateCcdCaseService;
     protected final IdamService idamService;
+    protected final DownstreamLimiter downstreamLimiter;
     private final SscsCaseCallbackDeserializer deserializer;
     private final RetryNotificationService retryNotificationService;
 
-    BaseActionExecutor(NotificationService notificationService, RetryNotificationService retryNotificationService, CcdService ccdService, UpdateCcdCaseService updateCcdCaseService, IdamService idamService, SscsCaseCallbackDeserializer deserializer) {
+    BaseActionExecutor(NotificationService notificationService, RetryNotificationService retryNotificationService, CcdService ccdService, UpdateCcdCaseService updateCcdCaseService, IdamService idamService, SscsCaseCallbackDeserializer deserializer, DownstreamLimiter downstreamLimiter) {
         this.notificationService = notificationService;
         this.retryNotificationService = retryNotificationService;
         this.ccdService = ccdService;
         this.updateCcdCaseService = updateCcdCaseService;
         this.idamService = idamService;
         this.deserializer = deserializer;
+        this.downstreamLimiter = downstreamLimiter;
     }
 
     @Override
@@ -51,9 +56,9 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
         try {
             LOG.info("Scheduled event: {} triggered for case id: {}", eventId, caseId);
 
-            IdamTokens idamTokens = idamService.getIdamTokens();
+            IdamTokens idamTokens = downstreamLimiter.call(IDAM, idamService::getIdamTokens);
 
-            SscsCaseDetails caseDetails = ccdService.getByCaseId(caseId, idamTokens);
+            SscsCaseDetails caseDetails = downstreamLimiter.call(CCD, () -> ccdService.getByCaseId(caseId, idamTokens));
 
             if (caseDetails != null) {
 
@@ -67,6 +72,7 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
                     null,
                     getNotificationByEvent(eventId),
                     callback.getCaseDetails().getState());
+                wrapper.setEventTimestamp(getEventTimestamp(payload));
 
                 NotificationWrapper notificationWrapper = getWrapper(wrapper, payload);
 
@@ -112,4 +118,6 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
 
     protected abstract int getRetry(T payload);
 
+    protected abstract String getEventTimestamp(T payload);
+
 }
@@ -4,12 +4,14 @@ import static java.lang.Integer.parseInt;
 import static java.lang.Long.parseLong;
 import static org.apache.commons.lang3.RegExUtils.replaceAll;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter.CCD;
 
 import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.NotificationSscsCaseDataWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.CcdNotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
@@ -25,13 +27,26 @@ public class CcdActionExecutor extends BaseActionExecutor<String> {
                              UpdateCcdCaseService updateCcdCaseService,
                              IdamService idamService,
                              SscsCaseCallbackDeserializer deserializer) {
-        super(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer);
+        this(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer,
+            DownstreamLimiter.unlimited());
+    }
+
+    public CcdActionExecutor(NotificationService notificationService,
+                             RetryNotificationService retryNotificationService,
+                             CcdService ccdService,
+                             UpdateCcdCaseService updateCcdCaseService,
+                             IdamService idamService,
+                             SscsCaseCallbackDeserializer deserializer,
+                             DownstreamLimiter downstreamLimiter) {
+        super(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer,
+            downstreamLimiter);
     }
 
     @Override
     protected void updateCase(Long caseId, NotificationSscsCaseDataWrapper wrapper, IdamTokens idamTokens) {
-        updateCcdCaseService.updateCaseV2(caseId, wrapper.getNotificationEventType().getId(), "CCD Case", "Notification Service updated case", idamTokens, sscsCaseData -> {
-        });
+        downstreamLimiter.run(CCD, () ->
+            updateCcdCaseService.updateCaseV2(caseId, wrapper.getNotificationEventType().getId(), "CCD Case", "Notification Service updated case", idamTokens, sscsCaseData -> {
+            }));
     }
 
     @Override
@@ -49,4 +64,10 @@ public class CcdActionExecutor extends BaseActionExecutor<String> {
         String[] strings = payload.split(",");
         return strings.length > 1 ? parseInt(strings[1]) : 0;
     }
+
+    @Override
+    protected String getEventTimestamp(String payload) {
+        String[] strings = payload.split(",");
+        return strings.length > 2 ? strings[2] : null;
+    }
 }
@@ -6,7 +6,12 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notificati
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.getNotificationByCcdEvent;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationUtils.buildSscsCaseDataWrapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -22,18 +27,53 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEvent
 @Lazy(false)
 public class NotificationsMessageProcessor {
 
+    static final String EVENTS = "sscs.notifications.events";
+
     private final FilterNotificationsEventsHandler filterNotificationsEventsHandler;
+    private final Counter skipped;
+    private final Counter processed;
 
     public NotificationsMessageProcessor(FilterNotificationsEventsHandler filterNotificationsEventsHandler) {
+        this(filterNotificationsEventsHandler, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public NotificationsMessageProcessor(FilterNotificationsEventsHandler filterNotificationsEventsHandler,
+                                         MeterRegistry meterRegistry) {
         this.filterNotificationsEventsHandler = filterNotificationsEventsHandler;
+        this.skipped = Counter.builder(EVENTS).tag("outcome", "skipped")
+            .description("Callbacks for events that can never produce a notification")
+            .register(meterRegistry);
+        this.processed = Counter.builder(EVENTS).tag("outcome", "processed").register(meterRegistry);
+        Gauge.builder(EVENTS + ".skipped.ratio", this, NotificationsMessageProcessor::skippedRatio)
+            .description("Share of callbacks dropped by the event routing table")
+            .register(meterRegistry);
+    }
+
+    private double skippedRatio() {
+        double total = skipped.count() + processed.count();
+        return total == 0 ? 0 : skipped.count() / total;
     }
 
     public void processMessage(Callback<SscsCaseData> callback) {
+        processMessage(callback, null);
+    }
+
+    /**
+     * Sends the notifications for the callback, recording the event timestamp on the wrapper so that each delivery
+     * is keyed by the occurrence of the event that caused it.
+     */
+    public void processMessage(Callback<SscsCaseData> callback, String eventTimestamp) {
         try {
             requireNonNull(callback, "callback must not be null");
-            CaseDetails<SscsCaseData> caseDetailsBefore = callback.getCaseDetailsBefore().orElse(null);
-
             NotificationEventType event = getNotificationByCcdEvent(callback.getEvent());
+            if (!filterNotificationsEventsHandler.canEverHandle(event)) {
+                skipped.increment();
+                return;
+            }
+            processed.increment();
+
+            CaseDetails<SscsCaseData> caseDetailsBefore = callback.getCaseDetailsBefore().orElse(null);
             SscsCaseData caseData = callback.getCaseDetails().getCaseData();
 
             if (ISSUE_FINAL_DECISION.equals(event)
@@ -47,6 +87,7 @@ public class NotificationsMessageProcessor {
                 caseDetailsBefore != null ? caseDetailsBefore.getCaseData() : null,
                 event,
                 callback.getCaseDetails().getState());
+            sscsCaseDataWrapper.setEventTimestamp(eventTimestamp);
 
             log.info("Ccd Response received for case id: {}, {}",
                 sscsCaseDataWrapper.getNewSscsCaseData().getCcdCaseId(),
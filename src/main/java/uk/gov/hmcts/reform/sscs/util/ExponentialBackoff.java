@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ExponentialBackoff {
+
+    private static final int MAX_DOUBLINGS = 20;
+
+    private ExponentialBackoff() {
+        // hiding default constructor
+    }
+
+    /**
+     * Delay before retry number {@code retry} (1 based): {@code initial * 2^(retry - 1)}, capped at {@code max}.
+     * A random half of the delay is jittered away so that callers failing together do not retry together.
+     */
+    public static Duration delay(Duration initial, Duration max, int retry) {
+        int doublings = Math.min(Math.max(retry - 1, 0), MAX_DOUBLINGS);
+        long cappedMs = Math.min(max.toMillis(), initial.toMillis() << doublings);
+        long halfMs = cappedMs / 2;
+        return Duration.ofMillis(cappedMs - halfMs + ThreadLocalRandom.current().nextLong(halfMs + 1));
+    }
+}
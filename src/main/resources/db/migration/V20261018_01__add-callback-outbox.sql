@@ -0,0 +1,18 @@
+CREATE TABLE callback_outbox
+  (
+    ID BIGSERIAL NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    EVENT_ID VARCHAR(255) NOT NULL,
+    PAYLOAD BYTEA NOT NULL,
+    STATUS VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS INTEGER NOT NULL DEFAULT 0,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    AVAILABLE_AT TIMESTAMP NOT NULL DEFAULT now(),
+    LOCKED_BY VARCHAR(255) NULL,
+    LOCKED_UNTIL TIMESTAMP NULL,
+    LAST_ERROR TEXT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX idx_callback_outbox_claim ON callback_outbox (STATUS, AVAILABLE_AT, ID);
+CREATE INDEX idx_callback_outbox_case ON callback_outbox (CASE_ID, ID);
@@ -0,0 +1,7 @@
+CREATE TABLE notify_rate_limit
+  (
+    BUCKET VARCHAR(64) NOT NULL,
+    TOKENS DOUBLE PRECISION NOT NULL,
+    REFILLED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (BUCKET)
+);
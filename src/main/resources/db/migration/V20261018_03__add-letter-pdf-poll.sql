@@ -0,0 +1,19 @@
+CREATE TABLE letter_pdf_poll
+  (
+    ID BIGSERIAL NOT NULL,
+    NOTIFICATION_ID VARCHAR(64) NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    CORRESPONDENCE TEXT NOT NULL,
+    TEST_CLIENT BOOLEAN NOT NULL DEFAULT FALSE,
+    STATUS VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS INTEGER NOT NULL DEFAULT 0,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    AVAILABLE_AT TIMESTAMP NOT NULL DEFAULT now(),
+    LOCKED_BY VARCHAR(255) NULL,
+    LOCKED_UNTIL TIMESTAMP NULL,
+    LAST_ERROR TEXT NULL,
+    PRIMARY KEY (ID),
+    UNIQUE (NOTIFICATION_ID)
+);
+
+CREATE INDEX idx_letter_pdf_poll_claim ON letter_pdf_poll (STATUS, AVAILABLE_AT, ID);
@@ -0,0 +1,17 @@
+CREATE TABLE notification_delivery_ledger
+  (
+    ID BIGSERIAL NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    EVENT_TYPE VARCHAR(255) NOT NULL,
+    SUBSCRIPTION_TYPE VARCHAR(64) NOT NULL,
+    CHANNEL VARCHAR(16) NOT NULL,
+    TEMPLATE_ID VARCHAR(255) NOT NULL,
+    FINGERPRINT VARCHAR(64) NOT NULL,
+    SENT BOOLEAN NOT NULL DEFAULT FALSE,
+    CLAIMED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (ID),
+    UNIQUE (CASE_ID, EVENT_TYPE, SUBSCRIPTION_TYPE, CHANNEL, TEMPLATE_ID, FINGERPRINT)
+);
+
+CREATE INDEX idx_notification_delivery_ledger_created ON notification_delivery_ledger (CREATED_AT);
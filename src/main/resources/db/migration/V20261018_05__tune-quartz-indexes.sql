@@ -0,0 +1,25 @@
+-- Lets the trigger acquire query (state, next fire time <= now, ordered by next fire time then priority) read
+-- triggers in order straight from the index instead of sorting them.
+CREATE INDEX idx_qrtz_t_acquire ON qrtz_triggers (SCHED_NAME, TRIGGER_STATE, NEXT_FIRE_TIME, PRIORITY DESC);
+
+-- Each of these is a leading prefix of another index on the same table, which serves the same lookups. Dropping them
+-- saves an index write for every trigger scheduled, fired, paused or removed.
+DROP INDEX IF EXISTS idx_qrtz_t_nft_st;
+DROP INDEX IF EXISTS idx_qrtz_t_state;
+DROP INDEX IF EXISTS idx_qrtz_t_g;
+DROP INDEX IF EXISTS idx_qrtz_t_nft_misfire;
+DROP INDEX IF EXISTS idx_qrtz_ft_trig_inst_name;
+
+-- Every fire updates qrtz_triggers and inserts and deletes a qrtz_fired_triggers row, so vacuum them well before the
+-- default 20% of dead rows. qrtz_locks and qrtz_scheduler_state are a handful of rows updated on every acquire and
+-- check-in; leaving free space in their pages keeps those updates on the same page.
+ALTER TABLE qrtz_triggers SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_analyze_scale_factor = 0.01);
+ALTER TABLE qrtz_simple_triggers SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_analyze_scale_factor = 0.01);
+ALTER TABLE qrtz_job_details SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_analyze_scale_factor = 0.01);
+ALTER TABLE qrtz_fired_triggers SET (autovacuum_vacuum_scale_factor = 0.0, autovacuum_vacuum_threshold = 1000);
+ALTER TABLE qrtz_locks SET (fillfactor = 50);
+ALTER TABLE qrtz_scheduler_state SET (fillfactor = 50);
+
+ANALYZE qrtz_triggers;
+ANALYZE qrtz_job_details;
+ANALYZE qrtz_fired_triggers;
@@ -0,0 +1,9 @@
+CREATE TABLE hmc_hearing_broadcast
+  (
+    HEARING_ID VARCHAR(64) NOT NULL,
+    BROADCAST_AT TIMESTAMP NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (HEARING_ID)
+);
+
+CREATE INDEX idx_hmc_hearing_broadcast_updated ON hmc_hearing_broadcast (UPDATED_AT);
@@ -0,0 +1 @@
+ALTER TABLE callback_outbox ADD COLUMN EVIDENCE_SHARED BOOLEAN NOT NULL DEFAULT FALSE;
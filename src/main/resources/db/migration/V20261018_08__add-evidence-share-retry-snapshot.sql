@@ -0,0 +1,8 @@
+CREATE TABLE evidence_share_retry_snapshot
+  (
+    ID BIGSERIAL NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    CASE_DETAILS_BEFORE BYTEA NOT NULL,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (ID)
+);
@@ -0,0 +1,35 @@
+CREATE TABLE hmc_pending_message
+  (
+    HEARING_ID VARCHAR(64) NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    HMC_STATUS VARCHAR(64) NULL,
+    BROADCAST_AT TIMESTAMP NULL,
+    PAYLOAD BYTEA NOT NULL,
+    VERSION INTEGER NOT NULL DEFAULT 1,
+    STATUS VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS INTEGER NOT NULL DEFAULT 0,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    APPLY_AT TIMESTAMP NOT NULL,
+    LOCKED_BY VARCHAR(255) NULL,
+    LOCKED_UNTIL TIMESTAMP NULL,
+    LAST_ERROR TEXT NULL,
+    PRIMARY KEY (HEARING_ID)
+);
+
+CREATE INDEX idx_hmc_pending_message_claim ON hmc_pending_message (STATUS, APPLY_AT);
+
+CREATE TABLE hmc_coalesced_message
+  (
+    ID BIGSERIAL NOT NULL,
+    HEARING_ID VARCHAR(64) NOT NULL,
+    CASE_ID BIGINT NOT NULL,
+    HMC_STATUS VARCHAR(64) NULL,
+    BROADCAST_AT TIMESTAMP NULL,
+    SUPERSEDED_BY_STATUS VARCHAR(64) NULL,
+    SUPERSEDED_BY_BROADCAST_AT TIMESTAMP NULL,
+    ACKNOWLEDGED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX idx_hmc_coalesced_message_hearing ON hmc_coalesced_message (HEARING_ID, ACKNOWLEDGED_AT);
+CREATE INDEX idx_hmc_coalesced_message_acknowledged ON hmc_coalesced_message (ACKNOWLEDGED_AT);
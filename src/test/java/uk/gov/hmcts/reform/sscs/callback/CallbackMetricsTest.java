@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.HANDLER_ERRORS;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.HANDLER_TIMER;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.HANDLER_WARNINGS;
+import static uk.gov.hmcts.reform.sscs.callback.CallbackMetrics.OUTCOME_ERRORS;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_NOTE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CallbackMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CallbackMetrics callbackMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        callbackMetrics = new CallbackMetrics(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordHandlerTimingTaggedByHandlerEventAndOutcome() {
+        callbackMetrics.recordHandler(callbackMetrics.start(), this, ABOUT_TO_SUBMIT, ADD_NOTE, OUTCOME_ERRORS);
+
+        assertThat(meterRegistry.get(HANDLER_TIMER)
+            .tag("handler", "CallbackMetricsTest")
+            .tag("callbackType", "ABOUT_TO_SUBMIT")
+            .tag("event", "ADD_NOTE")
+            .tag("outcome", OUTCOME_ERRORS)
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountErrorsAndWarnings() {
+        callbackMetrics.recordResponse(this, ABOUT_TO_SUBMIT, ADD_NOTE, Set.of("error1", "error2"), List.of("warning"));
+
+        assertThat(meterRegistry.get(HANDLER_ERRORS).tag("handler", "CallbackMetricsTest").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(HANDLER_WARNINGS).tag("handler", "CallbackMetricsTest").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRegisterCountersWhenThereAreNoErrorsOrWarnings() {
+        callbackMetrics.recordResponse(this, ABOUT_TO_SUBMIT, ADD_NOTE, Set.of(), null);
+
+        assertThat(meterRegistry.find(HANDLER_ERRORS).counter()).isNull();
+        assertThat(meterRegistry.find(HANDLER_WARNINGS).counter()).isNull();
+    }
+}
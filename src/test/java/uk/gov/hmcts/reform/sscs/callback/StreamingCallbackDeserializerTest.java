@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_HEARING_OUTCOME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+
+class StreamingCallbackDeserializerTest {
+
+    private static final String CALLBACK_JSON = "callback/addHearingOutcomeCallback.json";
+
+    private byte[] body;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CALLBACK_JSON)) {
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    void shouldDeserializeFromInputStream() throws IOException {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), false);
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CALLBACK_JSON)) {
+            Callback<SscsCaseData> callback = deserializer.deserialize(inputStream);
+
+            assertThat(callback.getEvent()).isEqualTo(ADD_HEARING_OUTCOME);
+            assertThat(callback.getCaseDetails().getCaseData().getCcdCaseId())
+                .isEqualTo(String.valueOf(callback.getCaseDetails().getId()));
+            assertThat(callback.getCaseDetailsBefore()).isPresent();
+        }
+    }
+
+    @Test
+    void shouldBindCaseDetailsBeforeOnlyWhenRequestedInLazyMode() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+
+        Callback<SscsCaseData> eager = deserializer.deserialize(body);
+        Callback<SscsCaseData> lazy = deserializer.deserializeForHandlers(body);
+
+        assertThat(lazy).isInstanceOf(LazyCaseDetailsBeforeCallback.class);
+        assertThat(lazy.getEvent()).isEqualTo(eager.getEvent());
+        assertThat(lazy.getCaseDetails().getId()).isEqualTo(eager.getCaseDetails().getId());
+        assertThat(lazy.getCaseDetails().getCaseData().getCcdCaseId())
+            .isEqualTo(eager.getCaseDetails().getCaseData().getCcdCaseId());
+        assertThat(lazy.getCaseDetailsBefore()).isPresent();
+        assertThat(lazy.getCaseDetailsBefore().get().getId()).isEqualTo(eager.getCaseDetailsBefore().get().getId());
+        assertThat(lazy.getCaseDetailsBefore().get()).isSameAs(lazy.getCaseDetailsBefore().get());
+    }
+
+    @Test
+    void shouldReturnEagerCallbackWhenLazyModeIsDisabled() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), false);
+
+        assertThat(deserializer.deserializeForHandlers(body)).isNotInstanceOf(LazyCaseDetailsBeforeCallback.class);
+    }
+
+    @Test
+    void shouldReturnEmptyCaseDetailsBeforeWhenAbsent() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+        String json = new String(body, StandardCharsets.UTF_8).replace("\"case_details_before\"", "\"ignored\"");
+
+        Callback<SscsCaseData> callback = deserializer.deserializeForHandlers(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(callback.getCaseDetailsBefore()).isEmpty();
+    }
+
+    @Test
+    void shouldReadTheEventTimestampFromTheCaseDetails() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+
+        assertThat(deserializer.eventTimestamp(body)).isEqualTo("2018-10-23T15:04:48.187");
+    }
+
+    @Test
+    void shouldReadAnEventTimestampSentAsText() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+        String json = "{\"case_details_before\": {\"last_modified\": \"2018-10-22T09:00:00\"},"
+            + " \"case_details\": {\"id\": 1, \"last_modified\": \"2018-10-23T15:04:48.187\"}}";
+
+        assertThat(deserializer.eventTimestamp(json.getBytes(StandardCharsets.UTF_8)))
+            .isEqualTo("2018-10-23T15:04:48.187");
+    }
+
+    @Test
+    void shouldReturnNoEventTimestampWhenAbsent() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+        String json = "{\"case_details\": {\"id\": 1}}";
+
+        assertThat(deserializer.eventTimestamp(json.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void shouldRejectInvalidJson() {
+        StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(SpringConfig.mapper(), true);
+
+        assertThatThrownBy(() -> deserializer.deserialize("not json".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.sscs.ccd.presubmit;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * The callback fixtures under src/test/resources/callback, with their placeholders filled in. Fixtures that still do
+ * not bind to a callback are left out.
+ */
+final class CallbackFixtures {
+
+    private static final Path DIRECTORY = Path.of("src/test/resources/callback");
+
+    static final ObjectMapper MAPPER = buildMapper();
+
+    private CallbackFixtures() {
+    }
+
+    static List<Path> paths() {
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            return files.filter(path -> path.toString().endsWith(".json")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Path largest() {
+        return paths().stream()
+            .filter(path -> load(path).isPresent())
+            .max((first, second) -> Long.compare(size(first), size(second)))
+            .orElseThrow();
+    }
+
+    static Optional<Callback<SscsCaseData>> load(Path path) {
+        try {
+            String json = Files.readString(path)
+                .replace("START_DATE_PLACEHOLDER", "2024-01-01")
+                .replace("DIRECTIONS_DUE_DATE_PLACEHOLDER", "2024-01-01")
+                .replace("BENEFIT_CODE_PLACEHOLDER", "002")
+                .replace("BENEFIT_DESCRIPTION_PLACEHOLDER", "PIP")
+                .replace("SELECTED_AUDIO_VIDEO_ACTION_PLACEHOLDER", "grant");
+            return Optional.ofNullable(new SscsCaseCallbackDeserializer(MAPPER).deserialize(json))
+                .filter(callback -> callback.getCaseDetails() != null
+                    && callback.getCaseDetails().getCaseData() != null);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ObjectMapper buildMapper() {
+        ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
+            .featuresToEnable(READ_ENUMS_USING_TO_STRING)
+            .featuresToEnable(READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE)
+            .featuresToEnable(WRITE_ENUMS_USING_TO_STRING)
+            .serializationInclusion(JsonInclude.Include.NON_ABSENT)
+            .createXmlMapper(false)
+            .build();
+        mapper.findAndRegisterModules();
+        return mapper;
+    }
+}
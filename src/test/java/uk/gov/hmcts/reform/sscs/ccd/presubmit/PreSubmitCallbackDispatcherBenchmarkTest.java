@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.sscs.ccd.presubmit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * Compares the bytes allocated by the dispatcher for a chain of handlers over the largest callback fixture, with and
+ * without the handlers sharing the working callback. Enabled with CALLBACK_BENCHMARK=true.
+ */
+@EnabledIfEnvironmentVariable(named = "CALLBACK_BENCHMARK", matches = "true")
+class PreSubmitCallbackDispatcherBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PreSubmitCallbackDispatcherBenchmarkTest.class);
+
+    private static final int HANDLERS = 20;
+    private static final int WARM_UP = 1_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    void sharingTheWorkingCallbackAllocatesLess() {
+        Callback<SscsCaseData> callback = CallbackFixtures.load(CallbackFixtures.largest()).orElseThrow();
+
+        long unshared = allocatedPerDispatch(new PreSubmitCallbackDispatcher<>(chain(false)), callback);
+        long shared = allocatedPerDispatch(new PreSubmitCallbackDispatcher<>(chain(true)), callback);
+
+        LOG.info("{} handlers over {}: {} bytes per dispatch unshared, {} bytes shared", HANDLERS,
+            CallbackFixtures.largest().getFileName(), unshared, shared);
+        assertThat(shared).isLessThan(unshared);
+    }
+
+    private static long allocatedPerDispatch(PreSubmitCallbackDispatcher<SscsCaseData> dispatcher,
+                                             Callback<SscsCaseData> callback) {
+        for (int i = 0; i < WARM_UP; i++) {
+            dispatcher.handle(ABOUT_TO_SUBMIT, callback, "Bearer token");
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            dispatcher.handle(ABOUT_TO_SUBMIT, callback, "Bearer token");
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    private static List<PreSubmitCallbackHandler<SscsCaseData>> chain(boolean sharing) {
+        return Collections.nCopies(HANDLERS, new PreSubmitCallbackHandler<>() {
+            @Override
+            public boolean canHandle(CallbackType callbackType, Callback<SscsCaseData> callback) {
+                return true;
+            }
+
+            @Override
+            public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType,
+                                                                  Callback<SscsCaseData> callback,
+                                                                  String userAuthorisation) {
+                return new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
+            }
+
+            @Override
+            public boolean sharesWorkingCallback() {
+                return sharing;
+            }
+        });
+    }
+}
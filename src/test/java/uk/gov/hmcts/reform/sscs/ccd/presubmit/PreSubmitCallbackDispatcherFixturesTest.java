@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.sscs.ccd.presubmit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * Runs every callback fixture through a chain mixing handlers that share the working callback with handlers that do
+ * not, and checks the chain ends with the same case data as when no handler shares.
+ */
+class PreSubmitCallbackDispatcherFixturesTest {
+
+    static List<Path> fixtures() {
+        return CallbackFixtures.paths().stream()
+            .filter(path -> CallbackFixtures.load(path).isPresent())
+            .toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("fixtures")
+    void sharedChainEndsWithTheSameCaseDataAsUnsharedChain(Path fixture) throws Exception {
+        Callback<SscsCaseData> callback = CallbackFixtures.load(fixture).orElseThrow();
+        List<ChainHandler> chain = chain(true);
+
+        PreSubmitCallbackResponse<SscsCaseData> shared =
+            new PreSubmitCallbackDispatcher<>(List.<PreSubmitCallbackHandler<SscsCaseData>>copyOf(chain))
+                .handle(ABOUT_TO_SUBMIT, callback, "Bearer token");
+        PreSubmitCallbackResponse<SscsCaseData> unshared =
+            new PreSubmitCallbackDispatcher<>(List.<PreSubmitCallbackHandler<SscsCaseData>>copyOf(chain(false)))
+                .handle(ABOUT_TO_SUBMIT, CallbackFixtures.load(fixture).orElseThrow(), "Bearer token");
+
+        assertThat(CallbackFixtures.MAPPER.writeValueAsString(shared.getData()))
+            .isEqualTo(CallbackFixtures.MAPPER.writeValueAsString(unshared.getData()));
+        assertThat(shared.getData().getCaseCode()).endsWith("abcdef");
+
+        Callback<SscsCaseData> first = chain.get(0).seen;
+        assertThat(chain.get(1).seen).isSameAs(first);
+        assertThat(chain.get(2).seen).isNotSameAs(first);
+        assertThat(chain.get(3).seen).isSameAs(first);
+        assertThat(chain.get(4).seen).isSameAs(first);
+        assertThat(chain.get(5).seen).isNotSameAs(first);
+        assertThat(chain.get(5).seen.getCaseDetails().getCaseData()).isSameAs(shared.getData());
+        chain.forEach(handler -> assertThat(handler.seen.getCaseDetailsBefore())
+            .isSameAs(callback.getCaseDetailsBefore()));
+    }
+
+    /**
+     * Six handlers that each append a letter to the case code; the third does not share and the fifth hands back a
+     * copy of the case data.
+     */
+    private static List<ChainHandler> chain(boolean sharing) {
+        List<ChainHandler> chain = new ArrayList<>();
+        chain.add(new ChainHandler("a", sharing, false));
+        chain.add(new ChainHandler("b", sharing, false));
+        chain.add(new ChainHandler("c", false, false));
+        chain.add(new ChainHandler("d", sharing, false));
+        chain.add(new ChainHandler("e", sharing, true));
+        chain.add(new ChainHandler("f", sharing, false));
+        return chain;
+    }
+
+    private static final class ChainHandler implements PreSubmitCallbackHandler<SscsCaseData> {
+        private final String letter;
+        private final boolean sharing;
+        private final boolean copies;
+        private Callback<SscsCaseData> seen;
+
+        private ChainHandler(String letter, boolean sharing, boolean copies) {
+            this.letter = letter;
+            this.sharing = sharing;
+            this.copies = copies;
+        }
+
+        @Override
+        public boolean canHandle(CallbackType callbackType, Callback<SscsCaseData> callback) {
+            return true;
+        }
+
+        @Override
+        public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType,
+                                                              Callback<SscsCaseData> callback,
+                                                              String userAuthorisation) {
+            seen = callback;
+            SscsCaseData caseData = callback.getCaseDetails().getCaseData();
+            if (copies) {
+                caseData = caseData.toBuilder().build();
+            }
+            caseData.setCaseCode(Optional.ofNullable(caseData.getCaseCode()).orElse("") + letter);
+            return new PreSubmitCallbackResponse<>(caseData);
+        }
+
+        @Override
+        public boolean sharesWorkingCallback() {
+            return sharing;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -16,19 +18,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_START;
 import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_NOTE;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.DWP_UPLOAD_RESPONSE;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.VALID_APPEAL_CREATED;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.State.READY_TO_LIST;
 import static uk.gov.hmcts.reform.sscs.ccd.util.CaseDataUtils.buildCaseData;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.callback.CallbackMetrics;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
@@ -91,6 +97,46 @@ public class PreSubmitCallbackDispatcherTest {
         assertEquals("pageId", callbackCaptor.getValue().getPageId());
     }
 
+    @Test
+    public void should_share_working_callback_between_opted_in_handlers_while_case_data_is_unchanged() {
+        PreSubmitCallbackResponse<CaseData> sameDataResponse = new PreSubmitCallbackResponse<>(caseData);
+        when(handler1.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler1.sharesWorkingCallback()).thenReturn(true);
+        when(handler1.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION)))
+                .thenReturn(sameDataResponse);
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler2.sharesWorkingCallback()).thenReturn(true);
+        when(handler2.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION))).thenReturn(response2);
+
+        preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        ArgumentCaptor<Callback> firstCaptor = ArgumentCaptor.forClass(Callback.class);
+        ArgumentCaptor<Callback> secondCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(handler1).handle(eq(ABOUT_TO_SUBMIT), firstCaptor.capture(), eq(USER_AUTHORISATION));
+        verify(handler2).handle(eq(ABOUT_TO_SUBMIT), secondCaptor.capture(), eq(USER_AUTHORISATION));
+        assertSame(firstCaptor.getValue(), secondCaptor.getValue());
+        assertSame(callback.getCaseDetailsBefore(), secondCaptor.getValue().getCaseDetailsBefore());
+    }
+
+    @Test
+    public void should_give_a_handler_that_has_not_opted_in_a_callback_of_its_own() {
+        PreSubmitCallbackResponse<CaseData> sameDataResponse = new PreSubmitCallbackResponse<>(caseData);
+        when(handler1.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler1.sharesWorkingCallback()).thenReturn(true);
+        when(handler1.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION)))
+                .thenReturn(sameDataResponse);
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler2.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION))).thenReturn(response2);
+
+        preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        ArgumentCaptor<Callback> firstCaptor = ArgumentCaptor.forClass(Callback.class);
+        ArgumentCaptor<Callback> secondCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(handler1).handle(eq(ABOUT_TO_SUBMIT), firstCaptor.capture(), eq(USER_AUTHORISATION));
+        verify(handler2).handle(eq(ABOUT_TO_SUBMIT), secondCaptor.capture(), eq(USER_AUTHORISATION));
+        assertNotSame(firstCaptor.getValue(), secondCaptor.getValue());
+    }
+
     @Test
     public void should_not_throw_exception_for_create_case_start_callbacks() {
         CaseDetails<CaseData> caseDetails =
@@ -130,6 +176,40 @@ public class PreSubmitCallbackDispatcherTest {
         ;
     }
 
+    @Test
+    public void should_not_probe_handlers_declared_for_other_events() {
+        when(handler1.handledCallbackTypes()).thenReturn(Set.of(ABOUT_TO_SUBMIT));
+        when(handler1.handledEvents()).thenReturn(Set.of(ADD_NOTE));
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler2.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION))).thenReturn(response2);
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2));
+
+        PreSubmitCallbackResponse<CaseData> callbackResponse =
+                preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        assertEquals(caseDataMutation2, callbackResponse.getData());
+        verify(handler1, never()).canHandle(any(), any(Callback.class));
+    }
+
+    @Test
+    public void should_record_handler_metrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2),
+                new CallbackMetrics(meterRegistry));
+        when(handler1.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler1.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION))).thenReturn(response1);
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(false);
+
+        preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        assertEquals(1, meterRegistry.get(CallbackMetrics.HANDLER_TIMER)
+                .tag("event", DWP_UPLOAD_RESPONSE.name())
+                .tag("outcome", CallbackMetrics.OUTCOME_ERRORS)
+                .timer().count());
+        assertEquals(1.0, meterRegistry.get(CallbackMetrics.HANDLER_ERRORS).counter().count());
+        assertEquals(1, meterRegistry.get(CallbackMetrics.DISPATCH_TIMER).timer().count());
+    }
+
     @Test
     public void should_not_error_if_no_handlers_are_provided() {
         PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher =
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.sscs.ccd.presubmit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_START;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_NOTE;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.CREATE_BUNDLE;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.DWP_UPLOAD_RESPONSE;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
+
+@ExtendWith(MockitoExtension.class)
+class PreSubmitCallbackHandlerIndexTest {
+
+    @Mock
+    private PreSubmitCallbackHandler<CaseData> dynamicHandler1;
+    @Mock
+    private PreSubmitCallbackHandler<CaseData> addNoteHandler;
+    @Mock
+    private PreSubmitCallbackHandler<CaseData> dynamicHandler2;
+    @Mock
+    private PreSubmitCallbackHandler<CaseData> bundleHandler;
+
+    private PreSubmitCallbackHandlerIndex<CaseData> index;
+
+    @BeforeEach
+    void setUp() {
+        when(addNoteHandler.handledCallbackTypes()).thenReturn(Set.of(ABOUT_TO_SUBMIT));
+        when(addNoteHandler.handledEvents()).thenReturn(Set.of(ADD_NOTE));
+        when(bundleHandler.handledCallbackTypes()).thenReturn(Set.of(ABOUT_TO_START, ABOUT_TO_SUBMIT));
+        when(bundleHandler.handledEvents()).thenReturn(Set.of(CREATE_BUNDLE, ADD_NOTE));
+
+        index = new PreSubmitCallbackHandlerIndex<>(
+                List.of(dynamicHandler1, addNoteHandler, dynamicHandler2, bundleHandler));
+    }
+
+    @Test
+    void shouldRouteToDeclaredHandlersAndDynamicHandlersInRegistrationOrder() {
+        assertThat(index.candidates(ABOUT_TO_SUBMIT, ADD_NOTE))
+                .containsExactly(dynamicHandler1, addNoteHandler, dynamicHandler2, bundleHandler);
+        assertThat(index.candidates(ABOUT_TO_START, ADD_NOTE))
+                .containsExactly(dynamicHandler1, dynamicHandler2, bundleHandler);
+        assertThat(index.candidates(ABOUT_TO_START, CREATE_BUNDLE))
+                .containsExactly(dynamicHandler1, dynamicHandler2, bundleHandler);
+    }
+
+    @Test
+    void shouldOnlyReturnDynamicHandlersForUndeclaredEvents() {
+        assertThat(index.candidates(ABOUT_TO_SUBMIT, DWP_UPLOAD_RESPONSE))
+                .containsExactly(dynamicHandler1, dynamicHandler2);
+        assertThat(index.candidates(ABOUT_TO_SUBMIT, null))
+                .containsExactly(dynamicHandler1, dynamicHandler2);
+    }
+
+    @Test
+    void shouldCountIndexedAndDynamicHandlers() {
+        assertThat(index.getIndexedHandlerCount()).isEqualTo(2);
+        assertThat(index.getDynamicHandlerCount()).isEqualTo(2);
+    }
+}
@@ -36,10 +36,10 @@ import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicList;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicListItem;
@@ -75,7 +75,7 @@ public class CcdCallbackControllerTest {
     private AuthorisationService authorisationService;
 
     @MockitoBean
-    private SscsCaseCallbackDeserializer deserializer;
+    private StreamingCallbackDeserializer deserializer;
 
     @MockitoBean
     private Callback<SscsCaseData> caseDataCallback;
@@ -108,7 +108,7 @@ public class CcdCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserializeForHandlers(content.getBytes(StandardCharsets.UTF_8))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ACTION_FURTHER_EVIDENCE, false));
 
@@ -133,7 +133,7 @@ public class CcdCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserializeForHandlers(content.getBytes(StandardCharsets.UTF_8))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), INTERLOC_INFORMATION_RECEIVED, false));
 
@@ -154,7 +154,7 @@ public class CcdCallbackControllerTest {
     @Test
     public void givenSubmittedCallbackForActionFurtherEvidenceEvent_shouldReturnOk() throws Exception {
         Callback<SscsCaseData> callback = buildCallbackForTestScenarioForGivenEvent();
-        given(deserializer.deserialize(anyString())).willReturn(callback);
+        given(deserializer.deserializeForHandlers(any(byte[].class))).willReturn(callback);
 
         when(idamService.getIdamTokens()).thenReturn(IdamTokens.builder().build());
 
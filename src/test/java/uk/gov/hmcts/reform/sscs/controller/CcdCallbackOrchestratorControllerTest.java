@@ -2,23 +2,26 @@ package uk.gov.hmcts.reform.sscs.controller;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+import uk.gov.hmcts.reform.sscs.service.servicebus.outbox.CallbackOutboxService;
 
 
 public class CcdCallbackOrchestratorControllerTest {
@@ -29,12 +32,15 @@ public class CcdCallbackOrchestratorControllerTest {
     private SendCallbackHandler callbackHandler;
 
     @Mock
-    private SscsCaseCallbackDeserializer deserializer;
+    private StreamingCallbackDeserializer deserializer;
+
+    @Mock
+    private CallbackOutboxService callbackOutbox;
 
     @Before
     public void setUp() {
         openMocks(this);
-        controller = new CcdCallbackOrchestratorController(callbackHandler, deserializer);
+        controller = new CcdCallbackOrchestratorController(callbackHandler, deserializer, callbackOutbox);
     }
 
     @Test
@@ -43,11 +49,43 @@ public class CcdCallbackOrchestratorControllerTest {
         var time = LocalDateTime.now();
         CaseDetails<SscsCaseData> details = new CaseDetails<>(1L, "jurisdiction", null, sscsCaseData, time, "Benefit");
         EventType eventType = EventType.APPEAL_RECEIVED;
-        when(deserializer.deserialize(anyString())).thenReturn(new Callback<>(details, Optional.empty(), eventType, false));
-        ResponseEntity<String> responseEntity = controller.send("");
-        verify(callbackHandler).handle(any());
+        Callback<SscsCaseData> callback = new Callback<>(details, Optional.empty(), eventType, false);
+        when(deserializer.deserialize(any(byte[].class))).thenReturn(callback);
+        when(deserializer.eventTimestamp(any(byte[].class))).thenReturn("2024-01-01T10:00:00");
+        ResponseEntity<String> responseEntity = controller.send(new byte[0]);
+        verify(callbackHandler).handle(callback, "2024-01-01T10:00:00");
         assertEquals(200, responseEntity.getStatusCode().value());
         assertEquals("{}", responseEntity.getBody());
     }
 
+    @Test
+    public void shouldQueueCallbackInOutboxWhenEnabled() {
+        SscsCaseData sscsCaseData = SscsCaseData.builder().build();
+        CaseDetails<SscsCaseData> details = new CaseDetails<>(1L, "jurisdiction", null, sscsCaseData, LocalDateTime.now(), "Benefit");
+        Callback<SscsCaseData> callback = new Callback<>(details, Optional.empty(), EventType.APPEAL_RECEIVED, false);
+        byte[] body = "{}".getBytes();
+        when(deserializer.deserialize(body)).thenReturn(callback);
+        when(callbackOutbox.isEnabled()).thenReturn(true);
+
+        ResponseEntity<String> responseEntity = controller.send(body);
+
+        verify(callbackOutbox).enqueue(callback, body);
+        verifyNoInteractions(callbackHandler);
+        assertEquals(200, responseEntity.getStatusCode().value());
+    }
+
+    @Test
+    public void shouldAskForTheCallbackToBeRetriedWhenItsCaseStripeIsFull() {
+        SscsCaseData sscsCaseData = SscsCaseData.builder().build();
+        CaseDetails<SscsCaseData> details = new CaseDetails<>(1L, "jurisdiction", null, sscsCaseData, LocalDateTime.now(), "Benefit");
+        Callback<SscsCaseData> callback = new Callback<>(details, Optional.empty(), EventType.APPEAL_RECEIVED, false);
+        byte[] body = "{}".getBytes();
+        when(deserializer.deserialize(body)).thenReturn(callback);
+        doThrow(new RejectedExecutionException("full")).when(callbackHandler).handle(any(), any());
+
+        ResponseEntity<String> responseEntity = controller.send(body);
+
+        assertEquals(503, responseEntity.getStatusCode().value());
+    }
+
 }
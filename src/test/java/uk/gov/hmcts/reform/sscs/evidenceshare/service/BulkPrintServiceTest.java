@@ -64,6 +64,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.YesNo;
 import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.BulkPrintException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.NonPdfBulkPrintException;
+import uk.gov.hmcts.reform.sscs.evidenceshare.exception.SendLetterUnavailableException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 
 @ExtendWith(MockitoExtension.class)
@@ -103,7 +104,7 @@ class BulkPrintServiceTest {
 
     @BeforeEach
     void setUp() {
-        this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true, 1,
+        this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true,
             ccdNotificationService);
         lenient().when(idamService.generateServiceAuthorization()).thenReturn(AUTH_TOKEN);
     }
@@ -193,11 +194,12 @@ class BulkPrintServiceTest {
     }
 
     @Test
-    void willThrowAnyExceptionsToBulkPrint() {
+    void willThrowARetryableExceptionWithoutRetryingWhenSendLetterFails() {
         when(sendLetterApi.sendLetter(eq(AUTH_TOKEN), any(LetterWithPdfsRequest.class))).thenThrow(new RuntimeException("error"));
 
         assertThatThrownBy(() -> bulkPrintService.sendToBulkPrint(PDF_LIST, SSCS_CASE_DATA, null)).isInstanceOf(
-            BulkPrintException.class);
+            SendLetterUnavailableException.class);
+        verify(sendLetterApi, times(1)).sendLetter(eq(AUTH_TOKEN), any(LetterWithPdfsRequest.class));
     }
 
     @Test
@@ -211,7 +213,7 @@ class BulkPrintServiceTest {
 
     @Test
     void sendLetterNotEnabledWillNotSendToBulkPrint() {
-        BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false, 1,
+        BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false,
             ccdNotificationService);
         notEnabledBulkPrint.sendToBulkPrint(PDF_LIST, SSCS_CASE_DATA, null);
         verifyNoInteractions(idamService);
@@ -220,7 +222,7 @@ class BulkPrintServiceTest {
 
     @Test
     void willSendToBulkPrintWithReasonableAdjustment() {
-        this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true, 1,
+        this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true,
             ccdNotificationService);
 
         SSCS_CASE_DATA.setReasonableAdjustments(ReasonableAdjustments
@@ -362,7 +364,7 @@ class BulkPrintServiceTest {
 
     @Test
     void sendLetterToBulkPrintAndSaveAllDocumentsIntoCcdNotification_whenSendLetterDisabled_returnsEmpty() {
-        BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false, 1,
+        BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false,
                 ccdNotificationService);
         Optional<UUID> id = notEnabledBulkPrint.sendLetterToBulkPrintAndSaveAllDocumentsIntoCcdNotification(234, SSCS_CASE_DATA, PDF_LIST, EventType.ISSUE_GENERIC_LETTER, "appellant");
         assertThat(id).isEqualTo(Optional.empty());
@@ -1,18 +1,29 @@
 package uk.gov.hmcts.reform.sscs.jms.listener;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.ADJOURNED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.JMSException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.qpid.jms.message.JmsBytesMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +37,8 @@ import uk.gov.hmcts.reform.sscs.exception.HmcEventProcessingException;
 import uk.gov.hmcts.reform.sscs.exception.MessageProcessingException;
 import uk.gov.hmcts.reform.sscs.model.hmc.message.HearingUpdate;
 import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageCoalescer;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageOrder;
 import uk.gov.hmcts.reform.sscs.service.hmc.topic.ProcessHmcMessageServiceV2;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,6 +115,94 @@ class HmcHearingsEventTopicListenerTest {
             .withCauseInstanceOf(MessageProcessingException.class);
     }
 
+    @Test
+    @DisplayName("Processing time should be recorded per HMC status and outcome, and consumer lag when published time is known.")
+    void testOnMessage_recordsMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hmcHearingsEventTopicListener = new HmcHearingsEventTopicListener(processHmcMessageServiceV2, meterRegistry, 4,
+            HmcMessageCoalescer.disabled(), HmcMessageOrder.unordered());
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "objectMapper", mockObjectMapper);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "hmctsDeploymentId", "test");
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+        given(bytesMessage.getJMSTimestamp()).willReturn(System.currentTimeMillis() - 5000);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        assertThat(meterRegistry.get(HmcHearingsEventTopicListener.PROCESSING_TIMER)
+            .tag("hmcStatus", "ADJOURNED").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(HmcHearingsEventTopicListener.LAG_TIMER)
+            .tag("hmcStatus", "ADJOURNED").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("Messages for the same case should not be processed concurrently by different consumers.")
+    void testOnMessage_sameCaseIsNotProcessedConcurrently() throws Exception {
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(processHmcMessageServiceV2).processEventMessage(hmcMessage);
+
+        ExecutorService consumers = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(consumers.submit(() -> {
+                hmcHearingsEventTopicListener.onMessage(bytesMessage);
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        consumers.shutdown();
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A message parked by the coalescer should be acknowledged and only applied once its window has passed.")
+    void testOnMessage_parkedMessageIsAppliedLater() throws Exception {
+        HmcMessageCoalescer coalescer = mock(HmcMessageCoalescer.class);
+        hmcHearingsEventTopicListener = new HmcHearingsEventTopicListener(processHmcMessageServiceV2,
+            new SimpleMeterRegistry(), 4, coalescer, HmcMessageOrder.unordered());
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "objectMapper", mockObjectMapper);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "hmctsDeploymentId", "test");
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+        given(coalescer.park(eq(hmcMessage), any(byte[].class))).willReturn(true);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        verifyNoProcessEventMessageCall();
+
+        hmcHearingsEventTopicListener.applyParked("{}".getBytes(StandardCharsets.UTF_8));
+
+        verify(processHmcMessageServiceV2).processEventMessage(hmcMessage);
+    }
+
+    @Test
+    @DisplayName("A message older than one already applied for the same hearing should be acknowledged without processing.")
+    void testOnMessage_outOfOrderMessageIsNotProcessed() throws Exception {
+        HmcMessageOrder order = mock(HmcMessageOrder.class);
+        hmcHearingsEventTopicListener = new HmcHearingsEventTopicListener(processHmcMessageServiceV2,
+            new SimpleMeterRegistry(), 4, HmcMessageCoalescer.disabled(), order);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "objectMapper", mockObjectMapper);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "hmctsDeploymentId", "test");
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+        given(order.isOutOfOrder(hmcMessage)).willReturn(true);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        verifyNoProcessEventMessageCall();
+    }
+
     private void verifyNoProcessEventMessageCall() throws CaseException, MessageProcessingException {
         verify(processHmcMessageServiceV2, never()).processEventMessage((any(HmcMessage.class)));
     }
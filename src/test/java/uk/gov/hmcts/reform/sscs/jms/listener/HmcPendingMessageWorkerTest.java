@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.sscs.jms.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.exception.MessageProcessingException;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcMessageCoalescer;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcPendingMessageRepository;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.PendingHmcMessage;
+
+@ExtendWith(MockitoExtension.class)
+class HmcPendingMessageWorkerTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes();
+
+    @Mock
+    private HmcPendingMessageRepository repository;
+    @Mock
+    private HmcHearingsEventTopicListener listener;
+    @Mock
+    private HmcMessageCoalescer coalescer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HmcPendingMessageWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new HmcPendingMessageWorker(repository, listener, coalescer, meterRegistry, 2, 300, 3, 30,
+            Runnable::run);
+    }
+
+    @Test
+    void shouldNotPollWithoutACoalescingWindow() {
+        worker.poll();
+
+        verifyNoInteractions(repository, listener);
+    }
+
+    @Test
+    void shouldApplyEachClaimedMessageAndCompleteIt() throws Exception {
+        PendingHmcMessage message = new PendingHmcMessage("1", 1234L, 3, PAYLOAD, 1);
+        given(coalescer.isEnabled()).willReturn(true);
+        given(repository.claim(anyString(), eq(2), eq(300L))).willReturn(List.of(message));
+        given(repository.complete(eq(message), anyString())).willReturn(true);
+
+        worker.poll();
+
+        verify(listener).applyParked(PAYLOAD);
+        verify(repository).complete(eq(message), anyString());
+        assertThat(meterRegistry.get(HmcPendingMessageWorker.PROCESSED).tag("outcome", "completed").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseAFailedMessageWithBackoff() throws Exception {
+        PendingHmcMessage message = new PendingHmcMessage("1", 1234L, 1, PAYLOAD, 2);
+        doThrow(new MessageProcessingException("HMC down")).when(listener).applyParked(PAYLOAD);
+
+        worker.apply(message);
+
+        verify(repository).release(eq(message), anyString(), eq(60L), anyString());
+        verify(repository, never()).fail(eq(message), anyString(), anyString());
+    }
+
+    @Test
+    void shouldFailAMessageAfterItsLastAttempt() throws Exception {
+        PendingHmcMessage message = new PendingHmcMessage("1", 1234L, 1, PAYLOAD, 3);
+        doThrow(new MessageProcessingException("HMC down")).when(listener).applyParked(PAYLOAD);
+
+        worker.apply(message);
+
+        verify(repository).fail(eq(message), anyString(), anyString());
+        verify(repository, never()).release(eq(message), anyString(), anyLong(), anyString());
+        assertThat(meterRegistry.get(HmcPendingMessageWorker.PROCESSED).tag("outcome", "failed").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotClaimMoreMessagesThanThereAreIdleWorkers() {
+        given(coalescer.isEnabled()).willReturn(true);
+        worker = new HmcPendingMessageWorker(repository, listener, coalescer, meterRegistry, 2, 300, 3, 30,
+            command -> { });
+        given(repository.claim(anyString(), anyInt(), anyLong())).willReturn(List.of(
+            new PendingHmcMessage("1", 1L, 1, PAYLOAD, 1),
+            new PendingHmcMessage("2", 2L, 1, PAYLOAD, 1)));
+
+        worker.poll();
+        worker.poll();
+
+        verify(repository).claim(anyString(), eq(2), eq(300L));
+    }
+}
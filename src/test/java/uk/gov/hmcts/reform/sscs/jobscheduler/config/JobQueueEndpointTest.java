@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerMetaData;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzQueueRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobQueueEndpointTest {
+
+    @Mock
+    private Scheduler scheduler;
+    @Mock
+    private QuartzQueueRepository queueRepository;
+
+    @Test
+    void summarisesThePendingJobsOfTheScheduler() throws Exception {
+        Map<String, Map<String, Long>> pending = new LinkedHashMap<>();
+        pending.put("overdue", Map.of("hearingReminder", 2L));
+        pending.put("next1h", Map.of("hearingReminder", 3L, "evidenceReminder", 4L));
+        pending.put("later", Map.of());
+        SchedulerMetaData metaData = mock(SchedulerMetaData.class);
+        when(metaData.getThreadPoolSize()).thenReturn(16);
+        when(scheduler.getSchedulerName()).thenReturn("scheduler");
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(queueRepository.countPending(eq("scheduler"), anyLong())).thenReturn(pending);
+
+        Map<String, Object> queue = new JobQueueEndpoint(scheduler, queueRepository).queue();
+
+        assertThat(queue).containsEntry("total", 9L)
+            .containsEntry("threadPoolSize", 16)
+            .containsEntry("pending", pending)
+            .containsKey("at");
+    }
+}
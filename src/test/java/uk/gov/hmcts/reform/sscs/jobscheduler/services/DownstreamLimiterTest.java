@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter.CCD;
+import static uk.gov.hmcts.reform.sscs.jobscheduler.services.DownstreamLimiter.IDAM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DownstreamLimiterTest {
+
+    @Test
+    void limitsConcurrentCallsToADownstream() throws Exception {
+        DownstreamLimiter limiter = new DownstreamLimiter(Map.of(CCD, 2));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            threads.add(Thread.ofVirtual().start(() -> limiter.run(CCD, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            })));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(limiter.availablePermits(CCD)).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotLimitDownstreamsWithoutALimit() {
+        DownstreamLimiter limiter = new DownstreamLimiter(Map.of(CCD, 0));
+
+        assertThat(limiter.call(IDAM, () -> "tokens")).isEqualTo("tokens");
+        assertThat(limiter.availablePermits(CCD)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void releasesThePermitWhenTheCallFails() {
+        DownstreamLimiter limiter = new DownstreamLimiter(Map.of(CCD, 1));
+
+        assertThatThrownBy(() -> limiter.run(CCD, () -> {
+            throw new IllegalStateException("CCD is down");
+        })).hasMessage("CCD is down");
+        assertThat(limiter.availablePermits(CCD)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs the group delete against a real Postgres, in a throwaway schema built by the Flyway migrations. Only runs when
+ * QUARTZ_POSTGRES_URL is set to a JDBC url, including user and password, e.g.
+ * {@code jdbc:postgresql://localhost:5432/sscs?user=sscs&password=sscs}.
+ */
+@EnabledIfEnvironmentVariable(named = "QUARTZ_POSTGRES_URL", matches = "jdbc:postgresql:.+")
+class QuartzJobGroupRepositoryPostgresTest {
+
+    private static final String SCHEDULER = "scheduler";
+
+    private final String schema = "quartz_test_" + UUID.randomUUID().toString().replace("-", "");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private QuartzJobGroupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("QUARTZ_POSTGRES_URL");
+        dataSource = new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(schema)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new QuartzJobGroupRepository(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void deletesTheJobsAndTriggersOfTheGivenGroupsOnly() {
+        insertJob("job1", "1_hearingReminder");
+        insertJob("job2", "1_hearingReminder");
+        insertJob("job3", "1_evidenceReminder");
+        insertJob("job4", "2_hearingReminder");
+
+        Map<String, Integer> deleted = repository.deleteGroups(SCHEDULER,
+            List.of("1_hearingReminder", "1_evidenceReminder", "1_missing"));
+
+        assertThat(deleted).containsOnly(entry("1_hearingReminder", 2), entry("1_evidenceReminder", 1));
+        assertThat(jdbcTemplate.queryForList("SELECT job_group FROM qrtz_job_details", String.class))
+            .containsExactly("2_hearingReminder");
+        assertThat(jdbcTemplate.queryForList("SELECT trigger_name FROM qrtz_triggers", String.class))
+            .containsExactly("job4");
+        assertThat(jdbcTemplate.queryForList("SELECT trigger_name FROM qrtz_simple_triggers", String.class))
+            .containsExactly("job4");
+    }
+
+    @Test
+    void waitsForTheSchedulerToReleaseTheTriggerAccessLock() throws Exception {
+        insertJob("job1", "1_hearingReminder");
+        jdbcTemplate.update("INSERT INTO qrtz_locks (sched_name, lock_name) VALUES (?, 'TRIGGER_ACCESS')", SCHEDULER);
+
+        CompletableFuture<Map<String, Integer>> deleted;
+        try (Connection scheduler = dataSource.getConnection()) {
+            scheduler.setAutoCommit(false);
+            try (Statement statement = scheduler.createStatement()) {
+                statement.execute("SELECT * FROM qrtz_locks WHERE sched_name = '" + SCHEDULER
+                    + "' AND lock_name = 'TRIGGER_ACCESS' FOR UPDATE");
+            }
+
+            deleted = CompletableFuture.supplyAsync(() -> repository.deleteGroups(SCHEDULER,
+                List.of("1_hearingReminder")));
+            TimeUnit.MILLISECONDS.sleep(500);
+            assertThat(deleted).isNotDone();
+
+            scheduler.commit();
+        }
+
+        assertThat(deleted.get(10, TimeUnit.SECONDS)).containsOnly(entry("1_hearingReminder", 1));
+    }
+
+    @Test
+    void createsTheTriggerAccessLockWhenNoSchedulerHasYet() {
+        insertJob("job1", "1_hearingReminder");
+
+        repository.deleteGroups(SCHEDULER, List.of("1_hearingReminder"));
+
+        assertThat(jdbcTemplate.queryForList("SELECT lock_name FROM qrtz_locks WHERE sched_name = ?", String.class,
+            SCHEDULER)).containsExactly("TRIGGER_ACCESS");
+    }
+
+    private void insertJob(String name, String group) {
+        jdbcTemplate.update("INSERT INTO qrtz_job_details (sched_name, job_name, job_group, job_class_name, "
+            + "is_durable, is_nonconcurrent, is_update_data, requests_recovery) "
+            + "VALUES (?, ?, ?, 'Job', false, false, false, false)", SCHEDULER, name, group);
+        jdbcTemplate.update("INSERT INTO qrtz_triggers (sched_name, trigger_name, trigger_group, job_name, job_group, "
+            + "next_fire_time, trigger_state, trigger_type, start_time) VALUES (?, ?, ?, ?, ?, 0, 'WAITING', 'SIMPLE', 0)",
+            SCHEDULER, name, group, name, group);
+        jdbcTemplate.update("INSERT INTO qrtz_simple_triggers (sched_name, trigger_name, trigger_group, repeat_count, "
+            + "repeat_interval, times_triggered) VALUES (?, ?, ?, 0, 0, 0)", SCHEDULER, name, group);
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+
+class QuartzJobMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QuartzJobMetrics metrics = new QuartzJobMetrics(meterRegistry);
+
+    @Test
+    void kindIsTheJobGroupWithoutItsCaseId() {
+        assertThat(QuartzJobMetrics.kind("1234567890_hearingReminder")).isEqualTo("hearingReminder");
+        assertThat(QuartzJobMetrics.kind("1234_appealReceived_welsh")).isEqualTo("appealReceived_welsh");
+        assertThat(QuartzJobMetrics.kind("adminJobs")).isEqualTo("adminJobs");
+    }
+
+    @Test
+    void recordsHowLateAJobStarts() {
+        JobExecutionContext context = context("1234_evidenceReminder");
+        when(context.getScheduledFireTime()).thenReturn(new Date(System.currentTimeMillis() - 90_000));
+
+        metrics.jobToBeExecuted(context);
+
+        Timer lag = meterRegistry.get(QuartzJobMetrics.FIRE_LAG).tag("kind", "evidenceReminder").timer();
+        assertThat(lag.count()).isEqualTo(1);
+        assertThat(lag.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void recordsExecutionTimeByMappingAndOutcome() {
+        JobExecutionContext context = context("1234_hearingReminder");
+        when(context.get(QuartzJobMetrics.JOB_MAPPING)).thenReturn("CcdActionExecutor");
+        when(context.getJobRunTime()).thenReturn(250L);
+
+        metrics.jobWasExecuted(context, null);
+        metrics.jobWasExecuted(context, new JobExecutionException("CCD is down"));
+
+        Timer success = meterRegistry.get(QuartzJobMetrics.EXECUTION)
+            .tags("kind", "hearingReminder", "mapping", "CcdActionExecutor", "outcome", "success").timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(meterRegistry.get(QuartzJobMetrics.EXECUTION).tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void countsMisfiresByKind() {
+        Trigger trigger = mock(Trigger.class);
+        when(trigger.getJobKey()).thenReturn(new JobKey("job", "1234_hearingReminder"));
+
+        metrics.triggerMisfired(trigger);
+
+        assertThat(meterRegistry.get(QuartzJobMetrics.MISFIRES).tag("kind", "hearingReminder").counter().count())
+            .isEqualTo(1);
+    }
+
+    private static JobExecutionContext context(String jobGroup) {
+        JobExecutionContext context = mock(JobExecutionContext.class);
+        JobDetail jobDetail = mock(JobDetail.class);
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        when(jobDetail.getKey()).thenReturn(new JobKey("job", jobGroup));
+        return context;
+    }
+}
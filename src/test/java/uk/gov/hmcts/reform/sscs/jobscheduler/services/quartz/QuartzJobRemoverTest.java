@@ -1,7 +1,9 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
@@ -15,6 +17,7 @@ import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -22,7 +25,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.SchedulerMetaData;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.dao.DataAccessResourceFailureException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 
@@ -209,4 +214,55 @@ public class QuartzJobRemoverTest {
             .isExactlyInstanceOf(JobException.class);
     }
 
+
+    @Test
+    public void groups_are_removed_in_one_statement_when_the_job_store_is_persistent() throws Exception {
+
+        QuartzJobGroupRepository jobGroupRepository = mock(QuartzJobGroupRepository.class);
+        SchedulerMetaData metaData = mock(SchedulerMetaData.class);
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(metaData.isJobStoreSupportsPersistence()).thenReturn(true);
+        when(scheduler.getSchedulerName()).thenReturn("scheduler");
+        when(jobGroupRepository.deleteGroups(eq("scheduler"), any()))
+            .thenReturn(Map.of("1_hearingReminder", 2));
+
+        Map<String, Integer> removed = new QuartzJobRemover(scheduler, jobGroupRepository)
+            .removeGroups(List.of("1_hearingReminder", "1_evidenceReminder"));
+
+        assertThat(removed).containsExactly(entry("1_hearingReminder", 2), entry("1_evidenceReminder", 0));
+        verify(scheduler, never()).deleteJobs(any());
+    }
+
+    @Test
+    public void database_errors_removing_groups_are_wrapped() throws Exception {
+
+        QuartzJobGroupRepository jobGroupRepository = mock(QuartzJobGroupRepository.class);
+        SchedulerMetaData metaData = mock(SchedulerMetaData.class);
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(metaData.isJobStoreSupportsPersistence()).thenReturn(true);
+        when(scheduler.getSchedulerName()).thenReturn("scheduler");
+        when(jobGroupRepository.deleteGroups(eq("scheduler"), any()))
+            .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        assertThatThrownBy(() -> new QuartzJobRemover(scheduler, jobGroupRepository)
+            .removeGroups(List.of("1_hearingReminder")))
+            .isExactlyInstanceOf(JobException.class)
+            .hasMessage("Error while removing Jobs by Group. Groups: [1_hearingReminder]");
+    }
+
+    @Test
+    public void groups_are_removed_through_the_scheduler_when_the_job_store_is_in_memory() throws Exception {
+
+        JobKey jobKey = new JobKey("job-id", "1_hearingReminder");
+        when(scheduler.getJobKeys(GroupMatcher.groupEquals("1_hearingReminder")))
+            .thenReturn(ImmutableSet.of(jobKey));
+        when(scheduler.getJobKeys(GroupMatcher.groupEquals("1_evidenceReminder")))
+            .thenReturn(Collections.emptySet());
+        when(scheduler.deleteJobs(List.of(jobKey))).thenReturn(true);
+
+        Map<String, Integer> removed = quartzJobRemover.removeGroups(List.of("1_hearingReminder", "1_evidenceReminder"));
+
+        assertThat(removed).containsExactly(entry("1_hearingReminder", 1), entry("1_evidenceReminder", 0));
+    }
+
 }
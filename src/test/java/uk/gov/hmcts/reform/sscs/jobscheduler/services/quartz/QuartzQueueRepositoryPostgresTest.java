@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs the pending job count against a real Postgres, in a throwaway schema built by the Flyway migrations. Only runs
+ * when QUARTZ_POSTGRES_URL is set to a JDBC url, including user and password.
+ */
+@EnabledIfEnvironmentVariable(named = "QUARTZ_POSTGRES_URL", matches = "jdbc:postgresql:.+")
+class QuartzQueueRepositoryPostgresTest {
+
+    private static final String SCHEDULER = "scheduler";
+    private static final long NOW = 1_000_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+
+    private final String schema = "quartz_test_" + UUID.randomUUID().toString().replace("-", "");
+
+    private JdbcTemplate jdbcTemplate;
+    private QuartzQueueRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("QUARTZ_POSTGRES_URL");
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(schema)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new QuartzQueueRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void countsWaitingJobsByTheKindInTheirJobGroupAndHowSoonTheyAreDue() {
+        insertJob("job1", "1_hearingReminder", NOW - HOUR, "WAITING");
+        insertJob("job2", "2_hearingReminder", NOW - 1, "ACQUIRED");
+        insertJob("job3", "1_evidenceReminder", NOW + 2 * HOUR, "WAITING");
+        insertJob("job4", "3_hearingReminder", NOW + 30 * 24 * HOUR, "BLOCKED");
+        insertJob("job5", "4_hearingReminder", NOW + HOUR / 2, "PAUSED");
+        insertJob("job6", "evidenceShareRetry", NOW + HOUR / 2, "WAITING");
+
+        Map<String, Map<String, Long>> pending = repository.countPending(SCHEDULER, NOW);
+
+        assertThat(pending).containsOnlyKeys(QuartzQueueRepository.BUCKETS);
+        assertThat(pending.get("overdue")).containsOnly(entry("hearingReminder", 2L));
+        assertThat(pending.get("next1h")).containsOnly(entry("evidenceShareRetry", 1L));
+        assertThat(pending.get("next6h")).containsOnly(entry("evidenceReminder", 1L));
+        assertThat(pending.get("next24h")).isEmpty();
+        assertThat(pending.get("next7d")).isEmpty();
+        assertThat(pending.get("later")).containsOnly(entry("hearingReminder", 1L));
+    }
+
+    private void insertJob(String name, String group, long nextFireTime, String state) {
+        jdbcTemplate.update("INSERT INTO qrtz_job_details (sched_name, job_name, job_group, job_class_name, "
+            + "is_durable, is_nonconcurrent, is_update_data, requests_recovery) "
+            + "VALUES (?, ?, ?, 'Job', false, false, false, false)", SCHEDULER, name, group);
+        jdbcTemplate.update("INSERT INTO qrtz_triggers (sched_name, trigger_name, trigger_group, job_name, job_group, "
+            + "next_fire_time, trigger_state, trigger_type, start_time) "
+            + "VALUES (?, ?, 'DEFAULT', ?, ?, ?, ?, 'SIMPLE', 0)",
+            SCHEDULER, name, name, group, nextFireTime, state);
+    }
+}
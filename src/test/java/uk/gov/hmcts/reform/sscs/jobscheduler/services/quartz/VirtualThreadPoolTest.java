@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+import org.quartz.simpl.SimpleThreadPool;
+import org.quartz.spi.ThreadPool;
+import uk.gov.hmcts.reform.sscs.util.Benchmark;
+
+class VirtualThreadPoolTest {
+
+    private static final int JOBS = 400;
+    private static final long JOB_MILLIS = 50;
+
+    @Test
+    void runsJobsOnVirtualThreads() throws Exception {
+        VirtualThreadPool pool = pool(4);
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicInteger virtual = new AtomicInteger();
+
+        pool.runInThread(() -> {
+            if (Thread.currentThread().isVirtual()) {
+                virtual.incrementAndGet();
+            }
+            ran.countDown();
+        });
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).hasValue(1);
+        pool.shutdown(true);
+    }
+
+    @Test
+    void neverRunsMoreJobsThanTheThreadCount() throws Exception {
+        VirtualThreadPool pool = pool(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            pool.runInThread(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+            });
+        }
+        pool.shutdown(true);
+
+        assertThat(maxRunning.get()).isEqualTo(3);
+        assertThat(pool.blockForAvailableThreads()).isEqualTo(3);
+    }
+
+    @Test
+    void refusesJobsOnceShutDown() throws Exception {
+        VirtualThreadPool pool = pool(2);
+        pool.shutdown(false);
+
+        assertThat(pool.runInThread(() -> { })).isFalse();
+    }
+
+    @Test
+    void rejectsAnEmptyPool() {
+        VirtualThreadPool pool = new VirtualThreadPool();
+        pool.setThreadCount(0);
+
+        assertThatThrownBy(pool::initialize).isInstanceOf(SchedulerConfigException.class);
+    }
+
+    /**
+     * Load test: IO-bound jobs through the current 16-thread pool against the virtual thread pool.
+     */
+    @Test
+    @Benchmark
+    void runsIoBoundJobsFasterThanTheSimpleThreadPool() throws Exception {
+        SimpleThreadPool simple = new SimpleThreadPool(16, Thread.NORM_PRIORITY);
+        simple.setInstanceName("simple");
+        simple.initialize();
+
+        long simpleMillis = timeJobs(simple);
+        long virtualMillis = timeJobs(pool(200));
+
+        assertThat(virtualMillis * 4).isLessThan(simpleMillis);
+    }
+
+    private static long timeJobs(ThreadPool pool) {
+        CountDownLatch done = new CountDownLatch(JOBS);
+        long start = System.nanoTime();
+        int submitted = 0;
+        while (submitted < JOBS) {
+            int available = pool.blockForAvailableThreads();
+            for (int i = 0; i < available && submitted < JOBS; i++, submitted++) {
+                pool.runInThread(() -> {
+                    sleep(JOB_MILLIS);
+                    done.countDown();
+                });
+            }
+        }
+        try {
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        pool.shutdown(true);
+        return millis;
+    }
+
+    private static VirtualThreadPool pool(int threadCount) throws SchedulerConfigException {
+        VirtualThreadPool pool = new VirtualThreadPool();
+        pool.setThreadCount(threadCount);
+        pool.setInstanceName("test");
+        pool.initialize();
+        return pool;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.sscs.pdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.hmcts.reform.sscs.util.Benchmark;
+
+/**
+ * Times shrinkAndWatermarkPdf over the multi-page and A3 fixtures.
+ */
+@Slf4j
+@Benchmark
+class PdfWatermarkerBenchmarkTest {
+
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+
+    private final PdfWatermarker watermarker = new PdfWatermarker();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MultiPage.pdf", "A3 Portrait.pdf", "A3 Landscape.pdf"})
+    void watermark(String fixture) throws Exception {
+        byte[] input = read(fixture);
+        for (int i = 0; i < WARM_UP; i++) {
+            watermarker.shrinkAndWatermarkPdf(input, "Appellant evidence", "Addition A");
+        }
+
+        long start = System.nanoTime();
+        byte[] output = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            output = watermarker.shrinkAndWatermarkPdf(input, "Appellant evidence", "Addition A");
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ITERATIONS;
+
+        log.info("{}: {} us/op, {} bytes out", fixture, micros, output.length);
+        assertThat(output).isNotEmpty();
+    }
+
+    private byte[] read(String fixture) throws IOException {
+        try (InputStream stream = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(fixture))) {
+            return stream.readAllBytes();
+        }
+    }
+}
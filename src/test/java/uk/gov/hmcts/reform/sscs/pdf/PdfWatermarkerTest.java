@@ -11,6 +11,8 @@ import java.net.URL;
 import java.util.Objects;
 import org.apache.commons.io.FileUtils;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
@@ -76,6 +78,23 @@ public class PdfWatermarkerTest {
         assertDoesNotThrow(() -> pw.shrinkAndWatermarkPdf(file, "test", "test"));
     }
 
+    @Test
+    public void embedsTheFooterFontOncePerDocument() throws Exception {
+        URL resource = getClass().getClassLoader().getResource("MultiPage.pdf");
+        PdfWatermarker pw = new PdfWatermarker();
+        byte[] file = FileUtils.readFileToByteArray(new File(Objects.requireNonNull(resource).getPath()));
+        byte[] outputBytes = pw.shrinkAndWatermarkPdf(file, "Appellant evidence", "Addition  A");
+        try (PDDocument doc = Loader.loadPDF(outputBytes)) {
+            long footerFonts = doc.getDocument().getObjectsByType(COSName.FONT).stream()
+                .map(font -> (COSDictionary) font.getObject())
+                .filter(font -> COSName.TYPE0.equals(font.getCOSName(COSName.SUBTYPE)))
+                .filter(font -> font.getNameAsString(COSName.BASE_FONT).contains("LiberationSans"))
+                .count();
+            assertThat(doc.getNumberOfPages()).isGreaterThan(1);
+            assertThat(footerFonts).isEqualTo(1);
+        }
+    }
+
     private byte[] getBytes(PDDocument doc) throws IOException {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             doc.save(baos);
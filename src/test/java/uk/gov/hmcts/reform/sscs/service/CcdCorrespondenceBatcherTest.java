@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceDetails;
+import uk.gov.hmcts.reform.sscs.ccd.exception.CcdException;
+
+@ExtendWith(MockitoExtension.class)
+class CcdCorrespondenceBatcherTest {
+
+    private static final Long CASE_ID = 1234L;
+
+    @Mock
+    private CcdNotificationsPdfService ccdNotificationsPdfService;
+
+    private CcdCorrespondenceBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    private static Correspondence correspondence(String to) {
+        return Correspondence.builder().value(CorrespondenceDetails.builder().to(to).build()).build();
+    }
+
+    @Test
+    void addsEverythingSentForACaseInOneUpdate() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 60000, 1);
+        Correspondence email = correspondence("appellant");
+        Correspondence letter = correspondence("representative");
+        byte[] pdf = "%PDF".getBytes();
+        when(ccdNotificationsPdfService.storeCorrespondence(email)).thenReturn(List.of(email));
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(pdf, letter)).thenReturn(List.of(letter));
+
+        batcher.addCorrespondence(CASE_ID, email);
+        batcher.addLetterCorrespondence(pdf, CASE_ID, letter, "Bulk Print");
+        batcher.flush(CASE_ID);
+
+        verify(ccdNotificationsPdfService)
+            .addCorrespondenceToCcdV2(CASE_ID, List.of(email, letter), "Gov Notify and Bulk Print");
+        verify(ccdNotificationsPdfService, times(1)).addCorrespondenceToCcdV2(any(), anyList(), anyString());
+    }
+
+    @Test
+    void fallsBackToOneUpdatePerNotificationWhenTheBatchFails() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 60000, 1);
+        Correspondence appellant = correspondence("appellant");
+        Correspondence representative = correspondence("representative");
+        when(ccdNotificationsPdfService.storeCorrespondence(appellant)).thenReturn(List.of(appellant));
+        when(ccdNotificationsPdfService.storeCorrespondence(representative)).thenReturn(List.of(representative));
+        doThrow(new CcdException("conflict")).when(ccdNotificationsPdfService)
+            .addCorrespondenceToCcdV2(CASE_ID, List.of(appellant, representative), "Gov Notify");
+
+        batcher.addCorrespondence(CASE_ID, appellant);
+        batcher.addCorrespondence(CASE_ID, representative);
+        batcher.flush(CASE_ID);
+
+        verify(ccdNotificationsPdfService).addCorrespondenceToCcdV2(CASE_ID, List.of(appellant), "Gov Notify");
+        verify(ccdNotificationsPdfService).addCorrespondenceToCcdV2(CASE_ID, List.of(representative), "Gov Notify");
+    }
+
+    @Test
+    void completesALetterOnlyOnceItHasBeenWrittenToTheCase() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 60000, 1);
+        Correspondence letter = correspondence("appellant");
+        byte[] pdf = "%PDF".getBytes();
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(pdf, letter)).thenReturn(List.of(letter));
+
+        CompletableFuture<Void> written = batcher.addLetterCorrespondence(pdf, CASE_ID, letter, "Gov Notify");
+        assertThat(written).isNotDone();
+
+        batcher.flush(CASE_ID);
+        assertThat(written).isCompleted();
+    }
+
+    @Test
+    void failsALetterWhoseWriteFailed() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 60000, 1);
+        Correspondence letter = correspondence("appellant");
+        byte[] pdf = "%PDF".getBytes();
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(pdf, letter)).thenReturn(List.of(letter));
+        doThrow(new CcdException("conflict")).when(ccdNotificationsPdfService)
+            .addCorrespondenceToCcdV2(CASE_ID, List.of(letter), "Gov Notify");
+
+        CompletableFuture<Void> written = batcher.addLetterCorrespondence(pdf, CASE_ID, letter, "Gov Notify");
+        batcher.flush(CASE_ID);
+
+        assertThat(written).isCompletedExceptionally();
+    }
+
+    @Test
+    void writesWaitingBatchesOnShutdown() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 60000, 1);
+        Correspondence email = correspondence("appellant");
+        when(ccdNotificationsPdfService.storeCorrespondence(email)).thenReturn(List.of(email));
+
+        batcher.addCorrespondence(CASE_ID, email);
+        batcher.shutdown();
+
+        verify(ccdNotificationsPdfService).addCorrespondenceToCcdV2(CASE_ID, List.of(email), "Gov Notify");
+    }
+
+    @Test
+    void writesStraightAwayWhenBatchingIsDisabled() {
+        batcher = new CcdCorrespondenceBatcher(ccdNotificationsPdfService, new SimpleMeterRegistry(), 0, 1);
+        Correspondence email = correspondence("appellant");
+
+        batcher.addCorrespondence(CASE_ID, email);
+
+        verify(ccdNotificationsPdfService).mergeCorrespondenceIntoCcdV2(eq(CASE_ID), eq(email));
+        verify(ccdNotificationsPdfService, never()).addCorrespondenceToCcdV2(any(), anyList(), anyString());
+    }
+}
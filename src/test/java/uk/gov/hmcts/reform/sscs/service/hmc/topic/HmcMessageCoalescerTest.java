@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.AWAITING_LISTING;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.LISTED;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HearingUpdate;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+import uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus;
+import uk.gov.hmcts.reform.sscs.service.hmc.topic.HmcPendingMessageRepository.CoalescedMessage;
+
+@ExtendWith(MockitoExtension.class)
+class HmcMessageCoalescerTest {
+
+    private static final LocalDateTime BROADCAST_AT = LocalDateTime.of(2026, 10, 18, 9, 30);
+    private static final byte[] PAYLOAD = "{}".getBytes();
+    private static final long WINDOW_MS = 2000;
+
+    @Mock
+    private HmcPendingMessageRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HmcMessageCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new HmcMessageCoalescer(repository, meterRegistry, WINDOW_MS, 90);
+    }
+
+    @Test
+    void shouldNotParkWithoutAWindow() {
+        HmcMessageCoalescer noWindow = new HmcMessageCoalescer(repository, meterRegistry, 0, 90);
+
+        assertThat(noWindow.isEnabled()).isFalse();
+        assertThat(noWindow.park(message(LISTED), PAYLOAD)).isFalse();
+        assertThat(HmcMessageCoalescer.disabled().park(message(LISTED), PAYLOAD)).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldParkMessageForItsHearingWindow() {
+        HmcMessage hmcMessage = message(LISTED);
+        given(repository.park(hmcMessage, PAYLOAD, WINDOW_MS)).willReturn(Optional.empty());
+
+        assertThat(coalescer.park(hmcMessage, PAYLOAD)).isTrue();
+
+        verify(repository).park(hmcMessage, PAYLOAD, WINDOW_MS);
+        assertThat(meterRegistry.find(HmcMessageCoalescer.COALESCED_COUNTER).counter()).isNull();
+    }
+
+    @Test
+    void shouldCountTheMessageItSupersedesByItsStatus() {
+        HmcMessage hmcMessage = message(LISTED);
+        given(repository.park(hmcMessage, PAYLOAD, WINDOW_MS)).willReturn(
+            Optional.of(new CoalescedMessage("1", 1234L, AWAITING_LISTING.name(), BROADCAST_AT.minusSeconds(1))));
+
+        assertThat(coalescer.park(hmcMessage, PAYLOAD)).isTrue();
+
+        assertThat(meterRegistry.get(HmcMessageCoalescer.COALESCED_COUNTER)
+            .tag("hmcStatus", "AWAITING_LISTING").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyStraightAwayWhenMessagesCannotBeParked() {
+        given(repository.park(any(), any(), anyLong())).willThrow(new QueryTimeoutException("down"));
+
+        assertThat(coalescer.park(message(LISTED), PAYLOAD)).isFalse();
+    }
+
+    private static HmcMessage message(HmcStatus hmcStatus) {
+        return HmcMessage.builder()
+            .hmctsServiceCode("BBA3")
+            .caseId(1234L)
+            .hearingId("1")
+            .hearingUpdate(HearingUpdate.builder()
+                .hmcStatus(hmcStatus)
+                .hearingEventBroadcastDateTime(BROADCAST_AT)
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.AWAITING_LISTING;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HearingUpdate;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+
+class HmcMessageOrderTest {
+
+    private static final LocalDateTime BROADCAST_AT = LocalDateTime.of(2026, 10, 18, 9, 30);
+
+    private final HmcHearingBroadcastRepository repository = mock(HmcHearingBroadcastRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HmcMessageOrder order = new HmcMessageOrder(repository, meterRegistry, 90);
+
+    @Test
+    void appliesTheLatestMessageForAHearing() {
+        when(repository.recordIfLatest("1", BROADCAST_AT)).thenReturn(true);
+
+        assertThat(order.isOutOfOrder(message(BROADCAST_AT))).isFalse();
+    }
+
+    @Test
+    void dropsAMessageOlderThanOneAlreadyApplied() {
+        when(repository.recordIfLatest("1", BROADCAST_AT)).thenReturn(false);
+
+        assertThat(order.isOutOfOrder(message(BROADCAST_AT))).isTrue();
+        assertThat(meterRegistry.get(HmcMessageOrder.OUT_OF_ORDER_COUNTER)
+            .tag("hmcStatus", "AWAITING_LISTING").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesAMessageWithoutABroadcastTime() {
+        assertThat(order.isOutOfOrder(message(null))).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void appliesTheMessageWhenPostgresIsUnavailable() {
+        when(repository.recordIfLatest(anyString(), any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(order.isOutOfOrder(message(BROADCAST_AT))).isFalse();
+    }
+
+    @Test
+    void unorderedAppliesEveryMessage() {
+        assertThat(HmcMessageOrder.unordered().isOutOfOrder(message(BROADCAST_AT))).isFalse();
+    }
+
+    private static HmcMessage message(LocalDateTime broadcastAt) {
+        return HmcMessage.builder()
+            .hmctsServiceCode("BBA3")
+            .caseId(1234L)
+            .hearingId("1")
+            .hearingUpdate(HearingUpdate.builder()
+                .hmcStatus(AWAITING_LISTING)
+                .hearingEventBroadcastDateTime(broadcastAt)
+                .build())
+            .build();
+    }
+}
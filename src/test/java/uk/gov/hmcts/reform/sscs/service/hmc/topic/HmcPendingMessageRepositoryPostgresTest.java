@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.sscs.service.hmc.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.AWAITING_LISTING;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.LISTED;
+import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.UPDATE_SUBMITTED;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HearingUpdate;
+import uk.gov.hmcts.reform.sscs.model.hmc.message.HmcMessage;
+import uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus;
+
+/**
+ * Runs HMC message coalescing against a real Postgres, in a throwaway schema built by the Flyway migrations. Only
+ * runs when QUARTZ_POSTGRES_URL is set to a JDBC url, including user and password.
+ */
+@EnabledIfEnvironmentVariable(named = "QUARTZ_POSTGRES_URL", matches = "jdbc:postgresql:.+")
+class HmcPendingMessageRepositoryPostgresTest {
+
+    private static final LocalDateTime BROADCAST_AT = LocalDateTime.of(2026, 10, 18, 9, 30);
+
+    private final String schema = "hmc_test_" + UUID.randomUUID().toString().replace("-", "");
+
+    private JdbcTemplate jdbcTemplate;
+    private HmcPendingMessageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("QUARTZ_POSTGRES_URL");
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(schema)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new HmcPendingMessageRepository(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void holdsAMessageUntilTheWindowStartedByTheFirstMessageForItsHearingHasPassed() {
+        repository.park(message("1", AWAITING_LISTING, BROADCAST_AT), payload("1"), 60_000);
+        repository.park(message("2", LISTED, BROADCAST_AT), payload("2"), 0);
+
+        assertThat(repository.claim("worker-1", 10, 300)).extracting(PendingHmcMessage::hearingId)
+            .containsExactly("2");
+    }
+
+    @Test
+    void appliesOnlyTheLatestMessageOfABurstAndAuditsTheRest() {
+        assertThat(repository.park(message("1", AWAITING_LISTING, BROADCAST_AT), payload("first"), 0)).isEmpty();
+        assertThat(repository.park(message("1", UPDATE_SUBMITTED, BROADCAST_AT.plusSeconds(1)), payload("second"), 0))
+            .hasValueSatisfying(superseded -> assertThat(superseded.hmcStatus()).isEqualTo("AWAITING_LISTING"));
+        repository.park(message("1", LISTED, BROADCAST_AT.plusSeconds(2)), payload("third"), 0);
+
+        List<PendingHmcMessage> claimed = repository.claim("worker-1", 10, 300);
+
+        assertThat(claimed).extracting(claim -> new String(claim.payload())).containsExactly("third");
+        assertThat(jdbcTemplate.query("SELECT hmc_status, superseded_by_status FROM hmc_coalesced_message ORDER BY id",
+            (rs, rowNum) -> tuple(rs.getString(1), rs.getString(2))))
+            .containsExactly(tuple("AWAITING_LISTING", "UPDATE_SUBMITTED"), tuple("UPDATE_SUBMITTED", "LISTED"));
+    }
+
+    @Test
+    void keepsTheParkedMessageWhenAnEarlierBroadcastArrivesAfterIt() {
+        repository.park(message("1", LISTED, BROADCAST_AT.plusSeconds(1)), payload("later"), 0);
+
+        assertThat(repository.park(message("1", AWAITING_LISTING, BROADCAST_AT), payload("earlier"), 0))
+            .hasValueSatisfying(superseded -> assertThat(superseded.hmcStatus()).isEqualTo("AWAITING_LISTING"));
+        assertThat(repository.claim("worker-1", 10, 300)).extracting(claim -> new String(claim.payload()))
+            .containsExactly("later");
+    }
+
+    @Test
+    void leavesAMessageParkedWhileTheHearingWasBeingAppliedToBeAppliedNext() {
+        repository.park(message("1", AWAITING_LISTING, BROADCAST_AT), payload("first"), 0);
+        PendingHmcMessage first = repository.claim("worker-1", 10, 300).get(0);
+
+        assertThat(repository.park(message("1", LISTED, BROADCAST_AT.plusSeconds(1)), payload("second"), 0))
+            .isEmpty();
+        assertThat(repository.claim("worker-2", 10, 300)).isEmpty();
+        assertThat(repository.complete(first, "worker-1")).isFalse();
+
+        List<PendingHmcMessage> claimed = repository.claim("worker-2", 10, 300);
+        assertThat(claimed).extracting(claim -> new String(claim.payload())).containsExactly("second");
+        assertThat(repository.complete(claimed.get(0), "worker-2")).isTrue();
+        assertThat(repository.claim("worker-2", 10, 300)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM hmc_coalesced_message", Long.class)).isZero();
+    }
+
+    private static byte[] payload(String value) {
+        return value.getBytes();
+    }
+
+    private static HmcMessage message(String hearingId, HmcStatus hmcStatus, LocalDateTime broadcastAt) {
+        return HmcMessage.builder()
+            .hmctsServiceCode("BBA3")
+            .caseId(1234L)
+            .hearingId(hearingId)
+            .hearingUpdate(HearingUpdate.builder()
+                .hmcStatus(hmcStatus)
+                .hearingEventBroadcastDateTime(broadcastAt)
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,185 @@
+package uk.gov.hmcts.reform.sscs.service.idam;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdamTokenCacheTest {
+
+    private static final String SCOPE = "systemUser";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private IdamTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new IdamTokenCache(meterRegistry, Duration.ofMinutes(5), Duration.ofMinutes(30), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void shouldServeCachedTokenUntilItIsDueForRefresh() throws Throwable {
+        String first = cache.get(SCOPE, this::loadToken, JwtExpiry::of);
+        clock.advance(Duration.ofMinutes(20));
+        String second = cache.get(SCOPE, this::loadToken, JwtExpiry::of);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshInBackgroundAheadOfExpiryWhileServingTheCachedToken() throws Throwable {
+        String first = cache.get(SCOPE, this::loadToken, JwtExpiry::of);
+        clock.advance(Duration.ofMinutes(56));
+
+        String served = cache.get(SCOPE, this::loadToken, JwtExpiry::of);
+
+        assertThat(served).isEqualTo(first);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (loads.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadAgainOnceTokenHasExpired() throws Throwable {
+        String first = cache.get(SCOPE, this::loadToken, JwtExpiry::of);
+        clock.advance(Duration.ofMinutes(61));
+
+        assertThat(cache.get(SCOPE, this::loadToken, JwtExpiry::of)).isNotEqualTo(first);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFallBackToDefaultTtlWhenTokenHasNoReadableExpiry() throws Throwable {
+        cache.get(SCOPE, () -> "opaque-" + loads.incrementAndGet(), JwtExpiry::of);
+        clock.advance(Duration.ofMinutes(20));
+        cache.get(SCOPE, () -> "opaque-" + loads.incrementAndGet(), JwtExpiry::of);
+        clock.advance(Duration.ofMinutes(11));
+        cache.get(SCOPE, () -> "opaque-" + loads.incrementAndGet(), JwtExpiry::of);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLoadsIntoOne() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IdamTokenCache.TokenLoader<String> slowLoader = () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return loadToken();
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> {
+                try {
+                    return cache.get(SCOPE, slowLoader, JwtExpiry::of);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            }));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(results.get(0).get());
+        }
+        callers.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPropagateLoadFailureAndRecordIt() {
+        IllegalStateException failure = new IllegalStateException("idam down");
+
+        assertThatThrownBy(() -> cache.get(SCOPE, () -> {
+            throw failure;
+        }, JwtExpiry::of)).isSameAs(failure);
+        assertThat(meterRegistry.get(IdamTokenCache.REFRESH_TIMER)
+            .tag("scope", SCOPE).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadExpiryFromBearerJwt() {
+        Optional<Instant> expiry = JwtExpiry.of("Bearer " + jwtExpiringAt(Instant.parse("2026-01-01T11:00:00Z")));
+
+        assertThat(expiry).contains(Instant.parse("2026-01-01T11:00:00Z"));
+        assertThat(JwtExpiry.of("not-a-jwt")).isEmpty();
+        assertThat(JwtExpiry.earliest(Optional.of(Instant.EPOCH), Optional.empty(), expiry)).contains(Instant.EPOCH);
+    }
+
+    private String loadToken() {
+        return "Bearer " + jwtExpiringAt(clock.instant().plus(Duration.ofHours(1))) + loads.incrementAndGet();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(IdamTokenCache.LOOKUP_COUNTER).tag("scope", SCOPE).tag("result", result)
+            .counter().count();
+    }
+
+    private static String jwtExpiringAt(Instant expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8)) + "."
+            + encoder.encodeToString(("{\"exp\":" + expiry.getEpochSecond() + "}").getBytes(UTF_8)) + ".sig";
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
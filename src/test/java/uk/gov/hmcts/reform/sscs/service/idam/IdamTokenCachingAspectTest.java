@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.sscs.service.idam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import feign.FeignException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+
+@ExtendWith(MockitoExtension.class)
+class IdamTokenCachingAspectTest {
+
+    private static final IdamTokens STALE = IdamTokens.builder().idamOauth2Token("stale").build();
+    private static final IdamTokens FRESH = IdamTokens.builder().idamOauth2Token("fresh").build();
+
+    @Mock
+    private IdamTokenCache idamTokenCache;
+    @Mock
+    private ObjectProvider<IdamService> idamServiceProvider;
+    @Mock
+    private IdamService idamService;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private IdamTokenCachingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new IdamTokenCachingAspect(idamTokenCache, idamServiceProvider);
+    }
+
+    @Test
+    void retriesACcdCallRejectedAsUnauthorisedOnceWithFreshTokens() throws Throwable {
+        FeignException unauthorised = feignException(401);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {1234L, STALE});
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenThrow(unauthorised);
+        when(idamServiceProvider.getObject()).thenReturn(idamService);
+        when(idamService.getIdamTokens()).thenReturn(FRESH);
+        when(joinPoint.proceed(new Object[] {1234L, FRESH})).thenReturn("case");
+
+        assertThat(aspect.retryCcdCallOnUnauthorized(joinPoint)).isEqualTo("case");
+        verify(idamTokenCache).invalidate(IdamTokenCachingAspect.SYSTEM_USER_SCOPE);
+        verify(idamTokenCache).invalidate(IdamTokenCachingAspect.OAUTH2_SCOPE);
+        verify(idamTokenCache).invalidate(IdamTokenCachingAspect.SERVICE_AUTHORIZATION_SCOPE);
+    }
+
+    @Test
+    void doesNotRetryOtherFailures() throws Throwable {
+        FeignException notFound = feignException(404);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {1234L, STALE});
+        when(joinPoint.proceed()).thenThrow(notFound);
+
+        assertThatThrownBy(() -> aspect.retryCcdCallOnUnauthorized(joinPoint)).isSameAs(notFound);
+        verify(joinPoint, never()).proceed(any());
+        verify(idamTokenCache, never()).invalidate(any());
+    }
+
+    @Test
+    void retriesOnlyOnce() throws Throwable {
+        FeignException unauthorised = feignException(401);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {STALE});
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenThrow(unauthorised);
+        when(idamServiceProvider.getObject()).thenReturn(idamService);
+        when(idamService.getIdamTokens()).thenReturn(FRESH);
+        when(joinPoint.proceed(any())).thenThrow(unauthorised);
+
+        assertThatThrownBy(() -> aspect.retryCcdCallOnUnauthorized(joinPoint)).isSameAs(unauthorised);
+        verify(joinPoint, times(1)).proceed(any());
+    }
+
+    @Test
+    void leavesCallsWithoutIdamTokensAlone() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[] {1234L});
+        when(joinPoint.proceed()).thenReturn("case");
+
+        assertThat(aspect.retryCcdCallOnUnauthorized(joinPoint)).isEqualTo("case");
+        verify(idamTokenCache, never()).invalidate(any());
+    }
+
+    private static FeignException feignException(int status) {
+        FeignException exception = mock(FeignException.class);
+        when(exception.status()).thenReturn(status);
+        return exception;
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CaseStripedExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaseStripedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new CaseStripedExecutor(4, 100, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRunCallbacksForTheSameCaseInArrivalOrder() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            int sequence = i;
+            executor.execute(123L, () -> {
+                order.add(sequence);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).isSorted().hasSize(50);
+    }
+
+    @Test
+    void shouldRunDifferentCasesInParallel() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        long firstCase = 1L;
+        long secondCase = 2L;
+        assertThat(executor.stripeFor(firstCase)).isNotEqualTo(executor.stripeFor(secondCase));
+
+        executor.execute(firstCase, task);
+        executor.execute(secondCase, task);
+
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void shouldExposeStripeCountAndQueueDepth() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(123L, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(123L, () -> { });
+        executor.execute(123L, () -> { });
+
+        assertThat(meterRegistry.get(CaseStripedExecutor.STRIPES).gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get(CaseStripedExecutor.QUEUE_DEPTH).gauge().value()).isEqualTo(2);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectRatherThanBlockTheCallerWhenTheStripeIsFull() throws InterruptedException {
+        CaseStripedExecutor small = new CaseStripedExecutor(1, 1, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            small.execute(123L, () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            small.execute(123L, () -> { });
+
+            assertThatThrownBy(() -> small.execute(456L, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThatThrownBy(() -> small.submit(456L, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(meterRegistry.get(CaseStripedExecutor.REJECTED).counter().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            small.shutdown();
+        }
+    }
+
+    @Test
+    void shouldAlwaysMapACaseToTheSameStripe() {
+        assertThat(executor.stripeFor(1234567890123456L)).isEqualTo(executor.stripeFor(1234567890123456L));
+        assertThat(executor.stripeFor(-5L)).isBetween(0, 3);
+    }
+}
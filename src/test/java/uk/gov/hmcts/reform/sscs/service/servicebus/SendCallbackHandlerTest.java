@@ -1,11 +1,19 @@
 package uk.gov.hmcts.reform.sscs.service.servicebus;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.Optional;
 import org.junit.Before;
@@ -22,10 +30,12 @@ import uk.gov.hmcts.reform.sscs.evidenceshare.exception.BulkPrintException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.IssueFurtherEvidenceException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.PdfStoreException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.PostIssueFurtherEvidenceTasksException;
+import uk.gov.hmcts.reform.sscs.evidenceshare.exception.SendLetterUnavailableException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.UnableToContactThirdPartyException;
 import uk.gov.hmcts.reform.sscs.exception.DwpAddressLookupException;
 import uk.gov.hmcts.reform.sscs.exception.NoMrnDetailsException;
 import uk.gov.hmcts.reform.sscs.service.exceptions.ClientAuthorisationException;
+import uk.gov.hmcts.reform.sscs.service.servicebus.retry.EvidenceShareRetryScheduler;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.servicebus.NotificationsMessageProcessor;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -40,13 +50,24 @@ public class SendCallbackHandlerTest {
     @Mock
     private NotificationsMessageProcessor notificationsMessageProcessor;
 
+    @Mock
+    private CaseStripedExecutor caseStripedExecutor;
+
+    @Mock
+    private EvidenceShareRetryScheduler evidenceShareRetryScheduler;
+
     private SendCallbackHandler sendCallbackHandler;
     private Exception exception;
     private Callback<SscsCaseData> callback;
 
     @Before
     public void setup() {
-        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(caseStripedExecutor).execute(anyLong(), any());
+        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor,
+            caseStripedExecutor, evidenceShareRetryScheduler);
         CaseDetails<SscsCaseData> caseDetails = new CaseDetails<>(
             123L,
             "jurisdiction",
@@ -117,7 +138,8 @@ public class SendCallbackHandlerTest {
         exception = new NullPointerException();
         doThrow(exception).when(dispatcher).handle(any(), any());
         sendCallbackHandler.handle(callback);
-        verify(dispatcher, atLeast(RETRY_THREE_TIMES)).handle(any(), any());
+        verify(dispatcher, times(1)).handle(any(), any());
+        verify(evidenceShareRetryScheduler).scheduleRetry(callback, 2);
     }
 
     @Test
@@ -125,7 +147,46 @@ public class SendCallbackHandlerTest {
         exception = new ClientAuthorisationException(EXCEPTION);
         doThrow(exception).when(dispatcher).handle(any(), any());
         sendCallbackHandler.handle(callback);
-        verify(dispatcher, atLeast(RETRY_THREE_TIMES)).handle(any(), any());
+        verify(dispatcher, times(1)).handle(any(), any());
+        verify(evidenceShareRetryScheduler).scheduleRetry(callback, 2);
+    }
+
+    @Test
+    public void sendLetterUnavailableExceptionWillScheduleRetry() {
+        exception = new SendLetterUnavailableException("send-letter timed out", EXCEPTION);
+        doThrow(exception).when(dispatcher).handle(any(), any());
+        sendCallbackHandler.handle(callback);
+        verify(evidenceShareRetryScheduler).scheduleRetry(callback, 2);
+    }
+
+    @Test
+    public void retryWillAskForTheNextAttemptWithoutResendingNotifications() {
+        doThrow(new NullPointerException()).when(dispatcher).handle(any(), any());
+        assertTrue(sendCallbackHandler.retryEvidenceShare(callback, 2));
+        verifyNoInteractions(notificationsMessageProcessor, evidenceShareRetryScheduler);
+    }
+
+    @Test
+    public void retryWillNotBeScheduledOnceMaxRetryAttemptsReached() {
+        doThrow(new NullPointerException()).when(dispatcher).handle(any(), any());
+        assertFalse(sendCallbackHandler.retryEvidenceShare(callback, RETRY_THREE_TIMES + 1));
+        verify(dispatcher, times(1)).handle(any(), any());
+        verifyNoInteractions(evidenceShareRetryScheduler);
+    }
+
+    @Test
+    public void failureToScheduleRetryWillBeCaught() {
+        doThrow(new NullPointerException()).when(dispatcher).handle(any(), any());
+        doThrow(new RuntimeException("quartz down")).when(evidenceShareRetryScheduler).scheduleRetry(any(), anyInt());
+        sendCallbackHandler.handle(callback);
+        verify(notificationsMessageProcessor).processMessage(callback, null);
+    }
+
+    @Test
+    public void givenIssueFurtherEvidenceException_shouldNotScheduleRetry() {
+        doThrow(IssueFurtherEvidenceException.class).when(dispatcher).handle(any(), any());
+        sendCallbackHandler.handle(callback);
+        verifyNoInteractions(evidenceShareRetryScheduler);
     }
 
     @Test
@@ -137,8 +198,39 @@ public class SendCallbackHandlerTest {
 
     @Test
     public void shouldProcessMessageForNotifications() {
-        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor);
+        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor,
+            caseStripedExecutor, evidenceShareRetryScheduler);
+        sendCallbackHandler.handle(callback);
+        verify(notificationsMessageProcessor).processMessage(callback, null);
+    }
+
+    @Test
+    public void shouldPassTheEventTimestampToNotifications() {
+        sendCallbackHandler.handle(callback, "2024-01-01T10:00:00");
+        verify(notificationsMessageProcessor).processMessage(callback, "2024-01-01T10:00:00");
+    }
+
+    @Test
+    public void processEvidenceShareOrThrowPropagatesARecoverableFailureWithoutSchedulingARetry() {
+        doThrow(new SendLetterUnavailableException("send letter down", EXCEPTION)).when(dispatcher).handle(any(), any());
+        assertThrows(SendLetterUnavailableException.class,
+            () -> sendCallbackHandler.processEvidenceShareOrThrow(callback));
+        verifyNoInteractions(evidenceShareRetryScheduler);
+    }
+
+    @Test
+    public void processEvidenceShareOrThrowSwallowsAnUnrecoverableFailure() {
+        doThrow(IssueFurtherEvidenceException.class).when(dispatcher).handle(any(), any());
+        sendCallbackHandler.processEvidenceShareOrThrow(callback);
+        doThrow(new BulkPrintException("message", EXCEPTION)).when(dispatcher).handle(any(), any());
+        sendCallbackHandler.processEvidenceShareOrThrow(callback);
+        verify(dispatcher, times(2)).handle(any(), any());
+        verifyNoInteractions(evidenceShareRetryScheduler);
+    }
+
+    @Test
+    public void handleQueuesCallbackOnTheStripeForItsCase() {
         sendCallbackHandler.handle(callback);
-        verify(notificationsMessageProcessor).processMessage(callback);
+        verify(caseStripedExecutor).execute(eq(123L), any());
     }
 }
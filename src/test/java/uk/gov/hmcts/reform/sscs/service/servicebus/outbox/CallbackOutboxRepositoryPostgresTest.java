@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs the outbox claim against a real Postgres, in a throwaway schema built by the Flyway migrations. Only runs when
+ * QUARTZ_POSTGRES_URL is set to a JDBC url, including user and password.
+ */
+@EnabledIfEnvironmentVariable(named = "QUARTZ_POSTGRES_URL", matches = "jdbc:postgresql:.+")
+class CallbackOutboxRepositoryPostgresTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes();
+
+    private final String schema = "outbox_test_" + UUID.randomUUID().toString().replace("-", "");
+
+    private JdbcTemplate jdbcTemplate;
+    private CallbackOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("QUARTZ_POSTGRES_URL");
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(schema)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new CallbackOutboxRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void claimsOnlyTheEarliestOutstandingCallbackOfEachCase() {
+        repository.insert(1L, "appealReceived", PAYLOAD);
+        repository.insert(1L, "evidenceReceived", PAYLOAD);
+        repository.insert(2L, "appealReceived", PAYLOAD);
+
+        List<OutboxEntry> claimed = repository.claim("worker-1", 10, 300);
+
+        assertThat(claimed).extracting(OutboxEntry::caseId, OutboxEntry::eventId)
+            .containsExactlyInAnyOrder(
+                tuple(1L, "appealReceived"),
+                tuple(2L, "appealReceived"));
+        assertThat(repository.claim("worker-2", 10, 300)).isEmpty();
+    }
+
+    @Test
+    void claimsTheNextCallbackOfACaseOnceTheEarlierOneIsComplete() {
+        repository.insert(1L, "appealReceived", PAYLOAD);
+        repository.insert(1L, "evidenceReceived", PAYLOAD);
+        OutboxEntry first = repository.claim("worker-1", 10, 300).get(0);
+
+        repository.complete(first.id(), "worker-1");
+
+        assertThat(repository.claim("worker-2", 10, 300)).extracting(OutboxEntry::eventId)
+            .containsExactly("evidenceReceived");
+    }
+
+    @Test
+    void holdsBackACaseBehindAnEarlierCallbackThatIsWaitingToRetryOrHasFailed() {
+        repository.insert(1L, "appealReceived", PAYLOAD);
+        repository.insert(1L, "evidenceReceived", PAYLOAD);
+        repository.insert(2L, "appealReceived", PAYLOAD);
+        repository.insert(2L, "evidenceReceived", PAYLOAD);
+        List<OutboxEntry> claimed = repository.claim("worker-1", 10, 300).stream()
+            .sorted(Comparator.comparingLong(OutboxEntry::caseId))
+            .toList();
+
+        repository.release(claimed.get(0).id(), "worker-1", 0, "IllegalStateException: down");
+        repository.fail(claimed.get(1).id(), "worker-1", "IllegalStateException: down");
+
+        assertThat(repository.claim("worker-2", 10, 300)).extracting(OutboxEntry::id)
+            .containsExactly(claimed.get(0).id());
+    }
+}
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.service.servicebus.CaseStripedExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class CallbackOutboxWorkerTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes();
+
+    @Mock
+    private CallbackOutboxRepository repository;
+    @Mock
+    private StreamingCallbackDeserializer deserializer;
+    @Mock
+    private SendCallbackHandler sendCallbackHandler;
+    @Mock
+    private CaseStripedExecutor executor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CallbackOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new CallbackOutboxWorker(repository, deserializer, sendCallbackHandler, executor, meterRegistry,
+            2, 10, 300, 3, 30);
+    }
+
+    @Test
+    void shouldClaimNoMoreRowsThanIdleWorkersAndPublishQueueStats() {
+        when(repository.stats()).thenReturn(new CallbackOutboxRepository.OutboxStats(7, 42));
+
+        worker.poll();
+
+        verify(repository).claim(anyString(), eq(2), eq(300L));
+        verify(executor, never()).execute(anyLong(), any());
+        assertThat(meterRegistry.get(CallbackOutboxWorker.QUEUE_DEPTH).gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get(CallbackOutboxWorker.OLDEST_AGE).gauge().value()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRunClaimedEntriesOnTheStripeForTheirCase() {
+        when(repository.stats()).thenReturn(new CallbackOutboxRepository.OutboxStats(1, 0));
+        when(repository.claim(anyString(), eq(2), eq(300L)))
+            .thenReturn(List.of(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false)));
+
+        worker.poll();
+
+        verify(executor).execute(eq(123L), any());
+    }
+
+    @Test
+    void shouldRenewTheLeaseOnRowsWaitingForTheirStripe() {
+        when(repository.stats()).thenReturn(new CallbackOutboxRepository.OutboxStats(1, 0));
+        when(repository.claim(anyString(), eq(2), eq(300L)))
+            .thenReturn(List.of(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false)))
+            .thenReturn(List.of());
+
+        worker.poll();
+        worker.poll();
+
+        verify(repository).renew(eq(List.of(1L)), anyString(), eq(300L));
+    }
+
+    @Test
+    void shouldSkipARowWhoseLeaseWasLostWhileItWaited() {
+        when(repository.stats()).thenReturn(new CallbackOutboxRepository.OutboxStats(1, 0));
+        when(repository.claim(anyString(), eq(2), eq(300L)))
+            .thenReturn(List.of(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false)));
+        when(repository.renew(eq(List.of(1L)), anyString(), eq(300L))).thenReturn(0);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(executor).execute(eq(123L), any());
+
+        worker.poll();
+
+        verify(deserializer, never()).deserialize(any(byte[].class));
+        verify(repository, never()).complete(anyLong(), anyString());
+    }
+
+    @Test
+    void shouldCompleteEntryOnceCallbackIsProcessed() {
+        @SuppressWarnings("unchecked")
+        Callback<SscsCaseData> callback = mock(Callback.class);
+        when(deserializer.deserialize(PAYLOAD)).thenReturn(callback);
+        when(deserializer.eventTimestamp(PAYLOAD)).thenReturn("2024-01-01T10:00:00");
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false));
+
+        verify(sendCallbackHandler).processEvidenceShareOrThrow(callback);
+        verify(repository).markEvidenceShared(eq(1L), anyString());
+        verify(sendCallbackHandler).processNotifications(callback, "2024-01-01T10:00:00");
+        verify(repository).complete(eq(1L), anyString());
+        verify(repository, never()).release(anyLong(), anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    void shouldNotShareEvidenceAgainWhenRetryingAfterNotificationsFailed() {
+        @SuppressWarnings("unchecked")
+        Callback<SscsCaseData> callback = mock(Callback.class);
+        when(deserializer.deserialize(PAYLOAD)).thenReturn(callback);
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 2, true));
+
+        verify(sendCallbackHandler, never()).processEvidenceShareOrThrow(any());
+        verify(sendCallbackHandler).processNotifications(callback, null);
+        verify(repository).complete(eq(1L), anyString());
+    }
+
+    @Test
+    void shouldNotRecordEvidenceAsSharedWhenSharingItFails() {
+        @SuppressWarnings("unchecked")
+        Callback<SscsCaseData> callback = mock(Callback.class);
+        when(deserializer.deserialize(PAYLOAD)).thenReturn(callback);
+        doThrow(new IllegalStateException("bulk print down")).when(sendCallbackHandler)
+            .processEvidenceShareOrThrow(callback);
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false));
+
+        verify(repository, never()).markEvidenceShared(anyLong(), anyString());
+        verify(sendCallbackHandler, never()).processNotifications(any(), any());
+        verify(repository).release(eq(1L), anyString(), eq(30L), eq("IllegalStateException: bulk print down"));
+    }
+
+    @Test
+    void shouldKeepTheEvidenceShareStepWhenNotificationsFail() {
+        @SuppressWarnings("unchecked")
+        Callback<SscsCaseData> callback = mock(Callback.class);
+        when(deserializer.deserialize(PAYLOAD)).thenReturn(callback);
+        doThrow(new IllegalStateException("notify down")).when(sendCallbackHandler).processNotifications(callback, null);
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 1, false));
+
+        verify(repository).markEvidenceShared(eq(1L), anyString());
+        verify(repository).release(eq(1L), anyString(), eq(30L), eq("IllegalStateException: notify down"));
+    }
+
+    @Test
+    void shouldReleaseWithBackoffWhenProcessingFails() {
+        doThrow(new IllegalArgumentException("bad json")).when(deserializer).deserialize(PAYLOAD);
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 2, false));
+
+        verify(repository).release(eq(1L), anyString(), eq(60L), eq("IllegalArgumentException: bad json"));
+        verify(repository, never()).complete(anyLong(), anyString());
+    }
+
+    @Test
+    void shouldMarkEntryFailedOnceMaxAttemptsReached() {
+        doThrow(new IllegalArgumentException("bad json")).when(deserializer).deserialize(PAYLOAD);
+
+        worker.process(new OutboxEntry(1L, 123L, "appealReceived", PAYLOAD, 3, false));
+
+        verify(repository).fail(eq(1L), anyString(), eq("IllegalArgumentException: bad json"));
+        verify(repository, never()).release(anyLong(), anyString(), anyLong(), anyString());
+        assertThat(meterRegistry.get(CallbackOutboxWorker.PROCESSED).tag("outcome", "failed").counter().count())
+            .isEqualTo(1);
+    }
+}
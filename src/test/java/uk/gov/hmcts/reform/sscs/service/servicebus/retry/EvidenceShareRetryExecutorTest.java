@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_HEARING_OUTCOME;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobException;
+import uk.gov.hmcts.reform.sscs.service.servicebus.CaseStripedExecutor;
+import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class EvidenceShareRetryExecutorTest {
+
+    private static final long CASE_ID = 1234L;
+    private static final long SNAPSHOT_ID = 99L;
+    private static final String EVENT = ADD_HEARING_OUTCOME.getCcdType();
+    private static final IdamTokens IDAM_TOKENS = IdamTokens.builder().build();
+
+    @Mock
+    private SendCallbackHandler sendCallbackHandler;
+    @Mock
+    private CaseStripedExecutor caseStripedExecutor;
+    @Mock
+    private CcdService ccdService;
+    @Mock
+    private IdamService idamService;
+    @Mock
+    private EvidenceShareRetryScheduler retryScheduler;
+    @Mock
+    private EvidenceShareRetrySnapshotRepository snapshotRepository;
+    @Captor
+    private ArgumentCaptor<Callback<SscsCaseData>> callbackCaptor;
+
+    private EvidenceShareRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new EvidenceShareRetryExecutor(new StreamingCallbackDeserializer(false), sendCallbackHandler,
+            caseStripedExecutor, ccdService, idamService, retryScheduler, snapshotRepository, 3);
+        lenient().when(caseStripedExecutor.submit(eq(CASE_ID), any())).thenAnswer(invocation -> {
+            try {
+                invocation.<Runnable>getArgument(1).run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        lenient().when(idamService.getIdamTokens()).thenReturn(IDAM_TOKENS);
+    }
+
+    @Test
+    void shouldRetryWithTheCaseAsItIsNowInCcd() {
+        givenTheCaseIsInCcd();
+
+        executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, null));
+
+        verify(sendCallbackHandler).retryEvidenceShare(callbackCaptor.capture(), eq(2));
+        Callback<SscsCaseData> callback = callbackCaptor.getValue();
+        assertThat(callback.getEvent()).isEqualTo(ADD_HEARING_OUTCOME);
+        assertThat(callback.getCaseDetails().getId()).isEqualTo(CASE_ID);
+        assertThat(callback.getCaseDetails().getCaseData().getCcdCaseId()).isEqualTo(String.valueOf(CASE_ID));
+        assertThat(callback.getCaseDetailsBefore()).isEmpty();
+    }
+
+    @Test
+    void shouldRetryWithTheCaseDetailsBeforeOfTheOriginalCallback() throws Exception {
+        givenTheCaseIsInCcd();
+        CaseDetails<SscsCaseData> caseDetailsBefore = new CaseDetails<>(CASE_ID, "SSCS", "appealCreated",
+            SscsCaseData.builder().caseCode("002DD").build(), LocalDateTime.now(), "Benefit");
+        when(snapshotRepository.find(SNAPSHOT_ID))
+            .thenReturn(Optional.of(SpringConfig.mapper().writeValueAsBytes(caseDetailsBefore)));
+
+        executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, SNAPSHOT_ID));
+
+        verify(sendCallbackHandler).retryEvidenceShare(callbackCaptor.capture(), eq(2));
+        CaseDetails<SscsCaseData> before = callbackCaptor.getValue().getCaseDetailsBefore().orElseThrow();
+        assertThat(before.getState()).isEqualTo("appealCreated");
+        assertThat(before.getCaseData().getCaseCode()).isEqualTo("002DD");
+        verify(snapshotRepository).delete(SNAPSHOT_ID);
+    }
+
+    @Test
+    void shouldScheduleTheNextAttemptWithTheSameSnapshotWhenTheRetryFailsAgain() {
+        givenTheCaseIsInCcd();
+        when(snapshotRepository.find(SNAPSHOT_ID)).thenReturn(Optional.empty());
+        when(sendCallbackHandler.retryEvidenceShare(any(), eq(2))).thenReturn(true);
+
+        executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, SNAPSHOT_ID));
+
+        verify(retryScheduler).scheduleRetry(CASE_ID, EVENT, 3, SNAPSHOT_ID);
+        verify(snapshotRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    void shouldRescheduleWhenTheCaseCannotBeLoaded() {
+        when(ccdService.getByCaseId(CASE_ID, IDAM_TOKENS)).thenThrow(new IllegalStateException("CCD is down"));
+
+        executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, SNAPSHOT_ID));
+
+        verify(retryScheduler).scheduleRetry(CASE_ID, EVENT, 3, SNAPSHOT_ID);
+        verify(sendCallbackHandler, never()).retryEvidenceShare(any(), anyInt());
+    }
+
+    @Test
+    void shouldGiveUpWhenTheCaseCannotBeLoadedOnTheLastAttempt() {
+        when(ccdService.getByCaseId(CASE_ID, IDAM_TOKENS)).thenThrow(new IllegalStateException("CCD is down"));
+
+        executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 4, SNAPSHOT_ID));
+
+        verify(retryScheduler, never()).scheduleRetry(anyLong(), anyString(), anyInt(), any());
+        verify(snapshotRepository).delete(SNAPSHOT_ID);
+    }
+
+    @Test
+    void shouldFailTheJobSoQuartzRunsItAgainWhenTheAttemptThrows() {
+        givenTheCaseIsInCcd();
+        when(sendCallbackHandler.retryEvidenceShare(any(), eq(2))).thenReturn(true);
+        IllegalStateException quartzDown = new IllegalStateException("Quartz is down");
+        doThrow(quartzDown).when(retryScheduler).scheduleRetry(CASE_ID, EVENT, 3, null);
+
+        assertThatThrownBy(() -> executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, null)))
+            .isInstanceOf(JobException.class)
+            .hasCause(quartzDown);
+    }
+
+    @Test
+    void shouldFailTheJobWithoutWaitingWhenTheCaseStripeIsFull() {
+        RejectedExecutionException full = new RejectedExecutionException("full");
+        when(caseStripedExecutor.submit(eq(CASE_ID), any())).thenThrow(full);
+
+        assertThatThrownBy(() -> executor.execute("job", CASE_ID + "_evidenceShareRetry", EVENT,
+            new EvidenceShareRetryPayload(CASE_ID, EVENT, 2, null)))
+            .isInstanceOf(JobException.class)
+            .hasCause(full);
+        verify(sendCallbackHandler, never()).retryEvidenceShare(any(), anyInt());
+    }
+
+    private void givenTheCaseIsInCcd() {
+        when(ccdService.getByCaseId(CASE_ID, IDAM_TOKENS)).thenReturn(SscsCaseDetails.builder()
+            .id(CASE_ID)
+            .jurisdiction("SSCS")
+            .caseTypeId("Benefit")
+            .state("withDwp")
+            .data(SscsCaseData.builder().ccdCaseId(String.valueOf(CASE_ID)).build())
+            .build());
+    }
+}
@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADD_HEARING_OUTCOME;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.sscs.callback.StreamingCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.config.SpringConfig;
+import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class EvidenceShareRetrySchedulerTest {
+
+    private static final String CALLBACK_JSON = "callback/addHearingOutcomeCallback.json";
+    private static final long SNAPSHOT_ID = 99L;
+
+    @Mock
+    private JobScheduler jobScheduler;
+    @Mock
+    private EvidenceShareRetrySnapshotRepository snapshotRepository;
+
+    @Captor
+    private ArgumentCaptor<Job<EvidenceShareRetryPayload>> jobCaptor;
+    @Captor
+    private ArgumentCaptor<byte[]> snapshotCaptor;
+
+    private final StreamingCallbackDeserializer deserializer = new StreamingCallbackDeserializer(false);
+
+    private Callback<SscsCaseData> callback;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CALLBACK_JSON)) {
+            callback = deserializer.deserialize(inputStream);
+        }
+    }
+
+    @Test
+    void shouldScheduleRetryWithExponentialBackoffAndJitter() {
+        EvidenceShareRetryScheduler scheduler = new EvidenceShareRetryScheduler(jobScheduler, snapshotRepository,
+            1000, 60000);
+        ZonedDateTime before = ZonedDateTime.now();
+
+        scheduler.scheduleRetry(callback, 3);
+
+        verify(jobScheduler).schedule(jobCaptor.capture());
+        Job<EvidenceShareRetryPayload> job = jobCaptor.getValue();
+        long caseId = callback.getCaseDetails().getId();
+        assertThat(job.group).isEqualTo(caseId + "_evidenceShareRetry");
+        assertThat(job.name).isEqualTo(ADD_HEARING_OUTCOME.getCcdType());
+        assertThat(job.payload.attempt()).isEqualTo(3);
+        assertThat(job.payload.caseId()).isEqualTo(caseId);
+        assertThat(job.triggerAt).isAfterOrEqualTo(before.plusSeconds(1)).isBefore(before.plusSeconds(3));
+    }
+
+    @Test
+    void shouldCarryOnlyTheCaseAndEventRatherThanTheCallback() {
+        when(snapshotRepository.save(eq(callback.getCaseDetails().getId()), any())).thenReturn(SNAPSHOT_ID);
+        EvidenceShareRetryScheduler scheduler = new EvidenceShareRetryScheduler(jobScheduler, snapshotRepository,
+            1000, 60000);
+        scheduler.scheduleRetry(callback, 2);
+        verify(jobScheduler).schedule(jobCaptor.capture());
+
+        String serialized = new EvidenceShareRetrySerializer().serialize(jobCaptor.getValue().payload);
+        assertThat(EvidenceShareRetryPayload.matches(serialized)).isTrue();
+        assertThat(serialized).doesNotContain("case_data");
+
+        EvidenceShareRetryPayload payload = new EvidenceShareRetryDeserializer().deserialize(serialized);
+        assertThat(payload).isEqualTo(new EvidenceShareRetryPayload(callback.getCaseDetails().getId(),
+            ADD_HEARING_OUTCOME.getCcdType(), 2, SNAPSHOT_ID));
+    }
+
+    @Test
+    void shouldKeepTheCaseDetailsBeforeSoTheRetryCanBeGivenThem() throws IOException {
+        when(snapshotRepository.save(eq(callback.getCaseDetails().getId()), any())).thenReturn(SNAPSHOT_ID);
+        EvidenceShareRetryScheduler scheduler = new EvidenceShareRetryScheduler(jobScheduler, snapshotRepository,
+            1000, 60000);
+
+        scheduler.scheduleRetry(callback, 2);
+
+        verify(snapshotRepository).save(eq(callback.getCaseDetails().getId()), snapshotCaptor.capture());
+        CaseDetails<SscsCaseData> saved = SpringConfig.mapper().readValue(snapshotCaptor.getValue(),
+            new TypeReference<CaseDetails<SscsCaseData>>() {});
+        assertThat(saved.getState()).isEqualTo(callback.getCaseDetailsBefore().orElseThrow().getState());
+        verify(jobScheduler).schedule(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().payload.snapshotId()).isEqualTo(SNAPSHOT_ID);
+    }
+
+    @Test
+    void shouldDropTheSnapshotWhenTheRetryCannotBeScheduled() {
+        when(snapshotRepository.save(eq(callback.getCaseDetails().getId()), any())).thenReturn(SNAPSHOT_ID);
+        when(jobScheduler.schedule(any())).thenThrow(new IllegalStateException("Quartz is down"));
+        EvidenceShareRetryScheduler scheduler = new EvidenceShareRetryScheduler(jobScheduler, snapshotRepository,
+            1000, 60000);
+
+        assertThatThrownBy(() -> scheduler.scheduleRetry(callback, 2)).isInstanceOf(IllegalStateException.class);
+        verify(snapshotRepository).delete(SNAPSHOT_ID);
+    }
+
+    @Test
+    void shouldStillReadPayloadsScheduledWithTheCallback() {
+        EvidenceShareRetryPayload payload = new EvidenceShareRetryDeserializer().deserialize(
+            "{\"type\":\"evidenceShareRetry\",\"caseId\":1234,\"event\":\"addHearingOutcome\",\"attempt\":2,"
+                + "\"callback\":\"{}\"}");
+
+        assertThat(payload).isEqualTo(new EvidenceShareRetryPayload(1234, "addHearingOutcome", 2, null));
+    }
+
+    @Test
+    void shouldNotMatchOtherJobPayloads() {
+        assertThat(EvidenceShareRetryPayload.matches("1234,2")).isFalse();
+        assertThat(EvidenceShareRetryPayload.matches("{\"case_id\":1,\"online_hearing_id\":\"x\"}")).isFalse();
+    }
+}
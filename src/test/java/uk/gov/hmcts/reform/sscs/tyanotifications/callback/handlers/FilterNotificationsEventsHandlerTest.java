@@ -142,6 +142,27 @@ public class FilterNotificationsEventsHandlerTest {
         willNotHandle(callback);
     }
 
+    @Test
+    @Parameters({
+        "APPEAL_RECEIVED",
+        "ACTION_POSTPONEMENT_REQUEST",
+        "DEATH_OF_APPELLANT",
+        "HEARING_BOOKED",
+        "PROVIDE_APPOINTEE_DETAILS"})
+    public void routesEventsThatCanNotify(NotificationEventType notificationEventType) {
+        assertThat(handler.canEverHandle(notificationEventType)).isTrue();
+    }
+
+    @Test
+    @Parameters({
+        "DO_NOT_SEND",
+        "SYA_APPEAL_CREATED",
+        "CORRECTION_REQUEST",
+        "null"})
+    public void doesNotRouteEventsThatCanNeverNotify(@Nullable NotificationEventType notificationEventType) {
+        assertThat(handler.canEverHandle(notificationEventType)).isFalse();
+    }
+
     @Parameters({"DO_NOT_SEND", "SYA_APPEAL_CREATED"})
     public void willThrowExceptionIfTriesToHandleEvents(NotificationEventType notificationEventType) {
         callback.setNotificationEventType(notificationEventType);
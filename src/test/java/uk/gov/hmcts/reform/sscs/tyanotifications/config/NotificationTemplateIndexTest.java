@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+
+class NotificationTemplateIndexTest {
+
+    private static StandardEnvironment environment(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return environment;
+    }
+
+    @Test
+    void parsesRouteHearingTypeAndDottedTemplateName() {
+        assertThat(NotificationTemplateIndex.parse("notification.english.listAssist.oral.hearingPostponed.appellant.emailId"))
+            .isEqualTo(new NotificationTemplateIndex.TemplateKey("english", "listAssist", "oral", "hearingPostponed.appellant", "emailId"));
+        assertThat(NotificationTemplateIndex.parse("notification.welsh.paper.appealReceived.appellant.letterId"))
+            .isEqualTo(new NotificationTemplateIndex.TemplateKey("welsh", null, "paper", "appealReceived.appellant", "letterId"));
+        assertThat(NotificationTemplateIndex.parse("notification.english.directionIssued.provideInformation.appellant.smsId"))
+            .isEqualTo(new NotificationTemplateIndex.TemplateKey("english", null, null, "directionIssued.provideInformation.appellant", "smsId"));
+        assertThat(NotificationTemplateIndex.parse("notification.template-index.failOnMissing")).isNull();
+    }
+
+    @Test
+    void resolvesTemplatesAndSmsSendersFromTheEnvironment() {
+        NotificationTemplateIndex index = new NotificationTemplateIndex(environment(Map.of(
+            "notification.english.oral.appealReceived.appellant.emailId", " oralEmailId ",
+            "notification.english.appealReceived.appellant.emailId", "${DEFAULT_EMAIL:defaultEmailId}",
+            "smsSender.pip", "pipSender")));
+
+        assertThat(index.find("english", null, "oral", "appealReceived.appellant", "emailId")).isEqualTo("oralEmailId");
+        assertThat(index.find("english", null, null, "appealReceived.appellant", "emailId")).isEqualTo("defaultEmailId");
+        assertThat(index.find("english", null, "paper", "appealReceived.appellant", "emailId")).isNull();
+        assertThat(index.findSmsSender("pip")).isEqualTo("pipSender");
+        assertThat(index.getTemplates()).containsEntry("notification.english.oral.appealReceived.appellant.emailId", "oralEmailId");
+    }
+
+    @Test
+    void keepsBlankTemplatesSoTheyStillOverrideLessSpecificOnes() {
+        NotificationTemplateIndex index = new NotificationTemplateIndex(environment(Map.of(
+            "notification.english.oral.appealReceived.appellant.letterId", "",
+            "notification.english.appealReceived.appellant.letterId", "letterId")));
+
+        assertThat(index.find("english", null, "oral", "appealReceived.appellant", "letterId")).isEmpty();
+    }
+
+    @Test
+    void failsAtStartupOnBlankTemplatesWhenConfigured() {
+        StandardEnvironment environment = environment(Map.of("notification.english.appealReceived.appellant.letterId", " "));
+
+        assertThatThrownBy(() -> new NotificationTemplateIndex(environment, true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("notification.english.appealReceived.appellant.letterId");
+    }
+
+    @Test
+    void indexesMappingsSuppliedOnlyThroughEnvironmentVariables() {
+        StandardEnvironment environment = environment(Map.of());
+        environment.getPropertySources().addFirst(new SystemEnvironmentPropertySource("env", Map.of(
+            "NOTIFICATION_ENGLISH_ORAL_APPEALRECEIVED_APPELLANT_EMAILID", "envEmailId",
+            "NOTIFICATION_WELSH_APPEALRECEIVED_REPRESENTATIVE_LETTERID", "envLetterId")));
+
+        NotificationTemplateIndex index = new NotificationTemplateIndex(environment);
+
+        assertThat(index.find("english", null, "oral", "appealReceived.appellant", "emailId")).isEqualTo("envEmailId");
+        assertThat(index.find("welsh", null, null, "appealReceived.representative", "letterId")).isEqualTo("envLetterId");
+    }
+
+    @Test
+    void reportsExpectedSubscriptionTemplatesWithNoMappingAtAnyLevel() {
+        NotificationTemplateIndex index = new NotificationTemplateIndex(environment(Map.of(
+            "notification.english.oral.appealReceived.appellant.emailId", "oralEmailId",
+            "notification.english.appealReceived.representative.emailId", "",
+            "notification.english.otherPartyAddedToAppeal.other_party.docmosisId", "docmosisId")));
+
+        assertThat(index.getAbsent())
+            .contains("notification.english.appealReceived.appointee.emailId",
+                "notification.english.otherPartyAddedToAppeal.appellant.docmosisId")
+            .doesNotContain("notification.english.appealReceived.appellant.emailId",
+                "notification.english.appealReceived.representative.emailId",
+                "notification.english.otherPartyAddedToAppeal.other_party.docmosisId");
+    }
+}
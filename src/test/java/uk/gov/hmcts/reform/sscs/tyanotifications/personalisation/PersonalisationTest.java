@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -2116,6 +2117,47 @@ class PersonalisationTest {
         assertEquals("http://link.com/" + otherPartyTyaNumber, result.get(SUBMIT_EVIDENCE_INFO_LINK_LITERAL));
     }
 
+    @Test
+    void shouldBuildCaseWidePersonalisationOnceForEverySubscriptionOnTheCase() {
+        when(macService.generateToken(anyString(), eq(PIP.name()))).thenReturn("MAC");
+        List<CcdValue<OtherParty>> otherParties = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            otherParties.add(new CcdValue<>(OtherParty.builder()
+                .id(String.valueOf(i))
+                .otherPartySubscription(Subscription.builder().tya("otherPartyTya" + i).build())
+                .name(Name.builder().firstName("Party").lastName("Number" + i).build())
+                .build()));
+        }
+        final SscsCaseData sscsCaseData = SscsCaseData.builder()
+            .ccdCaseId(CASE_ID)
+            .caseReference("SC/1234/5")
+            .otherParties(otherParties)
+            .appeal(Appeal.builder()
+                .benefitType(BenefitType.builder().code(PIP.name()).build())
+                .appellant(Appellant.builder().name(name).build())
+                .build())
+            .build();
+        NotificationSscsCaseDataWrapper wrapper = NotificationSscsCaseDataWrapper.builder()
+            .newSscsCaseData(sscsCaseData)
+            .notificationEventType(SUBSCRIPTION_CREATED)
+            .build();
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (CcdValue<OtherParty> party : otherParties) {
+            OtherParty otherParty = party.getValue();
+            results.add(personalisation.create(wrapper, new SubscriptionWithType(otherParty.getOtherPartySubscription(),
+                SubscriptionType.OTHER_PARTY, otherParty, otherParty, otherParty.getId())));
+        }
+
+        verify(regionalProcessingCenterService, times(1)).getByScReferenceCode("SC/1234/5");
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("Party Number" + (i + 1), results.get(i).get(NAME));
+            assertEquals("otherPartyTya" + (i + 1), results.get(i).get(APPEAL_ID_LITERAL));
+            assertEquals(PHONE, results.get(i).get(PHONE_NUMBER));
+            assertEquals(results.getFirst().get(APPEAL_REF), results.get(i).get(APPEAL_REF));
+        }
+    }
+
     @Test
     void shouldHandleNoSubscription() {
         when(macService.generateToken(EMPTY, PIP.name())).thenReturn("ZYX");
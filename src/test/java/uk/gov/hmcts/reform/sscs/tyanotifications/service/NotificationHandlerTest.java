@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationServiceTest.verifyExpectedLogMessage;
 
@@ -11,6 +13,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.UnknownHostException;
 import java.time.ZonedDateTime;
 import org.junit.Before;
@@ -24,10 +27,12 @@ import org.slf4j.LoggerFactory;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobScheduler;
+import uk.gov.hmcts.reform.sscs.tyanotifications.domain.NotificationSscsCaseDataWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationClientRuntimeException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch.NotifyCircuitBreaker;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.reminder.JobGroupGenerator;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -85,6 +90,7 @@ public class NotificationHandlerTest {
     @Test
     public void canScheduleNotifications() {
         when(notificationWrapper.getNotificationType()).thenReturn(A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS);
+        when(notificationWrapper.getSscsCaseDataWrapper()).thenReturn(NotificationSscsCaseDataWrapper.builder().build());
         String payload = "payload";
         when(notificationWrapper.getSchedulerPayload()).thenReturn(payload);
         String caseId = "caseId";
@@ -106,9 +112,34 @@ public class NotificationHandlerTest {
         assertThat(value.payload, is(payload));
     }
 
+    @Test
+    public void shouldDeferNotificationWhileNotifyCircuitIsOpen() {
+        NotifyCircuitBreaker breaker = new NotifyCircuitBreaker(new SimpleMeterRegistry(), 1, 60000);
+        breaker.onFailure();
+        underTest = new NotificationHandler(outOfHoursCalculator, jobScheduler, jobGroupGenerator, breaker);
+        when(notificationWrapper.getNotificationType()).thenReturn(A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS);
+        when(notificationWrapper.getSscsCaseDataWrapper()).thenReturn(NotificationSscsCaseDataWrapper.builder().build());
+        when(notificationWrapper.getCaseId()).thenReturn("caseId");
+        when(jobGroupGenerator.generate("caseId", A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS.getId())).thenReturn("group");
+
+        ZonedDateTime before = ZonedDateTime.now();
+        assertThat(underTest.deferIfNotifyUnavailable(notificationWrapper), is(true));
+
+        ArgumentCaptor<Job> argument = ArgumentCaptor.forClass(Job.class);
+        verify(jobScheduler).schedule(argument.capture());
+        assertThat(argument.getValue().triggerAt.isAfter(before.plusSeconds(50)), is(true));
+    }
+
+    @Test
+    public void shouldNotDeferNotificationWhileNotifyCircuitIsClosed() {
+        assertThat(underTest.deferIfNotifyUnavailable(notificationWrapper), is(false));
+        verifyNoInteractions(jobScheduler);
+    }
+
     @Test
     public void shouldScheduleNotificationsAtASpecifiedTime() {
         when(notificationWrapper.getNotificationType()).thenReturn(A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS);
+        when(notificationWrapper.getSscsCaseDataWrapper()).thenReturn(NotificationSscsCaseDataWrapper.builder().build());
         String payload = "payload";
         when(notificationWrapper.getSchedulerPayload()).thenReturn(payload);
         String caseId = "caseId";
@@ -139,6 +170,7 @@ public class NotificationHandlerTest {
     public void shouldScheduleNotificationsAtASpecifiedTimeWithRetry() {
         final int retry = 1;
         when(notificationWrapper.getNotificationType()).thenReturn(A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS);
+        when(notificationWrapper.getSscsCaseDataWrapper()).thenReturn(NotificationSscsCaseDataWrapper.builder().build());
         final String payload = "payload";
         final String expectedPayload = payload + "," + retry;
         when(notificationWrapper.getSchedulerPayload()).thenReturn(payload);
@@ -160,6 +192,24 @@ public class NotificationHandlerTest {
         assertThat(value.payload, is(expectedPayload));
     }
 
+    @Test
+    public void shouldCarryTheEventTimestampInTheSchedulerPayload() {
+        when(notificationWrapper.getNotificationType()).thenReturn(A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS);
+        when(notificationWrapper.getSscsCaseDataWrapper())
+            .thenReturn(NotificationSscsCaseDataWrapper.builder().eventTimestamp("2024-01-01T10:00").build());
+        when(notificationWrapper.getSchedulerPayload()).thenReturn("payload");
+        when(notificationWrapper.getCaseId()).thenReturn("caseId");
+        when(jobGroupGenerator.generate("caseId", A_NOTIFICATION_THAT_CANNOT_TRIGGER_OUT_OF_HOURS.getId())).thenReturn("group");
+
+        underTest.scheduleNotification(notificationWrapper, ZonedDateTime.now());
+        underTest.scheduleNotification(notificationWrapper, 2, ZonedDateTime.now());
+        ArgumentCaptor<Job> argument = ArgumentCaptor.forClass(Job.class);
+        verify(jobScheduler, times(2)).schedule(argument.capture());
+
+        assertThat(argument.getAllValues().get(0).payload, is("payload,0,2024-01-01T10:00"));
+        assertThat(argument.getAllValues().get(1).payload, is("payload,2,2024-01-01T10:00"));
+    }
+
     @Test(expected = NotificationClientRuntimeException.class)
     public void shouldThrowNotificationClientRuntimeExceptionForAnyNotificationException() throws Exception {
         doThrow(new NotificationClientException(new UnknownHostException()))
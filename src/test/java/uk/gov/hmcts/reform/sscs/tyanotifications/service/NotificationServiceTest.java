@@ -4,6 +4,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -136,10 +137,12 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notification;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Reference;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Template;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.CcdNotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationFactory;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.PdfLetterService;
+import uk.gov.service.notify.NotificationClientException;
 
 @RunWith(JUnitParamsRunner.class)
 public class NotificationServiceTest {
@@ -577,6 +580,66 @@ public class NotificationServiceTest {
         verifyNoErrorsLogged(mockAppender, captorLoggingEvent);
     }
 
+    @Test
+    public void givenANotificationThatCannotBeCreatedForALaterParty_shouldStillSendToTheEarlierParties() {
+        ccdNotificationWrapper = buildNotificationWrapperGivenNotificationTypeAndSubscriptions(
+            APPEAL_LAPSED, subscription, Subscription.builder().tya(APPEAL_NUMBER).email(EMAIL).subscribeEmail(YES).build(),
+            null, null);
+
+        given(notificationValidService.isHearingTypeValidToSendNotification(any(SscsCaseData.class), eq(APPEAL_LAPSED)))
+            .willReturn(true);
+        given(notificationValidService.isNotificationStillValidToSend(anyList(), eq(APPEAL_LAPSED))).willReturn(true);
+
+        IllegalStateException creationFailure = new IllegalStateException("No personalisation for the representative");
+        given(factory.create(any(NotificationWrapper.class), any(SubscriptionWithType.class)))
+            .willReturn(emailNotification(EMAIL_TEMPLATE_ID))
+            .willThrow(creationFailure);
+
+        assertThatThrownBy(() -> notificationService.manageNotificationAndSubscription(ccdNotificationWrapper, true))
+            .isInstanceOf(NotificationServiceException.class)
+            .hasCause(creationFailure);
+
+        then(factory).should(times(2)).create(any(NotificationWrapper.class), any(SubscriptionWithType.class));
+        then(notificationHandler).should(times(1)).sendNotification(
+            eq(ccdNotificationWrapper), eq(EMAIL_TEMPLATE_ID), eq("Email"),
+            any(NotificationHandler.SendNotification.class));
+    }
+
+    @Test
+    public void givenTheMiddlePartyFailsToSend_shouldSendToTheOtherPartiesAndThenThrowItsFailure() {
+        ccdNotificationWrapper = buildNotificationWrapperGivenNotificationTypeAndSubscriptions(
+            APPEAL_LAPSED, subscription, Subscription.builder().tya(APPEAL_NUMBER).email(EMAIL).subscribeEmail(YES).build(),
+            null, buildOtherParties(null, subscription));
+
+        given(notificationValidService.isHearingTypeValidToSendNotification(any(SscsCaseData.class), eq(APPEAL_LAPSED)))
+            .willReturn(true);
+        given(notificationValidService.isNotificationStillValidToSend(anyList(), eq(APPEAL_LAPSED))).willReturn(true);
+        given(factory.create(any(NotificationWrapper.class), any(SubscriptionWithType.class)))
+            .willReturn(emailNotification("appellant"), emailNotification("representative"), emailNotification("otherParty"));
+
+        NotificationServiceException notifyFailure =
+            new NotificationServiceException(CASE_ID, new NotificationClientException("500 server error"));
+        given(notificationHandler.sendNotification(eq(ccdNotificationWrapper), eq("representative"), eq("Email"),
+            any(NotificationHandler.SendNotification.class))).willThrow(notifyFailure);
+
+        assertThatThrownBy(() -> notificationService.manageNotificationAndSubscription(ccdNotificationWrapper, true))
+            .isSameAs(notifyFailure);
+
+        then(notificationHandler).should().sendNotification(eq(ccdNotificationWrapper), eq("appellant"), eq("Email"),
+            any(NotificationHandler.SendNotification.class));
+        then(notificationHandler).should().sendNotification(eq(ccdNotificationWrapper), eq("otherParty"), eq("Email"),
+            any(NotificationHandler.SendNotification.class));
+    }
+
+    private static Notification emailNotification(String emailTemplateId) {
+        return new Notification(
+            Template.builder().emailTemplateId(emailTemplateId).build(),
+            Destination.builder().email(EMAIL).build(),
+            new HashMap<>(),
+            new Reference(),
+            null);
+    }
+
     @Test
     public void sendEmailToGovNotifyWhenNotificationIsAnEmailAndTemplateNotBlank() {
         String emailTemplateId = "abc";
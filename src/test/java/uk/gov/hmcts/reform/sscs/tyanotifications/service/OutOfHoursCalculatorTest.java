@@ -1,12 +1,10 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.within;
 
 import java.security.NoSuchAlgorithmException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 import org.junit.Test;
 
 public class OutOfHoursCalculatorTest {
@@ -52,8 +50,8 @@ public class OutOfHoursCalculatorTest {
         ZonedDateTime nextInHoursTime = new OutOfHoursCalculator(new FixedDateTimeProvider(now), START_HOUR, END_HOUR).getStartOfNextInHoursPeriod();
 
 
-        ZonedDateTime expected = ZonedDateTime.of(2018, 9, 19, START_HOUR, 30, 0, 0, ZoneId.of("Europe/London"));
-        assertThat(nextInHoursTime).isCloseTo(expected, within(30, ChronoUnit.MINUTES));
+        ZonedDateTime expected = ZonedDateTime.of(2018, 9, 19, START_HOUR, 0, 0, 0, ZoneId.of("Europe/London"));
+        assertThat(nextInHoursTime).isEqualTo(expected);
     }
 
     @Test
@@ -61,8 +59,8 @@ public class OutOfHoursCalculatorTest {
         ZonedDateTime now = nowAtHour(1);
         ZonedDateTime nextInHoursTime = new OutOfHoursCalculator(new FixedDateTimeProvider(now), START_HOUR, END_HOUR).getStartOfNextInHoursPeriod();
 
-        ZonedDateTime expected = ZonedDateTime.of(2018, 9, 18, START_HOUR, 30, 0, 0, ZoneId.of("Europe/London"));
-        assertThat(nextInHoursTime).isCloseTo(expected, within(30, ChronoUnit.MINUTES));
+        ZonedDateTime expected = ZonedDateTime.of(2018, 9, 18, START_HOUR, 0, 0, 0, ZoneId.of("Europe/London"));
+        assertThat(nextInHoursTime).isEqualTo(expected);
     }
 
 
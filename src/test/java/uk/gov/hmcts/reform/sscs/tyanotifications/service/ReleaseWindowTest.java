@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.APPEAL_RECEIVED;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.HEARING_BOOKED;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.OutOfHoursCalculatorTest.FixedDateTimeProvider;
+
+class ReleaseWindowTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2018, 9, 18, 20, 0, 0, 0, ZoneId.of("Europe/London"));
+    private static final ZonedDateTime START = ZonedDateTime.of(2018, 9, 19, 9, 0, 0, 0, ZoneId.of("Europe/London"));
+
+    private final OutOfHoursCalculator outOfHoursCalculator =
+        new OutOfHoursCalculator(new FixedDateTimeProvider(NOW), 9, 17);
+    private final ReleaseWindow releaseWindow =
+        new ReleaseWindow(outOfHoursCalculator, 60, 15, new String[] {"HEARING_BOOKED", " POSTPONEMENT"});
+
+    @Test
+    void releasesTheSameNotificationAtTheSameTime() {
+        assertThat(releaseWindow.getReleaseTime("1234", APPEAL_RECEIVED))
+            .isEqualTo(releaseWindow.getReleaseTime("1234", APPEAL_RECEIVED));
+    }
+
+    @Test
+    void releasesPriorityEventsInTheFirstPartOfTheRamp() {
+        IntStream.range(0, 500).mapToObj(String::valueOf).forEach(caseId ->
+            assertThat(offset(releaseWindow.getReleaseTime(caseId, HEARING_BOOKED)))
+                .isBetween(Duration.ZERO, Duration.ofMinutes(15).minusSeconds(1)));
+    }
+
+    @Test
+    void releasesOtherEventsOverTheRestOfTheRamp() {
+        IntStream.range(0, 500).mapToObj(String::valueOf).forEach(caseId ->
+            assertThat(offset(releaseWindow.getReleaseTime(caseId, APPEAL_RECEIVED)))
+                .isBetween(Duration.ofMinutes(15), Duration.ofMinutes(60).minusSeconds(1)));
+    }
+
+    @Test
+    void spreadsCasesAcrossTheRamp() {
+        Set<ZonedDateTime> releaseTimes = new HashSet<>();
+        IntStream.range(0, 500).mapToObj(String::valueOf)
+            .forEach(caseId -> releaseTimes.add(releaseWindow.getReleaseTime(caseId, APPEAL_RECEIVED)));
+
+        assertThat(releaseTimes).hasSizeGreaterThan(400);
+    }
+
+    @Test
+    void immediateWindowReleasesEverythingAtTheStartOfTheInHoursPeriod() {
+        assertThat(ReleaseWindow.immediate(outOfHoursCalculator).getReleaseTime("1234", APPEAL_RECEIVED))
+            .isEqualTo(START);
+    }
+
+    private static Duration offset(ZonedDateTime releaseTime) {
+        return Duration.between(START, releaseTime);
+    }
+}
@@ -1,17 +1,15 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
@@ -19,8 +17,10 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.model.LetterType;
+import uk.gov.hmcts.reform.sscs.service.CcdCorrespondenceBatcher;
 import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf.LetterPdfPoller;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -35,26 +35,28 @@ public class SaveCorrespondenceAsyncServiceTest {
     @Mock
     private CcdNotificationsPdfService ccdNotificationsPdfService;
 
+    @Mock
+    private CcdCorrespondenceBatcher ccdCorrespondenceBatcher;
+
+    @Mock
+    private LetterPdfPoller letterPdfPoller;
+
     @Mock
     private NotificationClient notificationClient;
 
     @BeforeEach
     public void setup() {
-        service = new SaveCorrespondenceAsyncService(ccdNotificationsPdfService);
+        service = new SaveCorrespondenceAsyncService(ccdNotificationsPdfService, ccdCorrespondenceBatcher, letterPdfPoller);
         correspondence =
                 Correspondence.builder().value(CorrespondenceDetails.builder().to("Mr Blobby").build()).build();
     }
 
     @Test
-    public void willGetLetterFromNotifyAndUploadIntoCcd() throws NotificationClientException {
-        byte[] bytes = "%PDF bytes".getBytes();
-        when(notificationClient.getPdfForLetter(eq(NOTIFICATION_ID))).thenReturn(bytes);
-
+    public void willQueueLetterToFetchFromNotify() {
         service.saveLetter(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
 
-        verify(notificationClient).getPdfForLetter(eq(NOTIFICATION_ID));
-        verify(ccdNotificationsPdfService)
-                .mergeLetterCorrespondenceIntoCcdV2(any(), eq(Long.valueOf(CCD_ID)), eq(correspondence));
+        verify(letterPdfPoller).schedule(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
+        verifyNoInteractions(notificationClient, ccdCorrespondenceBatcher);
     }
 
     @Test
@@ -63,17 +65,8 @@ public class SaveCorrespondenceAsyncServiceTest {
 
         service.saveLetter(bytes, correspondence, CCD_ID);
 
-        verify(ccdNotificationsPdfService)
-                .mergeLetterCorrespondenceIntoCcdV2(eq(bytes), eq(Long.valueOf(CCD_ID)), eq(correspondence), eq("Bulk Print"));
-    }
-
-    @ParameterizedTest
-    @ValueSource(strings = {"400 PDFNotReadyError", "400 BadRequestError"})
-    public void notificationClientExceptionIsReThrown(String message) throws NotificationClientException {
-        when(notificationClient.getPdfForLetter(eq(NOTIFICATION_ID)))
-                .thenThrow(new NotificationClientException(message));
-        assertThrows(NotificationClientException.class,
-            () -> service.saveLetter(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID));
+        verify(ccdCorrespondenceBatcher)
+                .addLetterCorrespondence(eq(bytes), eq(Long.valueOf(CCD_ID)), eq(correspondence), eq("Bulk Print"));
     }
 
     @Test
@@ -101,6 +94,6 @@ public class SaveCorrespondenceAsyncServiceTest {
 
         service.saveEmailOrSms(correspondence, sscsCaseData);
 
-        verify(ccdNotificationsPdfService).mergeCorrespondenceIntoCcdV2(any(Long.class), eq(correspondence));
+        verify(ccdCorrespondenceBatcher).addCorrespondence(any(Long.class), eq(correspondence));
     }
 }
@@ -5,8 +5,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -34,11 +38,14 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
@@ -85,7 +92,12 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEvent
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Template;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.CcdNotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor.RenderedLetter;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.PdfLetterService;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger.DeliveryKey;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger.NotificationDeliveryLedger;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger.NotificationDeliveryLedgerRepository;
 import uk.gov.service.notify.NotificationClientException;
 
 @RunWith(JUnitParamsRunner.class)
@@ -474,6 +486,85 @@ public class SendNotificationServiceTest {
         verifyNotificationIsSent(sender.getValue(), wrapper);
     }
 
+    @Test
+    public void sendsLetterRenderedInAdvance() {
+        LetterRenderingExecutor letterRenderingExecutor = new LetterRenderingExecutor(2, 10, new SimpleMeterRegistry());
+        try {
+            classUnderTest = new SendNotificationService(notificationSender, notificationHandler, notificationValidService,
+                pdfLetterService, pdfStoreService, NotificationDeliveryLedger.disabled(), letterRenderingExecutor);
+            SubscriptionWithType appellantEmptySub = new SubscriptionWithType(EMPTY_SUBSCRIPTION, APPELLANT,
+                null, null);
+            when(pdfLetterService.generateLetter(any(), any(), any())).thenReturn("PDF".getBytes());
+            var wrapper = buildBaseWrapper(APPELLANT_WITH_ADDRESS, APPEAL_RECEIVED, VALID_APPEAL.getId());
+
+            List<RenderedLetter> letters = classUnderTest.renderLetters(wrapper, List.of(appellantEmptySub),
+                List.of(DOCMOSIS_LETTER));
+            assertNotNull(letters.get(0));
+            classUnderTest.sendEmailSmsLetterNotification(wrapper, DOCMOSIS_LETTER, appellantEmptySub, APPEAL_RECEIVED,
+                letters.get(0));
+
+            verify(pdfLetterService, times(1)).generateLetter(any(), any(), any());
+            verify(notificationHandler, atLeastOnce()).sendNotification(any(), any(), eq("Letter"), sender.capture());
+            verifyNotificationIsSent(sender.getValue(), wrapper);
+        } finally {
+            letterRenderingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void doesNotRenderLetterAlreadySent() {
+        NotificationDeliveryLedgerRepository ledgerRepository = mock(NotificationDeliveryLedgerRepository.class);
+        when(ledgerRepository.isSent(any())).thenReturn(true);
+        LetterRenderingExecutor letterRenderingExecutor = new LetterRenderingExecutor(2, 10, new SimpleMeterRegistry());
+        try {
+            classUnderTest = new SendNotificationService(notificationSender, notificationHandler, notificationValidService,
+                pdfLetterService, pdfStoreService,
+                new NotificationDeliveryLedger(ledgerRepository, new SimpleMeterRegistry(), true, 600, 72),
+                letterRenderingExecutor);
+            SubscriptionWithType appellantEmptySub = new SubscriptionWithType(EMPTY_SUBSCRIPTION, APPELLANT,
+                null, null);
+            var wrapper = buildBaseWrapper(APPELLANT_WITH_ADDRESS, APPEAL_RECEIVED, VALID_APPEAL.getId());
+
+            List<RenderedLetter> letters = classUnderTest.renderLetters(wrapper, List.of(appellantEmptySub),
+                List.of(DOCMOSIS_LETTER));
+            assertNull(letters.get(0));
+            classUnderTest.sendEmailSmsLetterNotification(wrapper, DOCMOSIS_LETTER, appellantEmptySub, APPEAL_RECEIVED,
+                letters.get(0));
+
+            verifyNoInteractions(pdfLetterService);
+            verify(notificationHandler, never()).sendNotification(any(), any(), eq("Letter"), any());
+        } finally {
+            letterRenderingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void sendsEachOccurrenceOfAnEventOnceEvenWithTheSamePersonalisation() throws Exception {
+        NotificationDeliveryLedgerRepository ledgerRepository = mock(NotificationDeliveryLedgerRepository.class);
+        Set<DeliveryKey> claimed = new HashSet<>();
+        when(ledgerRepository.claim(any(), anyLong())).thenAnswer(invocation -> claimed.add(invocation.getArgument(0)));
+        when(notificationValidService.isNotificationStillValidToSend(any(), any())).thenReturn(true);
+        when(notificationValidService.isHearingTypeValidToSendNotification(any(), any())).thenReturn(true);
+        when(notificationHandler.sendNotification(any(), any(), eq("Email"), any())).thenAnswer(invocation -> {
+            invocation.<NotificationHandler.SendNotification>getArgument(3).send();
+            return true;
+        });
+        classUnderTest = new SendNotificationService(notificationSender, notificationHandler, notificationValidService,
+            pdfLetterService, pdfStoreService,
+            new NotificationDeliveryLedger(ledgerRepository, new SimpleMeterRegistry(), true, 600, 72));
+        SubscriptionWithType appellantEmail = new SubscriptionWithType(EMAIL_SUBSCRIPTION, APPELLANT, null, null);
+
+        for (String eventTimestamp : List.of("2026-10-01T09:00:00.123", "2026-10-02T14:30:00.456",
+            "2026-10-01T09:00:00.123")) {
+            CcdNotificationWrapper wrapper = buildBaseWrapper(APPELLANT_WITH_ADDRESS, APPEAL_RECEIVED, VALID_APPEAL.getId());
+            wrapper.getSscsCaseDataWrapper().setEventTimestamp(eventTimestamp);
+            classUnderTest.sendEmailSmsLetterNotification(wrapper, EMAIL, appellantEmail, APPEAL_RECEIVED);
+        }
+
+        verify(notificationSender, times(2)).sendEmail(eq("someEmailTemplateId"), eq("test@some.com"), any(), any(),
+            eq(APPEAL_RECEIVED), any());
+    }
+
     @Test
     @Parameters({"APPEAL_RECEIVED", "DIRECTION_ISSUED", "DIRECTION_ISSUED_WELSH", "DECISION_ISSUED", "DECISION_ISSUED_WELSH", "ISSUE_FINAL_DECISION", "ISSUE_ADJOURNMENT_NOTICE", "DWP_UPLOAD_RESPONSE", "DWP_RESPONSE_RECEIVED"})
     public void saveAppellantReasonableAdjustmentLetterForNotificationType(NotificationEventType notificationEventType) {
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+
+class NotifyCircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final NotifyCircuitBreaker breaker =
+        new NotifyCircuitBreaker(new SimpleMeterRegistry(), 2, Duration.ofSeconds(60), new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return clock.instant();
+            }
+        });
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndFailFast() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.acquirePermission();
+        breaker.onFailure();
+
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(NotifyUnavailableException.class);
+        assertThat(breaker.retryAfter()).contains(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void shouldResetFailuresOnSuccess() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        breaker.acquirePermission();
+        assertThat(breaker.retryAfter()).isEmpty();
+    }
+
+    @Test
+    void shouldLetOneProbeThroughOnceOpenDurationHasPassed() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.onFailure();
+        clock = Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC);
+
+        assertThat(breaker.retryAfter()).isEmpty();
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(NotifyCircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(NotifyUnavailableException.class);
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(NotifyCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReopenWhenTheProbeFails() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.onFailure();
+        clock = Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC);
+        breaker.acquirePermission();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(NotifyCircuitBreaker.State.OPEN);
+        assertThat(breaker.retryAfter()).contains(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void shouldLetTheNextRequestProbeWhenTheProbeIsHandedBack() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.onFailure();
+        clock = Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC);
+        breaker.acquirePermission();
+
+        breaker.releasePermission();
+
+        assertThat(breaker.retryAfter()).isEmpty();
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(NotifyCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void shouldLetAnotherProbeThroughWhenTheFirstNeverReportsBack() throws NotifyUnavailableException {
+        breaker.onFailure();
+        breaker.onFailure();
+        clock = Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC);
+        breaker.acquirePermission();
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(NotifyUnavailableException.class);
+
+        clock = Clock.fixed(NOW.plusSeconds(122), ZoneOffset.UTC);
+
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(NotifyCircuitBreaker.State.HALF_OPEN);
+    }
+}
@@ -0,0 +1,166 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+import uk.gov.service.notify.NotificationClientException;
+
+class NotifyClientFacadeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledExecutorService retryScheduler;
+    private NotifyCircuitBreaker circuitBreaker;
+    private NotifyClientFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryScheduler = Executors.newSingleThreadScheduledExecutor();
+        circuitBreaker = new NotifyCircuitBreaker(meterRegistry, 3, Duration.ofMinutes(1), Clock.systemUTC());
+        facade = new NotifyClientFacade(NotifyDispatcher.unthrottled(), circuitBreaker, meterRegistry, 3,
+            Duration.ZERO, Duration.ZERO, TIMEOUT, Runnable::run, retryScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryScheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldRetryTransientFailuresUntilNotifyAnswers() throws NotificationClientException {
+        String response = facade.send("email", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpFailure(500);
+            }
+            return "sent";
+        });
+
+        assertThat(response).isEqualTo("sent");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(circuitBreaker.getState()).isEqualTo(NotifyCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get(NotifyClientFacade.CALL_TIMER).tag("outcome", "transientFailure").timer()
+            .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(NotifyClientFacade.CALL_TIMER).tag("outcome", "success").timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRetryRequestsNotifyRejects() {
+        assertThatThrownBy(() -> facade.send("sms", () -> {
+            calls.incrementAndGet();
+            throw new NotificationClientException("400 BadRequestError");
+        })).hasMessage("400 BadRequestError");
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttemptsAndOpenTheCircuit() {
+        assertThatThrownBy(() -> facade.send("letter", () -> {
+            calls.incrementAndGet();
+            throw new HttpFailure(503);
+        })).isInstanceOf(HttpFailure.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(circuitBreaker.getState()).isEqualTo(NotifyCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> facade.send("letter", () -> "sent"))
+            .isInstanceOf(NotifyUnavailableException.class);
+    }
+
+    @Test
+    void shouldOnlyTreatThrottlingServerErrorsAndFailuresToConnectAsTransient() {
+        assertThat(NotifyClientFacade.isTransient(new HttpFailure(429))).isTrue();
+        assertThat(NotifyClientFacade.isTransient(new HttpFailure(503))).isTrue();
+        assertThat(NotifyClientFacade.isTransient(new NotificationClientException(new ConnectException()))).isTrue();
+        assertThat(NotifyClientFacade.isTransient(new HttpFailure(403))).isFalse();
+        assertThat(NotifyClientFacade.isTransient(new NotificationClientException(new SocketTimeoutException())))
+            .isFalse();
+        assertThat(NotifyClientFacade.isTransient(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    void shouldNotRetryARequestThatTimedOutWaitingForAResponse() {
+        assertThatThrownBy(() -> facade.send("email", () -> {
+            calls.incrementAndGet();
+            throw new NotificationClientException(new SocketTimeoutException("Read timed out"));
+        })).hasRootCauseInstanceOf(SocketTimeoutException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandTheProbeBackWhenItNeverReachesNotify() throws NotifyUnavailableException {
+        circuitBreaker = new NotifyCircuitBreaker(meterRegistry, 1, Duration.ZERO, Clock.systemUTC());
+        circuitBreaker.onFailure();
+        facade = new NotifyClientFacade(NotifyDispatcher.unthrottled(), circuitBreaker, meterRegistry, 1,
+            Duration.ZERO, Duration.ZERO, TIMEOUT, command -> {
+                throw new RejectedExecutionException();
+            }, retryScheduler);
+
+        assertThatThrownBy(() -> facade.send("email", () -> "sent")).isInstanceOf(RejectedExecutionException.class);
+
+        circuitBreaker.acquirePermission();
+        assertThat(circuitBreaker.getState()).isEqualTo(NotifyCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void shouldHandTheProbeBackWhenItFailsForAReasonOfOurOwn() throws NotifyUnavailableException {
+        circuitBreaker = new NotifyCircuitBreaker(meterRegistry, 1, Duration.ZERO, Clock.systemUTC());
+        circuitBreaker.onFailure();
+        facade = new NotifyClientFacade(NotifyDispatcher.unthrottled(), circuitBreaker, meterRegistry, 1,
+            Duration.ZERO, Duration.ZERO, TIMEOUT, Runnable::run, retryScheduler);
+
+        assertThatThrownBy(() -> facade.send("email", () -> {
+            throw new IllegalStateException("bad personalisation");
+        })).isInstanceOf(IllegalStateException.class);
+
+        circuitBreaker.acquirePermission();
+        assertThat(circuitBreaker.getState()).isEqualTo(NotifyCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void shouldStopWaitingAndRetryingOnceTheSendTimeoutHasPassed() throws InterruptedException {
+        facade = new NotifyClientFacade(NotifyDispatcher.unthrottled(), circuitBreaker, meterRegistry, 3,
+            Duration.ofMillis(200), Duration.ofMillis(200), Duration.ofMillis(50), Runnable::run, retryScheduler);
+
+        assertThatThrownBy(() -> facade.send("email", () -> {
+            calls.incrementAndGet();
+            throw new HttpFailure(503);
+        })).isInstanceOf(NotificationClientException.class).hasCauseInstanceOf(TimeoutException.class);
+
+        Thread.sleep(500);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private static class HttpFailure extends NotificationClientException {
+
+        private final int httpResult;
+
+        HttpFailure(int httpResult) {
+            super("http " + httpResult);
+            this.httpResult = httpResult;
+        }
+
+        @Override
+        public int getHttpResult() {
+            return httpResult;
+        }
+    }
+}
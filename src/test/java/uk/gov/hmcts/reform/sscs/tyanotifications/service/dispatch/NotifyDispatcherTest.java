@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotifyUnavailableException;
+import uk.gov.service.notify.NotificationClientException;
+
+@ExtendWith(MockitoExtension.class)
+class NotifyDispatcherTest {
+
+    @Mock
+    private NotifyTokenBucketRepository tokenBucketRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldSendWhenATokenIsAvailable() throws NotificationClientException {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble())).thenReturn(true);
+
+        String response = dispatcher(1, 1000).dispatch("email", () -> "sent");
+
+        assertThat(response).isEqualTo("sent");
+        assertThat(count(NotifyDispatcher.SENT_COUNTER, "email")).isEqualTo(1);
+        assertThat(meterRegistry.find(NotifyDispatcher.QUEUED_COUNTER).counter()).isNull();
+    }
+
+    @Test
+    void shouldQueueWhileTheSharedBucketIsEmpty() throws NotificationClientException {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble())).thenReturn(false, false, true);
+        when(tokenBucketRepository.timeUntilToken(anyString(), anyDouble(), anyDouble()))
+            .thenReturn(Duration.ofMillis(20));
+
+        dispatcher(1, 1000).dispatch("sms", () -> "sent");
+
+        assertThat(count(NotifyDispatcher.QUEUED_COUNTER, "sms")).isEqualTo(1);
+        assertThat(count(NotifyDispatcher.THROTTLED_COUNTER, "sms")).isEqualTo(2);
+        assertThat(count(NotifyDispatcher.SENT_COUNTER, "sms")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailFastWhenTheNextTokenIsDueAfterMaxWait() throws NotificationClientException {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble())).thenReturn(false, true);
+        when(tokenBucketRepository.timeUntilToken(anyString(), anyDouble(), anyDouble()))
+            .thenReturn(Duration.ofSeconds(30));
+        NotifyDispatcher dispatcher = dispatcher(1, 1000);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> dispatcher.dispatch("letter", () -> "sent"))
+            .isInstanceOf(NotifyUnavailableException.class)
+            .hasMessageContaining("retry after 30000ms");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(dispatcher.dispatch("letter", () -> "sent")).isEqualTo("sent");
+    }
+
+    @Test
+    void shouldGiveUpWaitingForAnInFlightSlotAfterMaxWait() throws Exception {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble())).thenReturn(true);
+        NotifyDispatcher dispatcher = dispatcher(1, 50);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                dispatcher.dispatch("email", () -> {
+                    sending.countDown();
+                    await(release);
+                    return "sent";
+                });
+            } catch (NotificationClientException | RuntimeException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        sending.await();
+
+        assertThatThrownBy(() -> dispatcher.dispatch("email", () -> "sent"))
+            .isInstanceOf(NotifyUnavailableException.class);
+        assertThat(count(NotifyDispatcher.QUEUED_COUNTER, "email")).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(dispatcher.dispatch("email", () -> "sent")).isEqualTo("sent");
+    }
+
+    @Test
+    void shouldReleaseTheInFlightSlotWhenNotifyFails() throws NotificationClientException {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble())).thenReturn(true);
+        NotifyDispatcher dispatcher = dispatcher(1, 0);
+
+        assertThatThrownBy(() -> dispatcher.dispatch("email", () -> {
+            throw new NotificationClientException("bad request");
+        })).hasMessage("bad request");
+        assertThat(dispatcher.dispatch("email", () -> "sent")).isEqualTo("sent");
+    }
+
+    @Test
+    void shouldSendWithoutATokenWhenTheBucketIsUnavailable() throws NotificationClientException {
+        when(tokenBucketRepository.tryTake(anyString(), anyDouble(), anyDouble()))
+            .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        assertThat(dispatcher(1, 1000).dispatch("email", () -> "sent")).isEqualTo("sent");
+    }
+
+    @Test
+    void shouldNotTouchTheBucketWhenDisabled() throws NotificationClientException {
+        NotifyDispatcher dispatcher = new NotifyDispatcher(tokenBucketRepository, meterRegistry, false, 3000, 100,
+            1, 1000);
+        dispatcher.createBucket();
+
+        assertThat(dispatcher.dispatch("email", () -> "sent")).isEqualTo("sent");
+        verifyNoInteractions(tokenBucketRepository);
+        assertThat(count(NotifyDispatcher.SENT_COUNTER, "email")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreateTheBucketOnStartup() {
+        dispatcher(1, 1000).createBucket();
+
+        verify(tokenBucketRepository).createIfMissing(NotifyDispatcher.BUCKET, 100);
+        verify(tokenBucketRepository, never()).tryTake(anyString(), anyDouble(), anyDouble());
+    }
+
+    private NotifyDispatcher dispatcher(int maxInFlight, long maxWaitMs) {
+        return new NotifyDispatcher(tokenBucketRepository, meterRegistry, true, 3000, 100, maxInFlight, maxWaitMs);
+    }
+
+    private static void await(CountDownLatch latch) throws NotificationClientException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new NotificationClientException(e);
+        }
+    }
+
+    private double count(String name, String templateType) {
+        return meterRegistry.get(name).tag("templateType", templateType).counter().count();
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.docmosis.LetterRenderingExecutor.RenderedLetter;
+
+class LetterRenderingExecutorTest {
+
+    private final LetterRenderingExecutor executor = new LetterRenderingExecutor(2, 10, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rendersLettersAtTheSameTime() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        LetterRenderingExecutor.LetterRender render = () -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS) ? "PDF".getBytes() : null;
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        };
+
+        RenderedLetter appellant = executor.render(render);
+        RenderedLetter representative = executor.render(render);
+
+        assertThat(appellant.get()).isEqualTo("PDF".getBytes());
+        assertThat(representative.get()).isEqualTo("PDF".getBytes());
+    }
+
+    @Test
+    void oneLetterFailingDoesNotAffectTheOthers() throws Exception {
+        RenderedLetter appellant = executor.render(() -> {
+            throw new IOException("Docmosis is down");
+        });
+        RenderedLetter representative = executor.render("PDF"::getBytes);
+
+        assertThatThrownBy(appellant::get).isInstanceOf(IOException.class).hasMessage("Docmosis is down");
+        assertThat(representative.get()).isEqualTo("PDF".getBytes());
+    }
+
+    @Test
+    void directExecutorRendersWhenTheLetterIsCollected() throws Exception {
+        AtomicInteger renders = new AtomicInteger();
+        RenderedLetter letter = LetterRenderingExecutor.direct().render(() -> {
+            renders.incrementAndGet();
+            return "PDF".getBytes();
+        });
+
+        assertThat(renders).hasValue(0);
+        assertThat(letter.get()).isEqualTo("PDF".getBytes());
+        assertThat(renders).hasValue(1);
+    }
+}
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.service.notify.NotificationClientException;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryLedgerTest {
+
+    private static final DeliveryKey KEY = DeliveryKey.of("1234", "appealReceived", "APPELLANT", "email",
+        "template-id", "appellant@example.com", null, Map.of("name", "Harry Potter"));
+
+    @Mock
+    private NotificationDeliveryLedgerRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger sends = new AtomicInteger();
+    private NotificationDeliveryLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new NotificationDeliveryLedger(repository, meterRegistry, true, 600, 72);
+    }
+
+    @Test
+    void sendsAndRecordsANotificationNotSentBefore() throws Exception {
+        when(repository.claim(KEY, 600)).thenReturn(true);
+
+        ledger.guard(() -> KEY, sends::incrementAndGet).send();
+
+        assertThat(sends).hasValue(1);
+        verify(repository).markSent(KEY);
+    }
+
+    @Test
+    void skipsANotificationAlreadySent() throws Exception {
+        when(repository.claim(KEY, 600)).thenReturn(false);
+
+        ledger.guard(() -> KEY, sends::incrementAndGet).send();
+
+        assertThat(sends).hasValue(0);
+        verify(repository, never()).markSent(any());
+        assertThat(meterRegistry.counter(NotificationDeliveryLedger.DUPLICATES).count()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesTheClaimWhenTheSendFailsSoARetryCanSendIt() {
+        when(repository.claim(KEY, 600)).thenReturn(true);
+
+        assertThatThrownBy(() -> ledger.guard(() -> KEY, () -> {
+            throw new NotificationClientException("503 Service Unavailable");
+        }).send()).isInstanceOf(NotificationClientException.class);
+
+        verify(repository).release(KEY);
+        verify(repository, never()).markSent(any());
+    }
+
+    @Test
+    void reportsWhetherANotificationWasSentWithoutClaimingIt() {
+        when(repository.isSent(KEY)).thenReturn(true);
+
+        assertThat(ledger.isSent(() -> KEY)).isTrue();
+        verify(repository, never()).claim(any(), anyLong());
+    }
+
+    @Test
+    void reportsANotificationAsNotSentWhenTheLedgerIsUnavailable() {
+        when(repository.isSent(KEY)).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(ledger.isSent(() -> KEY)).isFalse();
+    }
+
+    @Test
+    void sendsWhenTheLedgerIsUnavailable() throws Exception {
+        when(repository.claim(KEY, 600)).thenThrow(new QueryTimeoutException("timeout"));
+
+        ledger.guard(() -> KEY, sends::incrementAndGet).send();
+
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void disabledLedgerDoesNotTouchTheDatabase() throws Exception {
+        NotificationDeliveryLedger.disabled().guard(() -> KEY, sends::incrementAndGet).send();
+
+        assertThat(sends).hasValue(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void sendsUncheckedWhenThereIsNoKey() throws Exception {
+        ledger.guard(() -> null, sends::incrementAndGet).send();
+
+        assertThat(sends).hasValue(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void noKeyWithoutACcdCaseId() {
+        assertThat(DeliveryKey.of(null, "appealReceived", "APPELLANT", "email", "template-id",
+            "appellant@example.com", null, Map.of())).isNull();
+        assertThat(DeliveryKey.of("", "appealReceived", "APPELLANT", "email", "template-id",
+            "appellant@example.com", null, Map.of())).isNull();
+    }
+
+    @Test
+    void fingerprintIgnoresPersonalisationRenderedAfreshOnEachAttempt() {
+        DeliveryKey retried = DeliveryKey.of("1234", "appealReceived", "APPELLANT", "email", "template-id",
+            "appellant@example.com", null, Map.of("name", "Harry Potter",
+                "manage_emails_link", "https://example.com/mac/2", "appeal_respond_date", "19 October 2026"));
+
+        assertThat(retried).isEqualTo(KEY);
+    }
+
+    @Test
+    void fingerprintDependsOnRecipientAndOccurrence() {
+        DeliveryKey otherRecipient = DeliveryKey.of("1234", "appealReceived", "APPELLANT", "email", "template-id",
+            "rep@example.com", null, Map.of("name", "Harry Potter"));
+        DeliveryKey firstHearing = DeliveryKey.of("1234", "hearingBooked", "APPELLANT", "email", "template-id",
+            "appellant@example.com", null, Map.of("hearing_date", "1 November 2026", "hearing_time", "10:00 am"));
+        DeliveryKey reorderedFirstHearing = DeliveryKey.of("1234", "hearingBooked", "APPELLANT", "email",
+            "template-id", "appellant@example.com", null,
+            new LinkedHashMap<>(Map.of("hearing_time", "10:00 am", "hearing_date", "1 November 2026")));
+        DeliveryKey rebookedHearing = DeliveryKey.of("1234", "hearingBooked", "APPELLANT", "email", "template-id",
+            "appellant@example.com", null, Map.of("hearing_date", "8 November 2026", "hearing_time", "10:00 am"));
+
+        assertThat(otherRecipient).isNotEqualTo(KEY);
+        assertThat(reorderedFirstHearing).isEqualTo(firstHearing);
+        assertThat(rebookedHearing).isNotEqualTo(firstHearing);
+    }
+
+    @Test
+    void fingerprintTellsOccurrencesWithTheSamePersonalisationApart() {
+        DeliveryKey firstUpload = DeliveryKey.of("1234", "evidenceReceived", "APPELLANT", "email", "template-id",
+            "appellant@example.com", "2026-10-01T09:00:00.123", Map.of("name", "Harry Potter"));
+        DeliveryKey redeliveredFirstUpload = DeliveryKey.of("1234", "evidenceReceived", "APPELLANT", "email",
+            "template-id", "appellant@example.com", "2026-10-01T09:00:00.123", Map.of("name", "Harry Potter"));
+        DeliveryKey secondUpload = DeliveryKey.of("1234", "evidenceReceived", "APPELLANT", "email", "template-id",
+            "appellant@example.com", "2026-10-02T14:30:00.456", Map.of("name", "Harry Potter"));
+
+        assertThat(redeliveredFirstUpload).isEqualTo(firstUpload);
+        assertThat(secondUpload).isNotEqualTo(firstUpload);
+    }
+
+    @Test
+    void deletesExpiredEntries() {
+        ledger.deleteExpired();
+
+        verify(repository).deleteExpired(72);
+        verify(repository, never()).claim(any(), anyLong());
+    }
+}
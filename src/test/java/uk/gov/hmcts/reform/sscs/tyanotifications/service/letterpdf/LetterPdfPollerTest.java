@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service.letterpdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceDetails;
+import uk.gov.hmcts.reform.sscs.ccd.exception.CcdException;
+import uk.gov.hmcts.reform.sscs.service.CcdCorrespondenceBatcher;
+import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+@ExtendWith(MockitoExtension.class)
+class LetterPdfPollerTest {
+
+    private static final String NOTIFICATION_ID = "123";
+    private static final long CASE_ID = 82828L;
+
+    @Mock
+    private LetterPdfPollRepository repository;
+    @Mock
+    private CcdCorrespondenceBatcher ccdCorrespondenceBatcher;
+    @Mock
+    private NotificationClient notificationClient;
+    @Mock
+    private NotificationClient testNotificationClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Correspondence correspondence =
+        Correspondence.builder().value(CorrespondenceDetails.builder().to("Mr Blobby").build()).build();
+    private LetterPdfPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        LetterAsyncConfigProperties properties = new LetterAsyncConfigProperties();
+        properties.setMaxAttempts(3);
+        properties.setDelay(10000);
+        properties.setMaxDelay(180000);
+        properties.setInitialDelay(5000);
+        poller = new LetterPdfPoller(repository, ccdCorrespondenceBatcher, objectMapper, notificationClient,
+            testNotificationClient, properties, new SimpleMeterRegistry(), 10, 300, true);
+    }
+
+    private LetterPdfPollEntry entry(boolean testClient, int attempts) throws Exception {
+        return new LetterPdfPollEntry(1L, NOTIFICATION_ID, CASE_ID, objectMapper.writeValueAsString(correspondence),
+            testClient, attempts);
+    }
+
+    @Test
+    void queuesLetterAfterTheInitialDelayWithoutCallingNotify() {
+        poller.schedule(testNotificationClient, NOTIFICATION_ID, correspondence, String.valueOf(CASE_ID));
+
+        verify(repository).insert(eq(NOTIFICATION_ID), eq(CASE_ID), contains("Mr Blobby"), eq(true), eq(5000L));
+        verifyNoInteractions(notificationClient, testNotificationClient);
+    }
+
+    @Test
+    void doesNotFailTheSendWhenTheLetterCannotBeQueued() {
+        doThrow(new QueryTimeoutException("timeout")).when(repository)
+            .insert(anyString(), anyLong(), anyString(), anyBoolean(), anyLong());
+
+        poller.schedule(notificationClient, NOTIFICATION_ID, correspondence, String.valueOf(CASE_ID));
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        poller = new LetterPdfPoller(repository, ccdCorrespondenceBatcher, objectMapper, notificationClient,
+            testNotificationClient, new LetterAsyncConfigProperties(), new SimpleMeterRegistry(), 10, 300, false);
+
+        poller.schedule(notificationClient, NOTIFICATION_ID, correspondence, String.valueOf(CASE_ID));
+        poller.poll();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void savesFetchedPdfToTheCaseInBatches() throws Exception {
+        byte[] pdf = "%PDF bytes".getBytes();
+        when(repository.claim(anyString(), anyInt(), anyLong())).thenReturn(List.of(entry(false, 1)));
+        when(notificationClient.getPdfForLetter(NOTIFICATION_ID)).thenReturn(pdf);
+        when(ccdCorrespondenceBatcher.addLetterCorrespondence(eq(pdf), eq(CASE_ID), any(), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        poller.poll();
+
+        ArgumentCaptor<Correspondence> captor = ArgumentCaptor.forClass(Correspondence.class);
+        verify(ccdCorrespondenceBatcher).addLetterCorrespondence(eq(pdf), eq(CASE_ID), captor.capture(), eq("Gov Notify"));
+        assertThat(captor.getValue().getValue().getTo()).isEqualTo("Mr Blobby");
+        verify(repository).complete(eq(1L), anyString());
+    }
+
+    @Test
+    void keepsTheLetterUntilItsBatchHasBeenWrittenToTheCase() throws Exception {
+        byte[] pdf = "%PDF bytes".getBytes();
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        when(notificationClient.getPdfForLetter(NOTIFICATION_ID)).thenReturn(pdf);
+        when(ccdCorrespondenceBatcher.addLetterCorrespondence(eq(pdf), eq(CASE_ID), any(), anyString()))
+            .thenReturn(written);
+
+        poller.process(entry(false, 1));
+        verify(repository, never()).complete(anyLong(), anyString());
+
+        written.complete(null);
+        verify(repository).complete(eq(1L), anyString());
+    }
+
+    @Test
+    void releasesLetterWhoseBatchFailedToBeWritten() throws Exception {
+        byte[] pdf = "%PDF bytes".getBytes();
+        when(notificationClient.getPdfForLetter(NOTIFICATION_ID)).thenReturn(pdf);
+        when(ccdCorrespondenceBatcher.addLetterCorrespondence(eq(pdf), eq(CASE_ID), any(), anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new CcdException("conflict")));
+
+        poller.process(entry(false, 1));
+
+        verify(repository).release(eq(1L), anyString(), anyLong(), contains("conflict"));
+        verify(repository, never()).complete(anyLong(), anyString());
+    }
+
+    @Test
+    void releasesLetterWhosePdfIsNotReady() throws Exception {
+        when(testNotificationClient.getPdfForLetter(NOTIFICATION_ID))
+            .thenThrow(new NotificationClientException("400 PDFNotReadyError"));
+
+        poller.process(entry(true, 1));
+
+        verify(repository).release(eq(1L), anyString(), anyLong(), contains("PDFNotReadyError"));
+        verify(repository, never()).fail(anyLong(), anyString(), anyString());
+        verifyNoInteractions(ccdCorrespondenceBatcher);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws Exception {
+        when(notificationClient.getPdfForLetter(NOTIFICATION_ID))
+            .thenThrow(new NotificationClientException("400 BadRequestError"));
+
+        poller.process(entry(false, 3));
+
+        verify(repository).fail(eq(1L), anyString(), contains("BadRequestError"));
+        verify(repository, never()).release(anyLong(), anyString(), anyLong(), anyString());
+    }
+}
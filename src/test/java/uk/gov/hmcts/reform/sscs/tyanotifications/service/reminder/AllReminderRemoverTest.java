@@ -3,7 +3,8 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service.reminder;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -22,13 +23,13 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notificati
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
 import uk.gov.hmcts.reform.sscs.tyanotifications.SscsCaseDataUtils;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
@@ -97,8 +98,9 @@ public class AllReminderRemoverTest {
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(expectedHearingJobGroup);
-        verify(jobRemover, times(1)).removeGroup(expectedEvidenceJobGroup);
+        verify(jobRemover, times(1)).removeGroups(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(expectedHearingJobGroup, expectedEvidenceJobGroup)))
+        );
     }
 
     @Test
@@ -122,8 +124,9 @@ public class AllReminderRemoverTest {
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(expectedHearingJobGroup);
-        verify(jobRemover, times(1)).removeGroup(expectedEvidenceJobGroup);
+        verify(jobRemover, times(1)).removeGroups(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(expectedHearingJobGroup, expectedEvidenceJobGroup)))
+        );
     }
 
     @Test
@@ -143,14 +146,12 @@ public class AllReminderRemoverTest {
         when(jobGroupGenerator.generate(wrapper.getCaseId(), HEARING_REMINDER.getId())).thenReturn(expectedJobGroup);
         when(jobGroupGenerator.generate(wrapper.getCaseId(), EVIDENCE_RECEIVED.getId())).thenReturn(expectedJobGroup);
 
-        doThrow(JobNotFoundException.class)
-            .when(jobRemover)
-            .removeGroup(expectedJobGroup);
+        when(jobRemover.removeGroups(any())).thenReturn(Map.of(expectedJobGroup, 0));
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(2)).removeGroup(
-            expectedJobGroup
+        verify(jobRemover, times(1)).removeGroups(
+            argThat(groups -> groups.size() == 1 && groups.contains(expectedJobGroup))
         );
     }
 
@@ -3,19 +3,19 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service.reminder;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.HEARING_REMINDER;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.POSTPONEMENT;
 
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobNotFoundException;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobRemover;
 import uk.gov.hmcts.reform.sscs.tyanotifications.SscsCaseDataUtils;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
@@ -76,8 +76,8 @@ public class HearingReminderRemoverTest {
 
         hearingReminderRemoverTest.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(
-            expectedJobGroup
+        verify(jobRemover, times(1)).removeGroups(
+            List.of(expectedJobGroup)
         );
     }
 
@@ -97,14 +97,12 @@ public class HearingReminderRemoverTest {
 
         when(jobGroupGenerator.generate(wrapper.getCaseId(), HEARING_REMINDER.getId())).thenReturn(expectedJobGroup);
 
-        doThrow(JobNotFoundException.class)
-            .when(jobRemover)
-            .removeGroup(expectedJobGroup);
+        when(jobRemover.removeGroups(List.of(expectedJobGroup))).thenReturn(Map.of(expectedJobGroup, 0));
 
         hearingReminderRemoverTest.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(
-            expectedJobGroup
+        verify(jobRemover, times(1)).removeGroups(
+            List.of(expectedJobGroup)
         );
     }
 
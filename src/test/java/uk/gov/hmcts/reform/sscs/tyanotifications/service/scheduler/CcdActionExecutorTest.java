@@ -4,7 +4,9 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_U
 import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
@@ -138,6 +140,19 @@ public class CcdActionExecutorTest {
         verify(ccdService, times(0)).updateCase(any(), eq(123456L), any(), any(), any(), any());
     }
 
+    @Test
+    public void shouldCarryTheEventTimestampFromThePayloadOntoTheWrapper() {
+        when(ccdService.getByCaseId(eq(123456L), eq(idamTokens))).thenReturn(caseDetails);
+
+        ccdActionExecutor.execute(JOB_ID, JOB_GROUP, SYA_APPEAL_CREATED.getId(), "123456,1,2024-01-01T10:00");
+
+        verify(notificationService).manageNotificationAndSubscription(
+            argThat(notification -> "2024-01-01T10:00".equals(notification.getSscsCaseDataWrapper().getEventTimestamp())),
+            eq(true));
+        assertEquals(1, ccdActionExecutor.getRetry("123456,1,2024-01-01T10:00"));
+        assertNull(ccdActionExecutor.getEventTimestamp("123456,1"));
+    }
+
     @Test
     @Parameters({"1", "2", "3"})
     public void shouldScheduleToRetryAgainWhenNotificationFails(int retry) {
@@ -1,12 +1,16 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service.servicebus;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.Before;
@@ -27,6 +31,7 @@ public class NotificationsMessageProcessorTest {
     @Mock
     private FilterNotificationsEventsHandler filterNotificationsEventsHandler;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private NotificationsMessageProcessor topicConsumer;
     private Exception exception;
     private Callback<SscsCaseData> callback;
@@ -34,7 +39,8 @@ public class NotificationsMessageProcessorTest {
     @Before
     public void setup() {
         openMocks(this);
-        topicConsumer = new NotificationsMessageProcessor(filterNotificationsEventsHandler);
+        topicConsumer = new NotificationsMessageProcessor(filterNotificationsEventsHandler, meterRegistry);
+        when(filterNotificationsEventsHandler.canEverHandle(any())).thenReturn(true);
         CaseDetails<SscsCaseData> caseDetails = new CaseDetails<>(
             123L,
             "jurisdiction",
@@ -81,4 +87,26 @@ public class NotificationsMessageProcessorTest {
         topicConsumer.processMessage(callback);
         verify(filterNotificationsEventsHandler).handle(any());
     }
+
+    @Test
+    public void theEventTimestampIsCarriedOnTheWrapper() {
+        when(filterNotificationsEventsHandler.canHandle(any())).thenReturn(Boolean.TRUE);
+        topicConsumer.processMessage(callback, "2024-01-01T10:00:00");
+        verify(filterNotificationsEventsHandler).handle(argThat(wrapper ->
+            "2024-01-01T10:00:00".equals(wrapper.getEventTimestamp())));
+    }
+
+    @Test
+    public void eventsThatCanNeverNotifyAreSkippedBeforeTheCaseDataIsWrapped() {
+        when(filterNotificationsEventsHandler.canEverHandle(any())).thenReturn(false);
+
+        topicConsumer.processMessage(callback);
+
+        verify(filterNotificationsEventsHandler, never()).canHandle(any());
+        verify(filterNotificationsEventsHandler, never()).handle(any());
+        assertThat(meterRegistry.counter(NotificationsMessageProcessor.EVENTS, "outcome", "skipped").count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(NotificationsMessageProcessor.EVENTS + ".skipped.ratio").gauge().value())
+            .isEqualTo(1.0);
+    }
 }
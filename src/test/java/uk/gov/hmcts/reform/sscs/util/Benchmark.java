@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Marks a test that times the code under it. These only run when BENCHMARK=true, as timings are meaningless on a
+ * shared build agent; run them by hand on a quiet machine.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+public @interface Benchmark {
+}